@@ -1,5 +1,6 @@
 package com.github.meeting_platform.application.eventhandler;
 
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 
 import org.springframework.stereotype.Component;
@@ -8,6 +9,7 @@ import com.github.meeting_platform.domain.events.MeetingEndedEvent;
 import com.github.meeting_platform.domain.events.MeetingStartedEvent;
 import com.github.meeting_platform.domain.events.TranscriptAddedEvent;
 import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.TranscriptWriteBehindBuffer;
 import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
 import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
 import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
@@ -21,21 +23,14 @@ import lombok.extern.slf4j.Slf4j;
 public class MeetingEventHandler {
 
         private final MeetingService meetingService;
+        private final TranscriptWriteBehindBuffer writeBehind;
 
         // @Retryable(includes = DataAccessException.class, multiplier = 2.0)
         public void handle(MeetingStartedEvent event) {
                 executeWithLogging(
                                 "MeetingStartedEvent",
                                 () -> String.format("meetingId=%s, sessionId=%s", event.getId(), event.getSessionId()),
-                                () -> meetingService.startMeeting(new StartMeetingCommand(
-                                                event.getId(),
-                                                event.getSessionId(),
-                                                event.getTitle(),
-                                                event.getRoomName(),
-                                                event.getOrganizedById(),
-                                                event.getOrganizedByName(),
-                                                event.getCreatedAt(),
-                                                event.getStartedAt())));
+                                () -> meetingService.startMeeting(new StartMeetingCommand(event.getEnvelope())));
         }
 
         // @Retryable(includes = DataAccessException.class, multiplier = 2.0)
@@ -45,17 +40,7 @@ public class MeetingEventHandler {
                                 () -> String.format("transcriptId=%s, meetingId=%s, sessionId=%s, sequenceNumber=%s",
                                                 event.getId(), event.getMeetingId(), event.getSessionId(),
                                                 event.getSequenceNumber()),
-                                () -> meetingService.addTranscript(new AddTranscriptCommand(
-                                                event.getMeetingId(),
-                                                event.getSessionId(),
-                                                event.getId(),
-                                                event.getSequenceNumber(),
-                                                event.getSpeakerId(),
-                                                event.getSpeakerName(),
-                                                event.getContent(),
-                                                event.getStartOffset(),
-                                                event.getEndOffset(),
-                                                event.getLanguage())));
+                                () -> addTranscript(new AddTranscriptCommand(event.getEnvelope())));
         }
 
         // @Retryable(includes = DataAccessException.class, multiplier = 2.0)
@@ -63,11 +48,26 @@ public class MeetingEventHandler {
                 executeWithLogging(
                                 "MeetingEndedEvent",
                                 () -> String.format("meetingId=%s, sessionId=%s", event.getId(), event.getSessionId()),
-                                () -> meetingService.endMeeting(new EndMeetingCommand(
-                                                event.getId(),
-                                                event.getSessionId(),
-                                                event.getEndedAt(),
-                                                event.getReason())));
+                                () -> meetingService.endMeeting(new EndMeetingCommand(event.getEnvelope())));
+        }
+
+        /**
+         * Waits for the group commit that carries the transcript, so the listener
+         * only acknowledges it once it is durable.
+         */
+        private void addTranscript(AddTranscriptCommand command) {
+                if (!writeBehind.isEnabled()) {
+                        meetingService.addTranscript(command);
+                        return;
+                }
+                try {
+                        writeBehind.submit(command).join();
+                } catch (CompletionException e) {
+                        if (e.getCause() instanceof RuntimeException cause) {
+                                throw cause;
+                        }
+                        throw e;
+                }
         }
 
         /**
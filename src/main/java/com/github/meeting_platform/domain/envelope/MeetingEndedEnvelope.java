@@ -0,0 +1,21 @@
+package com.github.meeting_platform.domain.envelope;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable payload of a {@code meeting.ended} webhook, shared by
+ * {@code MeetingEndedEvent} and {@code EndMeetingCommand}.
+ */
+public record MeetingEndedEnvelope(
+        UUID meetingId,
+        UUID sessionId,
+        String title,
+        String status,
+        Instant createdAt,
+        Instant startedAt,
+        Instant endedAt,
+        UUID organizerId,
+        String organizerName,
+        String reason) {
+}
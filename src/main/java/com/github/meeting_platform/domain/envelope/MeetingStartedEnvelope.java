@@ -0,0 +1,20 @@
+package com.github.meeting_platform.domain.envelope;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable payload of a {@code meeting.started} webhook, shared by
+ * {@code MeetingStartedEvent} and {@code StartMeetingCommand}.
+ */
+public record MeetingStartedEnvelope(
+        UUID meetingId,
+        UUID sessionId,
+        String title,
+        String roomName,
+        String status,
+        Instant createdAt,
+        Instant startedAt,
+        UUID organizerId,
+        String organizerName) {
+}
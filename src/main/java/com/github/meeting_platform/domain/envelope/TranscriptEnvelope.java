@@ -0,0 +1,35 @@
+package com.github.meeting_platform.domain.envelope;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Immutable transcript chunk as decoded from a {@code meeting.transcript}
+ * webhook. The same instance travels through the domain event and the service
+ * command, which only wrap it, down to the {@code Transcript} entity.
+ * <p>
+ * Interim chunks ({@code isFinal == false}) are hypotheses that a later
+ * revision of the same sequence number replaces.
+ */
+public record TranscriptEnvelope(
+        UUID transcriptId,
+        UUID meetingId,
+        UUID sessionId,
+        int sequenceNumber,
+        UUID speakerId,
+        String speakerName,
+        String content,
+        Duration startOffset,
+        Duration endOffset,
+        String language,
+        int revision,
+        boolean isFinal) {
+
+    /** A final chunk at revision 0, as sent by providers without interim results. */
+    public TranscriptEnvelope(UUID transcriptId, UUID meetingId, UUID sessionId, int sequenceNumber,
+            UUID speakerId, String speakerName, String content, Duration startOffset, Duration endOffset,
+            String language) {
+        this(transcriptId, meetingId, sessionId, sequenceNumber, speakerId, speakerName, content, startOffset,
+                endOffset, language, 0, true);
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.meeting_platform.domain.events;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Published by the meeting service for every transcript written by the
+ * current transaction to a session that has already ENDED, final or interim.
+ * Listeners that keep in-memory state should react after the transaction commits.
+ */
+@Value
+public class LateTranscriptEvent {
+    UUID meetingId;
+    UUID sessionId;
+    int sequenceNumber;
+}
@@ -2,19 +2,63 @@ package com.github.meeting_platform.domain.events;
 
 import java.time.Instant;
 import java.util.UUID;
+
+import com.github.meeting_platform.domain.envelope.MeetingEndedEnvelope;
+
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
+/**
+ * Domain event view over a {@link MeetingEndedEnvelope}.
+ */
 @Value
+@AllArgsConstructor
 public class MeetingEndedEvent {
-    UUID id;
-    UUID sessionId;
-    String title;
-    // String roomName;
-    String status;
-    Instant createdAt;
-    Instant startedAt;
-    Instant endedAt;
-    UUID organizedById;
-    String organizedByName;
-    String reason;
+    MeetingEndedEnvelope envelope;
+
+    public MeetingEndedEvent(UUID id, UUID sessionId, String title, String status, Instant createdAt,
+            Instant startedAt, Instant endedAt, UUID organizedById, String organizedByName, String reason) {
+        this(new MeetingEndedEnvelope(id, sessionId, title, status, createdAt, startedAt, endedAt, organizedById,
+                organizedByName, reason));
+    }
+
+    public UUID getId() {
+        return envelope.meetingId();
+    }
+
+    public UUID getSessionId() {
+        return envelope.sessionId();
+    }
+
+    public String getTitle() {
+        return envelope.title();
+    }
+
+    public String getStatus() {
+        return envelope.status();
+    }
+
+    public Instant getCreatedAt() {
+        return envelope.createdAt();
+    }
+
+    public Instant getStartedAt() {
+        return envelope.startedAt();
+    }
+
+    public Instant getEndedAt() {
+        return envelope.endedAt();
+    }
+
+    public UUID getOrganizedById() {
+        return envelope.organizerId();
+    }
+
+    public String getOrganizedByName() {
+        return envelope.organizerName();
+    }
+
+    public String getReason() {
+        return envelope.reason();
+    }
 }
@@ -2,17 +2,59 @@ package com.github.meeting_platform.domain.events;
 
 import java.time.Instant;
 import java.util.UUID;
+
+import com.github.meeting_platform.domain.envelope.MeetingStartedEnvelope;
+
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
+/**
+ * Domain event view over a {@link MeetingStartedEnvelope}.
+ */
 @Value
+@AllArgsConstructor
 public class MeetingStartedEvent {
-    UUID id;
-    UUID sessionId;
-    String title;
-    String roomName;
-    String status;
-    Instant createdAt;
-    Instant startedAt;
-    UUID organizedById;
-    String organizedByName;
+    MeetingStartedEnvelope envelope;
+
+    public MeetingStartedEvent(UUID id, UUID sessionId, String title, String roomName, String status,
+            Instant createdAt, Instant startedAt, UUID organizedById, String organizedByName) {
+        this(new MeetingStartedEnvelope(id, sessionId, title, roomName, status, createdAt, startedAt,
+                organizedById, organizedByName));
+    }
+
+    public UUID getId() {
+        return envelope.meetingId();
+    }
+
+    public UUID getSessionId() {
+        return envelope.sessionId();
+    }
+
+    public String getTitle() {
+        return envelope.title();
+    }
+
+    public String getRoomName() {
+        return envelope.roomName();
+    }
+
+    public String getStatus() {
+        return envelope.status();
+    }
+
+    public Instant getCreatedAt() {
+        return envelope.createdAt();
+    }
+
+    public Instant getStartedAt() {
+        return envelope.startedAt();
+    }
+
+    public UUID getOrganizedById() {
+        return envelope.organizerId();
+    }
+
+    public String getOrganizedByName() {
+        return envelope.organizerName();
+    }
 }
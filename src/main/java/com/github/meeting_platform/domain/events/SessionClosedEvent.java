@@ -0,0 +1,15 @@
+package com.github.meeting_platform.domain.events;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Published by the meeting service when a session has been marked ENDED.
+ * Listeners that keep in-memory state should react after the transaction commits.
+ */
+@Value
+public class SessionClosedEvent {
+    UUID meetingId;
+    UUID sessionId;
+}
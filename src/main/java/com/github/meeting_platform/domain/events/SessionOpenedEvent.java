@@ -0,0 +1,18 @@
+package com.github.meeting_platform.domain.events;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Published by the meeting service when a session is LIVE in the database.
+ * {@code created} is false for a redelivered start of a session that was
+ * already LIVE, which may already have transcripts. Listeners that keep
+ * in-memory state should react after the transaction commits.
+ */
+@Value
+public class SessionOpenedEvent {
+    UUID meetingId;
+    UUID sessionId;
+    boolean created;
+}
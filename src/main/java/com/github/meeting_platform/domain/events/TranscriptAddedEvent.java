@@ -2,18 +2,64 @@ package com.github.meeting_platform.domain.events;
 
 import java.time.Duration;
 import java.util.UUID;
+
+import com.github.meeting_platform.domain.envelope.TranscriptEnvelope;
+
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
+/**
+ * Domain event view over a {@link TranscriptEnvelope}; the getters read
+ * through to the envelope instead of holding copies of its fields.
+ */
 @Value
+@AllArgsConstructor
 public class TranscriptAddedEvent {
-    UUID id;
-    UUID meetingId;
-    UUID sessionId;
-    int sequenceNumber;
-    UUID speakerId;
-    String speakerName;
-    String content;
-    Duration startOffset;
-    Duration endOffset;
-    String language;
+    TranscriptEnvelope envelope;
+
+    public TranscriptAddedEvent(UUID id, UUID meetingId, UUID sessionId, int sequenceNumber, UUID speakerId,
+            String speakerName, String content, Duration startOffset, Duration endOffset, String language) {
+        this(new TranscriptEnvelope(id, meetingId, sessionId, sequenceNumber, speakerId, speakerName, content,
+                startOffset, endOffset, language));
+    }
+
+    public UUID getId() {
+        return envelope.transcriptId();
+    }
+
+    public UUID getMeetingId() {
+        return envelope.meetingId();
+    }
+
+    public UUID getSessionId() {
+        return envelope.sessionId();
+    }
+
+    public int getSequenceNumber() {
+        return envelope.sequenceNumber();
+    }
+
+    public UUID getSpeakerId() {
+        return envelope.speakerId();
+    }
+
+    public String getSpeakerName() {
+        return envelope.speakerName();
+    }
+
+    public String getContent() {
+        return envelope.content();
+    }
+
+    public Duration getStartOffset() {
+        return envelope.startOffset();
+    }
+
+    public Duration getEndOffset() {
+        return envelope.endOffset();
+    }
+
+    public String getLanguage() {
+        return envelope.language();
+    }
 }
@@ -0,0 +1,17 @@
+package com.github.meeting_platform.domain.events;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+import lombok.Value;
+
+/**
+ * Published by the meeting service for every transcript row written by the
+ * current transaction, interim or final, carrying the transcript as written.
+ * Interim revisions held in memory are announced only when they are stored.
+ * Listeners must react after the transaction commits, so nothing is pushed
+ * for a write that rolls back.
+ */
+@Value
+public class TranscriptCommittedEvent {
+    Transcript transcript;
+}
@@ -0,0 +1,17 @@
+package com.github.meeting_platform.domain.events;
+
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Published by the meeting service for every final transcript written by the
+ * current transaction; interim revisions are not announced. Listeners that
+ * keep in-memory state should react after the transaction commits.
+ */
+@Value
+public class TranscriptStoredEvent {
+    UUID meetingId;
+    UUID sessionId;
+    int sequenceNumber;
+}
@@ -9,9 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "sessions", uniqueConstraints = {
-        @UniqueConstraint(columnNames = { "id", "meetingId" })
-})
+@Table(name = "sessions")
 @Getter
 @NoArgsConstructor
 public class Session {
@@ -31,6 +29,9 @@ public class Session {
     private Instant endedAt;
     private String reason;
 
+    // set by SessionArchiver once the transcripts live in an archive segment
+    private Instant archivedAt;
+
     public Session(UUID id, UUID meetingId, Instant startedAt) {
         this.id = id;
         this.meetingId = meetingId;
@@ -1,10 +1,17 @@
 package com.github.meeting_platform.domain.model;
 
+import java.io.Serializable;
 import java.time.Duration;
 import java.util.UUID;
 
+import org.hibernate.annotations.Immutable;
+
+import com.github.meeting_platform.domain.envelope.TranscriptEnvelope;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -16,6 +23,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Transcript {
 
+    // the provider's transcriptId, unique; the table's primary key is the insertion-ordered row_key (V4)
     @Id
     private UUID id;
 
@@ -28,25 +36,32 @@ public class Transcript {
     @NotNull(message = "Sequence number cannot be null")
     private Integer sequenceNumber;
 
-    @Embedded
-    @AttributeOverrides({
-            @AttributeOverride(name = "id", column = @Column(name = "speaker_id")),
-            @AttributeOverride(name = "name", column = @Column(name = "speaker_name"))
-    })
+    // speakers and languages are stored once in dictionary tables and referenced by small keys; the
+    // columns and converters of speaker, content and language are mapped in META-INF/orm.xml
+    @Immutable
     @NotNull(message = "Transcript must have a speaker")
     private Speaker speaker;
 
+    // compressed at rest above a size threshold, see TranscriptContentCodec
     @NotNull(message = "Transcript content cannot be null")
-    @Column(columnDefinition = "TEXT")
     private String content;
 
     private String language;
 
-    @NotNull(message = "Transcript must have a start offset")
-    private Duration startOffset;
+    // whole milliseconds in primitive columns, so reading a row creates no Duration objects
+    @Getter(AccessLevel.NONE)
+    @Column(name = "start_offset_ms")
+    private long startOffsetMillis;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "end_offset_ms")
+    private long endOffsetMillis;
 
-    @NotNull(message = "Transcript must have an end offset")
-    private Duration endOffset;
+    // only the newest revision of a sequence number is kept; see revise()
+    private int revision;
+
+    @Column(name = "is_final")
+    private boolean isFinal = true;
 
     public Transcript(UUID id,
             UUID meetingId,
@@ -58,6 +73,22 @@ public class Transcript {
             String language,
             Duration startOffset,
             Duration endOffset) {
+        this(id, meetingId, sessionId, sequenceNumber, speakerId, speakerName, content, language, startOffset,
+                endOffset, 0, true);
+    }
+
+    public Transcript(UUID id,
+            UUID meetingId,
+            UUID sessionId,
+            Integer sequenceNumber,
+            UUID speakerId,
+            String speakerName,
+            String content,
+            String language,
+            Duration startOffset,
+            Duration endOffset,
+            int revision,
+            boolean isFinal) {
 
         this.id = id;
         this.meetingId = meetingId;
@@ -66,17 +97,92 @@ public class Transcript {
         this.speaker = new Speaker(speakerId, speakerName);
         this.content = content;
         this.language = language;
-        this.startOffset = startOffset;
-        this.endOffset = endOffset;
+        this.startOffsetMillis = startOffset.toMillis();
+        this.endOffsetMillis = endOffset.toMillis();
+        this.revision = revision;
+        this.isFinal = isFinal;
+    }
+
+    /** A stored row as read by a store that maps rows itself; the speaker is the interned instance. */
+    public Transcript(UUID id,
+            UUID meetingId,
+            UUID sessionId,
+            int sequenceNumber,
+            Speaker speaker,
+            String content,
+            String language,
+            long startOffsetMillis,
+            long endOffsetMillis,
+            int revision,
+            boolean isFinal) {
+
+        this.id = id;
+        this.meetingId = meetingId;
+        this.sessionId = sessionId;
+        this.sequenceNumber = sequenceNumber;
+        this.speaker = speaker;
+        this.content = content;
+        this.language = language;
+        this.startOffsetMillis = startOffsetMillis;
+        this.endOffsetMillis = endOffsetMillis;
+        this.revision = revision;
+        this.isFinal = isFinal;
+    }
+
+    public static Transcript from(TranscriptEnvelope envelope) {
+        return new Transcript(
+                envelope.transcriptId(),
+                envelope.meetingId(),
+                envelope.sessionId(),
+                envelope.sequenceNumber(),
+                envelope.speakerId(),
+                envelope.speakerName(),
+                envelope.content(),
+                envelope.language(),
+                envelope.startOffset(),
+                envelope.endOffset(),
+                envelope.revision(),
+                envelope.isFinal());
+    }
+
+    public Duration getStartOffset() {
+        return Duration.ofMillis(startOffsetMillis);
+    }
+
+    public Duration getEndOffset() {
+        return Duration.ofMillis(endOffsetMillis);
+    }
+
+    /**
+     * True if this chunk replaces {@code stored}, the row kept for the same
+     * sequence number: a final chunk replaces any interim one, a later interim
+     * revision an earlier one, and a final chunk is never replaced.
+     */
+    public boolean supersedes(Transcript stored) {
+        return !stored.isFinal && (isFinal || revision > stored.revision);
+    }
+
+    /**
+     * Takes over the text and timing of a newer revision of the same sequence
+     * number. The id of the row stays the one of the first revision stored.
+     */
+    public void revise(Transcript newer) {
+        this.speaker = newer.speaker;
+        this.content = newer.content;
+        this.language = newer.language;
+        this.startOffsetMillis = newer.startOffsetMillis;
+        this.endOffsetMillis = newer.endOffsetMillis;
+        this.revision = newer.revision;
+        this.isFinal = newer.isFinal;
     }
 
-    @Embeddable
+    /** Immutable value; instances read from the database are interned per speaker. */
     @Getter
-    @NoArgsConstructor
-    public static class Speaker {
+    @EqualsAndHashCode
+    public static class Speaker implements Serializable {
 
-        private UUID id;
-        private String name;
+        private final UUID id;
+        private final String name;
 
         public Speaker(UUID id, String name) {
             this.id = id;
@@ -0,0 +1,11 @@
+package com.github.meeting_platform.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a session's transcripts in sequence order. {@code nextAfterSequence}
+ * is the cursor for the following page: the last sequence number returned, or
+ * the requested one if the page is empty, so pollers can pass it back as is.
+ */
+public record TranscriptPage(List<Transcript> transcripts, Integer nextAfterSequence, boolean hasMore) {
+}
@@ -0,0 +1,18 @@
+package com.github.meeting_platform.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+/**
+ * Read side of the compacted documents that ended sessions get once their
+ * transcripts stop changing: the whole session in sequence order, read as one
+ * value instead of one row per transcript.
+ */
+public interface CompactedSessions {
+
+    /** The session's transcripts in sequence order; empty if it has no document or the document is stale. */
+    Optional<List<Transcript>> readSession(UUID meetingId, UUID sessionId);
+}
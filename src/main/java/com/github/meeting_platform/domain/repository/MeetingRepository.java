@@ -1,9 +1,13 @@
 package com.github.meeting_platform.domain.repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.github.meeting_platform.domain.model.Meeting;
 
@@ -14,4 +18,26 @@ public interface MeetingRepository extends JpaRepository<Meeting, UUID> {
     Optional<Meeting> findById(@NotNull UUID id);
 
     <S extends Meeting> S save(@NotNull @Valid S meeting);
+
+    /**
+     * Inserts the meeting, or overwrites its details if they differ, in one statement.
+     *
+     * @return 1 if a row was inserted or changed, 0 if the stored details were identical
+     */
+    @Modifying
+    @Query(value = """
+            MERGE INTO meetings m
+            USING (VALUES (1)) AS v(one) ON m.id = :id
+            WHEN MATCHED AND (m.title IS DISTINCT FROM :title OR m.room_name IS DISTINCT FROM :roomName
+                    OR m.organizer_id IS DISTINCT FROM :organizerId OR m.organizer_name IS DISTINCT FROM :organizerName
+                    OR m.created_at IS DISTINCT FROM :createdAt) THEN
+                UPDATE SET title = :title, room_name = :roomName, organizer_id = :organizerId,
+                           organizer_name = :organizerName, created_at = :createdAt
+            WHEN NOT MATCHED THEN
+                INSERT (id, title, room_name, organizer_id, organizer_name, created_at)
+                VALUES (:id, :title, :roomName, :organizerId, :organizerName, :createdAt)
+            """, nativeQuery = true)
+    int upsert(@Param("id") @NotNull UUID id, @Param("title") @NotNull String title,
+            @Param("roomName") @NotNull String roomName, @Param("organizerId") UUID organizerId,
+            @Param("organizerName") String organizerName, @Param("createdAt") @NotNull Instant createdAt);
 }
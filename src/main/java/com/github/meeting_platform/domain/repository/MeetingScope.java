@@ -0,0 +1,50 @@
+package com.github.meeting_platform.domain.repository;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * The meeting the repository calls of the current thread belong to. A sharded
+ * datasource routes connections by it, so a transaction must start inside the
+ * scope of its meeting; without sharding the scope has no effect. Code that
+ * is not about one meeting (dictionaries, startup) runs unscoped and uses the
+ * home database.
+ */
+public final class MeetingScope {
+
+    private static final ThreadLocal<UUID> CURRENT = new ThreadLocal<>();
+
+    private MeetingScope() {
+    }
+
+    /** Meeting of the current scope, or null outside any. */
+    public static UUID current() {
+        return CURRENT.get();
+    }
+
+    /** Runs {@code work} in the scope of the meeting; a null meeting runs it unscoped. */
+    public static <T> T call(UUID meetingId, Supplier<T> work) {
+        UUID previous = CURRENT.get();
+        set(meetingId);
+        try {
+            return work.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    public static void run(UUID meetingId, Runnable work) {
+        call(meetingId, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static void set(UUID meetingId) {
+        if (meetingId == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(meetingId);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.meeting_platform.domain.repository;
+
+import java.util.function.Supplier;
+
+/**
+ * Asks for read-only transactions of the current thread to read from the
+ * primary database instead of a replica, for callers that must see their own
+ * latest writes. Without a replica it has no effect.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static boolean isRequested() {
+        return Boolean.TRUE.equals(REQUESTED.get());
+    }
+
+    public static <T> T call(Supplier<T> work) {
+        Boolean previous = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                REQUESTED.remove();
+            } else {
+                REQUESTED.set(previous);
+            }
+        }
+    }
+}
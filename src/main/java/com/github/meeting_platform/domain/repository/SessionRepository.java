@@ -1,9 +1,14 @@
 package com.github.meeting_platform.domain.repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.github.meeting_platform.domain.model.Session;
 
@@ -13,7 +18,42 @@ import jakarta.validation.constraints.NotNull;
 public interface SessionRepository extends JpaRepository<Session, UUID> {
     Optional<Session> findById(@NotNull UUID sessionId);
 
-    Optional<Session> findActiveByMeetingId(@NotNull UUID meetingId);
+    /** LIVE sessions of the meeting; a meeting can have several at once. */
+    @Query("select s from Session s where s.meetingId = :meetingId"
+            + " and s.status = com.github.meeting_platform.domain.model.Session.SessionStatus.LIVE")
+    List<Session> findActiveByMeetingId(@Param("meetingId") @NotNull UUID meetingId);
+
+    List<Session> findAllByStatus(@NotNull Session.SessionStatus status);
 
     <S extends Session> S save(@NotNull @Valid S session);
+
+    /**
+     * Inserts a LIVE session unless a session with this id exists.
+     *
+     * @return 1 if the session was inserted, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = """
+            MERGE INTO sessions s
+            USING (VALUES (1)) AS v(one) ON s.id = :sessionId
+            WHEN NOT MATCHED THEN
+                INSERT (id, meeting_id, status, started_at)
+                VALUES (:sessionId, :meetingId, 'LIVE', :startedAt)
+            """, nativeQuery = true)
+    int insertLiveIfAbsent(@Param("sessionId") @NotNull UUID sessionId, @Param("meetingId") @NotNull UUID meetingId,
+            @Param("startedAt") @NotNull Instant startedAt);
+
+    /**
+     * Ends the session if it belongs to the meeting and has not ended yet.
+     *
+     * @return 1 if the session was ended, 0 if it is missing, belongs to another
+     *         meeting or had already ended
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE sessions SET status = 'ENDED', ended_at = :endedAt, reason = :reason
+            WHERE id = :sessionId AND meeting_id = :meetingId AND ended_at IS NULL
+            """, nativeQuery = true)
+    int endIfLive(@Param("sessionId") @NotNull UUID sessionId, @Param("meetingId") @NotNull UUID meetingId,
+            @Param("endedAt") @NotNull Instant endedAt, @Param("reason") String reason);
 }
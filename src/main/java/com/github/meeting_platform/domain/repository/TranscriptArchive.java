@@ -0,0 +1,29 @@
+package com.github.meeting_platform.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+/**
+ * Read side of the cold tier that holds the transcripts of archived sessions
+ * ({@code Session.archivedAt} set) once they have left the transcript table.
+ */
+public interface TranscriptArchive {
+
+    /** The archived transcripts of the session in sequence order; empty if it was never archived. */
+    List<Transcript> readSession(UUID meetingId, UUID sessionId);
+
+    /**
+     * Up to {@code limit} archived transcripts of the session with a sequence number above
+     * {@code afterSequence} (from the start if null), in sequence order, read without the rest of the session.
+     */
+    List<Transcript> readPage(UUID meetingId, UUID sessionId, Integer afterSequence, int limit);
+
+    /**
+     * The archived transcripts of the session in sequence order, read as the stream is consumed. The stream
+     * must be closed.
+     */
+    Stream<Transcript> streamSession(UUID meetingId, UUID sessionId);
+}
@@ -1,20 +1,60 @@
 package com.github.meeting_platform.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.github.meeting_platform.domain.model.Transcript;
 
+import jakarta.persistence.QueryHint;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
 public interface TranscriptRepository extends JpaRepository<Transcript, UUID> {
+
+    /** JDBC fetch size of streamed session reads. */
+    int STREAM_FETCH_SIZE = 256;
+
     Optional<Transcript> findById(@NotNull UUID id);
 
     <S extends Transcript> S save(@NotNull @Valid S transcript);
 
     Iterable<Transcript> findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(@NotNull UUID meetingId,
             @NotNull UUID sessionId);
+
+    /** Rows are fetched {@value #STREAM_FETCH_SIZE} at a time; close the stream inside the transaction. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    Stream<Transcript> streamByMeetingIdAndSessionIdOrderBySequenceNumberAsc(@NotNull UUID meetingId,
+            @NotNull UUID sessionId);
+
+    List<Transcript> findByMeetingIdAndSessionIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(
+            @NotNull UUID meetingId, @NotNull UUID sessionId, int afterSequence, Limit limit);
+
+    List<Transcript> findByMeetingIdAndSessionIdOrderBySequenceNumberDesc(@NotNull UUID meetingId,
+            @NotNull UUID sessionId, Limit limit);
+
+    Optional<Transcript> findByMeetingIdAndSessionIdAndSequenceNumber(@NotNull UUID meetingId,
+            @NotNull UUID sessionId, int sequenceNumber);
+
+    /** Sequence numbers of the session whose final revision is stored. */
+    @Query("select t.sequenceNumber from Transcript t where t.meetingId = :meetingId and t.sessionId = :sessionId"
+            + " and t.isFinal = true order by t.sequenceNumber")
+    List<Integer> findSequenceNumbers(@Param("meetingId") @NotNull UUID meetingId,
+            @Param("sessionId") @NotNull UUID sessionId);
+
+    /** Deletes the row only while it still has this revision and finality. */
+    @Modifying
+    @Query("delete from Transcript t where t.id = :id and t.revision = :revision and t.isFinal = :isFinal")
+    int deleteUnchanged(@Param("id") @NotNull UUID id, @Param("revision") int revision,
+            @Param("isFinal") boolean isFinal);
 }
@@ -0,0 +1,65 @@
+package com.github.meeting_platform.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+/**
+ * Storage engine for transcripts, the hottest table. Writes are upserts: a
+ * transcript whose id, or whose (meetingId, sessionId, sequenceNumber), is
+ * already stored is reported as a duplicate instead of failing the write,
+ * unless it supersedes the stored revision ({@link Transcript#supersedes}), in
+ * which case the stored one is updated in place and keeps its id.
+ * <p>
+ * The engine is chosen per deployment with
+ * {@code meeting.transcripts.store=jdbc|jpa|memory}. The database engines
+ * join the caller's transaction; the in-memory one applies writes at once.
+ * All three pass {@code TranscriptStoreConformanceTest}.
+ */
+public interface TranscriptStore {
+
+    /** Writes a batch in order; a later transcript of the batch sees the earlier ones. */
+    TranscriptWriteResult write(List<Transcript> transcripts);
+
+    default TranscriptWriteResult append(Transcript transcript) {
+        return write(List.of(transcript));
+    }
+
+    /** The session's transcripts, one per sequence number, in sequence order. */
+    List<Transcript> readSession(UUID meetingId, UUID sessionId);
+
+    /**
+     * The session's transcripts in sequence order, fetched in batches as the
+     * stream is consumed and not retained by the store. The stream must be
+     * consumed and closed inside the caller's transaction.
+     */
+    Stream<Transcript> streamSession(UUID meetingId, UUID sessionId);
+
+    /**
+     * Up to {@code limit} of the session's transcripts with a sequence number
+     * above {@code afterSequence}, in sequence order; a null {@code afterSequence}
+     * starts at the first one.
+     */
+    List<Transcript> readPage(UUID meetingId, UUID sessionId, Integer afterSequence, int limit);
+
+    /** The last {@code limit} of the session's transcripts, in sequence order. */
+    List<Transcript> readTail(UUID meetingId, UUID sessionId, int limit);
+
+    /** The transcript stored for one sequence number of the session. */
+    Optional<Transcript> read(UUID meetingId, UUID sessionId, int sequenceNumber);
+
+    /** Sequence numbers of the session whose final revision is stored, ascending. */
+    List<Integer> finalSequenceNumbers(UUID meetingId, UUID sessionId);
+
+    boolean exists(UUID transcriptId);
+
+    /**
+     * Deletes the stored transcripts that still match the given ones by id,
+     * revision and finality. A row revised in place since it was read keeps its
+     * id but not its revision, so it stays.
+     */
+    void deleteUnchanged(List<Transcript> transcripts);
+}
@@ -0,0 +1,18 @@
+package com.github.meeting_platform.domain.repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Outcome of a {@link TranscriptStore#write} call: ids of the transcripts that
+ * were written, as a new row or as a newer revision of a stored one, and of
+ * those that were already stored or superseded. Duplicates are a set in
+ * write order, so callers can look each transcript up in constant time.
+ */
+public record TranscriptWriteResult(List<UUID> written, Set<UUID> duplicates) {
+
+    public boolean isDuplicate(UUID transcriptId) {
+        return duplicates.contains(transcriptId);
+    }
+}
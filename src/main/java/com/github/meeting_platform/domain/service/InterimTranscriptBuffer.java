@@ -0,0 +1,114 @@
+package com.github.meeting_platform.domain.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.TranscriptStoredEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Newest interim revision of each sequence number of LIVE sessions, held in
+ * memory so hypotheses that the provider replaces within seconds never reach
+ * the database.
+ * <p>
+ * An entry is dropped once the final chunk of its sequence number is stored.
+ * Entries still held when a session ends are written by the ending transaction
+ * as the best text available, and the session is dropped after it commits.
+ * Sessions at {@code maxPerSession} held entries stop buffering and their
+ * interim chunks are stored like final ones.
+ */
+public class InterimTranscriptBuffer {
+
+    private final boolean enabled;
+    private final int maxPerSession;
+    private final Map<UUID, NavigableMap<Integer, Transcript>> sessions = new ConcurrentHashMap<>();
+
+    private final Counter superseded;
+
+    public InterimTranscriptBuffer(boolean enabled, int maxPerSession, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxPerSession = maxPerSession;
+        this.superseded = Counter.builder("transcript.interim.superseded")
+                .description("Interim transcript revisions replaced in memory without a database write")
+                .register(meterRegistry);
+        Gauge.builder("transcript.interim.held", this, InterimTranscriptBuffer::size)
+                .description("Interim transcript revisions held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Holds an interim chunk unless an equal or newer revision is already held.
+     * Returns false when the session is at capacity and the caller has to store
+     * the chunk itself.
+     */
+    public boolean offer(Transcript interim) {
+        NavigableMap<Integer, Transcript> held = sessions.computeIfAbsent(interim.getSessionId(),
+                id -> new TreeMap<>());
+        synchronized (held) {
+            Transcript current = held.get(interim.getSequenceNumber());
+            if (current == null) {
+                if (held.size() >= maxPerSession) {
+                    return false;
+                }
+                held.put(interim.getSequenceNumber(), interim);
+            } else if (interim.supersedes(current)) {
+                held.put(interim.getSequenceNumber(), interim);
+                superseded.increment();
+            }
+            return true;
+        }
+    }
+
+    /** Held interim revisions of a session, ordered by sequence number. */
+    public List<Transcript> pending(UUID meetingId, UUID sessionId) {
+        NavigableMap<Integer, Transcript> held = sessions.get(sessionId);
+        if (held == null) {
+            return List.of();
+        }
+        synchronized (held) {
+            return held.values().stream()
+                    .filter(transcript -> transcript.getMeetingId().equals(meetingId))
+                    .toList();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TranscriptStoredEvent event) {
+        NavigableMap<Integer, Transcript> held = sessions.get(event.getSessionId());
+        if (held != null) {
+            synchronized (held) {
+                held.remove(event.getSequenceNumber());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(SessionClosedEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    int size() {
+        int total = 0;
+        for (NavigableMap<Integer, Transcript> held : sessions.values()) {
+            synchronized (held) {
+                total += held.size();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.meeting_platform.domain.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.SessionOpenedEvent;
+import com.github.meeting_platform.domain.model.Session;
+import com.github.meeting_platform.domain.repository.PrimaryReads;
+import com.github.meeting_platform.domain.repository.SessionRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory view of the LIVE sessions and the meetings that own them, so the
+ * transcript path can validate a chunk without reading the meeting and session
+ * rows. Entries are added and removed only after the start/end transaction has
+ * committed and the registry is warmed from the database at startup.
+ * <p>
+ * A miss is never authoritative: callers fall back to the repositories, which
+ * also covers ended sessions that still accept late transcripts.
+ */
+@Component
+@Slf4j
+public class LiveSessionRegistry {
+
+    private final SessionRepository sessionRepository;
+    private final Map<UUID, UUID> meetingBySession = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> sessionsByMeeting = new ConcurrentHashMap<>();
+
+    public LiveSessionRegistry(SessionRepository sessionRepository, MeterRegistry meterRegistry) {
+        this.sessionRepository = sessionRepository;
+        Gauge.builder("sessions.live", meetingBySession, Map::size)
+                .description("LIVE sessions held in the in-memory session registry")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        // a replica may lag behind sessions that just started or ended
+        var live = PrimaryReads.call(() -> sessionRepository.findAllByStatus(Session.SessionStatus.LIVE));
+        live.forEach(session -> register(session.getMeetingId(), session.getId()));
+        log.info("Live session registry warmed with {} sessions", live.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(SessionOpenedEvent event) {
+        register(event.getMeetingId(), event.getSessionId());
+    }
+
+    // first, so caches that re-check isLive after filling cannot miss the end of the session
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(SessionClosedEvent event) {
+        unregister(event.getMeetingId(), event.getSessionId());
+    }
+
+    /** True if the session is known to be LIVE and owned by the given meeting. */
+    public boolean isLive(UUID meetingId, UUID sessionId) {
+        return meetingId != null && meetingId.equals(meetingBySession.get(sessionId));
+    }
+
+    /** LIVE sessions of a meeting; the in-memory counterpart of {@code findActiveByMeetingId}. */
+    public Set<UUID> activeSessions(UUID meetingId) {
+        Set<UUID> sessions = sessionsByMeeting.get(meetingId);
+        return sessions == null ? Set.of() : Set.copyOf(sessions);
+    }
+
+    public int size() {
+        return meetingBySession.size();
+    }
+
+    void register(UUID meetingId, UUID sessionId) {
+        meetingBySession.put(sessionId, meetingId);
+        sessionsByMeeting.compute(meetingId, (id, sessions) -> {
+            Set<UUID> updated = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            updated.add(sessionId);
+            return updated;
+        });
+    }
+
+    void unregister(UUID meetingId, UUID sessionId) {
+        meetingBySession.remove(sessionId, meetingId);
+        sessionsByMeeting.computeIfPresent(meetingId, (id, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.meeting_platform.domain.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.domain.repository.MeetingRepository;
+import com.github.meeting_platform.domain.repository.MeetingScope;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Skips and merges meeting metadata writes caused by {@code meeting.started}.
+ * <p>
+ * The last committed metadata of recently seen meetings is kept in an LRU
+ * cache. A payload equal to it causes no write at all. A changed payload for a
+ * meeting that is already stored is parked and written by a background flush
+ * after {@code coalesceWindow}, so a burst of updates becomes one write with
+ * the latest values. Meetings not in the cache are written immediately, which
+ * guarantees the row exists once the starting transaction commits; the upsert
+ * itself leaves unchanged rows untouched.
+ * <p>
+ * Every submission is counted once: as written when it is written, now or by
+ * the flush, and as suppressed when it is skipped or replaced while parked.
+ */
+@Slf4j
+public class MeetingMetadataCoalescer {
+
+    private final MeetingRepository meetingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowMillis;
+
+    private final Map<UUID, Metadata> lastWritten;
+    private final Map<UUID, Metadata> pending = new LinkedHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    private final Counter written;
+    private final Counter suppressed;
+
+    public MeetingMetadataCoalescer(MeetingRepository meetingRepository, PlatformTransactionManager transactionManager,
+            Duration coalesceWindow, int cacheSize, MeterRegistry meterRegistry) {
+        this.meetingRepository = meetingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.windowMillis = Math.max(1, coalesceWindow.toMillis());
+        this.lastWritten = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Metadata> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        this.written = Counter.builder("meeting.metadata.writes")
+                .description("Meeting metadata submissions by outcome")
+                .tag("outcome", "written")
+                .register(meterRegistry);
+        this.suppressed = Counter.builder("meeting.metadata.writes")
+                .description("Meeting metadata submissions by outcome")
+                .tag("outcome", "suppressed")
+                .register(meterRegistry);
+        Gauge.builder("meeting.metadata.suppressed.ratio", this, MeetingMetadataCoalescer::suppressedRatio)
+                .description("Share of meeting metadata submissions that caused no write")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "meeting-metadata-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushSafely();
+    }
+
+    /**
+     * Submits the metadata carried by a {@code meeting.started} event. Must be
+     * called inside the starting transaction.
+     */
+    public void submit(Metadata metadata) {
+        synchronized (this) {
+            Metadata last = lastWritten.get(metadata.meetingId());
+            if (metadata.equals(last)) {
+                // back to the stored values: an update parked earlier is obsolete
+                if (pending.remove(metadata.meetingId()) != null) {
+                    suppressed.increment();
+                }
+                suppressed.increment();
+                return;
+            }
+            if (last != null) {
+                // counted when flushed, or as suppressed if a later submission replaces it first
+                if (pending.put(metadata.meetingId(), metadata) != null) {
+                    suppressed.increment();
+                }
+                return;
+            }
+        }
+
+        write(metadata);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(metadata);
+                }
+            });
+        } else {
+            remember(metadata);
+        }
+    }
+
+    /** Writes all parked updates, one transaction each. */
+    void flush() {
+        List<Metadata> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        for (Metadata metadata : batch) {
+            try {
+                MeetingScope.run(metadata.meetingId(),
+                        () -> transactionTemplate.executeWithoutResult(status -> write(metadata)));
+                remember(metadata);
+            } catch (RuntimeException e) {
+                // not remembered, so the next meeting.started for this meeting writes again
+                log.warn("Failed to write coalesced metadata for meetingId={}: {}", metadata.meetingId(),
+                        e.getMessage());
+            }
+        }
+        log.debug("Flushed {} coalesced meeting metadata updates", batch.size());
+    }
+
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    double suppressedRatio() {
+        double total = written.count() + suppressed.count();
+        return total == 0 ? 0 : suppressed.count() / total;
+    }
+
+    private void write(Metadata metadata) {
+        meetingRepository.upsert(metadata.meetingId(), metadata.title(), metadata.roomName(),
+                metadata.organizerId(), metadata.organizerName(), metadata.createdAt());
+        written.increment();
+    }
+
+    private synchronized void remember(Metadata metadata) {
+        lastWritten.put(metadata.meetingId(), metadata);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush coalesced meeting metadata: {}", e.getMessage(), e);
+        }
+    }
+
+    public record Metadata(UUID meetingId, String title, String roomName, UUID organizerId, String organizerName,
+            Instant createdAt) {
+    }
+}
@@ -1,9 +1,12 @@
 package com.github.meeting_platform.domain.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.model.TranscriptPage;
 import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
 import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
 import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
@@ -14,7 +17,36 @@ public interface MeetingService {
 
     void addTranscript(AddTranscriptCommand command);
 
+    /**
+     * Adds several transcripts in one transaction. Transcripts that fail
+     * validation are returned with the exception {@link #addTranscript} would
+     * have thrown; all others are stored or were already present. A
+     * {@link org.springframework.dao.DataAccessException} rolls back the whole batch.
+     */
+    Map<UUID, RuntimeException> addTranscripts(List<AddTranscriptCommand> commands);
+
     void endMeeting(EndMeetingCommand command);
 
     List<Transcript> getSessionTranscripts(UUID meetingId, UUID sessionId);
+
+    /**
+     * Hands the session's transcripts to {@code sink} in sequence order as
+     * they are read, without building the list; memory use does not grow with
+     * the session (archived sessions excepted, the archive reads them whole).
+     * Missing meetings and sessions throw before the first transcript.
+     */
+    void streamSessionTranscripts(UUID meetingId, UUID sessionId, Consumer<Transcript> sink);
+
+    /**
+     * Up to {@code limit} transcripts of the session with a sequence number
+     * above {@code afterSequence} (from the first one if null), read as an
+     * index range rather than the whole session.
+     */
+    TranscriptPage getSessionTranscriptPage(UUID meetingId, UUID sessionId, Integer afterSequence, int limit);
+
+    /**
+     * The last {@code count} transcripts of the session in sequence order,
+     * answered from memory for LIVE sessions whenever the tail is held there.
+     */
+    List<Transcript> getSessionTranscriptTail(UUID meetingId, UUID sessionId, int count);
 }
@@ -1,29 +1,43 @@
 package com.github.meeting_platform.domain.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
-import java.util.stream.StreamSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.github.meeting_platform.common.exceptions.MeetingNotFoundException;
 import com.github.meeting_platform.common.exceptions.SessionEndedException;
 import com.github.meeting_platform.common.exceptions.SessionNotFoundException;
-import com.github.meeting_platform.domain.model.Meeting;
+import com.github.meeting_platform.domain.events.LateTranscriptEvent;
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.SessionOpenedEvent;
+import com.github.meeting_platform.domain.events.TranscriptCommittedEvent;
+import com.github.meeting_platform.domain.events.TranscriptStoredEvent;
 import com.github.meeting_platform.domain.model.Session;
 import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.model.TranscriptPage;
+import com.github.meeting_platform.domain.repository.CompactedSessions;
 import com.github.meeting_platform.domain.repository.MeetingRepository;
 import com.github.meeting_platform.domain.repository.SessionRepository;
-import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptArchive;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
 import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
 import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
 import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
 
-import jakarta.transaction.Transactional;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -31,65 +45,148 @@ public class MeetingServiceImpl implements MeetingService {
 
     private final MeetingRepository meetingRepository;
     private final SessionRepository sessionRepository;
-    private final TranscriptRepository transcriptRepository;
+    private final TranscriptStore transcriptStore;
+    private final TranscriptArchive transcriptArchive;
+    private final CompactedSessions compactedSessions;
+    private final MeetingMetadataCoalescer meetingMetadata;
+    private final InterimTranscriptBuffer interimTranscripts;
+    private final LiveSessionRegistry liveSessions;
+    private final SessionSequenceIndex sequenceIndex;
+    private final TranscriptTailBuffer tailBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public void startMeeting(StartMeetingCommand cmd) {
-        var existingSession = sessionRepository.findById(cmd.getSessionId());
-        if (existingSession.isPresent()) {
-            var session = existingSession.get();
-            if (session.getStatus() == Session.SessionStatus.LIVE) {
-                log.debug("Session already exists and is LIVE (idempotent): sessionId={}, meetingId={}",
-                        cmd.getSessionId(), cmd.getMeetingId());
-                updateMeetingIfExists(cmd);
-                return;
-            }
+        // insert the session first: a redelivery for an ENDED session must not touch the meeting
+        boolean created = sessionRepository.insertLiveIfAbsent(cmd.getSessionId(), cmd.getMeetingId(),
+                cmd.getStartedAt()) > 0;
+        if (!created) {
+            var session = sessionRepository.findById(cmd.getSessionId())
+                    .orElseThrow(() -> new SessionNotFoundException("Session not found: " + cmd.getSessionId()));
             if (session.getStatus() == Session.SessionStatus.ENDED) {
                 throw new SessionEndedException(
                         "Cannot start a new session with ID " + cmd.getSessionId() + " - session already ended");
             }
+            log.debug("Session already exists and is LIVE (idempotent): sessionId={}, meetingId={}",
+                    cmd.getSessionId(), cmd.getMeetingId());
         }
 
-        createOrUpdateMeeting(cmd);
-        var session = new Session(cmd.getSessionId(), cmd.getMeetingId(), cmd.getStartedAt());
-        sessionRepository.save(session);
+        meetingMetadata.submit(new MeetingMetadataCoalescer.Metadata(cmd.getMeetingId(), cmd.getTitle(),
+                cmd.getRoomName(), cmd.getOrganizedById(), cmd.getOrganizedByName(), cmd.getCreatedAt()));
+        eventPublisher.publishEvent(new SessionOpenedEvent(cmd.getMeetingId(), cmd.getSessionId(), created));
         log.debug("Successfully started meeting: meetingId={}, sessionId={}", cmd.getMeetingId(), cmd.getSessionId());
     }
 
-    private void updateMeetingIfExists(StartMeetingCommand cmd) {
-        meetingRepository.findById(cmd.getMeetingId()).ifPresent(meeting -> {
-            meeting.setTitle(cmd.getTitle());
-            meeting.setRoomName(cmd.getRoomName());
-            meeting.setOrganizer(new Meeting.Organizer(cmd.getOrganizedById(), cmd.getOrganizedByName()));
-            meeting.setCreatedAt(cmd.getCreatedAt());
-            meetingRepository.save(meeting);
-        });
-    }
-
-    private void createOrUpdateMeeting(StartMeetingCommand cmd) {
-        var existingMeeting = meetingRepository.findById(cmd.getMeetingId());
-        if (existingMeeting.isPresent()) {
-            var meeting = existingMeeting.get();
-            meeting.setTitle(cmd.getTitle());
-            meeting.setRoomName(cmd.getRoomName());
-            meeting.setOrganizer(new Meeting.Organizer(cmd.getOrganizedById(), cmd.getOrganizedByName()));
-            meeting.setCreatedAt(cmd.getCreatedAt());
-            meetingRepository.save(meeting);
+    @Override
+    @Transactional
+    public void addTranscript(AddTranscriptCommand cmd) {
+        var transcript = Transcript.from(cmd.getEnvelope());
+        boolean late = false;
+        // LIVE sessions are validated and deduplicated in memory; anything else goes to the database
+        if (liveSessions.isLive(cmd.getMeetingId(), cmd.getSessionId())) {
+            if (isKnownDuplicate(cmd) || holdInterim(transcript)) {
+                return;
+            }
         } else {
-            var meeting = new Meeting(
-                    cmd.getMeetingId(),
-                    cmd.getTitle(),
-                    cmd.getRoomName(),
-                    new Meeting.Organizer(cmd.getOrganizedById(), cmd.getOrganizedByName()),
-                    cmd.getCreatedAt());
-            meetingRepository.save(meeting);
+            late = validateSessionForTranscript(cmd);
+        }
+
+        var result = transcriptStore.write(List.of(transcript));
+        if (result.isDuplicate(cmd.getTranscriptId())) {
+            log.debug("Transcript already exists (idempotent): transcriptId={}, sessionId={}, meetingId={}",
+                    cmd.getTranscriptId(), cmd.getSessionId(), cmd.getMeetingId());
+        } else {
+            publishCommitted(transcript);
+            publishStored(transcript);
+            if (late) {
+                publishLate(transcript);
+            }
+            log.debug("Successfully saved transcript: transcriptId={}, sequenceNumber={}, revision={}",
+                    cmd.getTranscriptId(), cmd.getSequenceNumber(), cmd.getRevision());
         }
     }
 
     @Override
     @Transactional
-    public void addTranscript(AddTranscriptCommand cmd) {
+    public Map<UUID, RuntimeException> addTranscripts(List<AddTranscriptCommand> commands) {
+        Map<UUID, RuntimeException> failures = new LinkedHashMap<>();
+        List<Transcript> batch = new ArrayList<>(commands.size());
+        Set<UUID> late = new HashSet<>();
+
+        for (AddTranscriptCommand cmd : commands) {
+            var transcript = Transcript.from(cmd.getEnvelope());
+            try {
+                if (liveSessions.isLive(cmd.getMeetingId(), cmd.getSessionId())) {
+                    if (isKnownDuplicate(cmd) || holdInterim(transcript)) {
+                        continue;
+                    }
+                } else if (validateSessionForTranscript(cmd)) {
+                    late.add(transcript.getId());
+                }
+            } catch (MeetingNotFoundException | SessionNotFoundException e) {
+                failures.put(cmd.getTranscriptId(), e);
+                continue;
+            }
+            batch.add(transcript);
+        }
+
+        var result = transcriptStore.write(batch);
+        for (Transcript transcript : batch) {
+            if (!result.isDuplicate(transcript.getId())) {
+                publishCommitted(transcript);
+                publishStored(transcript);
+                if (late.contains(transcript.getId())) {
+                    publishLate(transcript);
+                }
+            }
+        }
+        log.debug("Saved transcript batch: written={}, duplicates={}, rejected={}", result.written().size(),
+                result.duplicates().size(), failures.size());
+        return failures;
+    }
+
+    // the index only holds sequence numbers whose final chunk is stored, so this also drops late interim revisions
+    private boolean isKnownDuplicate(AddTranscriptCommand cmd) {
+        if (!sequenceIndex.contains(cmd.getMeetingId(), cmd.getSessionId(), cmd.getSequenceNumber())) {
+            return false;
+        }
+        log.debug("Transcript sequence already stored (idempotent): transcriptId={}, sessionId={}, sequenceNumber={}",
+                cmd.getTranscriptId(), cmd.getSessionId(), cmd.getSequenceNumber());
+        return true;
+    }
+
+    private boolean holdInterim(Transcript transcript) {
+        if (transcript.isFinal() || !interimTranscripts.isEnabled() || !interimTranscripts.offer(transcript)) {
+            return false;
+        }
+        log.debug("Interim transcript held in memory: transcriptId={}, sequenceNumber={}, revision={}",
+                transcript.getId(), transcript.getSequenceNumber(), transcript.getRevision());
+        return true;
+    }
+
+    private void publishCommitted(Transcript transcript) {
+        eventPublisher.publishEvent(new TranscriptCommittedEvent(transcript));
+    }
+
+    // only written final rows: a duplicate by id may carry a different sequence number than the stored row,
+    // and an interim row can still be replaced
+    private void publishStored(Transcript transcript) {
+        if (!transcript.isFinal()) {
+            return;
+        }
+        eventPublisher.publishEvent(new TranscriptStoredEvent(transcript.getMeetingId(), transcript.getSessionId(),
+                transcript.getSequenceNumber()));
+    }
+
+    // any written row, interim or final, changes what the session's compacted document must hold
+    private void publishLate(Transcript transcript) {
+        eventPublisher.publishEvent(new LateTranscriptEvent(transcript.getMeetingId(), transcript.getSessionId(),
+                transcript.getSequenceNumber()));
+    }
+
+    // true if the session has already ended, i.e. the transcript is a late delivery
+    private boolean validateSessionForTranscript(AddTranscriptCommand cmd) {
         if (meetingRepository.findById(cmd.getMeetingId()).isEmpty()) {
             throw new MeetingNotFoundException("Meeting not found: " + cmd.getMeetingId());
         }
@@ -101,62 +198,166 @@ public class MeetingServiceImpl implements MeetingService {
             throw new SessionNotFoundException("Session " + cmd.getSessionId() + " does not belong to meeting " + cmd.getMeetingId());
         }
 
-        if (session.getStatus() == Session.SessionStatus.ENDED) {
-            log.info("Adding transcript to ended session (late delivery): sessionId={}, meetingId={}, transcriptId={}",
-                    cmd.getSessionId(), cmd.getMeetingId(), cmd.getTranscriptId());
+        if (session.getStatus() != Session.SessionStatus.ENDED) {
+            return false;
         }
+        log.info("Adding transcript to ended session (late delivery): sessionId={}, meetingId={}, transcriptId={}",
+                cmd.getSessionId(), cmd.getMeetingId(), cmd.getTranscriptId());
+        return true;
+    }
 
-        if (transcriptRepository.findById(cmd.getTranscriptId()).isPresent()) {
-            log.debug("Transcript already exists (idempotent): transcriptId={}, sessionId={}, meetingId={}",
-                    cmd.getTranscriptId(), cmd.getSessionId(), cmd.getMeetingId());
-            return;
+    @Override
+    @Transactional
+    public void endMeeting(EndMeetingCommand cmd) {
+        int ended = sessionRepository.endIfLive(cmd.getSessionId(), cmd.getMeetingId(), cmd.getEndedAt(),
+                cmd.getReason());
+        if (ended == 0) {
+            throw endMeetingFailure(cmd);
+        }
+        // interim revisions whose final chunk never came are the best text there is
+        var interims = interimTranscripts.pending(cmd.getMeetingId(), cmd.getSessionId());
+        if (!interims.isEmpty()) {
+            transcriptStore.write(interims);
+            interims.forEach(this::publishCommitted);
+            log.debug("Stored interim transcripts of ended session: sessionId={}, count={}", cmd.getSessionId(),
+                    interims.size());
         }
+        eventPublisher.publishEvent(new SessionClosedEvent(cmd.getMeetingId(), cmd.getSessionId()));
+    }
 
-        var transcript = new Transcript(
-                cmd.getTranscriptId(),
-                cmd.getMeetingId(),
-                cmd.getSessionId(),
-                cmd.getSequenceNumber(),
-                cmd.getSpeakerId(),
-                cmd.getSpeakerName(),
-                cmd.getContent(),
-                cmd.getLanguage(),
-                cmd.getStartOffset(),
-                cmd.getEndOffset());
+    // only reached when the conditional update matched nothing, to report why
+    private RuntimeException endMeetingFailure(EndMeetingCommand cmd) {
+        if (meetingRepository.findById(cmd.getMeetingId()).isEmpty()) {
+            return new MeetingNotFoundException("Meeting not found: " + cmd.getMeetingId());
+        }
 
-        try {
-            transcriptRepository.save(transcript);
-            log.debug("Successfully saved transcript: transcriptId={}, sequenceNumber={}", cmd.getTranscriptId(), cmd.getSequenceNumber());
-        } catch (DataIntegrityViolationException e) {
-            log.debug("Duplicate transcript detected during save (idempotent): transcriptId={}, sessionId={}",
-                    cmd.getTranscriptId(), cmd.getSessionId());
+        var session = sessionRepository.findById(cmd.getSessionId()).orElse(null);
+        if (session == null) {
+            return new SessionNotFoundException("Session not found: " + cmd.getSessionId());
         }
+
+        if (!session.getMeetingId().equals(cmd.getMeetingId())) {
+            return new SessionNotFoundException("Session " + cmd.getSessionId() + " does not belong to meeting " + cmd.getMeetingId());
+        }
+
+        return new SessionEndedException("Session already ended: " + cmd.getSessionId());
     }
 
+    // read-only, so a configured replica serves it (see ReplicaRoutingDataSource)
     @Override
-    @Transactional
-    public void endMeeting(EndMeetingCommand cmd) {
-        if (meetingRepository.findById(cmd.getMeetingId()).isEmpty()) {
-            throw new MeetingNotFoundException("Meeting not found: " + cmd.getMeetingId());
+    @Transactional(readOnly = true)
+    public List<Transcript> getSessionTranscripts(UUID meetingId, UUID sessionId) {
+        var session = readableSession(meetingId, sessionId);
+
+        if (session.getStatus() == Session.SessionStatus.ENDED && session.getArchivedAt() == null) {
+            // an ended session holds no interim revisions in memory, so its document is the whole answer
+            var compacted = compactedSessions.readSession(meetingId, sessionId);
+            if (compacted.isPresent()) {
+                return compacted.get();
+            }
         }
 
-        var session = sessionRepository.findById(cmd.getSessionId())
-                .orElseThrow(() -> new SessionNotFoundException("Session not found: " + cmd.getSessionId()));
+        var stored = transcriptStore.readSession(meetingId, sessionId);
+        if (session.getArchivedAt() != null) {
+            var archived = transcriptArchive.readSession(meetingId, sessionId);
+            stored = stored.isEmpty() ? archived : withLateRows(archived, stored);
+        }
+        var interims = interimTranscripts.pending(meetingId, sessionId);
+        return interims.isEmpty() ? stored : filled(stored, interims);
+    }
 
-        if (!session.getMeetingId().equals(cmd.getMeetingId())) {
-            throw new SessionNotFoundException("Session " + cmd.getSessionId() + " does not belong to meeting " + cmd.getMeetingId());
+    // the rows are streamed even when a compacted document exists: decoding it would build the whole list
+    @Override
+    @Transactional(readOnly = true)
+    public void streamSessionTranscripts(UUID meetingId, UUID sessionId, Consumer<Transcript> sink) {
+        var session = readableSession(meetingId, sessionId);
+
+        if (session.getArchivedAt() != null) {
+            try (Stream<Transcript> archived = transcriptArchive.streamSession(meetingId, sessionId);
+                    Stream<Transcript> rows = transcriptStore.streamSession(meetingId, sessionId)) {
+                withLateRows(archived.iterator(), rows.iterator(), sink);
+            }
+            return;
+        }
+        // held interim revisions are few and sorted; they are merged into the gaps of the stream
+        var interims = interimTranscripts.pending(meetingId, sessionId);
+        int next = 0;
+        try (Stream<Transcript> rows = transcriptStore.streamSession(meetingId, sessionId)) {
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                while (next < interims.size() && interims.get(next).getSequenceNumber() <= row.getSequenceNumber()) {
+                    var interim = interims.get(next++);
+                    if (interim.getSequenceNumber() < row.getSequenceNumber()) {
+                        sink.accept(interim);
+                    }
+                }
+                sink.accept(row);
+            }
         }
+        interims.subList(next, interims.size()).forEach(sink);
+    }
+
+    // read-only like getSessionTranscripts; the compacted document is skipped, an index range is cheaper per page
+    @Override
+    @Transactional(readOnly = true)
+    public TranscriptPage getSessionTranscriptPage(UUID meetingId, UUID sessionId, Integer afterSequence,
+            int limit) {
+        var session = readableSession(meetingId, sessionId);
 
-        if (session.getEndedAt() != null) {
-            throw new SessionEndedException("Session already ended: " + cmd.getSessionId());
+        // one row beyond the limit tells whether another page follows
+        List<Transcript> transcripts;
+        if (session.getArchivedAt() != null) {
+            // both sources are cut after the same sequence number, so their merge starts with the whole page
+            var archived = transcriptArchive.readPage(meetingId, sessionId, afterSequence, limit + 1);
+            var rows = transcriptStore.readPage(meetingId, sessionId, afterSequence, limit + 1);
+            transcripts = after(withLateRows(archived, rows), afterSequence, limit + 1);
+        } else {
+            transcripts = transcriptStore.readPage(meetingId, sessionId, afterSequence, limit + 1);
+            var interims = interimTranscripts.pending(meetingId, sessionId);
+            if (!interims.isEmpty()) {
+                // held revisions beyond a full page belong to a later one
+                Integer last = transcripts.size() > limit ? transcripts.get(limit).getSequenceNumber() : null;
+                var gaps = interims.stream()
+                        .filter(transcript -> last == null || transcript.getSequenceNumber() < last)
+                        .toList();
+                transcripts = after(filled(transcripts, gaps), afterSequence, limit + 1);
+            }
         }
 
-        session.end(cmd.getEndedAt(), cmd.getReason());
-        sessionRepository.save(session);
+        boolean hasMore = transcripts.size() > limit;
+        var page = hasMore ? transcripts.subList(0, limit) : transcripts;
+        Integer next = page.isEmpty() ? afterSequence : page.get(page.size() - 1).getSequenceNumber();
+        return new TranscriptPage(List.copyOf(page), next, hasMore);
     }
 
+    // read-only like the page, so a miss validates and reads on the same node; behind the lazy connection proxy
+    // a tail held in memory still takes no connection
     @Override
-    public List<Transcript> getSessionTranscripts(UUID meetingId, UUID sessionId) {
+    @Transactional(readOnly = true)
+    public List<Transcript> getSessionTranscriptTail(UUID meetingId, UUID sessionId, int count) {
+        if (liveSessions.isLive(meetingId, sessionId)) {
+            var tail = tailBuffer.tail(meetingId, sessionId, count);
+            if (tail.isPresent()) {
+                var interims = interimTranscripts.pending(meetingId, sessionId);
+                return interims.isEmpty() ? tail.get() : last(filled(tail.get(), interims), count);
+            }
+        }
+
+        var session = readableSession(meetingId, sessionId);
+        List<Transcript> transcripts;
+        if (session.getArchivedAt() != null) {
+            transcripts = withLateRows(transcriptArchive.readSession(meetingId, sessionId),
+                    transcriptStore.readSession(meetingId, sessionId));
+        } else {
+            // held revisions can only displace rows from the stored tail, never bring older rows into it
+            transcripts = filled(transcriptStore.readTail(meetingId, sessionId, count),
+                    interimTranscripts.pending(meetingId, sessionId));
+        }
+        return last(transcripts, count);
+    }
+
+    private Session readableSession(UUID meetingId, UUID sessionId) {
         if (meetingRepository.findById(meetingId).isEmpty()) {
             throw new MeetingNotFoundException("Meeting not found: " + meetingId);
         }
@@ -167,10 +368,63 @@ public class MeetingServiceImpl implements MeetingService {
         if (!session.getMeetingId().equals(meetingId)) {
             throw new SessionNotFoundException("Session " + sessionId + " does not belong to meeting " + meetingId);
         }
+        return session;
+    }
+
+    // the transcripts of a sorted list above the sequence number, at most limit of them
+    private static List<Transcript> after(List<Transcript> sorted, Integer afterSequence, int limit) {
+        return sorted.stream()
+                .filter(transcript -> afterSequence == null || transcript.getSequenceNumber() > afterSequence)
+                .limit(limit)
+                .toList();
+    }
+
+    private static List<Transcript> last(List<Transcript> sorted, int count) {
+        return sorted.size() <= count ? sorted : List.copyOf(sorted.subList(sorted.size() - count, sorted.size()));
+    }
+
+    /*
+     * Rows left in the table of an archived session are late deliveries, or interim rows revised while the
+     * session was archived; a row replaces the archived transcript of its sequence number only if it supersedes it.
+     */
+    private static List<Transcript> withLateRows(List<Transcript> archived, List<Transcript> rows) {
+        var bySequence = new TreeMap<Integer, Transcript>();
+        archived.forEach(transcript -> bySequence.put(transcript.getSequenceNumber(), transcript));
+        rows.forEach(row -> bySequence.merge(row.getSequenceNumber(), row,
+                (kept, late) -> late.supersedes(kept) ? late : kept));
+        return List.copyOf(bySequence.values());
+    }
+
+    // withLateRows over two sorted streams, holding one transcript of each
+    private static void withLateRows(Iterator<Transcript> archived, Iterator<Transcript> rows,
+            Consumer<Transcript> sink) {
+        var kept = archived.hasNext() ? archived.next() : null;
+        var late = rows.hasNext() ? rows.next() : null;
+        while (kept != null || late != null) {
+            int order = kept == null ? 1
+                    : late == null ? -1
+                    : Integer.compare(kept.getSequenceNumber(), late.getSequenceNumber());
+            if (order < 0) {
+                sink.accept(kept);
+            } else if (order > 0) {
+                sink.accept(late);
+            } else {
+                sink.accept(late.supersedes(kept) ? late : kept);
+            }
+            if (order <= 0) {
+                kept = archived.hasNext() ? archived.next() : null;
+            }
+            if (order >= 0) {
+                late = rows.hasNext() ? rows.next() : null;
+            }
+        }
+    }
 
-        return StreamSupport.stream(
-                transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId).spliterator(),
-                false
-        ).toList();
+    // later sources only fill the sequence numbers that earlier ones leave open
+    private static List<Transcript> filled(List<Transcript> stored, List<Transcript> fill) {
+        var bySequence = new TreeMap<Integer, Transcript>();
+        stored.forEach(transcript -> bySequence.put(transcript.getSequenceNumber(), transcript));
+        fill.forEach(transcript -> bySequence.putIfAbsent(transcript.getSequenceNumber(), transcript));
+        return List.copyOf(bySequence.values());
     }
 }
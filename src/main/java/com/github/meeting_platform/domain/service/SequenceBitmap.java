@@ -0,0 +1,104 @@
+package com.github.meeting_platform.domain.service;
+
+import java.util.Arrays;
+
+/**
+ * Run-length encoded set of sequence numbers. Transcript chunks
+ * arrive almost in order, so a session's stored sequence numbers collapse into
+ * a handful of {@code [start, end]} runs; appending the next number extends the
+ * last run in place. Lookups are a binary search over the runs.
+ * <p>
+ * Thread-safe; all methods synchronize on the bitmap.
+ */
+final class SequenceBitmap {
+
+    private static final int INITIAL_RUNS = 4;
+
+    // run i covers starts[i]..ends[i] inclusive; runs are sorted, disjoint and non-adjacent
+    private int[] starts = new int[INITIAL_RUNS];
+    private int[] ends = new int[INITIAL_RUNS];
+    private int runs;
+    private long cardinality;
+
+    synchronized boolean contains(int value) {
+        int run = runAtOrBefore(value);
+        return run >= 0 && value <= ends[run];
+    }
+
+    /** Adds the value; returns false if it was already present. */
+    synchronized boolean add(int value) {
+        // fast path: in-order append
+        if (runs > 0 && ends[runs - 1] != Integer.MAX_VALUE && value == ends[runs - 1] + 1) {
+            ends[runs - 1] = value;
+            cardinality++;
+            return true;
+        }
+
+        int before = runAtOrBefore(value);
+        if (before >= 0 && value <= ends[before]) {
+            return false;
+        }
+        boolean joinsBefore = before >= 0 && ends[before] + 1 == value;
+        int after = before + 1;
+        boolean joinsAfter = after < runs && starts[after] - 1 == value;
+
+        if (joinsBefore && joinsAfter) {
+            ends[before] = ends[after];
+            removeRun(after);
+        } else if (joinsBefore) {
+            ends[before] = value;
+        } else if (joinsAfter) {
+            starts[after] = value;
+        } else {
+            insertRun(after, value);
+        }
+        cardinality++;
+        return true;
+    }
+
+    synchronized long cardinality() {
+        return cardinality;
+    }
+
+    synchronized int runCount() {
+        return runs;
+    }
+
+    /** Approximate heap footprint: object headers, fields and both run arrays. */
+    synchronized long estimatedBytes() {
+        return 32L + 2 * (16L + 4L * starts.length);
+    }
+
+    // index of the last run starting at or before value, -1 if none
+    private int runAtOrBefore(int value) {
+        int low = 0;
+        int high = runs - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private void insertRun(int index, int value) {
+        if (runs == starts.length) {
+            starts = Arrays.copyOf(starts, runs * 2);
+            ends = Arrays.copyOf(ends, runs * 2);
+        }
+        System.arraycopy(starts, index, starts, index + 1, runs - index);
+        System.arraycopy(ends, index, ends, index + 1, runs - index);
+        starts[index] = value;
+        ends[index] = value;
+        runs++;
+    }
+
+    private void removeRun(int index) {
+        System.arraycopy(starts, index + 1, starts, index, runs - index - 1);
+        System.arraycopy(ends, index + 1, ends, index, runs - index - 1);
+        runs--;
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.meeting_platform.domain.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.TranscriptStoredEvent;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stored sequence numbers of every LIVE session, so redelivered transcript
+ * chunks are recognised without touching the database.
+ * <p>
+ * A session's bitmap is seeded from the database on first lookup, extended
+ * after each committing transcript write and dropped when the session ends. A
+ * session that ends while its bitmap is being seeded is dropped again by the
+ * seeding thread.
+ * Numbers are only added after commit, so the index can miss a stored
+ * transcript (the database then reports the duplicate) but never reports one
+ * that is not stored.
+ */
+@Component
+@Slf4j
+public class SessionSequenceIndex {
+
+    private final TranscriptStore transcriptStore;
+    private final LiveSessionRegistry liveSessions;
+    private final Map<UUID, SequenceBitmap> bitmaps = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public SessionSequenceIndex(TranscriptStore transcriptStore, LiveSessionRegistry liveSessions,
+            MeterRegistry meterRegistry) {
+        this.transcriptStore = transcriptStore;
+        this.liveSessions = liveSessions;
+        this.hits = Counter.builder("transcript.sequence.index.lookups")
+                .description("Transcript duplicate checks answered by the in-memory sequence index")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("transcript.sequence.index.lookups")
+                .description("Transcript duplicate checks answered by the in-memory sequence index")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("transcript.sequence.index.sessions", bitmaps, Map::size)
+                .description("Sessions with a sequence bitmap in memory")
+                .register(meterRegistry);
+        Gauge.builder("transcript.sequence.index.bytes", this, SessionSequenceIndex::estimatedBytes)
+                .description("Estimated heap used by all sequence bitmaps")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("transcript.sequence.index.bytes.per.session", this, SessionSequenceIndex::bytesPerSession)
+                .description("Estimated heap used by the sequence bitmap of an average live session")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * True if the transcript with this sequence number is known to be stored.
+     * Only LIVE sessions are cached; other sessions always answer false.
+     */
+    public boolean contains(UUID meetingId, UUID sessionId, int sequenceNumber) {
+        SequenceBitmap bitmap = bitmaps.get(sessionId);
+        if (bitmap == null) {
+            if (!liveSessions.isLive(meetingId, sessionId)) {
+                misses.increment();
+                return false;
+            }
+            bitmap = seed(meetingId, sessionId);
+        }
+        boolean found = bitmap.contains(sequenceNumber);
+        (found ? hits : misses).increment();
+        return found;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TranscriptStoredEvent event) {
+        SequenceBitmap bitmap = bitmaps.get(event.getSessionId());
+        // unseeded sessions pick the number up from the database when they are seeded
+        if (bitmap != null) {
+            bitmap.add(event.getSequenceNumber());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(SessionClosedEvent event) {
+        bitmaps.remove(event.getSessionId());
+    }
+
+    long estimatedBytes() {
+        long total = 0;
+        for (SequenceBitmap bitmap : bitmaps.values()) {
+            total += bitmap.estimatedBytes();
+        }
+        return total;
+    }
+
+    double bytesPerSession() {
+        int sessions = bitmaps.size();
+        return sessions == 0 ? 0 : (double) estimatedBytes() / sessions;
+    }
+
+    private SequenceBitmap seed(UUID meetingId, UUID sessionId) {
+        SequenceBitmap seeded = new SequenceBitmap();
+        transcriptStore.finalSequenceNumbers(meetingId, sessionId).forEach(seeded::add);
+        SequenceBitmap existing = bitmaps.putIfAbsent(sessionId, seeded);
+        if (existing != null) {
+            return existing;
+        }
+        // the session may have ended, and its bitmap been dropped, while this one was read
+        if (!liveSessions.isLive(meetingId, sessionId)) {
+            bitmaps.remove(sessionId, seeded);
+            return seeded;
+        }
+        log.debug("Seeded sequence bitmap: sessionId={}, stored={}, runs={}", sessionId, seeded.cardinality(),
+                seeded.runCount());
+        return seeded;
+    }
+}
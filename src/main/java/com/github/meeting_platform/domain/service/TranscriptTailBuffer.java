@@ -0,0 +1,314 @@
+package com.github.meeting_platform.domain.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.SessionOpenedEvent;
+import com.github.meeting_platform.domain.events.TranscriptCommittedEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The most recent transcripts of every LIVE session, kept in a ring of
+ * {@code capacity} sequence numbers so tail reads need no database range scan.
+ * Sequence number {@code s} lives in slot {@code s % capacity}; a slot is
+ * valid while its sequence number is within {@code capacity} of the highest
+ * one seen, so late chunks inside the window land in place.
+ * <p>
+ * Each slot is {@code slotBytes} of one heap or direct buffer per session and
+ * holds the transcript in a compact binary form; a transcript that does not
+ * fit is kept as an object beside the ring. A ring is created before the
+ * transaction that inserts its session commits, so it exists before any
+ * transcript of the session can be written; rings are filled after commit
+ * and exist only for sessions created since startup, so a ring has seen every
+ * transcript of its session. A session whose ring has dropped a sequence
+ * number answers only tails it holds completely. The ring is released when
+ * the session ends.
+ */
+public class TranscriptTailBuffer {
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+    private static final int FLAG_FINAL = 1;
+    private static final int FLAG_SPEAKER_ID = 2;
+    private static final int FLAG_LANGUAGE = 4;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int slotBytes;
+    private final boolean offHeap;
+    private final Map<UUID, Ring> rings = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public TranscriptTailBuffer(boolean enabled, int capacity, int slotBytes, boolean offHeap,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.slotBytes = slotBytes;
+        this.offHeap = offHeap;
+        this.hits = Counter.builder("transcript.tail.hits")
+                .description("Tail reads answered from memory")
+                .register(meterRegistry);
+        this.misses = Counter.builder("transcript.tail.misses")
+                .description("Tail reads left to the database")
+                .register(meterRegistry);
+        Gauge.builder("transcript.tail.sessions", rings, Map::size)
+                .description("LIVE sessions with an in-memory tail")
+                .register(meterRegistry);
+        Gauge.builder("transcript.tail.bytes", this, TranscriptTailBuffer::bytes)
+                .description("Memory held by the in-memory tails, slots and oversized transcripts")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The last {@code count} transcripts of the session in sequence order, or
+     * empty if the ring cannot tell them for certain.
+     */
+    public Optional<List<Transcript>> tail(UUID meetingId, UUID sessionId, int count) {
+        Ring ring = rings.get(sessionId);
+        Optional<List<Transcript>> tail = ring == null || !ring.meetingId.equals(meetingId)
+                ? Optional.empty()
+                : ring.tail(count);
+        (tail.isPresent() ? hits : misses).increment();
+        return tail;
+    }
+
+    /** Per-session view for the actuator endpoint. */
+    public List<SessionTail> snapshot() {
+        List<SessionTail> sessions = new ArrayList<>(rings.size());
+        rings.values().forEach(ring -> sessions.add(ring.snapshot()));
+        return sessions;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // a redelivered start may come after a restart, when the session already has rows this ring never saw;
+    // before commit, because a transcript committed ahead of its ring would be missing from it unnoticed
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(SessionOpenedEvent event) {
+        if (enabled && event.isCreated()) {
+            rings.computeIfAbsent(event.getSessionId(), id -> new Ring(event.getMeetingId(), id));
+        }
+    }
+
+    // the commit that would have inserted the session failed after the ring was created
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void discard(SessionOpenedEvent event) {
+        if (event.isCreated()) {
+            rings.remove(event.getSessionId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TranscriptCommittedEvent event) {
+        Transcript transcript = event.getTranscript();
+        Ring ring = rings.get(transcript.getSessionId());
+        if (ring != null && ring.meetingId.equals(transcript.getMeetingId())) {
+            ring.put(transcript);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(SessionClosedEvent event) {
+        rings.remove(event.getSessionId());
+    }
+
+    long bytes() {
+        long total = 0;
+        for (Ring ring : rings.values()) {
+            total += ring.bytes();
+        }
+        return total;
+    }
+
+    /** Memory and hit ratio of one session's ring. */
+    public record SessionTail(UUID meetingId, UUID sessionId, int held, long bytes, long hits, long misses,
+            double hitRatio) {
+    }
+
+    private final class Ring {
+        final UUID meetingId;
+        final UUID sessionId;
+        final ByteBuffer slots;
+        final int[] sequenceNumbers = new int[capacity];
+        final Transcript[] oversized = new Transcript[capacity];
+        final int[] oversizedSizes = new int[capacity];
+        int highest = EMPTY;
+        int held;
+        long oversizedBytes;
+        // a sequence number has left the window, so older transcripts are only in the database
+        boolean truncated;
+        long hits;
+        long misses;
+
+        Ring(UUID meetingId, UUID sessionId) {
+            this.meetingId = meetingId;
+            this.sessionId = sessionId;
+            this.slots = offHeap ? ByteBuffer.allocateDirect(capacity * slotBytes)
+                    : ByteBuffer.allocate(capacity * slotBytes);
+            Arrays.fill(sequenceNumbers, EMPTY);
+        }
+
+        synchronized void put(Transcript transcript) {
+            int sequenceNumber = transcript.getSequenceNumber();
+            if (highest != EMPTY && sequenceNumber <= highest - capacity) {
+                truncated = true;
+                return;
+            }
+            if (highest == EMPTY || sequenceNumber > highest) {
+                advance(sequenceNumber);
+            }
+            int slot = Math.floorMod(sequenceNumber, capacity);
+            UUID id = transcript.getId();
+            if (sequenceNumbers[slot] == sequenceNumber) {
+                // a newer revision updates the stored row in place, which keeps its id
+                id = read(slot).getId();
+                clear(slot);
+            }
+            byte[] encoded = encode(transcript, id);
+            if (Integer.BYTES + encoded.length <= slotBytes) {
+                slots.putInt(slot * slotBytes, encoded.length);
+                slots.put(slot * slotBytes + Integer.BYTES, encoded);
+            } else {
+                // decoded, so the ring holds a copy with the stored id
+                oversized[slot] = decode(ByteBuffer.wrap(encoded), sequenceNumber);
+                oversizedSizes[slot] = encoded.length;
+                oversizedBytes += encoded.length;
+            }
+            sequenceNumbers[slot] = sequenceNumber;
+            held++;
+        }
+
+        synchronized Optional<List<Transcript>> tail(int count) {
+            List<Transcript> newestFirst = new ArrayList<>(Math.min(count, held));
+            for (long sequenceNumber = highest; newestFirst.size() < count && highest != EMPTY
+                    && sequenceNumber > (long) highest - capacity; sequenceNumber--) {
+                int slot = (int) Math.floorMod(sequenceNumber, capacity);
+                if (sequenceNumbers[slot] == sequenceNumber) {
+                    newestFirst.add(read(slot));
+                }
+            }
+            if (newestFirst.size() < count && truncated) {
+                misses++;
+                return Optional.empty();
+            }
+            hits++;
+            Collections.reverse(newestFirst);
+            return Optional.of(newestFirst);
+        }
+
+        synchronized long bytes() {
+            return (long) slots.capacity() + oversizedBytes;
+        }
+
+        synchronized SessionTail snapshot() {
+            long reads = hits + misses;
+            return new SessionTail(meetingId, sessionId, held, bytes(), hits, misses,
+                    reads == 0 ? 0.0 : (double) hits / reads);
+        }
+
+        // the sequence numbers that fall out of the window are dropped
+        private void advance(int sequenceNumber) {
+            if (highest != EMPTY) {
+                // at most the current window, which is all a ring can hold
+                long last = Math.min((long) sequenceNumber - capacity, highest);
+                for (long dropped = (long) highest - capacity + 1; dropped <= last; dropped++) {
+                    int slot = (int) Math.floorMod(dropped, capacity);
+                    if (sequenceNumbers[slot] == dropped) {
+                        clear(slot);
+                        truncated = true;
+                    }
+                }
+            }
+            highest = sequenceNumber;
+        }
+
+        private void clear(int slot) {
+            if (oversized[slot] != null) {
+                oversizedBytes -= oversizedSizes[slot];
+                oversized[slot] = null;
+            }
+            sequenceNumbers[slot] = EMPTY;
+            held--;
+        }
+
+        private Transcript read(int slot) {
+            if (oversized[slot] != null) {
+                return oversized[slot];
+            }
+            byte[] encoded = new byte[slots.getInt(slot * slotBytes)];
+            slots.get(slot * slotBytes + Integer.BYTES, encoded);
+            return decode(ByteBuffer.wrap(encoded), sequenceNumbers[slot]);
+        }
+
+        private Transcript decode(ByteBuffer in, int sequenceNumber) {
+            UUID id = new UUID(in.getLong(), in.getLong());
+            int flags = in.get();
+            UUID speakerId = (flags & FLAG_SPEAKER_ID) != 0 ? new UUID(in.getLong(), in.getLong()) : null;
+            int revision = in.getInt();
+            long startOffsetMillis = in.getLong();
+            long endOffsetMillis = in.getLong();
+            String speakerName = readString(in);
+            String language = (flags & FLAG_LANGUAGE) != 0 ? readString(in) : null;
+            String content = readString(in);
+            return new Transcript(id, meetingId, sessionId, sequenceNumber, new Transcript.Speaker(speakerId, speakerName),
+                    content, language, startOffsetMillis, endOffsetMillis, revision, (flags & FLAG_FINAL) != 0);
+        }
+    }
+
+    private static byte[] encode(Transcript transcript, UUID id) {
+        Transcript.Speaker speaker = transcript.getSpeaker();
+        byte[] name = bytes(speaker.getName());
+        byte[] language = bytes(transcript.getLanguage());
+        byte[] content = bytes(transcript.getContent());
+        int flags = (transcript.isFinal() ? FLAG_FINAL : 0)
+                | (speaker.getId() != null ? FLAG_SPEAKER_ID : 0)
+                | (transcript.getLanguage() != null ? FLAG_LANGUAGE : 0);
+        int size = 16 + 1 + (speaker.getId() != null ? 16 : 0) + 4 + 8 + 8 + 4 + name.length
+                + (transcript.getLanguage() != null ? 4 + language.length : 0) + 4 + content.length;
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        out.put((byte) flags);
+        if (speaker.getId() != null) {
+            out.putLong(speaker.getId().getMostSignificantBits()).putLong(speaker.getId().getLeastSignificantBits());
+        }
+        out.putInt(transcript.getRevision());
+        out.putLong(transcript.getStartOffset().toMillis());
+        out.putLong(transcript.getEndOffset().toMillis());
+        out.putInt(name.length).put(name);
+        if (transcript.getLanguage() != null) {
+            out.putInt(language.length).put(language);
+        }
+        out.putInt(content.length).put(content);
+        return out.array();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,255 @@
+package com.github.meeting_platform.domain.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.DataAccessException;
+
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Group-commit stage in front of transcript inserts.
+ * <p>
+ * Listener workers submit {@link AddTranscriptCommand}s and block on the
+ * returned future; a single flusher thread collects them until either the
+ * current batch size limit or the {@code maxDelay} window is reached and
+ * writes the batch with {@link MeetingService#addTranscripts} in one
+ * transaction. Each future completes only after that transaction committed.
+ * <p>
+ * A submitter waits until its entry is flushed, so a batch never holds more
+ * entries than there are {@code submitters}; the batch size limit is capped
+ * there and starts at the cap, so a batch closes as soon as every submitter
+ * has joined it instead of waiting out {@code maxDelay}. Within the cap the
+ * limit adapts: a flush slower than {@code targetFlushLatency} halves it, a
+ * full batch that flushed in time grows it by {@code minBatchSize}.
+ * If the batch transaction fails as a whole the transcripts are retried one by
+ * one, so a single bad row only fails its own caller.
+ */
+@Slf4j
+public class TranscriptWriteBehindBuffer {
+
+    private final MeetingService meetingService;
+    private final boolean enabled;
+    private final long maxDelayNanos;
+    private final long targetFlushLatencyNanos;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final BlockingQueue<Pending> queue;
+
+    private volatile int batchLimit;
+    private volatile boolean running;
+    private Thread flusher;
+
+    private final DistributionSummary batchSizes;
+    private final Timer flushLatency;
+
+    /**
+     * Buffer settings; see {@code WriteBehindProperties} for what each one means. {@code submitters} is the
+     * number of threads that submit and wait concurrently, i.e. the listener workers.
+     */
+    public record Settings(boolean enabled, Duration maxDelay, int minBatchSize, int maxBatchSize,
+            Duration targetFlushLatency, int queueCapacity, int submitters) {
+    }
+
+    public TranscriptWriteBehindBuffer(MeetingService meetingService, Settings settings, MeterRegistry meterRegistry) {
+        if (settings.minBatchSize() < 1 || settings.maxBatchSize() < settings.minBatchSize()) {
+            throw new IllegalArgumentException("write-behind batch sizes must satisfy 1 <= min <= max");
+        }
+        if (settings.submitters() < 1) {
+            throw new IllegalArgumentException("write-behind needs at least one submitter");
+        }
+        this.meetingService = meetingService;
+        this.enabled = settings.enabled();
+        this.maxDelayNanos = settings.maxDelay().toNanos();
+        this.targetFlushLatencyNanos = settings.targetFlushLatency().toNanos();
+        // a larger batch could only ever close on maxDelay
+        this.maxBatchSize = Math.min(settings.maxBatchSize(), settings.submitters());
+        this.minBatchSize = Math.min(settings.minBatchSize(), maxBatchSize);
+        this.queue = new ArrayBlockingQueue<>(settings.queueCapacity());
+        this.batchLimit = maxBatchSize;
+
+        this.batchSizes = DistributionSummary.builder("transcript.writebehind.batch.size")
+                .description("Transcripts committed per write-behind flush")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("transcript.writebehind.flush.latency")
+                .description("Time to write and commit one write-behind batch")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("transcript.writebehind.batch.limit", this, buffer -> buffer.batchLimit)
+                .description("Current adaptive batch size limit")
+                .register(meterRegistry);
+        Gauge.builder("transcript.writebehind.queued", queue, BlockingQueue::size)
+                .description("Transcripts waiting for the next flush")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Transcripts waiting for the next flush; background maintenance backs off while this is not zero. */
+    public int queued() {
+        return queue.size();
+    }
+
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "transcript-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void shutdown() {
+        running = false;
+        if (flusher == null) {
+            return;
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues a transcript for the next group commit. The future completes once
+     * the transcript is committed (or recognised as a duplicate) and fails with
+     * the same exception {@link MeetingService#addTranscript} would have thrown.
+     */
+    public CompletableFuture<Void> submit(AddTranscriptCommand command) {
+        Pending pending = new Pending(command, new CompletableFuture<>());
+        if (running && queue.offer(pending)) {
+            return pending.future;
+        }
+        // stopped or saturated: write on the caller thread, which also slows the caller down
+        try {
+            meetingService.addTranscript(command);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    int batchLimit() {
+        return batchLimit;
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                flush(collectBatch(first));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in transcript write-behind flusher: {}", e.getMessage(), e);
+            }
+        }
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private List<Pending> collectBatch(Pending first) throws InterruptedException {
+        int limit = batchLimit;
+        List<Pending> batch = new ArrayList<>(limit);
+        batch.add(first);
+        long deadline = first.enqueuedAt + maxDelayNanos;
+        while (batch.size() < limit) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, limit - batch.size());
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        long start = System.nanoTime();
+        RuntimeException[] outcomes = write(batch);
+        long elapsed = System.nanoTime() - start;
+        flushLatency.record(elapsed, TimeUnit.NANOSECONDS);
+        batchSizes.record(batch.size());
+        adapt(elapsed, batch.size());
+
+        // callers are released only after the commit and the bookkeeping above
+        for (int i = 0; i < batch.size(); i++) {
+            if (outcomes[i] != null) {
+                batch.get(i).future.completeExceptionally(outcomes[i]);
+            } else {
+                batch.get(i).future.complete(null);
+            }
+        }
+    }
+
+    private RuntimeException[] write(List<Pending> batch) {
+        RuntimeException[] outcomes = new RuntimeException[batch.size()];
+        List<AddTranscriptCommand> commands = batch.stream().map(Pending::command).toList();
+        try {
+            Map<UUID, RuntimeException> failures = meetingService.addTranscripts(commands);
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = failures.get(commands.get(i).getTranscriptId());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Write-behind batch of {} transcripts rolled back, retrying individually: {}",
+                    batch.size(), e.getMessage());
+            for (int i = 0; i < outcomes.length; i++) {
+                try {
+                    meetingService.addTranscript(commands.get(i));
+                } catch (RuntimeException individual) {
+                    outcomes[i] = individual;
+                }
+            }
+        } catch (RuntimeException e) {
+            Arrays.fill(outcomes, e);
+        }
+        return outcomes;
+    }
+
+    private void adapt(long elapsedNanos, int size) {
+        int limit = batchLimit;
+        if (elapsedNanos > targetFlushLatencyNanos) {
+            batchLimit = Math.max(minBatchSize, limit / 2);
+        } else if (size >= limit) {
+            batchLimit = Math.min(maxBatchSize, limit + minBatchSize);
+        }
+    }
+
+    private record Pending(AddTranscriptCommand command, CompletableFuture<Void> future, long enqueuedAt) {
+        Pending(AddTranscriptCommand command, CompletableFuture<Void> future) {
+            this(command, future, System.nanoTime());
+        }
+    }
+}
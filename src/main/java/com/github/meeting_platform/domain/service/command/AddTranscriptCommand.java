@@ -3,18 +3,71 @@ package com.github.meeting_platform.domain.service.command;
 import java.time.Duration;
 import java.util.UUID;
 
+import com.github.meeting_platform.domain.envelope.TranscriptEnvelope;
+
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
+/**
+ * Command view over a {@link TranscriptEnvelope}.
+ */
 @Value
+@AllArgsConstructor
 public class AddTranscriptCommand {
-    UUID meetingId;
-    UUID sessionId;
-    UUID transcriptId;
-    int sequenceNumber;
-    UUID speakerId;
-    String speakerName;
-    String content;
-    Duration startOffset;
-    Duration endOffset;
-    String language;
+    TranscriptEnvelope envelope;
+
+    public AddTranscriptCommand(UUID meetingId, UUID sessionId, UUID transcriptId, int sequenceNumber,
+            UUID speakerId, String speakerName, String content, Duration startOffset, Duration endOffset,
+            String language) {
+        this(new TranscriptEnvelope(transcriptId, meetingId, sessionId, sequenceNumber, speakerId, speakerName,
+                content, startOffset, endOffset, language));
+    }
+
+    public UUID getMeetingId() {
+        return envelope.meetingId();
+    }
+
+    public UUID getSessionId() {
+        return envelope.sessionId();
+    }
+
+    public UUID getTranscriptId() {
+        return envelope.transcriptId();
+    }
+
+    public int getSequenceNumber() {
+        return envelope.sequenceNumber();
+    }
+
+    public UUID getSpeakerId() {
+        return envelope.speakerId();
+    }
+
+    public String getSpeakerName() {
+        return envelope.speakerName();
+    }
+
+    public String getContent() {
+        return envelope.content();
+    }
+
+    public Duration getStartOffset() {
+        return envelope.startOffset();
+    }
+
+    public Duration getEndOffset() {
+        return envelope.endOffset();
+    }
+
+    public String getLanguage() {
+        return envelope.language();
+    }
+
+    public int getRevision() {
+        return envelope.revision();
+    }
+
+    public boolean isFinal() {
+        return envelope.isFinal();
+    }
 }
@@ -3,12 +3,36 @@ package com.github.meeting_platform.domain.service.command;
 import java.time.Instant;
 import java.util.UUID;
 
+import com.github.meeting_platform.domain.envelope.MeetingEndedEnvelope;
+
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
+/**
+ * Command view over a {@link MeetingEndedEnvelope}.
+ */
 @Value
+@AllArgsConstructor
 public class EndMeetingCommand {
-    UUID meetingId;
-    UUID sessionId;
-    Instant endedAt;
-    String reason;
+    MeetingEndedEnvelope envelope;
+
+    public EndMeetingCommand(UUID meetingId, UUID sessionId, Instant endedAt, String reason) {
+        this(new MeetingEndedEnvelope(meetingId, sessionId, null, null, null, null, endedAt, null, null, reason));
+    }
+
+    public UUID getMeetingId() {
+        return envelope.meetingId();
+    }
+
+    public UUID getSessionId() {
+        return envelope.sessionId();
+    }
+
+    public Instant getEndedAt() {
+        return envelope.endedAt();
+    }
+
+    public String getReason() {
+        return envelope.reason();
+    }
 }
@@ -3,16 +3,54 @@ package com.github.meeting_platform.domain.service.command;
 import java.time.Instant;
 import java.util.UUID;
 
+import com.github.meeting_platform.domain.envelope.MeetingStartedEnvelope;
+
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
+/**
+ * Command view over a {@link MeetingStartedEnvelope}.
+ */
 @Value
+@AllArgsConstructor
 public class StartMeetingCommand {
-    UUID meetingId;
-    UUID sessionId;
-    String title;
-    String roomName;
-    UUID organizedById;
-    String organizedByName;
-    Instant createdAt;
-    Instant startedAt;
+    MeetingStartedEnvelope envelope;
+
+    public StartMeetingCommand(UUID meetingId, UUID sessionId, String title, String roomName, UUID organizedById,
+            String organizedByName, Instant createdAt, Instant startedAt) {
+        this(new MeetingStartedEnvelope(meetingId, sessionId, title, roomName, null, createdAt, startedAt,
+                organizedById, organizedByName));
+    }
+
+    public UUID getMeetingId() {
+        return envelope.meetingId();
+    }
+
+    public UUID getSessionId() {
+        return envelope.sessionId();
+    }
+
+    public String getTitle() {
+        return envelope.title();
+    }
+
+    public String getRoomName() {
+        return envelope.roomName();
+    }
+
+    public UUID getOrganizedById() {
+        return envelope.organizerId();
+    }
+
+    public String getOrganizedByName() {
+        return envelope.organizerName();
+    }
+
+    public Instant getCreatedAt() {
+        return envelope.createdAt();
+    }
+
+    public Instant getStartedAt() {
+        return envelope.startedAt();
+    }
 }
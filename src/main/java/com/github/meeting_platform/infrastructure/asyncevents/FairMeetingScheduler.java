@@ -0,0 +1,320 @@
+package com.github.meeting_platform.infrastructure.asyncevents;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.meeting_platform.infrastructure.config.FairSchedulerProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deficit round-robin scheduler in front of the event listener workers.
+ * <p>
+ * Every meeting gets its own FIFO sub-queue and the workers visit the
+ * sub-queues in turn, so a burst of transcript chunks from one large meeting
+ * cannot push the events of small meetings to the back of a shared queue.
+ * Meetings whose organizer has a configured weight get proportionally more
+ * turns per round. When the total capacity is exhausted the submitting thread
+ * runs the task itself, which keeps the back-pressure behaviour of the former
+ * {@code CallerRunsPolicy} executor.
+ */
+@Slf4j
+public class FairMeetingScheduler {
+
+    /** Queue key for events that do not carry a meeting id (rejected later by the listener). */
+    static final UUID UNKEYED = new UUID(0L, 0L);
+
+    private final int workerCount;
+    private final int capacity;
+    private final double quantum;
+    private final Map<UUID, Double> organizerWeights;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<UUID, SubQueue> queues = new HashMap<>();
+    private final ArrayDeque<SubQueue> rotation = new ArrayDeque<>();
+    private int queued;
+
+    // only meetings of weighted organizers are tracked, so this stays small
+    private final Map<UUID, Double> meetingWeights = new ConcurrentHashMap<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter callerRuns;
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+
+    public FairMeetingScheduler(FairSchedulerProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getQuantum() <= 0) {
+            throw new IllegalArgumentException("meeting.scheduler.quantum must be positive");
+        }
+        properties.getOrganizerWeights().forEach((organizerId, weight) -> {
+            if (weight == null || weight <= 0) {
+                throw new IllegalArgumentException("Weight for organizer " + organizerId + " must be positive");
+            }
+        });
+        this.workerCount = properties.getWorkers();
+        this.capacity = properties.getCapacity();
+        this.quantum = properties.getQuantum();
+        this.organizerWeights = Map.copyOf(properties.getOrganizerWeights());
+        this.meterRegistry = meterRegistry;
+        this.callerRuns = Counter.builder("meeting.scheduler.caller.runs")
+                .description("Events executed on the submitting thread because the scheduler was full")
+                .register(meterRegistry);
+        Gauge.builder("meeting.scheduler.queued", this, FairMeetingScheduler::queuedCount)
+                .description("Events waiting across all meeting queues")
+                .register(meterRegistry);
+        Gauge.builder("meeting.scheduler.active.meetings", this, FairMeetingScheduler::activeMeetingCount)
+                .description("Meetings with at least one queued event")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::workerLoop, "meeting-worker-" + (i + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("Fair meeting scheduler started: workers={}, capacity={}, weightedOrganizers={}",
+                workerCount, capacity, organizerWeights.size());
+    }
+
+    public void shutdown() {
+        running = false;
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (queuedCount() > 0) {
+            log.warn("Fair meeting scheduler stopped with {} queued events", queuedCount());
+        }
+    }
+
+    /**
+     * Records the organizer of a meeting so that its queue is served with the
+     * organizer's weight. Meetings of unweighted organizers are not tracked.
+     */
+    public void assignOrganizer(UUID meetingId, UUID organizerId) {
+        if (meetingId == null || organizerId == null) {
+            return;
+        }
+        Double weight = organizerWeights.get(organizerId);
+        if (weight != null) {
+            meetingWeights.put(meetingId, weight);
+        }
+    }
+
+    public void releaseMeeting(UUID meetingId) {
+        if (meetingId != null) {
+            meetingWeights.remove(meetingId);
+        }
+    }
+
+    /**
+     * Queues a task behind the other events of the same meeting.
+     *
+     * @param meetingId meeting the event belongs to, {@code null} if unknown
+     * @param eventType event type, used as a metric tag
+     * @param task      work to execute on a listener worker
+     */
+    public void submit(UUID meetingId, String eventType, Runnable task) {
+        UUID key = meetingId != null ? meetingId : UNKEYED;
+        Task queuedTask = new Task(key, eventType, task, System.nanoTime());
+
+        lock.lock();
+        try {
+            if (queued < capacity) {
+                SubQueue queue = queues.get(key);
+                if (queue == null) {
+                    queue = new SubQueue(key, meetingWeights.getOrDefault(key, 1.0));
+                    queues.put(key, queue);
+                    rotation.addLast(queue);
+                }
+                queue.tasks.addLast(queuedTask);
+                queued++;
+                notEmpty.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        log.debug("Scheduler full, running {} for meetingId={} on caller thread", eventType, key);
+        callerRuns.increment();
+        execute(queuedTask);
+    }
+
+    /**
+     * Point-in-time view of the meetings that currently have queued events,
+     * in service order.
+     */
+    public List<MeetingQueueSnapshot> snapshot() {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            List<MeetingQueueSnapshot> result = new ArrayList<>(rotation.size());
+            for (SubQueue queue : rotation) {
+                Task head = queue.tasks.peekFirst();
+                long oldestWaitMillis = head == null ? 0 : TimeUnit.NANOSECONDS.toMillis(now - head.enqueuedAt);
+                result.add(new MeetingQueueSnapshot(queue.meetingId, queue.tasks.size(), oldestWaitMillis,
+                        queue.weight));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Takes the next task in deficit round-robin order without blocking. */
+    Task poll() {
+        lock.lock();
+        try {
+            return queued == 0 ? null : nextTask();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queuedCount() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int activeMeetingCount() {
+        lock.lock();
+        try {
+            return queues.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void workerLoop() {
+        while (running) {
+            Task task;
+            lock.lock();
+            try {
+                while (queued == 0 && running) {
+                    notEmpty.await();
+                }
+                if (!running) {
+                    return;
+                }
+                task = nextTask();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            execute(task);
+        }
+    }
+
+    // Must be called with the lock held and at least one task queued.
+    private Task nextTask() {
+        for (;;) {
+            SubQueue queue = rotation.peekFirst();
+            if (!queue.visited) {
+                queue.deficit += quantum * queue.weight;
+                queue.visited = true;
+            }
+            if (queue.deficit >= 1.0) {
+                queue.deficit -= 1.0;
+                Task task = queue.tasks.pollFirst();
+                queued--;
+                if (queue.tasks.isEmpty()) {
+                    rotation.pollFirst();
+                    queues.remove(queue.meetingId);
+                }
+                return task;
+            }
+            // deficit spent for this round, move on to the next meeting
+            rotation.pollFirst();
+            queue.visited = false;
+            rotation.addLast(queue);
+        }
+    }
+
+    private void execute(Task task) {
+        waitTimers.computeIfAbsent(task.eventType, this::waitTimer)
+                .record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+            task.runnable.run();
+        } catch (RuntimeException e) {
+            log.error("Unhandled error in scheduled {} for meetingId={}: {}", task.eventType, task.meetingId,
+                    e.getMessage(), e);
+        }
+    }
+
+    private Timer waitTimer(String eventType) {
+        return Timer.builder("meeting.scheduler.queue.wait")
+                .description("Time an event spent in its meeting queue before a worker picked it up")
+                .tag("event", eventType)
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    static final class Task {
+        final UUID meetingId;
+        final String eventType;
+        final Runnable runnable;
+        final long enqueuedAt;
+
+        Task(UUID meetingId, String eventType, Runnable runnable, long enqueuedAt) {
+            this.meetingId = meetingId;
+            this.eventType = eventType;
+            this.runnable = runnable;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private static final class SubQueue {
+        final UUID meetingId;
+        final double weight;
+        final ArrayDeque<Task> tasks = new ArrayDeque<>();
+        double deficit;
+        boolean visited;
+
+        SubQueue(UUID meetingId, double weight) {
+            this.meetingId = meetingId;
+            this.weight = weight;
+        }
+    }
+
+    public record MeetingQueueSnapshot(UUID meetingId, int queued, long oldestWaitMillis, double weight) {
+    }
+}
@@ -6,13 +6,15 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.Duration;
 
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.github.meeting_platform.infrastructure.dto.MeetingEndedWebhookRequest;
 import com.github.meeting_platform.infrastructure.dto.MeetingStartedWebhookRequest;
 import com.github.meeting_platform.infrastructure.dto.MeetingTranscriptWebhookRequest;
 import com.github.meeting_platform.application.eventhandler.MeetingEventHandler;
+import com.github.meeting_platform.domain.envelope.MeetingEndedEnvelope;
+import com.github.meeting_platform.domain.envelope.MeetingStartedEnvelope;
+import com.github.meeting_platform.domain.envelope.TranscriptEnvelope;
 import com.github.meeting_platform.domain.events.MeetingEndedEvent;
 import com.github.meeting_platform.domain.events.MeetingStartedEvent;
 import com.github.meeting_platform.domain.events.TranscriptAddedEvent;
@@ -23,10 +25,35 @@ import com.github.meeting_platform.domain.events.TranscriptAddedEvent;
 public class MeetingEventListener {
 
     private final MeetingEventHandler eventHandler;
+    private final FairMeetingScheduler scheduler;
 
-    @Async
     @EventListener
     public void on(MeetingStartedWebhookRequest request) {
+        var meeting = request.getMeeting();
+        if (meeting != null && meeting.getOrganizedBy() != null) {
+            scheduler.assignOrganizer(meeting.getId(), meeting.getOrganizedBy().getId());
+        }
+        scheduler.submit(meeting != null ? meeting.getId() : null, "meeting.started", () -> process(request));
+    }
+
+    @EventListener
+    public void on(MeetingTranscriptWebhookRequest request) {
+        var meeting = request.getMeeting();
+        scheduler.submit(meeting != null ? meeting.getId() : null, "meeting.transcript", () -> process(request));
+    }
+
+    @EventListener
+    public void on(MeetingEndedWebhookRequest request) {
+        var meeting = request.getMeeting();
+        scheduler.submit(meeting != null ? meeting.getId() : null, "meeting.ended", () -> {
+            process(request);
+            if (meeting != null) {
+                scheduler.releaseMeeting(meeting.getId());
+            }
+        });
+    }
+
+    private void process(MeetingStartedWebhookRequest request) {
         try {
             log.info("Received MeetingStartedWebhookRequest: meetingId={}, sessionId={}",
                     request.getMeeting() != null ? request.getMeeting().getId() : null,
@@ -37,7 +64,7 @@ public class MeetingEventListener {
                 return;
             }
 
-            MeetingStartedEvent event = new MeetingStartedEvent(
+            MeetingStartedEvent event = new MeetingStartedEvent(new MeetingStartedEnvelope(
                     request.getMeeting().getId(),
                     request.getMeeting().getSessionId(),
                     request.getMeeting().getTitle(),
@@ -46,7 +73,7 @@ public class MeetingEventListener {
                     request.getMeeting().getCreatedAt(),
                     request.getMeeting().getStartedAt(),
                     request.getMeeting().getOrganizedBy().getId(),
-                    request.getMeeting().getOrganizedBy().getName());
+                    request.getMeeting().getOrganizedBy().getName()));
             eventHandler.handle(event);
         } catch (Exception e) {
             log.error("Error processing MeetingStartedWebhookRequest: meetingId={}, error={}",
@@ -55,9 +82,7 @@ public class MeetingEventListener {
         }
     }
 
-    @Async
-    @EventListener
-    public void on(MeetingTranscriptWebhookRequest request) {
+    private void process(MeetingTranscriptWebhookRequest request) {
         try {
             log.info("Received MeetingTranscriptWebhookRequest: transcriptId={}, meetingId={}, sessionId={}",
                     request.getData() != null ? request.getData().getTranscriptId() : null,
@@ -71,7 +96,7 @@ public class MeetingEventListener {
 
             Duration startOffset = Duration.ofSeconds(request.getData().getStartOffset());
             Duration endOffset = Duration.ofSeconds(request.getData().getEndOffset());
-            TranscriptAddedEvent event = new TranscriptAddedEvent(
+            TranscriptAddedEvent event = new TranscriptAddedEvent(new TranscriptEnvelope(
                     request.getData().getTranscriptId(),
                     request.getMeeting().getId(),
                     request.getMeeting().getSessionId(),
@@ -81,7 +106,9 @@ public class MeetingEventListener {
                     request.getData().getContent(),
                     startOffset,
                     endOffset,
-                    request.getData().getLanguage());
+                    request.getData().getLanguage(),
+                    request.getData().getRevision() != null ? request.getData().getRevision() : 0,
+                    !Boolean.FALSE.equals(request.getData().getIsFinal())));
 
             eventHandler.handle(event);
         } catch (IllegalArgumentException e) {
@@ -96,9 +123,7 @@ public class MeetingEventListener {
         }
     }
 
-    @Async
-    @EventListener
-    public void on(MeetingEndedWebhookRequest request) {
+    private void process(MeetingEndedWebhookRequest request) {
         try {
             log.info("Received MeetingEndedWebhookRequest: meetingId={}, sessionId={}",
                     request.getMeeting() != null ? request.getMeeting().getId() : null,
@@ -109,7 +134,7 @@ public class MeetingEventListener {
                 return;
             }
 
-            MeetingEndedEvent event = new MeetingEndedEvent(
+            MeetingEndedEvent event = new MeetingEndedEvent(new MeetingEndedEnvelope(
                     request.getMeeting().getId(),
                     request.getMeeting().getSessionId(),
                     request.getMeeting().getTitle(),
@@ -120,7 +145,7 @@ public class MeetingEventListener {
                     request.getMeeting().getEndedAt(),
                     request.getMeeting().getOrganizedBy().getId(),
                     request.getMeeting().getOrganizedBy().getName(),
-                    request.getReason());
+                    request.getReason()));
             eventHandler.handle(event);
         } catch (Exception e) {
             log.error("Error processing MeetingEndedWebhookRequest: meetingId={}, error={}",
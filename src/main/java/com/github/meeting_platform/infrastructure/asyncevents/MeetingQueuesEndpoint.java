@@ -0,0 +1,32 @@
+package com.github.meeting_platform.infrastructure.asyncevents;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator view of the per-meeting queues ({@code /actuator/meetingqueues}),
+ * showing how long the oldest event of each backlogged meeting has been waiting.
+ */
+@Component
+@Endpoint(id = "meetingqueues")
+@RequiredArgsConstructor
+public class MeetingQueuesEndpoint {
+
+    private final FairMeetingScheduler scheduler;
+
+    @ReadOperation
+    public Map<String, Object> queues() {
+        List<FairMeetingScheduler.MeetingQueueSnapshot> meetings = scheduler.snapshot();
+        int queued = meetings.stream().mapToInt(FairMeetingScheduler.MeetingQueueSnapshot::queued).sum();
+        return Map.of(
+                "queued", queued,
+                "activeMeetings", meetings.size(),
+                "meetings", meetings);
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.RetentionPolicy;
+import com.github.meeting_platform.infrastructure.persistence.SegmentTranscriptArchive;
+import com.github.meeting_platform.infrastructure.persistence.SessionArchiver;
+import com.github.meeting_platform.infrastructure.persistence.TranscriptContentCodec;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(ArchiveProperties.class)
+public class ArchiveConfig {
+
+    // always present, so segments written before archiving was switched off stay readable
+    @Bean(initMethod = "start")
+    public SegmentTranscriptArchive transcriptArchive(ArchiveProperties properties,
+            TranscriptContentCodec contentCodec, MeterRegistry meterRegistry) {
+        return new SegmentTranscriptArchive(properties, contentCodec, meterRegistry);
+    }
+
+    // the sweep queries one database; sharded deployments keep their transcripts in the tables
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    @ConditionalOnExpression("${meeting.archive.enabled:false} and !${meeting.shards.enabled:false}")
+    public SessionArchiver sessionArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            TranscriptStore transcriptStore, SegmentTranscriptArchive transcriptArchive, RetentionPolicy retentionPolicy,
+            ArchiveProperties properties, MeterRegistry meterRegistry) {
+        return new SessionArchiver(jdbcTemplate, transactionManager, transcriptStore, transcriptArchive,
+                retentionPolicy, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the cold archive of ended sessions ({@code meeting.archive.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.archive")
+public class ArchiveProperties {
+
+    /** Move the transcripts of ended sessions out of the database. Not combined with sharding. */
+    private boolean enabled = false;
+
+    /** Directory of the segment files; segments found here are served even while archiving is disabled. */
+    private Path directory = Path.of("data", "archive");
+
+    /** Time after the end of a session before it is archived, so late deliveries still land in the table. */
+    private Duration delay = Duration.ofHours(1);
+
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /** Sessions written to one segment file per sweep. */
+    private int maxSessionsPerSegment = 100;
+
+    /** Every n-th transcript of a segment gets an entry in its sparse index. */
+    private int indexInterval = 64;
+
+    /** Bloom filter bits per session of a segment; 10 bits give about 1% false positives. */
+    private int bloomBitsPerSession = 10;
+}
@@ -1,24 +1,30 @@
 package com.github.meeting_platform.infrastructure.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.TaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.ThreadPoolExecutor;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.TranscriptWriteBehindBuffer;
+import com.github.meeting_platform.infrastructure.asyncevents.FairMeetingScheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
+@EnableConfigurationProperties({ FairSchedulerProperties.class, WriteBehindProperties.class })
 public class AsyncConfig {
 
-    @Bean(name = "taskExecutor")
-    public TaskExecutor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("async-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // back-pressure
-        executor.initialize();
-        return executor;
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public FairMeetingScheduler fairMeetingScheduler(FairSchedulerProperties properties, MeterRegistry meterRegistry) {
+        return new FairMeetingScheduler(properties, meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public TranscriptWriteBehindBuffer transcriptWriteBehindBuffer(MeetingService meetingService,
+            WriteBehindProperties properties, FairSchedulerProperties schedulerProperties,
+            MeterRegistry meterRegistry) {
+        // every scheduler worker blocks on its own transcript, so that is how many can share a batch
+        return new TranscriptWriteBehindBuffer(meetingService, properties.toSettings(schedulerProperties.getWorkers()),
+                meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.SessionCompactor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(CompactionProperties.class)
+public class CompactionConfig {
+
+    // always present, so documents written before compaction was switched off are still marked stale
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public SessionCompactor sessionCompactor(JdbcTemplate jdbcTemplate, TranscriptStore transcriptStore,
+            CompactionProperties properties, MeterRegistry meterRegistry) {
+        return new SessionCompactor(jdbcTemplate, transcriptStore, properties, meterRegistry);
+    }
+}
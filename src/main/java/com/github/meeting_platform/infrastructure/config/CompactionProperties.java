@@ -0,0 +1,20 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the compaction of ended sessions into one document each
+ * ({@code meeting.compaction.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.compaction")
+public class CompactionProperties {
+
+    /** Compact sessions when they end; documents already written are served and invalidated either way. */
+    private boolean enabled = true;
+
+    /** Sessions waiting for the compaction thread; beyond it a session is left to be read from its rows. */
+    private int queueCapacity = 10000;
+}
@@ -0,0 +1,27 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import lombok.Data;
+
+/**
+ * Settings for compression of transcript content at rest
+ * ({@code meeting.transcripts.compression.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.transcripts.compression")
+public class ContentCompressionProperties {
+
+    /** Compress new content; when false it is stored as plain UTF-8. Stored values are readable either way. */
+    private boolean enabled = true;
+
+    /** Content shorter than this many UTF-8 bytes is stored uncompressed. */
+    private int minSize = 128;
+
+    /** Deflate level, 1 (fastest) to 9 (smallest). */
+    private int level = 1;
+
+    /** Optional preset dictionary; see {@code TranscriptContentCodec.trainDictionary}. Must stay available for as long as rows written with it exist. */
+    private Resource dictionary;
+}
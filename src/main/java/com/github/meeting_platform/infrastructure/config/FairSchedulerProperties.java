@@ -0,0 +1,34 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the per-meeting fair scheduler in front of the event listener
+ * workers ({@code meeting.scheduler.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.scheduler")
+public class FairSchedulerProperties {
+
+    /** Number of worker threads draining the per-meeting queues. */
+    private int workers = 8;
+
+    /** Total number of queued events across all meetings before callers run tasks themselves. */
+    private int capacity = 1000;
+
+    /** Deficit added to a meeting's queue on each round-robin visit, multiplied by its weight. */
+    private double quantum = 1.0;
+
+    /**
+     * Optional per-organizer weights, e.g.
+     * {@code meeting.scheduler.organizer-weights[<organizerId>]=2.0}. Meetings of
+     * organizers without an entry get weight 1.
+     */
+    private Map<UUID, Double> organizerWeights = new HashMap<>();
+}
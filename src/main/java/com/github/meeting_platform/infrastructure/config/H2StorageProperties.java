@@ -0,0 +1,20 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the file-backed H2 database of the {@code persistent} profile
+ * ({@code meeting.h2.*}). The storage settings themselves are part of the
+ * datasource URL.
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.h2")
+public class H2StorageProperties {
+
+    /** Interval between {@code CHECKPOINT SYNC} calls; zero disables them. */
+    private Duration checkpointInterval = Duration.ZERO;
+}
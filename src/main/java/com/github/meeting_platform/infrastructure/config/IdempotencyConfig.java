@@ -0,0 +1,19 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.meeting_platform.infrastructure.idempotency.TimeBucketedDeliveryIdStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public TimeBucketedDeliveryIdStore deliveryIdStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        return new TimeBucketedDeliveryIdStore(properties, meterRegistry);
+    }
+}
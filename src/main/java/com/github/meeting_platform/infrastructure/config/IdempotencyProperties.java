@@ -0,0 +1,30 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for webhook delivery deduplication ({@code meeting.webhooks.idempotency.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.webhooks.idempotency")
+public class IdempotencyProperties {
+
+    /** Answer replayed deliveries with 202 without parsing or publishing them. */
+    private boolean enabled = true;
+
+    /** How long a delivery is remembered; expiry is bucket-granular. */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /** Number of time buckets the TTL is split into. */
+    private int buckets = 10;
+
+    /** Deliveries remembered per bucket; further deliveries in that bucket are not deduplicated. */
+    private int capacityPerBucket = 16_384;
+
+    /** Keep the fingerprint tables in direct (off-heap) memory. */
+    private boolean offHeap = false;
+}
@@ -0,0 +1,19 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for interim transcript revisions ({@code meeting.transcripts.interim.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.transcripts.interim")
+public class InterimTranscriptProperties {
+
+    /** Hold interim revisions of LIVE sessions in memory until the final chunk arrives; when false they are stored. */
+    private boolean buffered = true;
+
+    /** Interim sequence numbers held per session before further ones are stored instead. */
+    private int maxPerSession = 1_024;
+}
@@ -0,0 +1,22 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.meeting_platform.domain.service.LiveSessionRegistry;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.infrastructure.live.LiveTranscriptBroadcaster;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(LiveTranscriptProperties.class)
+public class LiveTranscriptConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public LiveTranscriptBroadcaster liveTranscriptBroadcaster(MeetingService meetingService,
+            LiveSessionRegistry liveSessions, LiveTranscriptProperties properties, MeterRegistry meterRegistry) {
+        return new LiveTranscriptBroadcaster(meetingService, liveSessions, properties, meterRegistry);
+    }
+}
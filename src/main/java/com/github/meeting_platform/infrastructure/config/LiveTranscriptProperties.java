@@ -0,0 +1,31 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the Server-Sent Events push of LIVE sessions
+ * ({@code meeting.live.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.live")
+public class LiveTranscriptProperties {
+
+    /** Transcripts queued per subscriber; a subscriber that falls further behind is disconnected. */
+    private int subscriberBuffer = 256;
+
+    /** Most transcripts replayed to a reconnect after its Last-Event-ID; beyond them the stream is reset. */
+    private int replayLimit = 1000;
+
+    /** Transcripts read per page while a replay catches up. */
+    private int replayPageSize = 200;
+
+    /** How long one event stream stays open; clients reconnect with their Last-Event-ID. */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** Threads writing queued events to subscribers. */
+    private int senderThreads = 2;
+}
@@ -0,0 +1,22 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for change detection and coalescing of meeting metadata writes
+ * ({@code meeting.metadata.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.metadata")
+public class MeetingMetadataProperties {
+
+    /** Changes to an already stored meeting within this window are merged into one write. */
+    private Duration coalesceWindow = Duration.ofMillis(500);
+
+    /** Meetings whose last written metadata is remembered for change detection. */
+    private int cacheSize = 10_000;
+}
@@ -0,0 +1,58 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.meeting_platform.domain.repository.MeetingRepository;
+import com.github.meeting_platform.domain.service.InterimTranscriptBuffer;
+import com.github.meeting_platform.domain.service.MeetingMetadataCoalescer;
+import com.github.meeting_platform.domain.service.TranscriptTailBuffer;
+import com.github.meeting_platform.infrastructure.persistence.H2Checkpointer;
+import com.github.meeting_platform.infrastructure.persistence.TranscriptTailEndpoint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties({ MeetingMetadataProperties.class, InterimTranscriptProperties.class,
+        ContentCompressionProperties.class, H2StorageProperties.class, TranscriptPageProperties.class,
+        TranscriptTailProperties.class })
+public class PersistenceConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public MeetingMetadataCoalescer meetingMetadataCoalescer(MeetingRepository meetingRepository,
+            PlatformTransactionManager transactionManager, MeetingMetadataProperties properties,
+            MeterRegistry meterRegistry) {
+        return new MeetingMetadataCoalescer(meetingRepository, transactionManager, properties.getCoalesceWindow(),
+                properties.getCacheSize(), meterRegistry);
+    }
+
+    @Bean
+    public InterimTranscriptBuffer interimTranscriptBuffer(InterimTranscriptProperties properties,
+            MeterRegistry meterRegistry) {
+        return new InterimTranscriptBuffer(properties.isBuffered(), properties.getMaxPerSession(), meterRegistry);
+    }
+
+    @Bean
+    public TranscriptTailBuffer transcriptTailBuffer(TranscriptTailProperties properties,
+            MeterRegistry meterRegistry) {
+        return new TranscriptTailBuffer(properties.isEnabled(), properties.getCapacity(), properties.getSlotBytes(),
+                properties.isOffHeap(), meterRegistry);
+    }
+
+    @Bean
+    public TranscriptTailEndpoint transcriptTailEndpoint(TranscriptTailBuffer tailBuffer) {
+        return new TranscriptTailEndpoint(tailBuffer);
+    }
+
+    // only the persistent profile sets the interval; the in-memory database has nothing to sync
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "meeting.h2.checkpoint-interval")
+    public H2Checkpointer h2Checkpointer(JdbcTemplate jdbcTemplate, H2StorageProperties properties,
+            MeterRegistry meterRegistry) {
+        return new H2Checkpointer(jdbcTemplate, properties.getCheckpointInterval(), meterRegistry);
+    }
+}
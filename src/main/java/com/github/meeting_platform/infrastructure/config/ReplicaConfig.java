@@ -0,0 +1,57 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.github.meeting_platform.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits the datasource into a primary pool and a replica pool when
+ * {@code meeting.datasource.replica.enabled} is set: read-only transactions,
+ * such as the transcript queries, use the replica and leave the primary's
+ * connections to ingest.
+ */
+@Configuration
+@ConditionalOnExpression("${meeting.datasource.replica.enabled:false} and !${meeting.shards.enabled:false}")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties primaryProperties,
+            ReplicaProperties replicaProperties) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        if (replicaProperties.isMigrate()) {
+            Flyway.configure()
+                    .dataSource(new DriverManagerDataSource(replicaProperties.getUrl(), replicaProperties.getUsername(),
+                            replicaProperties.getPassword()))
+                    .load()
+                    .migrate();
+        }
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaProperties.getUrl());
+        replica.setUsername(replicaProperties.getUsername());
+        replica.setPassword(replicaProperties.getPassword());
+        replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        return new ReplicaRoutingDataSource(primary, replica);
+    }
+
+    // the pool is chosen at the first statement, when the transaction's read-only flag is known
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the read replica ({@code meeting.datasource.replica.*}); the
+ * primary is the regular {@code spring.datasource}.
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.datasource.replica")
+public class ReplicaProperties {
+
+    /** Route read-only transactions to the replica. Not combined with sharding. */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username = "sa";
+
+    private String password = "";
+
+    /** Size of the replica's own pool, so polling readers never wait for ingest connections. */
+    private int maximumPoolSize = 10;
+
+    /** Run the migrations on the replica too; for local setups where nothing replicates the schema. */
+    private boolean migrate = false;
+}
@@ -0,0 +1,50 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.meeting_platform.domain.service.TranscriptWriteBehindBuffer;
+import com.github.meeting_platform.infrastructure.persistence.RetentionEndpoint;
+import com.github.meeting_platform.infrastructure.persistence.RetentionPolicy;
+import com.github.meeting_platform.infrastructure.persistence.SegmentTranscriptArchive;
+import com.github.meeting_platform.infrastructure.persistence.ShardRouter;
+import com.github.meeting_platform.infrastructure.persistence.TranscriptRetentionPurger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(RetentionProperties.class)
+public class RetentionConfig {
+
+    // always present: the archiver names segments by the expiry it implies, forever while retention is off
+    @Bean
+    public RetentionPolicy retentionPolicy(RetentionProperties properties) {
+        return new RetentionPolicy(properties);
+    }
+
+    // with sharding the purge walks every shard in turn
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "meeting.retention.enabled", havingValue = "true")
+    public TranscriptRetentionPurger transcriptRetentionPurger(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, RetentionPolicy retentionPolicy,
+            SegmentTranscriptArchive transcriptArchive, TranscriptWriteBehindBuffer writeBehind,
+            ObjectProvider<ShardRouter> shardRouter, RetentionProperties properties, MeterRegistry meterRegistry) {
+        ShardRouter router = shardRouter.getIfAvailable();
+        List<String> shards = router == null ? List.of() : router.shards();
+        return new TranscriptRetentionPurger(jdbcTemplate, transactionManager, retentionPolicy, transcriptArchive,
+                writeBehind::queued, shards, properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "meeting.retention.enabled", havingValue = "true")
+    public RetentionEndpoint retentionEndpoint(TranscriptRetentionPurger purger) {
+        return new RetentionEndpoint(purger);
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the retention purge of transcripts ({@code meeting.retention.*}).
+ * Periods are rounded up to whole days; zero keeps transcripts forever.
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.retention")
+public class RetentionProperties {
+
+    /** Delete transcripts older than their retention period. Not combined with sharding. */
+    private boolean enabled = false;
+
+    /** Retention of transcripts of organizers without an entry in {@code organizers}. */
+    private Duration period = Duration.ZERO;
+
+    /**
+     * Optional per-organizer retention, e.g.
+     * {@code meeting.retention.organizers[<organizerId>]=30d}.
+     */
+    private Map<UUID, Duration> organizers = new HashMap<>();
+
+    /** Time between purge passes. */
+    private Duration interval = Duration.ofHours(1);
+
+    /** Rows deleted per transaction. */
+    private int chunkSize = 500;
+
+    /** Upper bound on rows deleted per second, so a backlog of expired buckets does not compete with ingest. */
+    private int maxRowsPerSecond = 5000;
+}
@@ -0,0 +1,96 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.github.meeting_platform.domain.service.LiveSessionRegistry;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.MeetingServiceImpl;
+import com.github.meeting_platform.infrastructure.persistence.ShardPinnedMeetingService;
+import com.github.meeting_platform.infrastructure.persistence.ShardRebalancer;
+import com.github.meeting_platform.infrastructure.persistence.ShardRing;
+import com.github.meeting_platform.infrastructure.persistence.ShardRouter;
+import com.github.meeting_platform.infrastructure.persistence.ShardRoutingDataSource;
+import com.github.meeting_platform.infrastructure.persistence.ShardsEndpoint;
+
+/**
+ * Replaces the single datasource with one database per shard when
+ * {@code meeting.shards.enabled} is set. Meetings are routed by consistent
+ * hashing of their id; every shard carries the full schema.
+ */
+@Configuration
+@ConditionalOnProperty(name = "meeting.shards.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        List<String> names = properties.getDatasources().stream().map(ShardingProperties.Shard::getName).toList();
+        return new ShardRouter(new ShardRing(names, properties.getVirtualNodes()));
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public ShardRoutingDataSource dataSource(ShardingProperties properties, ShardRouter shardRouter) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.getDatasources()) {
+            shards.put(shard.getName(), DataSourceBuilder.create()
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build());
+        }
+        return new ShardRoutingDataSource(shardRouter, shards);
+    }
+
+    // every shard gets the same migrations; the routed datasource alone would only reach the home shard
+    @Bean
+    public FlywayMigrationStrategy shardMigrations(ShardRoutingDataSource dataSource) {
+        return flyway -> dataSource.shards().values().forEach(shard -> Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(shard)
+                .load()
+                .migrate());
+    }
+
+    @Bean
+    @Primary
+    public MeetingService shardPinnedMeetingService(MeetingServiceImpl meetingService, ShardRouter shardRouter) {
+        return new ShardPinnedMeetingService(meetingService, shardRouter);
+    }
+
+    // LiveSessionRegistry warms itself from the home shard; the other shards are added here
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> liveSessionShardWarmUp(ShardRouter shardRouter,
+            LiveSessionRegistry liveSessions) {
+        return event -> shardRouter.shards().stream()
+                .filter(shard -> !shard.equals(shardRouter.home()))
+                .forEach(shard -> ShardRoutingDataSource.runOn(shard, liveSessions::warmUp));
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardRouter shardRouter, ShardRoutingDataSource dataSource,
+            LiveSessionRegistry liveSessions) {
+        return new ShardRebalancer(shardRouter, dataSource, liveSessions);
+    }
+
+    @Bean
+    public ShardsEndpoint shardsEndpoint(ShardRouter shardRouter, ShardRoutingDataSource dataSource,
+            ShardRebalancer shardRebalancer) {
+        return new ShardsEndpoint(shardRouter, dataSource, shardRebalancer);
+    }
+}
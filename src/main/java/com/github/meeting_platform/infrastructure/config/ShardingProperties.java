@@ -0,0 +1,38 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for sharding meetings across databases ({@code meeting.shards.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.shards")
+public class ShardingProperties {
+
+    /** Route every meeting to one of {@link #datasources} instead of using the single datasource. */
+    private boolean enabled = false;
+
+    /** Points per shard on the hash ring; more points spread meetings more evenly. */
+    private int virtualNodes = 160;
+
+    /** The shard databases; the first one is the home shard, which also holds the dictionaries. */
+    private List<Shard> datasources = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+
+        /** Stable name; it positions the shard on the ring, so renaming a shard moves its meetings. */
+        private String name;
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+    }
+}
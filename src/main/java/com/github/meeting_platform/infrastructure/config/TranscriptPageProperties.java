@@ -0,0 +1,16 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Page sizes of the paginated transcript endpoint ({@code meeting.transcripts.page.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.transcripts.page")
+public class TranscriptPageProperties {
+
+    /** Largest page served; a larger requested limit is cut down to it. */
+    private int maxSize = 1_000;
+}
@@ -0,0 +1,25 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings for the in-memory tail of LIVE sessions ({@code meeting.transcripts.tail.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.transcripts.tail")
+public class TranscriptTailProperties {
+
+    /** Keep the most recent transcripts of every LIVE session in memory and answer tail reads from them. */
+    private boolean enabled = true;
+
+    /** Sequence numbers held per session; older ones are read from the database. */
+    private int capacity = 64;
+
+    /** Bytes reserved per held transcript; larger transcripts are kept as objects beside the ring. */
+    private int slotBytes = 512;
+
+    /** Keep the rings in direct (off-heap) memory. */
+    private boolean offHeap = false;
+}
@@ -0,0 +1,42 @@
+package com.github.meeting_platform.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.github.meeting_platform.domain.service.TranscriptWriteBehindBuffer;
+
+import lombok.Data;
+
+/**
+ * Settings for the group-commit buffer in front of transcript inserts
+ * ({@code meeting.transcripts.write-behind.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "meeting.transcripts.write-behind")
+public class WriteBehindProperties {
+
+    /** Route transcript writes through the buffer; when false every transcript commits on its own. */
+    private boolean enabled = true;
+
+    /** Longest time the first transcript of a batch waits for others to join it. */
+    private Duration maxDelay = Duration.ofMillis(5);
+
+    /** Smallest batch size limit the adaptive sizing may shrink to. */
+    private int minBatchSize = 8;
+
+    /** Largest batch size limit the adaptive sizing may grow to; never more than the listener workers. */
+    private int maxBatchSize = 256;
+
+    /** Flushes slower than this shrink the batch size limit, faster full batches grow it. */
+    private Duration targetFlushLatency = Duration.ofMillis(25);
+
+    /** Pending transcripts before submitters write synchronously instead. */
+    private int queueCapacity = 10_000;
+
+    /** The settings for a buffer fed by {@code submitters} concurrent threads. */
+    public TranscriptWriteBehindBuffer.Settings toSettings(int submitters) {
+        return new TranscriptWriteBehindBuffer.Settings(enabled, maxDelay, minBatchSize, maxBatchSize,
+                targetFlushLatency, queueCapacity, submitters);
+    }
+}
@@ -1,20 +1,37 @@
 package com.github.meeting_platform.infrastructure.controllers;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.model.TranscriptPage;
+import com.github.meeting_platform.domain.repository.PrimaryReads;
 import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.infrastructure.config.TranscriptPageProperties;
+import com.github.meeting_platform.infrastructure.live.LiveTranscriptBroadcaster;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Min;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
 
 @RestController
 @RequestMapping("/api/meetings")
@@ -23,19 +40,97 @@ import lombok.extern.slf4j.Slf4j;
 @Validated
 public class MeetingController {
     private final MeetingService meetingService;
+    private final TranscriptPageProperties pageProperties;
+    private final ObjectMapper objectMapper;
+    private final LiveTranscriptBroadcaster liveTranscripts;
 
     @GetMapping("/{id}/sessions/{sessionId}/transcript")
     public ResponseEntity<List<Transcript>> getSessionTranscript(@PathVariable("id") String meetingId,
-            @PathVariable("sessionId") String sessionId) throws Exception {
+            @PathVariable("sessionId") String sessionId,
+            @RequestParam(name = "fresh", defaultValue = "false") boolean fresh) throws Exception {
         log.info("Received request to get transcript for meetingId: {}, sessionId: {}", meetingId, sessionId);
-        // fetch transcripts for the given meeting and session
+        // fetch transcripts for the given meeting and session; fresh reads skip the replica
         List<Transcript> transcripts;
         try {
-            transcripts = meetingService.getSessionTranscripts(UUID.fromString(meetingId),
-                    UUID.fromString(sessionId));
+            UUID meeting = UUID.fromString(meetingId);
+            UUID session = UUID.fromString(sessionId);
+            transcripts = fresh
+                    ? PrimaryReads.call(() -> meetingService.getSessionTranscripts(meeting, session))
+                    : meetingService.getSessionTranscripts(meeting, session);
         } catch (Exception e) {
             throw e;
         }
         return ResponseEntity.ok(transcripts);
     }
+
+    // a limit asks for a page; without one the endpoint keeps returning the whole session as an array
+    @GetMapping(path = "/{id}/sessions/{sessionId}/transcript", params = "limit")
+    public ResponseEntity<TranscriptPage> getSessionTranscriptPage(@PathVariable("id") String meetingId,
+            @PathVariable("sessionId") String sessionId,
+            @RequestParam(name = "afterSequence", required = false) Integer afterSequence,
+            @RequestParam(name = "limit") @Min(1) int limit,
+            @RequestParam(name = "fresh", defaultValue = "false") boolean fresh) {
+        log.debug("Received request for transcript page: meetingId={}, sessionId={}, afterSequence={}, limit={}",
+                meetingId, sessionId, afterSequence, limit);
+        UUID meeting = UUID.fromString(meetingId);
+        UUID session = UUID.fromString(sessionId);
+        int size = Math.min(limit, pageProperties.getMaxSize());
+        TranscriptPage page = fresh
+                ? PrimaryReads.call(() -> meetingService.getSessionTranscriptPage(meeting, session, afterSequence, size))
+                : meetingService.getSessionTranscriptPage(meeting, session, afterSequence, size);
+        return ResponseEntity.ok(page);
+    }
+
+    // the last N transcripts; LIVE sessions are normally answered from memory without a database read
+    @GetMapping(path = "/{id}/sessions/{sessionId}/transcript", params = { "tail", "!limit" })
+    public ResponseEntity<List<Transcript>> getSessionTranscriptTail(@PathVariable("id") String meetingId,
+            @PathVariable("sessionId") String sessionId,
+            @RequestParam(name = "tail") @Min(1) int tail) {
+        log.debug("Received request for transcript tail: meetingId={}, sessionId={}, tail={}", meetingId, sessionId,
+                tail);
+        int count = Math.min(tail, pageProperties.getMaxSize());
+        return ResponseEntity.ok(meetingService.getSessionTranscriptTail(UUID.fromString(meetingId),
+                UUID.fromString(sessionId), count));
+    }
+
+    // NDJSON written on the request thread as rows arrive; validation fails before the first byte is sent
+    @GetMapping("/{id}/sessions/{sessionId}/transcript/stream")
+    public void streamSessionTranscript(@PathVariable("id") String meetingId,
+            @PathVariable("sessionId") String sessionId,
+            @RequestParam(name = "fresh", defaultValue = "false") boolean fresh,
+            HttpServletResponse response) throws IOException {
+        log.debug("Received request to stream transcript: meetingId={}, sessionId={}", meetingId, sessionId);
+        UUID meeting = UUID.fromString(meetingId);
+        UUID session = UUID.fromString(sessionId);
+        ObjectWriter writer = objectMapper.writerFor(Transcript.class);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = new BufferedOutputStream(response.getOutputStream(), 8192);
+        Runnable stream = () -> meetingService.streamSessionTranscripts(meeting, session, transcript -> {
+            try {
+                out.write(writer.writeValueAsBytes(transcript));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        if (fresh) {
+            PrimaryReads.call(() -> {
+                stream.run();
+                return null;
+            });
+        } else {
+            stream.run();
+        }
+        out.flush();
+    }
+
+    // Server-Sent Events of a LIVE session; a reconnect's Last-Event-ID is the last sequence number it received
+    @GetMapping(path = "/{id}/sessions/{sessionId}/transcript/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter liveSessionTranscript(@PathVariable("id") String meetingId,
+            @PathVariable("sessionId") String sessionId,
+            @RequestHeader(name = "Last-Event-ID", required = false) Integer lastEventId) {
+        log.debug("Received request to follow live transcript: meetingId={}, sessionId={}, lastEventId={}",
+                meetingId, sessionId, lastEventId);
+        return liveTranscripts.subscribe(UUID.fromString(meetingId), UUID.fromString(sessionId), lastEventId);
+    }
 }
@@ -11,11 +11,15 @@ import com.github.meeting_platform.infrastructure.asyncevents.MeetingEventPublis
 import com.github.meeting_platform.infrastructure.dto.MeetingStartedWebhookRequest;
 import com.github.meeting_platform.infrastructure.dto.MeetingEndedWebhookRequest;
 import com.github.meeting_platform.infrastructure.dto.MeetingTranscriptWebhookRequest;
+import com.github.meeting_platform.infrastructure.idempotency.DeliveryKey;
+import com.github.meeting_platform.infrastructure.idempotency.TimeBucketedDeliveryIdStore;
 import com.github.meeting_platform.infrastructure.validator.WebhookPayloadValidator;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
 
 @RestController
 @RequestMapping("/api/webhooks")
@@ -24,15 +28,51 @@ import tools.jackson.databind.JsonNode;
 @Validated
 public class WebhookController {
 
+    static final String DELIVERY_ID_HEADER = "X-Delivery-Id";
+
     private final MeetingEventPublisher eventPublisher;
     private final WebhookPayloadValidator validator;
-
+    private final ObjectMapper objectMapper;
+    private final TimeBucketedDeliveryIdStore deliveryIds;
+
+    /**
+     * Replays are recognised from the delivery id header, or from the raw body
+     * when the provider sends none, and answered before the payload is parsed.
+     * A delivery that fails is forgotten so the provider's retry is processed.
+     */
     @PostMapping
-    public ResponseEntity<Map<String, String>> handleWebhook(@RequestBody JsonNode payload) {
+    public ResponseEntity<Map<String, String>> handleWebhook(
+            @RequestHeader(name = DELIVERY_ID_HEADER, required = false) String deliveryId,
+            @RequestBody byte[] body) {
+
+        DeliveryKey key = DeliveryKey.of(deliveryId, body);
+        if (!deliveryIds.markIfAbsent(key)) {
+            log.debug("Duplicate webhook delivery ignored: deliveryId={}", deliveryId);
+            return ResponseEntity.accepted()
+                    .body(Map.of("status", "duplicate"));
+        }
+
+        try {
+            return dispatch(parse(body));
+        } catch (RuntimeException e) {
+            deliveryIds.forget(key);
+            throw e;
+        }
+    }
+
+    private JsonNode parse(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JacksonException e) {
+            throw new InvalidEventException("Malformed JSON payload: " + e.getOriginalMessage());
+        }
+    }
+
+    ResponseEntity<Map<String, String>> dispatch(JsonNode payload) {
 
         log.info("Processing webhook event: {}", payload);
 
-        if (payload == null || !payload.has("event")) {
+        if (payload == null || payload.isMissingNode() || !payload.has("event")) {
             throw new InvalidEventException("Missing required field: event");
         }
 
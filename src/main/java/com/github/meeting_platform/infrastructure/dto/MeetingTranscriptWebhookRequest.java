@@ -5,6 +5,7 @@ import java.util.UUID;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 
 @Data
@@ -37,6 +38,11 @@ public class MeetingTranscriptWebhookRequest {
         private Integer endOffset;
         @NotBlank(message = "Language cannot be blank")
         private String language;
+        /** Revision of this sequence number's text; higher revisions replace lower ones. Defaults to 0. */
+        @PositiveOrZero(message = "Revision cannot be negative")
+        private Integer revision;
+        /** False for interim hypotheses that a later revision will replace. Defaults to true. */
+        private Boolean isFinal;
     }
 
     @Data
@@ -0,0 +1,35 @@
+package com.github.meeting_platform.infrastructure.idempotency;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 128-bit fingerprint of a webhook delivery: the provider's delivery id when
+ * one is sent, otherwise the raw request body. The two sources are hashed in
+ * separate namespaces so an id can never collide with a body.
+ */
+public record DeliveryKey(long high, long low) {
+
+    public static DeliveryKey of(String deliveryId, byte[] body) {
+        MessageDigest digest = sha256();
+        if (deliveryId != null && !deliveryId.isBlank()) {
+            digest.update((byte) 'i');
+            digest.update(deliveryId.trim().getBytes(StandardCharsets.UTF_8));
+        } else {
+            digest.update((byte) 'b');
+            digest.update(body);
+        }
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+        return new DeliveryKey(hash.getLong(), hash.getLong());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.meeting_platform.infrastructure.idempotency;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.function.LongSupplier;
+
+import com.github.meeting_platform.infrastructure.config.IdempotencyProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Memory-bounded set of recently seen {@link DeliveryKey}s with TTL expiry.
+ * <p>
+ * The TTL is split into a ring of time buckets, each a fixed-size open
+ * addressing table of 128-bit fingerprints held in a heap or direct
+ * {@link LongBuffer}. New keys go to the current bucket; when time moves to
+ * the next bucket the oldest one is wiped and reused, which expires its keys
+ * all at once. Lookups probe every bucket. A full bucket stops remembering
+ * deliveries (they are processed normally) rather than growing.
+ */
+@Slf4j
+public class TimeBucketedDeliveryIdStore {
+
+    // slot markers; real fingerprints never use high == 0
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE_LOW = 1L;
+    private static final long UNUSED_BUCKET = Long.MIN_VALUE;
+
+    private final boolean enabled;
+    private final long bucketNanos;
+    private final int capacityPerBucket;
+    private final int slotMask;
+    private final LongSupplier clock;
+
+    private final LongBuffer[] tables;
+    private final int[] sizes;
+    private final long[] bucketEpochs;
+    private long entries;
+
+    private final Counter duplicates;
+    private final Counter overflows;
+
+    public TimeBucketedDeliveryIdStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    TimeBucketedDeliveryIdStore(IdempotencyProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        if (properties.getBuckets() < 1 || properties.getCapacityPerBucket() < 1) {
+            throw new IllegalArgumentException("meeting.webhooks.idempotency buckets and capacity must be positive");
+        }
+        this.enabled = properties.isEnabled();
+        this.bucketNanos = Math.max(1, properties.getTtl().toNanos() / properties.getBuckets());
+        this.capacityPerBucket = properties.getCapacityPerBucket();
+        this.clock = clock;
+
+        // keep every table at most half full so probe sequences stay short
+        int slots = Integer.highestOneBit(Math.max(2, capacityPerBucket * 2 - 1)) << 1;
+        this.slotMask = slots - 1;
+        int bucketCount = enabled ? properties.getBuckets() : 0;
+        this.tables = new LongBuffer[bucketCount];
+        this.sizes = new int[bucketCount];
+        this.bucketEpochs = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            tables[i] = properties.isOffHeap()
+                    ? ByteBuffer.allocateDirect(slots * 2 * Long.BYTES).asLongBuffer()
+                    : LongBuffer.allocate(slots * 2);
+            bucketEpochs[i] = UNUSED_BUCKET;
+        }
+
+        this.duplicates = Counter.builder("webhook.deliveries.duplicate")
+                .description("Webhook deliveries answered from the idempotency store")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("webhook.deliveries.untracked")
+                .description("Webhook deliveries not remembered because their time bucket was full")
+                .register(meterRegistry);
+        Gauge.builder("webhook.deliveries.tracked", this, TimeBucketedDeliveryIdStore::size)
+                .description("Delivery fingerprints currently remembered")
+                .register(meterRegistry);
+        log.info("Delivery id store: enabled={}, buckets={}, capacityPerBucket={}, offHeap={}, bytes={}",
+                enabled, bucketCount, capacityPerBucket, properties.isOffHeap(),
+                (long) bucketCount * slots * 2 * Long.BYTES);
+    }
+
+    /**
+     * Records the delivery unless it was seen within the TTL.
+     *
+     * @return true if this is the first delivery, false for a replay
+     */
+    public synchronized boolean markIfAbsent(DeliveryKey key) {
+        if (!enabled) {
+            return true;
+        }
+        long high = normalize(key.high());
+        long epoch = clock.getAsLong() / bucketNanos;
+        for (int bucket = 0; bucket < tables.length; bucket++) {
+            if (isCurrent(bucket, epoch) && find(tables[bucket], high, key.low()) >= 0) {
+                duplicates.increment();
+                return false;
+            }
+        }
+
+        int bucket = bucketFor(epoch);
+        if (sizes[bucket] >= capacityPerBucket) {
+            overflows.increment();
+            return true;
+        }
+        insert(tables[bucket], high, key.low());
+        sizes[bucket]++;
+        entries++;
+        return true;
+    }
+
+    /** Forgets a delivery, e.g. because processing it failed and the provider will retry. */
+    public synchronized void forget(DeliveryKey key) {
+        if (!enabled) {
+            return;
+        }
+        long high = normalize(key.high());
+        long epoch = clock.getAsLong() / bucketNanos;
+        for (int bucket = 0; bucket < tables.length; bucket++) {
+            if (!isCurrent(bucket, epoch)) {
+                continue;
+            }
+            int slot = find(tables[bucket], high, key.low());
+            if (slot >= 0) {
+                tables[bucket].put(slot * 2, EMPTY);
+                tables[bucket].put(slot * 2 + 1, TOMBSTONE_LOW);
+                sizes[bucket]--;
+                entries--;
+                return;
+            }
+        }
+    }
+
+    public synchronized long size() {
+        return entries;
+    }
+
+    // a bucket is live if it was last written within the TTL window
+    private boolean isCurrent(int bucket, long epoch) {
+        return bucketEpochs[bucket] != UNUSED_BUCKET && epoch - bucketEpochs[bucket] < tables.length;
+    }
+
+    // the bucket for this epoch, wiped first if it still holds an expired epoch
+    private int bucketFor(long epoch) {
+        int bucket = (int) Math.floorMod(epoch, (long) tables.length);
+        if (bucketEpochs[bucket] != epoch) {
+            LongBuffer table = tables[bucket];
+            for (int i = 0; i < table.capacity(); i++) {
+                table.put(i, EMPTY);
+            }
+            entries -= sizes[bucket];
+            sizes[bucket] = 0;
+            bucketEpochs[bucket] = epoch;
+        }
+        return bucket;
+    }
+
+    private int find(LongBuffer table, long high, long low) {
+        int slot = (int) (low ^ (low >>> 32)) & slotMask;
+        for (int probes = 0; probes <= slotMask; probes++) {
+            long slotHigh = table.get(slot * 2);
+            long slotLow = table.get(slot * 2 + 1);
+            if (slotHigh == EMPTY && slotLow == EMPTY) {
+                return -1;
+            }
+            if (slotHigh == high && slotLow == low) {
+                return slot;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return -1;
+    }
+
+    private void insert(LongBuffer table, long high, long low) {
+        int slot = (int) (low ^ (low >>> 32)) & slotMask;
+        while (table.get(slot * 2) != EMPTY) {
+            slot = (slot + 1) & slotMask;
+        }
+        table.put(slot * 2, high);
+        table.put(slot * 2 + 1, low);
+    }
+
+    private static long normalize(long high) {
+        return high == EMPTY ? 1L : high;
+    }
+}
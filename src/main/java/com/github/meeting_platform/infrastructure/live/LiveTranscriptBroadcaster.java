@@ -0,0 +1,331 @@
+package com.github.meeting_platform.infrastructure.live;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.MediaType;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.github.meeting_platform.common.exceptions.SessionNotFoundException;
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.TranscriptCommittedEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.model.TranscriptPage;
+import com.github.meeting_platform.domain.repository.PrimaryReads;
+import com.github.meeting_platform.domain.service.LiveSessionRegistry;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.infrastructure.config.LiveTranscriptProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes the transcripts of LIVE sessions to Server-Sent Events subscribers
+ * once the transaction that wrote them commits, so following a session costs
+ * no database reads. Fan-out is in-process: a subscriber sees the transcripts
+ * written through this instance only.
+ * <p>
+ * Every subscriber has a bounded queue drained by a small pool of sender
+ * threads, so the committing thread never writes to a socket. A subscriber
+ * whose queue is full is disconnected instead of holding the others back.
+ * Event ids are sequence numbers: a client reconnecting with a
+ * {@code Last-Event-ID} is first sent the transcripts after it, read from the
+ * primary page by page until the replay has caught up. One that is further
+ * behind than the replay limit gets a {@code reset} event and its stream is
+ * completed, so the client knows to read the gap from the page endpoint
+ * instead of missing it. A transcript committed after a higher sequence
+ * number was already sent is not replayed. Streams are completed when the
+ * session ends.
+ */
+@Slf4j
+public class LiveTranscriptBroadcaster {
+
+    private final MeetingService meetingService;
+    private final LiveSessionRegistry liveSessions;
+    private final int subscriberBuffer;
+    private final int replayLimit;
+    private final int replayPageSize;
+    private final long timeoutMillis;
+    private final int senderThreads;
+    private final Counter sent;
+    private final Counter replayed;
+    private final Counter evicted;
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ExecutorService senders;
+
+    public LiveTranscriptBroadcaster(MeetingService meetingService, LiveSessionRegistry liveSessions,
+            LiveTranscriptProperties properties, MeterRegistry meterRegistry) {
+        this.meetingService = meetingService;
+        this.liveSessions = liveSessions;
+        this.subscriberBuffer = properties.getSubscriberBuffer();
+        this.replayLimit = properties.getReplayLimit();
+        this.replayPageSize = properties.getReplayPageSize();
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        this.senderThreads = properties.getSenderThreads();
+        this.sent = Counter.builder("live.transcripts.sent")
+                .description("Transcripts pushed to live subscribers as they were committed")
+                .register(meterRegistry);
+        this.replayed = Counter.builder("live.transcripts.replayed")
+                .description("Transcripts read back for subscribers resuming after a Last-Event-ID")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("live.subscribers.evicted")
+                .description("Live subscribers disconnected because their queue was full")
+                .register(meterRegistry);
+        meterRegistry.gauge("live.subscribers", subscriberCount);
+    }
+
+    public void start() {
+        AtomicInteger threads = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-transcripts-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void shutdown() {
+        subscribers.values().forEach(session -> session.forEach(this::evict));
+        senders.shutdown();
+        try {
+            senders.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Opens an event stream on a LIVE session. With a {@code lastEventId} the
+     * transcripts after that sequence number are sent first; if there are more
+     * than the replay limit, the stream ends with a {@code reset} event after
+     * them.
+     */
+    public SseEmitter subscribe(UUID meetingId, UUID sessionId, Integer lastEventId) {
+        if (!liveSessions.isLive(meetingId, sessionId)) {
+            throw new SessionNotFoundException("No live session " + sessionId + " in meeting " + meetingId);
+        }
+        Subscriber subscriber = new Subscriber(sessionId, newEmitter());
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+        // registered before the replay so nothing committed meanwhile is lost; queued events wait for the replay
+        register(subscriber);
+        if (lastEventId != null) {
+            boolean caughtUp;
+            try {
+                caughtUp = replay(subscriber, meetingId, lastEventId);
+            } catch (RuntimeException e) {
+                remove(subscriber);
+                throw e;
+            }
+            if (!caughtUp) {
+                return subscriber.emitter;
+            }
+        }
+        subscriber.paused = false;
+        // the session may have ended between the check and the registration
+        if (!liveSessions.isLive(meetingId, sessionId)) {
+            subscriber.ending = true;
+        }
+        schedule(subscriber);
+        log.debug("Live transcript subscriber added: sessionId={}, lastEventId={}", sessionId, lastEventId);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TranscriptCommittedEvent event) {
+        Transcript transcript = event.getTranscript();
+        Set<Subscriber> session = subscribers.get(transcript.getSessionId());
+        if (session == null) {
+            return;
+        }
+        for (Subscriber subscriber : session) {
+            if (subscriber.queue.offer(transcript)) {
+                schedule(subscriber);
+            } else {
+                evicted.increment();
+                log.debug("Evicting slow live subscriber: sessionId={}", transcript.getSessionId());
+                evict(subscriber);
+            }
+        }
+    }
+
+    // transcripts written by endMeeting were queued before this, so subscribers get them ahead of the end event
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(SessionClosedEvent event) {
+        Set<Subscriber> session = subscribers.get(event.getSessionId());
+        if (session == null) {
+            return;
+        }
+        for (Subscriber subscriber : session) {
+            subscriber.ending = true;
+            schedule(subscriber);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /*
+     * A page without more was read after the registration, so what it misses is queued; the replay has caught up
+     * then. Returns false if the subscriber was reset or is gone.
+     */
+    private boolean replay(Subscriber subscriber, UUID meetingId, int lastEventId) {
+        int afterSequence = lastEventId;
+        int count = 0;
+        TranscriptPage page;
+        try {
+            do {
+                int after = afterSequence;
+                int limit = Math.min(replayPageSize, replayLimit - count);
+                // a replica may not have caught up with what the client just missed
+                page = PrimaryReads.call(() -> meetingService.getSessionTranscriptPage(meetingId,
+                        subscriber.sessionId, after, limit));
+                for (Transcript transcript : page.transcripts()) {
+                    subscriber.replayed.add(transcript.getId());
+                    // the emitter holds these until the response is ready
+                    if (!send(subscriber, transcript)) {
+                        return false;
+                    }
+                    count++;
+                }
+                afterSequence = page.nextAfterSequence();
+            } while (page.hasMore() && count < replayLimit);
+        } finally {
+            replayed.increment(count);
+        }
+        if (page.hasMore()) {
+            reset(subscriber, afterSequence);
+            return false;
+        }
+        return true;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.paused && subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    // one drain per subscriber at a time; it owns the emitter until it clears the draining flag
+    private void drain(Subscriber subscriber) {
+        do {
+            Transcript transcript;
+            while ((transcript = subscriber.queue.poll()) != null) {
+                if (subscriber.replayed.contains(transcript.getId())) {
+                    continue;
+                }
+                if (!send(subscriber, transcript)) {
+                    return;
+                }
+                sent.increment();
+            }
+            if (subscriber.ending) {
+                end(subscriber);
+                return;
+            }
+            subscriber.draining.set(false);
+        } while ((!subscriber.queue.isEmpty() || subscriber.ending) && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, Transcript transcript) {
+        try {
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(Integer.toString(transcript.getSequenceNumber()))
+                    .name("transcript")
+                    .data(transcript, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Live subscriber gone: sessionId={}, reason={}", subscriber.sessionId, e.toString());
+            remove(subscriber);
+            return false;
+        }
+    }
+
+    private void end(Subscriber subscriber) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name("end").data(subscriber.sessionId.toString()));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Live subscriber gone before session end: sessionId={}", subscriber.sessionId);
+        }
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    // the client reads the transcripts after the event's data from the page endpoint before it resubscribes
+    private void reset(Subscriber subscriber, int afterSequence) {
+        try {
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(Integer.toString(afterSequence))
+                    .name("reset")
+                    .data(Integer.toString(afterSequence)));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Live subscriber gone before reset: sessionId={}", subscriber.sessionId);
+        }
+        log.debug("Live subscriber too far behind to replay: sessionId={}, afterSequence={}", subscriber.sessionId,
+                afterSequence);
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    // the client reconnects with its Last-Event-ID and resumes from the database
+    private void evict(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void register(Subscriber subscriber) {
+        subscribers.compute(subscriber.sessionId, (id, session) -> {
+            Set<Subscriber> updated = session != null ? session : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.sessionId, (id, session) -> {
+            session.remove(subscriber);
+            return session.isEmpty() ? null : session;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    private final class Subscriber {
+        final UUID sessionId;
+        final SseEmitter emitter;
+        final BlockingQueue<Transcript> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        // ids already sent by the replay, skipped if they were also queued while it ran
+        final Set<UUID> replayed = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean removed = new AtomicBoolean();
+        volatile boolean paused = true;
+        volatile boolean ending;
+
+        Subscriber(UUID sessionId, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/** Stores transcript content in the {@link TranscriptContentCodec} format. */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class ContentCodecConverter implements AttributeConverter<String, byte[]> {
+
+    private final TranscriptContentCodec codec;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return content == null ? null : codec.encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return stored == null ? null : codec.decode(stored);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically forces the file-backed H2 database to disk. With a
+ * {@code WRITE_DELAY} commits reach the file asynchronously and only the OS
+ * page cache; {@code CHECKPOINT SYNC} writes pending changes and fsyncs, which
+ * bounds what a power loss can take to one interval. A last checkpoint runs
+ * on shutdown.
+ */
+@Slf4j
+public class H2Checkpointer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long intervalMillis;
+    private final Timer checkpoints;
+    private ScheduledExecutorService scheduler;
+
+    public H2Checkpointer(JdbcTemplate jdbcTemplate, Duration interval, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.intervalMillis = interval.toMillis();
+        this.checkpoints = Timer.builder("h2.checkpoint")
+                .description("Time to write and sync the database file")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        if (intervalMillis <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "h2-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkpointSafely, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkpointSafely();
+    }
+
+    void checkpoint() {
+        checkpoints.record(() -> jdbcTemplate.execute("CHECKPOINT SYNC"));
+    }
+
+    private void checkpointSafely() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.warn("H2 checkpoint failed", e);
+        }
+    }
+}
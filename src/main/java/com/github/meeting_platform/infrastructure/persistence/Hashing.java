@@ -0,0 +1,22 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+/**
+ * Hash functions shared by the persistence code. Segment files keep bloom
+ * filter bits computed with these, so a change here makes existing segments
+ * unreadable unless their format version changes with it.
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /** The murmur3 64-bit finalizer (fmix64). */
+    static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
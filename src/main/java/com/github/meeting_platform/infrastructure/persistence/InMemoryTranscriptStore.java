@@ -0,0 +1,187 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.domain.repository.TranscriptWriteResult;
+
+/**
+ * Transcript store for edge and test deployments that keeps every session in
+ * memory, as arrays sorted by sequence number behind a per-session lock.
+ * Chunks mostly arrive in order, so a write is usually an append and a read is
+ * one array copy. Writes apply at once and are not undone by a rollback of
+ * the caller's transaction, and nothing survives a restart.
+ */
+@Component
+@ConditionalOnProperty(name = "meeting.transcripts.store", havingValue = "memory")
+public class InMemoryTranscriptStore implements TranscriptStore {
+
+    private final Map<SessionKey, SessionLog> sessions = new ConcurrentHashMap<>();
+    private final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public TranscriptWriteResult write(List<Transcript> transcripts) {
+        List<UUID> written = new ArrayList<>(transcripts.size());
+        Set<UUID> duplicates = new LinkedHashSet<>();
+        for (Transcript transcript : transcripts) {
+            SessionLog session = sessions.computeIfAbsent(
+                    new SessionKey(transcript.getMeetingId(), transcript.getSessionId()), key -> new SessionLog());
+            (session.upsert(transcript, ids) ? written : duplicates).add(transcript.getId());
+        }
+        return new TranscriptWriteResult(written, duplicates);
+    }
+
+    @Override
+    public List<Transcript> readSession(UUID meetingId, UUID sessionId) {
+        SessionLog session = sessions.get(new SessionKey(meetingId, sessionId));
+        return session == null ? List.of() : session.snapshot();
+    }
+
+    // the snapshot only copies references, the rows are already in memory
+    @Override
+    public Stream<Transcript> streamSession(UUID meetingId, UUID sessionId) {
+        return readSession(meetingId, sessionId).stream();
+    }
+
+    @Override
+    public List<Transcript> readPage(UUID meetingId, UUID sessionId, Integer afterSequence, int limit) {
+        SessionLog session = sessions.get(new SessionKey(meetingId, sessionId));
+        return session == null
+                ? List.of()
+                : session.page(afterSequence == null ? Integer.MIN_VALUE : afterSequence, limit);
+    }
+
+    @Override
+    public List<Transcript> readTail(UUID meetingId, UUID sessionId, int limit) {
+        SessionLog session = sessions.get(new SessionKey(meetingId, sessionId));
+        return session == null ? List.of() : session.tail(limit);
+    }
+
+    @Override
+    public Optional<Transcript> read(UUID meetingId, UUID sessionId, int sequenceNumber) {
+        SessionLog session = sessions.get(new SessionKey(meetingId, sessionId));
+        return session == null ? Optional.empty() : Optional.ofNullable(session.get(sequenceNumber));
+    }
+
+    @Override
+    public List<Integer> finalSequenceNumbers(UUID meetingId, UUID sessionId) {
+        return readSession(meetingId, sessionId).stream()
+                .filter(Transcript::isFinal)
+                .map(Transcript::getSequenceNumber)
+                .toList();
+    }
+
+    @Override
+    public boolean exists(UUID transcriptId) {
+        return ids.contains(transcriptId);
+    }
+
+    @Override
+    public void deleteUnchanged(List<Transcript> transcripts) {
+        for (Transcript transcript : transcripts) {
+            SessionLog session = sessions.get(new SessionKey(transcript.getMeetingId(), transcript.getSessionId()));
+            if (session != null && session.removeUnchanged(transcript)) {
+                ids.remove(transcript.getId());
+            }
+        }
+    }
+
+    private record SessionKey(UUID meetingId, UUID sessionId) {
+    }
+
+    /** One session's transcripts, sorted by sequence number; stored objects are never modified. */
+    private static final class SessionLog {
+
+        private int[] sequenceNumbers = new int[16];
+        private Transcript[] rows = new Transcript[16];
+        private int size;
+
+        synchronized boolean upsert(Transcript transcript, Set<UUID> ids) {
+            int sequenceNumber = transcript.getSequenceNumber();
+            int index = size == 0 || sequenceNumber > sequenceNumbers[size - 1]
+                    ? -(size + 1)
+                    : Arrays.binarySearch(sequenceNumbers, 0, size, sequenceNumber);
+            if (index >= 0) {
+                Transcript stored = rows[index];
+                if (!transcript.supersedes(stored)) {
+                    return false;
+                }
+                rows[index] = revised(stored, transcript);
+                return true;
+            }
+            if (!ids.add(transcript.getId())) {
+                return false;
+            }
+            insert(-(index + 1), transcript);
+            return true;
+        }
+
+        synchronized boolean removeUnchanged(Transcript transcript) {
+            int index = Arrays.binarySearch(sequenceNumbers, 0, size, transcript.getSequenceNumber());
+            if (index < 0) {
+                return false;
+            }
+            Transcript stored = rows[index];
+            if (!stored.getId().equals(transcript.getId()) || stored.getRevision() != transcript.getRevision()
+                    || stored.isFinal() != transcript.isFinal()) {
+                return false;
+            }
+            System.arraycopy(sequenceNumbers, index + 1, sequenceNumbers, index, size - index - 1);
+            System.arraycopy(rows, index + 1, rows, index, size - index - 1);
+            rows[--size] = null;
+            return true;
+        }
+
+        synchronized Transcript get(int sequenceNumber) {
+            int index = Arrays.binarySearch(sequenceNumbers, 0, size, sequenceNumber);
+            return index >= 0 ? rows[index] : null;
+        }
+
+        synchronized List<Transcript> page(int afterSequence, int limit) {
+            int index = Arrays.binarySearch(sequenceNumbers, 0, size, afterSequence);
+            int from = index >= 0 ? index + 1 : -(index + 1);
+            return List.of(Arrays.copyOfRange(rows, from, (int) Math.min(size, (long) from + limit)));
+        }
+
+        synchronized List<Transcript> tail(int limit) {
+            return List.of(Arrays.copyOfRange(rows, (int) Math.max(0, (long) size - limit), size));
+        }
+
+        synchronized List<Transcript> snapshot() {
+            return List.of(Arrays.copyOf(rows, size));
+        }
+
+        private void insert(int at, Transcript transcript) {
+            if (size == rows.length) {
+                sequenceNumbers = Arrays.copyOf(sequenceNumbers, size * 2);
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            System.arraycopy(sequenceNumbers, at, sequenceNumbers, at + 1, size - at);
+            System.arraycopy(rows, at, rows, at + 1, size - at);
+            sequenceNumbers[at] = transcript.getSequenceNumber();
+            rows[at] = transcript;
+            size++;
+        }
+
+        // a new object rather than Transcript.revise, so snapshots already handed out stay unchanged
+        private static Transcript revised(Transcript stored, Transcript newer) {
+            return new Transcript(stored.getId(), stored.getMeetingId(), stored.getSessionId(),
+                    stored.getSequenceNumber(), newer.getSpeaker(), newer.getContent(), newer.getLanguage(),
+                    newer.getStartOffset().toMillis(), newer.getEndOffset().toMillis(), newer.getRevision(),
+                    newer.isFinal());
+        }
+    }
+}
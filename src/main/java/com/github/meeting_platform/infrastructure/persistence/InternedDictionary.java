@@ -0,0 +1,104 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.domain.repository.MeetingScope;
+
+/**
+ * In-memory interning over a small, append-only lookup table whose integer
+ * keys are handed out by the database. Every value maps to one key and one
+ * canonical instance, so rows that share a value share the object once read.
+ * <p>
+ * Unknown values are inserted in a transaction of their own: a cached key
+ * never belongs to a row that was rolled back with the caller's transaction.
+ * An unused entry left behind by such a rollback is harmless. Lookups run
+ * outside any {@link MeetingScope}, so with sharding every shard shares the
+ * home shard's table and the same keys.
+ */
+abstract class InternedDictionary<V> {
+
+    protected final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate ownTransaction;
+    private final Map<V, Integer> keys = new ConcurrentHashMap<>();
+    private final Map<Integer, V> values = new ConcurrentHashMap<>();
+
+    InternedDictionary(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** Key of the value, inserting it into the table if it is not stored yet. */
+    public int keyOf(V value) {
+        Integer key = keys.get(value);
+        if (key == null) {
+            key = resolve(value);
+            remember(key, value);
+        }
+        return key;
+    }
+
+    /** Canonical instance of the value stored under the key. */
+    public V valueOf(int key) {
+        V value = values.get(key);
+        if (value != null) {
+            return value;
+        }
+        V loaded = MeetingScope.call(null, () -> ownTransaction.execute(status -> load(key)));
+        if (loaded == null) {
+            throw new IllegalStateException("No " + getClass().getSimpleName() + " entry for key " + key);
+        }
+        return remember(key, loaded);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /** Loads the whole table so transcripts read after startup find every entry in memory. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        loadAll().forEach(this::remember);
+    }
+
+    private int resolve(V value) {
+        return MeetingScope.call(null, () -> {
+            try {
+                return ownTransaction.execute(status -> {
+                    Integer found = find(value);
+                    if (found != null) {
+                        return found;
+                    }
+                    insert(value);
+                    return find(value);
+                });
+            } catch (DuplicateKeyException e) {
+                // another writer inserted the same value between our lookup and insert
+                return ownTransaction.execute(status -> find(value));
+            }
+        });
+    }
+
+    private V remember(int key, V value) {
+        V canonical = values.computeIfAbsent(key, k -> value);
+        keys.putIfAbsent(canonical, key);
+        return canonical;
+    }
+
+    protected abstract Integer find(V value);
+
+    protected abstract void insert(V value);
+
+    protected abstract V load(int key);
+
+    protected abstract Map<Integer, V> loadAll();
+}
@@ -0,0 +1,275 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptWriteResult;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plain-JDBC transcript store. Writes are one batched {@code MERGE} per call:
+ * a single round trip, no existence check beforehand and no constraint
+ * violation (and rollback) for duplicates. New sequence numbers are inserted,
+ * an interim row is updated in place by a final chunk or a later interim
+ * revision. The per-row update count tells written rows (1) from duplicates
+ * and stale revisions (0). Two deliveries of the same transcript in flight at
+ * once can both pass the checks, and the later insert then fails on a unique
+ * key; such a row is merged again once the other has committed, which
+ * reports it as a duplicate. Reads map rows directly, without a persistence
+ * context.
+ */
+@Component
+@ConditionalOnProperty(name = "meeting.transcripts.store", havingValue = "jdbc", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcTranscriptStore implements TranscriptStore {
+
+    // the id check sits in WHEN NOT MATCHED rather than ON: H2 cannot serve "id = ? OR (...)" from an index
+    static final String UPSERT_REVISION = """
+            MERGE INTO transcripts t
+            USING (VALUES (1)) AS s(one)
+            ON t.meeting_id = ? AND t.session_id = ? AND t.sequence_number = ?
+            WHEN MATCHED AND t.is_final = FALSE AND (CAST(? AS BOOLEAN) OR t.revision < ?) THEN
+                UPDATE SET speaker_key = ?, content = ?, language_code = ?, start_offset_ms = ?,
+                        end_offset_ms = ?, revision = ?, is_final = ?
+            WHEN NOT MATCHED AND NOT EXISTS (SELECT 1 FROM transcripts x WHERE x.id = ?) THEN
+                INSERT (id, meeting_id, session_id, sequence_number, speaker_key,
+                        content, language_code, start_offset_ms, end_offset_ms, revision, is_final)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    static final String SELECT_SESSION = """
+            SELECT id, meeting_id, session_id, sequence_number, speaker_key, content, language_code,
+                    start_offset_ms, end_offset_ms, revision, is_final
+            FROM transcripts WHERE meeting_id = ? AND session_id = ? ORDER BY sequence_number
+            """;
+
+    static final String SELECT_PAGE = """
+            SELECT id, meeting_id, session_id, sequence_number, speaker_key, content, language_code,
+                    start_offset_ms, end_offset_ms, revision, is_final
+            FROM transcripts WHERE meeting_id = ? AND session_id = ? AND sequence_number > ?
+            ORDER BY sequence_number LIMIT ?
+            """;
+
+    // newest first, so the index is read backwards from the end of the session
+    static final String SELECT_TAIL = """
+            SELECT id, meeting_id, session_id, sequence_number, speaker_key, content, language_code,
+                    start_offset_ms, end_offset_ms, revision, is_final
+            FROM transcripts WHERE meeting_id = ? AND session_id = ?
+            ORDER BY sequence_number DESC LIMIT ?
+            """;
+
+    static final String SELECT_SEQUENCE = """
+            SELECT id, meeting_id, session_id, sequence_number, speaker_key, content, language_code,
+                    start_offset_ms, end_offset_ms, revision, is_final
+            FROM transcripts WHERE meeting_id = ? AND session_id = ? AND sequence_number = ?
+            """;
+
+    static final String SELECT_FINAL_SEQUENCE_NUMBERS = """
+            SELECT sequence_number FROM transcripts
+            WHERE meeting_id = ? AND session_id = ? AND is_final = TRUE ORDER BY sequence_number
+            """;
+
+    static final String EXISTS = "SELECT COUNT(*) FROM transcripts WHERE id = ?";
+
+    static final String DELETE_UNCHANGED = "DELETE FROM transcripts WHERE id = ? AND revision = ? AND is_final = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SpeakerDictionary speakers;
+    private final LanguageDictionary languages;
+    private final TranscriptContentCodec contentCodec;
+
+    @Override
+    public TranscriptWriteResult write(List<Transcript> transcripts) {
+        if (transcripts.isEmpty()) {
+            return new TranscriptWriteResult(List.of(), Set.of());
+        }
+
+        // dictionary keys are resolved up front (a new entry is inserted in its own transaction), content is encoded once
+        Columns[] columns = new Columns[transcripts.size()];
+        for (int i = 0; i < columns.length; i++) {
+            Transcript transcript = transcripts.get(i);
+            columns[i] = new Columns(speakers.keyOf(transcript.getSpeaker()),
+                    transcript.getLanguage() == null ? null : languages.keyOf(transcript.getLanguage()),
+                    contentCodec.encode(transcript.getContent()));
+        }
+
+        int[] counts = jdbcTemplate.execute(UPSERT_REVISION, (PreparedStatementCallback<int[]>) ps -> {
+            for (int i = 0; i < columns.length; i++) {
+                bind(ps, transcripts.get(i), columns[i]);
+                ps.addBatch();
+            }
+            try {
+                return ps.executeBatch();
+            } catch (BatchUpdateException e) {
+                // rows the driver did not get to count as failed too; every failed row is merged again below
+                int[] partial = e.getUpdateCounts() == null ? new int[0] : e.getUpdateCounts();
+                int[] all = Arrays.copyOf(partial, columns.length);
+                Arrays.fill(all, partial.length, all.length, Statement.EXECUTE_FAILED);
+                return all;
+            }
+        });
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.EXECUTE_FAILED) {
+                counts[i] = mergeAgain(transcripts.get(i), columns[i]);
+            }
+        }
+
+        List<UUID> written = new ArrayList<>(transcripts.size());
+        Set<UUID> duplicates = new LinkedHashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            // drivers that cannot report per-row counts return SUCCESS_NO_INFO; treat those as written
+            (counts[i] == 0 ? duplicates : written).add(transcripts.get(i).getId());
+        }
+        log.debug("Batched transcript upsert: written={}, duplicates={}", written.size(), duplicates.size());
+        return new TranscriptWriteResult(written, duplicates);
+    }
+
+    /*
+     * A concurrent write took the id or the sequence number between our checks and our insert, and has committed
+     * by the time the unique key reported it, so the merge now matches its row. Any other failure is thrown.
+     */
+    private int mergeAgain(Transcript transcript, Columns columns) {
+        try {
+            return jdbcTemplate.update(UPSERT_REVISION, ps -> bind(ps, transcript, columns));
+        } catch (DuplicateKeyException e) {
+            log.debug("Transcript lost a unique key race (idempotent): transcriptId={}, sequenceNumber={}",
+                    transcript.getId(), transcript.getSequenceNumber());
+            return 0;
+        }
+    }
+
+    @Override
+    public List<Transcript> readSession(UUID meetingId, UUID sessionId) {
+        return jdbcTemplate.query(SELECT_SESSION, this::mapRow, meetingId, sessionId);
+    }
+
+    // the fetch size keeps the driver from buffering the whole result where it honours it
+    @Override
+    public Stream<Transcript> streamSession(UUID meetingId, UUID sessionId) {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SESSION);
+            ps.setFetchSize(TranscriptRepository.STREAM_FETCH_SIZE);
+            ps.setObject(1, meetingId);
+            ps.setObject(2, sessionId);
+            return ps;
+        }, this::mapRow);
+    }
+
+    @Override
+    public List<Transcript> readPage(UUID meetingId, UUID sessionId, Integer afterSequence, int limit) {
+        int after = afterSequence == null ? Integer.MIN_VALUE : afterSequence;
+        return jdbcTemplate.query(SELECT_PAGE, this::mapRow, meetingId, sessionId, after, limit);
+    }
+
+    @Override
+    public List<Transcript> readTail(UUID meetingId, UUID sessionId, int limit) {
+        List<Transcript> newestFirst = jdbcTemplate.query(SELECT_TAIL, this::mapRow, meetingId, sessionId, limit);
+        Collections.reverse(newestFirst);
+        return newestFirst;
+    }
+
+    @Override
+    public Optional<Transcript> read(UUID meetingId, UUID sessionId, int sequenceNumber) {
+        return jdbcTemplate.query(SELECT_SEQUENCE, this::mapRow, meetingId, sessionId, sequenceNumber).stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Integer> finalSequenceNumbers(UUID meetingId, UUID sessionId) {
+        return jdbcTemplate.queryForList(SELECT_FINAL_SEQUENCE_NUMBERS, Integer.class, meetingId, sessionId);
+    }
+
+    @Override
+    public boolean exists(UUID transcriptId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS, Integer.class, transcriptId);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void deleteUnchanged(List<Transcript> transcripts) {
+        jdbcTemplate.batchUpdate(DELETE_UNCHANGED, transcripts, 256, (ps, transcript) -> {
+            ps.setObject(1, transcript.getId());
+            ps.setInt(2, transcript.getRevision());
+            ps.setBoolean(3, transcript.isFinal());
+        });
+    }
+
+    private Transcript mapRow(ResultSet rs, int row) throws SQLException {
+        short languageCode = rs.getShort("language_code");
+        String language = rs.wasNull() ? null : languages.valueOf(languageCode);
+        return new Transcript(rs.getObject("id", UUID.class), rs.getObject("meeting_id", UUID.class),
+                rs.getObject("session_id", UUID.class), rs.getInt("sequence_number"),
+                speakers.valueOf(rs.getInt("speaker_key")), contentCodec.decode(rs.getBytes("content")), language,
+                rs.getLong("start_offset_ms"), rs.getLong("end_offset_ms"), rs.getInt("revision"),
+                rs.getBoolean("is_final"));
+    }
+
+    private static void bind(PreparedStatement ps, Transcript transcript, Columns columns) throws SQLException {
+        int i = 1;
+        // ON
+        i = bindKey(ps, i, transcript);
+        // WHEN MATCHED
+        ps.setBoolean(i++, transcript.isFinal());
+        ps.setInt(i++, transcript.getRevision());
+        // UPDATE SET
+        i = bindRevision(ps, i, transcript, columns);
+        // WHEN NOT MATCHED
+        ps.setObject(i++, transcript.getId());
+        // INSERT
+        ps.setObject(i++, transcript.getId());
+        i = bindKey(ps, i, transcript);
+        bindRevision(ps, i, transcript, columns);
+    }
+
+    private static int bindKey(PreparedStatement ps, int i, Transcript transcript) throws SQLException {
+        ps.setObject(i++, transcript.getMeetingId());
+        ps.setObject(i++, transcript.getSessionId());
+        ps.setInt(i++, transcript.getSequenceNumber());
+        return i;
+    }
+
+    private static int bindRevision(PreparedStatement ps, int i, Transcript transcript, Columns columns)
+            throws SQLException {
+        ps.setInt(i++, columns.speakerKey());
+        ps.setBytes(i++, columns.content());
+        if (columns.languageCode() == null) {
+            ps.setNull(i++, Types.SMALLINT);
+        } else {
+            ps.setShort(i++, columns.languageCode().shortValue());
+        }
+        ps.setLong(i++, transcript.getStartOffset().toMillis());
+        ps.setLong(i++, transcript.getEndOffset().toMillis());
+        ps.setInt(i++, transcript.getRevision());
+        ps.setBoolean(i++, transcript.isFinal());
+        return i;
+    }
+
+    // stored representations that are computed before the batch is sent
+    private record Columns(int speakerKey, Integer languageCode, byte[] content) {
+    }
+}
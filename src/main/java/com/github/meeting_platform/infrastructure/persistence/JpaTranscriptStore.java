@@ -0,0 +1,146 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptWriteResult;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Transcript store over the Spring Data repository. Writes look up the row by
+ * sequence number and by id per transcript, then {@code saveAll} and flush; a
+ * newer revision is copied onto the managed row and written by the flush.
+ */
+@Component
+@ConditionalOnProperty(name = "meeting.transcripts.store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaTranscriptStore implements TranscriptStore {
+
+    private final TranscriptRepository transcriptRepository;
+    private final SpeakerDictionary speakers;
+    private final LanguageDictionary languages;
+    private final EntityManager entityManager;
+
+    @Override
+    public TranscriptWriteResult write(List<Transcript> transcripts) {
+        Set<UUID> seen = new HashSet<>();
+        Map<Key, Transcript> rows = new HashMap<>();
+        List<Transcript> fresh = new ArrayList<>(transcripts.size());
+        List<UUID> written = new ArrayList<>(transcripts.size());
+        Set<UUID> duplicates = new LinkedHashSet<>();
+
+        for (Transcript transcript : transcripts) {
+            intern(transcript);
+            Key key = new Key(transcript.getMeetingId(), transcript.getSessionId(), transcript.getSequenceNumber());
+            Transcript row = rows.computeIfAbsent(key, k -> transcriptRepository
+                    .findByMeetingIdAndSessionIdAndSequenceNumber(k.meetingId(), k.sessionId(), k.sequenceNumber())
+                    .orElse(null));
+            if (row != null) {
+                if (transcript.supersedes(row)) {
+                    row.revise(transcript);
+                    written.add(transcript.getId());
+                } else {
+                    duplicates.add(transcript.getId());
+                }
+                continue;
+            }
+            if (!seen.add(transcript.getId()) || transcriptRepository.findById(transcript.getId()).isPresent()) {
+                duplicates.add(transcript.getId());
+                continue;
+            }
+            rows.put(key, transcript);
+            fresh.add(transcript);
+            written.add(transcript.getId());
+        }
+
+        transcriptRepository.saveAll(fresh);
+        transcriptRepository.flush();
+        return new TranscriptWriteResult(written, duplicates);
+    }
+
+    @Override
+    public List<Transcript> readSession(UUID meetingId, UUID sessionId) {
+        List<Transcript> transcripts = new ArrayList<>();
+        transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId)
+                .forEach(transcripts::add);
+        return transcripts;
+    }
+
+    // each row is detached once handed out, so the persistence context does not grow with the session
+    @Override
+    public Stream<Transcript> streamSession(UUID meetingId, UUID sessionId) {
+        return transcriptRepository.streamByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId)
+                .map(transcript -> {
+                    entityManager.detach(transcript);
+                    return transcript;
+                });
+    }
+
+    @Override
+    public List<Transcript> readPage(UUID meetingId, UUID sessionId, Integer afterSequence, int limit) {
+        int after = afterSequence == null ? Integer.MIN_VALUE : afterSequence;
+        return transcriptRepository.findByMeetingIdAndSessionIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(
+                meetingId, sessionId, after, Limit.of(limit));
+    }
+
+    @Override
+    public List<Transcript> readTail(UUID meetingId, UUID sessionId, int limit) {
+        List<Transcript> newestFirst = new ArrayList<>(transcriptRepository
+                .findByMeetingIdAndSessionIdOrderBySequenceNumberDesc(meetingId, sessionId, Limit.of(limit)));
+        Collections.reverse(newestFirst);
+        return newestFirst;
+    }
+
+    @Override
+    public Optional<Transcript> read(UUID meetingId, UUID sessionId, int sequenceNumber) {
+        return transcriptRepository.findByMeetingIdAndSessionIdAndSequenceNumber(meetingId, sessionId,
+                sequenceNumber);
+    }
+
+    @Override
+    public List<Integer> finalSequenceNumbers(UUID meetingId, UUID sessionId) {
+        return transcriptRepository.findSequenceNumbers(meetingId, sessionId);
+    }
+
+    @Override
+    public boolean exists(UUID transcriptId) {
+        return transcriptRepository.existsById(transcriptId);
+    }
+
+    // one bulk delete per row; managed copies of deleted rows are not touched
+    @Override
+    public void deleteUnchanged(List<Transcript> transcripts) {
+        for (Transcript transcript : transcripts) {
+            transcriptRepository.deleteUnchanged(transcript.getId(), transcript.getRevision(), transcript.isFinal());
+        }
+    }
+
+    // new dictionary entries get their own transaction, which must not start in the middle of the flush
+    private void intern(Transcript transcript) {
+        speakers.keyOf(transcript.getSpeaker());
+        if (transcript.getLanguage() != null) {
+            languages.keyOf(transcript.getLanguage());
+        }
+    }
+
+    private record Key(UUID meetingId, UUID sessionId, int sequenceNumber) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/** Maps a language tag to its {@code language_code}; reads return the interned tag. */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class LanguageCodeConverter implements AttributeConverter<String, Short> {
+
+    private final LanguageDictionary languages;
+
+    @Override
+    public Short convertToDatabaseColumn(String tag) {
+        return tag == null ? null : (short) languages.keyOf(tag);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        return code == null ? null : languages.valueOf(code);
+    }
+}
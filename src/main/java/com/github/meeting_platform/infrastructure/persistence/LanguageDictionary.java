@@ -0,0 +1,49 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * The {@code languages} table: one row per language tag, referenced from
+ * transcripts by {@code language_code}.
+ */
+@Component
+public class LanguageDictionary extends InternedDictionary<String> {
+
+    static final String FIND = "SELECT language_code FROM languages WHERE tag = ?";
+    static final String LOAD = "SELECT tag FROM languages WHERE language_code = ?";
+
+    public LanguageDictionary(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        super(jdbcTemplate, transactionManager);
+    }
+
+    @Override
+    protected Integer find(String tag) {
+        List<Integer> codes = jdbcTemplate.queryForList(FIND, Integer.class, tag);
+        return codes.isEmpty() ? null : codes.get(0);
+    }
+
+    @Override
+    protected void insert(String tag) {
+        jdbcTemplate.update("INSERT INTO languages (tag) VALUES (?)", tag);
+    }
+
+    @Override
+    protected String load(int code) {
+        List<String> tags = jdbcTemplate.queryForList(LOAD, String.class, code);
+        return tags.isEmpty() ? null : tags.get(0);
+    }
+
+    @Override
+    protected Map<Integer, String> loadAll() {
+        Map<Integer, String> all = new HashMap<>();
+        jdbcTemplate.query("SELECT language_code, tag FROM languages",
+                rs -> { all.put(rs.getInt("language_code"), rs.getString("tag")); });
+        return all;
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.meeting_platform.domain.repository.PrimaryReads;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the
+ * primary, unless {@link PrimaryReads} asks for the primary. The read-only
+ * flag is only known once the transaction has begun, so this must sit behind
+ * a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which takes the connection at the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PrimaryReads.isRequested()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+
+    @Override
+    public void close() {
+        for (DataSource pool : new DataSource[] { primary, replica }) {
+            if (pool instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close datasource: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
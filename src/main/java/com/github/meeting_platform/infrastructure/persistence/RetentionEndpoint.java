@@ -0,0 +1,24 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator view of the retention purge ({@code /actuator/retention}): the
+ * periods in force and the progress of the current or last pass.
+ */
+@Endpoint(id = "retention")
+@RequiredArgsConstructor
+public class RetentionEndpoint {
+
+    private final TranscriptRetentionPurger purger;
+
+    @ReadOperation
+    public Map<String, Object> retention() {
+        return purger.progress();
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.github.meeting_platform.infrastructure.config.RetentionProperties;
+
+/**
+ * Retention in whole days per organizer. A transcript stored on day {@code d}
+ * (its {@code bucket_day}) expires on day {@code d + days + 1}, i.e. once it
+ * is older than its retention period. Without retention enabled every
+ * transcript is kept.
+ */
+public final class RetentionPolicy {
+
+    public static final long FOREVER = Long.MAX_VALUE;
+
+    private final long defaultDays;
+    private final Map<UUID, Long> organizerDays = new HashMap<>();
+
+    public RetentionPolicy(RetentionProperties properties) {
+        this.defaultDays = properties.isEnabled() ? days(properties.getPeriod()) : FOREVER;
+        if (properties.isEnabled()) {
+            properties.getOrganizers().forEach((organizerId, period) -> organizerDays.put(organizerId, days(period)));
+        }
+    }
+
+    /** Retention of the organizer's transcripts in days, {@link #FOREVER} if they are kept. */
+    public long days(UUID organizerId) {
+        return organizerId == null ? defaultDays : organizerDays.getOrDefault(organizerId, defaultDays);
+    }
+
+    /** First day on which a transcript of the organizer stored on {@code day} has expired. */
+    public long expiresOn(UUID organizerId, long day) {
+        long days = days(organizerId);
+        return days == FOREVER ? FOREVER : day + days + 1;
+    }
+
+    /** The shortest retention of any organizer; no transcript expires earlier. */
+    public long shortestDays() {
+        return organizerDays.values().stream().reduce(defaultDays, Math::min);
+    }
+
+    /** The longest retention of any organizer; every transcript has expired after it. */
+    public long longestDays() {
+        return organizerDays.values().stream().reduce(defaultDays, Math::max);
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> organizers = new HashMap<>();
+        organizerDays.forEach((organizerId, days) -> organizers.put(organizerId.toString(), describe(days)));
+        return Map.of("defaultDays", describe(defaultDays), "organizerDays", organizers);
+    }
+
+    private static Object describe(long days) {
+        return days == FOREVER ? "forever" : days;
+    }
+
+    private static long days(Duration period) {
+        if (period.isZero() || period.isNegative()) {
+            return FOREVER;
+        }
+        return (period.toSeconds() + Duration.ofDays(1).toSeconds() - 1) / Duration.ofDays(1).toSeconds();
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptArchive;
+import com.github.meeting_platform.infrastructure.config.ArchiveProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The archive segments of one directory ({@link TranscriptSegment}), mapped
+ * at startup and whenever {@link SessionArchiver} writes a new one. Segment
+ * files are numbered; a session is read from the newest segment that holds
+ * it, which is the complete one if an interrupted sweep archived it twice.
+ * <p>
+ * A segment holds sessions of one retention period and carries the day it
+ * expires in its name ({@code 000000000042-20480.seg}); the retention purge
+ * drops expired segments as whole files.
+ */
+@Slf4j
+public class SegmentTranscriptArchive implements TranscriptArchive {
+
+    static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final TranscriptContentCodec contentCodec;
+    private final int indexInterval;
+    private final int bloomBitsPerSession;
+    private final List<TranscriptSegment> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong lastNumber = new AtomicLong();
+    private final Timer reads;
+
+    public SegmentTranscriptArchive(ArchiveProperties properties, TranscriptContentCodec contentCodec,
+            MeterRegistry meterRegistry) {
+        this.directory = properties.getDirectory();
+        this.contentCodec = contentCodec;
+        this.indexInterval = properties.getIndexInterval();
+        this.bloomBitsPerSession = properties.getBloomBitsPerSession();
+        this.reads = Timer.builder("transcript.archive.read")
+                .description("Time to read an archived session from the segment files")
+                .register(meterRegistry);
+        Gauge.builder("transcript.archive.segments", segments, List::size)
+                .description("Archive segment files mapped")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path file : entries) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SUFFIX)) {
+                    files.add(file);
+                } else if (name.endsWith(SUFFIX + ".tmp")) {
+                    // left by a sweep that failed before its rename; the rows are still in the table
+                    Files.delete(file);
+                }
+            }
+            files.sort(Comparator.comparing(Path::getFileName).reversed());
+            for (Path file : files) {
+                segments.add(TranscriptSegment.open(file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open transcript archive " + directory, e);
+        }
+        if (!files.isEmpty()) {
+            lastNumber.set(number(files.get(0)));
+        }
+        log.info("Transcript archive opened: directory={}, segments={}", directory, segments.size());
+    }
+
+    @Override
+    public List<Transcript> readSession(UUID meetingId, UUID sessionId) {
+        return reads.record(() -> {
+            for (TranscriptSegment segment : segments) {
+                List<Transcript> transcripts = segment.read(meetingId, sessionId, contentCodec);
+                if (!transcripts.isEmpty()) {
+                    return transcripts;
+                }
+            }
+            return List.<Transcript>of();
+        });
+    }
+
+    // only the newest segment that holds the session is read, as for a whole session
+    @Override
+    public List<Transcript> readPage(UUID meetingId, UUID sessionId, Integer afterSequence, int limit) {
+        int after = afterSequence == null ? Integer.MIN_VALUE : afterSequence;
+        return reads.record(() -> {
+            for (TranscriptSegment segment : segments) {
+                if (segment.contains(meetingId, sessionId)) {
+                    return segment.readPage(meetingId, sessionId, after, limit, contentCodec);
+                }
+            }
+            return List.<Transcript>of();
+        });
+    }
+
+    // only finding the segment is timed; the entries are read as the caller consumes the stream
+    @Override
+    public Stream<Transcript> streamSession(UUID meetingId, UUID sessionId) {
+        TranscriptSegment found = reads.record(() -> {
+            for (TranscriptSegment segment : segments) {
+                if (segment.contains(meetingId, sessionId)) {
+                    return segment;
+                }
+            }
+            return null;
+        });
+        return found == null ? Stream.empty() : found.stream(meetingId, sessionId, contentCodec);
+    }
+
+    /**
+     * Writes the transcripts to a new, synced segment file and serves them from
+     * it until {@code expiresOn} (an epoch day, or {@link RetentionPolicy#FOREVER}).
+     */
+    TranscriptSegment write(List<Transcript> transcripts, long expiresOn) throws IOException {
+        Files.createDirectories(directory);
+        String name = expiresOn == RetentionPolicy.FOREVER
+                ? "%012d%s".formatted(lastNumber.incrementAndGet(), SUFFIX)
+                : "%012d-%d%s".formatted(lastNumber.incrementAndGet(), expiresOn, SUFFIX);
+        TranscriptSegment segment = TranscriptSegment.write(directory.resolve(name), transcripts, contentCodec,
+                indexInterval, bloomBitsPerSession);
+        segments.add(0, segment);
+        return segment;
+    }
+
+    /** Deletes the segments that have expired by {@code today} (an epoch day); returns how many. */
+    int dropExpired(long today) throws IOException {
+        int dropped = 0;
+        for (TranscriptSegment segment : segments) {
+            if (expiresOn(segment.file()) <= today) {
+                // readers still holding the segment keep their mapping until it is collected
+                segments.remove(segment);
+                Files.deleteIfExists(segment.file());
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.info("Dropped expired archive segments: count={}", dropped);
+        }
+        return dropped;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private static long number(Path file) {
+        return nameField(file, 0, 0);
+    }
+
+    private static long expiresOn(Path file) {
+        return nameField(file, 1, RetentionPolicy.FOREVER);
+    }
+
+    // <number>[-<expiry day>].seg
+    private static long nameField(Path file, int field, long absent) {
+        String name = file.getFileName().toString();
+        String[] fields = name.substring(0, name.length() - SUFFIX.length()).split("-");
+        try {
+            return field < fields.length ? Long.parseLong(fields[field]) : absent;
+        } catch (NumberFormatException e) {
+            return absent;
+        }
+    }
+}
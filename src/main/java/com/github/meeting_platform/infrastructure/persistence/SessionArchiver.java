@@ -0,0 +1,176 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.infrastructure.config.ArchiveProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves the transcripts of sessions that ended more than {@code delay} ago
+ * from the table into archive segments, oldest sessions first and at most
+ * {@code maxSessionsPerSegment} per sweep. Sessions are grouped into one
+ * segment per expiry day, the day their oldest row ({@code bucket_day}) would
+ * have expired, so each segment expires as a whole ({@link RetentionPolicy}).
+ * <p>
+ * The segment is synced before the rows go, and the rows are deleted through
+ * {@link TranscriptStore#deleteUnchanged}, by id, revision and finality, in the
+ * transaction that sets {@code archived_at}: a
+ * crash leaves either the rows or a complete segment, and a transcript that
+ * arrives late is neither deleted unarchived nor lost, even when it revised an
+ * interim row in place after the row was read. It stays in the table and is
+ * merged into reads of the archived session. The session's compacted document, if any, goes
+ * with the rows.
+ */
+@Slf4j
+public class SessionArchiver {
+
+    static final String SELECT_DUE = """
+            SELECT s.id, s.meeting_id, m.organizer_id,
+                (SELECT MIN(t.bucket_day) FROM transcripts t WHERE t.meeting_id = s.meeting_id AND t.session_id = s.id)
+                    AS oldest_bucket
+            FROM sessions s LEFT JOIN meetings m ON m.id = s.meeting_id
+            WHERE s.status = 'ENDED' AND s.archived_at IS NULL AND s.ended_at < ?
+            ORDER BY s.ended_at LIMIT ?
+            """;
+
+    static final String MARK_ARCHIVED = "UPDATE sessions SET archived_at = ? WHERE id = ?";
+
+    static final String DELETE_DOCUMENT = "DELETE FROM session_documents WHERE session_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TranscriptStore transcriptStore;
+    private final SegmentTranscriptArchive archive;
+    private final RetentionPolicy retention;
+    private final Duration delay;
+    private final long sweepMillis;
+    private final int maxSessions;
+    private final Counter archivedSessions;
+    private final Counter archivedTranscripts;
+    private ScheduledExecutorService scheduler;
+
+    public SessionArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            TranscriptStore transcriptStore, SegmentTranscriptArchive archive, RetentionPolicy retention,
+            ArchiveProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transcriptStore = transcriptStore;
+        this.archive = archive;
+        this.retention = retention;
+        this.delay = properties.getDelay();
+        this.sweepMillis = properties.getSweepInterval().toMillis();
+        this.maxSessions = properties.getMaxSessionsPerSegment();
+        this.archivedSessions = Counter.builder("transcript.archive.sessions")
+                .description("Sessions moved to archive segments")
+                .register(meterRegistry);
+        this.archivedTranscripts = Counter.builder("transcript.archive.transcripts")
+                .description("Transcripts moved to archive segments")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sweep, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Archives up to one segment of sessions that were due at {@code now}; returns how many. */
+    int archiveDue(Instant now) {
+        List<DueSession> due = jdbcTemplate.query(SELECT_DUE,
+                (rs, row) -> new DueSession(rs.getObject("id", UUID.class), rs.getObject("meeting_id", UUID.class),
+                        rs.getObject("organizer_id", UUID.class), rs.getObject("oldest_bucket", Long.class)),
+                Timestamp.from(now.minus(delay)), maxSessions);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        // a session expires with its oldest row, as it would have in the table; one without rows writes nothing
+        // today comes from the database clock that stamps bucket_day, as in the purge
+        long today = jdbcTemplate.queryForObject(TranscriptRetentionPurger.TODAY, Long.class);
+        Map<Long, List<DueSession>> byExpiry = due.stream().collect(Collectors.groupingBy(
+                session -> retention.expiresOn(session.organizerId(),
+                        session.oldestBucket() != null ? session.oldestBucket() : today),
+                LinkedHashMap::new, Collectors.toList()));
+        List<Transcript> transcripts = new ArrayList<>();
+        byExpiry.forEach((expiresOn, sessions) -> {
+            List<Transcript> segment = new ArrayList<>();
+            sessions.forEach(session -> segment.addAll(transcriptStore.readSession(session.meetingId(), session.id())));
+            if (!segment.isEmpty()) {
+                try {
+                    archive.write(segment, expiresOn);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot write archive segment", e);
+                }
+            }
+            transcripts.addAll(segment);
+        });
+
+        Timestamp archivedAt = Timestamp.from(now);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(MARK_ARCHIVED, due, due.size(), (ps, session) -> {
+                ps.setTimestamp(1, archivedAt);
+                ps.setObject(2, session.id());
+            });
+            // the segment now holds the session; its compacted document would only be a second copy
+            jdbcTemplate.batchUpdate(DELETE_DOCUMENT, due, due.size(), (ps, session) -> ps.setObject(1, session.id()));
+            // last, as the in-memory store does not roll back; a row revised in place since it was read stays late
+            transcriptStore.deleteUnchanged(transcripts);
+        });
+        archivedSessions.increment(due.size());
+        archivedTranscripts.increment(transcripts.size());
+        log.info("Archived ended sessions: sessions={}, transcripts={}", due.size(), transcripts.size());
+        return due.size();
+    }
+
+    private void sweep() {
+        try {
+            // keep going while a backlog fills whole segments
+            while (archiveDue(Instant.now()) == maxSessions) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Session archive sweep failed", e);
+        }
+    }
+
+    private record DueSession(UUID id, UUID meetingId, UUID organizerId, Long oldestBucket) {
+    }
+}
@@ -0,0 +1,310 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.meeting_platform.domain.events.LateTranscriptEvent;
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.CompactedSessions;
+import com.github.meeting_platform.domain.repository.MeetingScope;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.infrastructure.config.CompactionProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compacts every ended session into one {@link SessionDocument} row of
+ * {@code session_documents}, which {@link #readSession} serves instead of the
+ * session's rows. The rows stay where they are and remain the source of
+ * truth: archiving and the retention purge delete documents along with them.
+ * <p>
+ * Work runs after the commit of {@code endMeeting} on one daemon thread of
+ * minimum priority, so it yields to ingest. A late delivery marks the
+ * document stale at once, which sends reads back to the rows, and queues an
+ * incremental recompaction that rereads only the sequence numbers that
+ * changed and merges them into the existing document. A document written
+ * while a late delivery marked its session is stored stale, so the queued
+ * recompaction has to merge the late row before reads are served from it.
+ * A document whose checksum does not match is not served and is rebuilt
+ * from the rows.
+ * Documents are not copied when a meeting moves to another shard.
+ */
+@Slf4j
+public class SessionCompactor implements CompactedSessions {
+
+    static final String SELECT_DOCUMENT = """
+            SELECT document, checksum, bucket_day FROM session_documents
+            WHERE session_id = ? AND meeting_id = ? AND stale = FALSE
+            """;
+
+    static final String SELECT_ANY_DOCUMENT = """
+            SELECT document, checksum, bucket_day FROM session_documents WHERE session_id = ? AND meeting_id = ?
+            """;
+
+    static final String UPSERT_DOCUMENT = """
+            MERGE INTO session_documents
+                    (session_id, meeting_id, transcript_count, document, checksum, bucket_day, stale, compacted_at)
+            KEY (session_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    static final String MARK_STALE = "UPDATE session_documents SET stale = TRUE WHERE session_id = ?";
+
+    static final String DELETE_MEETING_DOCUMENTS = "DELETE FROM session_documents WHERE meeting_id = ?";
+
+    static final String SELECT_COMPACTABLE = """
+            SELECT COUNT(*) FROM sessions WHERE id = ? AND status = 'ENDED' AND archived_at IS NULL
+            """;
+
+    static final String SELECT_OLDEST_BUCKET = """
+            SELECT MIN(bucket_day) FROM transcripts WHERE meeting_id = ? AND session_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TranscriptStore transcriptStore;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final Counter compacted;
+    private final Counter recompacted;
+    private final Counter served;
+    private final Counter corrupt;
+
+    // sessions queued for the compaction thread; null sequence numbers ask for a full compaction
+    private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+    // sessions being compacted, and whether a late delivery marked them stale since their rows were read
+    private final Map<UUID, Boolean> compacting = new HashMap<>();
+    // held by a stale mark and by a document write, so neither lands between the other's check and update
+    private final Object documentWrites = new Object();
+    private ThreadPoolExecutor executor;
+
+    public SessionCompactor(JdbcTemplate jdbcTemplate, TranscriptStore transcriptStore,
+            CompactionProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transcriptStore = transcriptStore;
+        this.enabled = properties.isEnabled();
+        this.queueCapacity = properties.getQueueCapacity();
+        this.compacted = Counter.builder("session.compaction.compacted")
+                .description("Sessions compacted from their rows")
+                .register(meterRegistry);
+        this.recompacted = Counter.builder("session.compaction.recompacted")
+                .description("Session documents updated incrementally after late deliveries")
+                .register(meterRegistry);
+        this.served = Counter.builder("session.compaction.served")
+                .description("Session reads served from a compacted document")
+                .register(meterRegistry);
+        this.corrupt = Counter.builder("session.compaction.corrupt")
+                .description("Session documents rejected by their checksum")
+                .register(meterRegistry);
+        meterRegistry.gauge("session.compaction.pending", pending, Map::size);
+    }
+
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "session-compactor");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+    }
+
+    public void shutdown() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public Optional<List<Transcript>> readSession(UUID meetingId, UUID sessionId) {
+        List<StoredDocument> found = jdbcTemplate.query(SELECT_DOCUMENT, StoredDocument::map, sessionId, meetingId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        StoredDocument document = found.get(0);
+        if (!document.intact()) {
+            corrupt.increment();
+            log.warn("Session document failed its checksum, reading rows instead: sessionId={}", sessionId);
+            schedule(meetingId, sessionId, null);
+            return Optional.empty();
+        }
+        served.increment();
+        return Optional.of(SessionDocument.decode(document.bytes(), meetingId, sessionId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(SessionClosedEvent event) {
+        schedule(event.getMeetingId(), event.getSessionId(), null);
+    }
+
+    // the stale mark goes out before anything is queued, so no read serves the document without the late row
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(LateTranscriptEvent event) {
+        UUID sessionId = event.getSessionId();
+        MeetingScope.run(event.getMeetingId(), () -> {
+            synchronized (documentWrites) {
+                compacting.computeIfPresent(sessionId, (id, marked) -> true);
+                jdbcTemplate.update(MARK_STALE, sessionId);
+            }
+        });
+        schedule(event.getMeetingId(), event.getSessionId(), event.getSequenceNumber());
+    }
+
+    /** Compacts the session now, on the calling thread; a stale document is recompacted incrementally. */
+    void compact(UUID meetingId, UUID sessionId, Set<Integer> changed) {
+        synchronized (documentWrites) {
+            compacting.put(sessionId, false);
+        }
+        try {
+            MeetingScope.run(meetingId, () -> compactSession(meetingId, sessionId, changed));
+        } finally {
+            synchronized (documentWrites) {
+                compacting.remove(sessionId);
+            }
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private void compactSession(UUID meetingId, UUID sessionId, Set<Integer> changed) {
+        Integer compactable = jdbcTemplate.queryForObject(SELECT_COMPACTABLE, Integer.class, sessionId);
+        if (compactable == null || compactable == 0) {
+            return;
+        }
+        if (changed != null) {
+            List<StoredDocument> found = jdbcTemplate.query(SELECT_ANY_DOCUMENT, StoredDocument::map, sessionId,
+                    meetingId);
+            if (!found.isEmpty() && found.get(0).intact()) {
+                recompact(meetingId, sessionId, found.get(0), changed);
+                return;
+            }
+        }
+        List<Transcript> transcripts = transcriptStore.readSession(meetingId, sessionId);
+        if (transcripts.isEmpty()) {
+            return;
+        }
+        Long oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_BUCKET, Long.class, meetingId, sessionId);
+        long bucketDay = oldest != null
+                ? oldest
+                : jdbcTemplate.queryForObject(TranscriptRetentionPurger.TODAY, Long.class);
+        store(meetingId, sessionId, transcripts, bucketDay);
+        compacted.increment();
+    }
+
+    // late rows are newer than the document, so its bucket stays the oldest
+    private void recompact(UUID meetingId, UUID sessionId, StoredDocument document, Set<Integer> changed) {
+        TreeMap<Integer, Transcript> bySequence = new TreeMap<>();
+        SessionDocument.decode(document.bytes(), meetingId, sessionId)
+                .forEach(transcript -> bySequence.put(transcript.getSequenceNumber(), transcript));
+        for (int sequenceNumber : changed) {
+            transcriptStore.read(meetingId, sessionId, sequenceNumber)
+                    .ifPresent(transcript -> bySequence.put(sequenceNumber, transcript));
+        }
+        store(meetingId, sessionId, List.copyOf(bySequence.values()), document.bucketDay());
+        recompacted.increment();
+    }
+
+    private void store(UUID meetingId, UUID sessionId, List<Transcript> transcripts, long bucketDay) {
+        byte[] document = SessionDocument.encode(transcripts);
+        // a late row committed after the rows were read may be missing, so a mark since then is kept
+        synchronized (documentWrites) {
+            jdbcTemplate.update(UPSERT_DOCUMENT, sessionId, meetingId, transcripts.size(), document,
+                    SessionDocument.checksum(document), bucketDay, Boolean.TRUE.equals(compacting.get(sessionId)),
+                    Timestamp.from(Instant.now()));
+        }
+        log.debug("Compacted session: sessionId={}, transcripts={}, bytes={}", sessionId, transcripts.size(),
+                document.length);
+    }
+
+    private void schedule(UUID meetingId, UUID sessionId, Integer sequenceNumber) {
+        if (executor == null) {
+            return;
+        }
+        boolean[] queued = { false };
+        pending.compute(sessionId, (id, existing) -> {
+            if (existing == null) {
+                queued[0] = true;
+                return new Pending(meetingId, sequenceNumber == null ? null : new HashSet<>(Set.of(sequenceNumber)));
+            }
+            return existing.merge(sequenceNumber);
+        });
+        if (!queued[0]) {
+            return;
+        }
+        try {
+            executor.execute(() -> run(sessionId));
+        } catch (RejectedExecutionException e) {
+            // the document stays missing or stale, which only sends reads to the rows
+            pending.remove(sessionId);
+            log.debug("Compaction queue full, session left uncompacted: sessionId={}", sessionId);
+        }
+    }
+
+    private void run(UUID sessionId) {
+        Pending work = pending.remove(sessionId);
+        if (work == null) {
+            return;
+        }
+        try {
+            compact(work.meetingId(), sessionId, work.changed());
+        } catch (RuntimeException e) {
+            log.warn("Session compaction failed: sessionId={}", sessionId, e);
+        }
+    }
+
+    private record Pending(UUID meetingId, Set<Integer> changed) {
+
+        // called under the map's lock for the session
+        Pending merge(Integer sequenceNumber) {
+            if (changed == null) {
+                return this;
+            }
+            if (sequenceNumber == null) {
+                return new Pending(meetingId, null);
+            }
+            changed.add(sequenceNumber);
+            return this;
+        }
+    }
+
+    private record StoredDocument(byte[] bytes, long checksum, long bucketDay) {
+
+        static StoredDocument map(ResultSet rs, int row) throws SQLException {
+            return new StoredDocument(rs.getBytes("document"), rs.getLong("checksum"), rs.getLong("bucket_day"));
+        }
+
+        boolean intact() {
+            return SessionDocument.checksum(bytes) == checksum;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+/**
+ * Encoding of one compacted session, stored in {@code session_documents}:
+ *
+ * <pre>
+ * deflate( version (1) | count (4) | entries )
+ * entry: sequence number (4) | id (16) | flags (1) | [speakerId (16)] | revision (4) | start ms (8)
+ *        | end ms (8) | speaker name (2 + n) | [language (2 + n)] | content (4 + n)
+ * </pre>
+ *
+ * Entries are in sequence order and carry no meeting or session id, the row
+ * does. The content is plain UTF-8, since compressing the whole session at
+ * once does much better than the per-chunk codec of the table. The checksum is
+ * a CRC32C over the stored bytes and is checked before they are inflated.
+ */
+final class SessionDocument {
+
+    static final byte VERSION = 1;
+
+    private static final int FLAG_FINAL = 1;
+    private static final int FLAG_SPEAKER_ID = 2;
+    private static final int FLAG_LANGUAGE = 4;
+
+    private SessionDocument() {
+    }
+
+    /** The transcripts must be one session's, sorted by sequence number. */
+    static byte[] encode(List<Transcript> transcripts) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + transcripts.size() * 64);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater, 8192))) {
+            out.writeByte(VERSION);
+            out.writeInt(transcripts.size());
+            for (Transcript transcript : transcripts) {
+                writeEntry(out, transcript);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode session document", e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<Transcript> decode(byte[] document, UUID meetingId, UUID sessionId) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(document))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported session document version " + version);
+            }
+            int count = in.readInt();
+            List<Transcript> transcripts = new ArrayList<>(count);
+            Map<Transcript.Speaker, Transcript.Speaker> speakers = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                transcripts.add(readEntry(in, meetingId, sessionId, speakers));
+            }
+            return transcripts;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode session document of session " + sessionId, e);
+        }
+    }
+
+    static long checksum(byte[] document) {
+        CRC32C crc = new CRC32C();
+        crc.update(document);
+        return crc.getValue();
+    }
+
+    private static void writeEntry(DataOutputStream out, Transcript transcript) throws IOException {
+        Transcript.Speaker speaker = transcript.getSpeaker();
+        int flags = (transcript.isFinal() ? FLAG_FINAL : 0)
+                | (speaker.getId() != null ? FLAG_SPEAKER_ID : 0)
+                | (transcript.getLanguage() != null ? FLAG_LANGUAGE : 0);
+        out.writeInt(transcript.getSequenceNumber());
+        writeUuid(out, transcript.getId());
+        out.writeByte(flags);
+        if (speaker.getId() != null) {
+            writeUuid(out, speaker.getId());
+        }
+        out.writeInt(transcript.getRevision());
+        out.writeLong(transcript.getStartOffset().toMillis());
+        out.writeLong(transcript.getEndOffset().toMillis());
+        writeShortString(out, speaker.getName());
+        if (transcript.getLanguage() != null) {
+            writeShortString(out, transcript.getLanguage());
+        }
+        byte[] content = transcript.getContent().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(content.length);
+        out.write(content);
+    }
+
+    private static Transcript readEntry(DataInputStream in, UUID meetingId, UUID sessionId,
+            Map<Transcript.Speaker, Transcript.Speaker> speakers) throws IOException {
+        int sequenceNumber = in.readInt();
+        UUID id = new UUID(in.readLong(), in.readLong());
+        int flags = in.readByte();
+        UUID speakerId = (flags & FLAG_SPEAKER_ID) != 0 ? new UUID(in.readLong(), in.readLong()) : null;
+        int revision = in.readInt();
+        long startOffsetMillis = in.readLong();
+        long endOffsetMillis = in.readLong();
+        String speakerName = readShortString(in);
+        String language = (flags & FLAG_LANGUAGE) != 0 ? readShortString(in) : null;
+        byte[] content = new byte[in.readInt()];
+        in.readFully(content);
+
+        Transcript.Speaker speaker = speakers.computeIfAbsent(new Transcript.Speaker(speakerId, speakerName),
+                s -> s);
+        return new Transcript(id, meetingId, sessionId, sequenceNumber, speaker,
+                new String(content, StandardCharsets.UTF_8), language, startOffsetMillis, endOffsetMillis, revision,
+                (flags & FLAG_FINAL) != 0);
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static void writeShortString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("Value too long for a session document: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readShortString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
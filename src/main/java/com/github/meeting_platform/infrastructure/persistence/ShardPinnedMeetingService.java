@@ -0,0 +1,104 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.model.TranscriptPage;
+import com.github.meeting_platform.domain.repository.MeetingScope;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
+import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Opens every call of the transactional {@link MeetingService} in the scope of
+ * its meeting, so its transaction runs on the owning shard. A batch of
+ * transcripts is split by shard into one transaction per shard; a failure on
+ * one shard does not roll back the others, which is safe because transcripts
+ * are written idempotently. Writes are admitted by the {@link ShardRouter}, so
+ * they wait while their meeting is being moved to another shard.
+ */
+@RequiredArgsConstructor
+public class ShardPinnedMeetingService implements MeetingService {
+
+    private final MeetingService delegate;
+    private final ShardRouter router;
+
+    @Override
+    public void startMeeting(StartMeetingCommand command) {
+        write(command.getMeetingId(), () -> delegate.startMeeting(command));
+    }
+
+    @Override
+    public void addTranscript(AddTranscriptCommand command) {
+        write(command.getMeetingId(), () -> delegate.addTranscript(command));
+    }
+
+    @Override
+    public Map<UUID, RuntimeException> addTranscripts(List<AddTranscriptCommand> commands) {
+        Set<UUID> meetings = new LinkedHashSet<>();
+        commands.forEach(command -> meetings.add(command.getMeetingId()));
+        List<ShardRouter.Admission> admissions = new ArrayList<>(meetings.size());
+        try {
+            // admitted before grouping, so no meeting of the batch changes shard under it
+            for (UUID meetingId : meetings) {
+                admissions.add(router.admitWrite(meetingId));
+            }
+            Map<String, List<AddTranscriptCommand>> byShard = new LinkedHashMap<>();
+            for (AddTranscriptCommand command : commands) {
+                byShard.computeIfAbsent(router.shardOf(command.getMeetingId()), shard -> new ArrayList<>())
+                        .add(command);
+            }
+            Map<UUID, RuntimeException> failures = new LinkedHashMap<>();
+            for (List<AddTranscriptCommand> batch : byShard.values()) {
+                // any meeting of the batch routes to its shard
+                failures.putAll(MeetingScope.call(batch.get(0).getMeetingId(), () -> delegate.addTranscripts(batch)));
+            }
+            return failures;
+        } finally {
+            admissions.forEach(ShardRouter.Admission::close);
+        }
+    }
+
+    @Override
+    public void endMeeting(EndMeetingCommand command) {
+        write(command.getMeetingId(), () -> delegate.endMeeting(command));
+    }
+
+    @Override
+    public List<Transcript> getSessionTranscripts(UUID meetingId, UUID sessionId) {
+        return MeetingScope.call(meetingId, () -> delegate.getSessionTranscripts(meetingId, sessionId));
+    }
+
+    @Override
+    public void streamSessionTranscripts(UUID meetingId, UUID sessionId, Consumer<Transcript> sink) {
+        MeetingScope.run(meetingId, () -> delegate.streamSessionTranscripts(meetingId, sessionId, sink));
+    }
+
+    @Override
+    public TranscriptPage getSessionTranscriptPage(UUID meetingId, UUID sessionId, Integer afterSequence,
+            int limit) {
+        return MeetingScope.call(meetingId,
+                () -> delegate.getSessionTranscriptPage(meetingId, sessionId, afterSequence, limit));
+    }
+
+    @Override
+    public List<Transcript> getSessionTranscriptTail(UUID meetingId, UUID sessionId, int count) {
+        return MeetingScope.call(meetingId, () -> delegate.getSessionTranscriptTail(meetingId, sessionId, count));
+    }
+
+    private void write(UUID meetingId, Runnable work) {
+        try (ShardRouter.Admission admission = router.admitWrite(meetingId)) {
+            MeetingScope.run(meetingId, work);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.domain.service.LiveSessionRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves meetings between shards: one on request, or every meeting that is not
+ * on its ring owner after shards were added or removed. A move stops the
+ * meeting's writes and waits for those in flight, copies the meeting, its
+ * sessions and transcripts into the target shard, switches the routing and
+ * deletes the rows from the source before writes resume. Meetings with a LIVE
+ * session are not moved.
+ * <p>
+ * Placements that differ from the ring are kept in {@code meeting_placements}
+ * on the home shard and loaded at startup.
+ */
+@Slf4j
+public class ShardRebalancer {
+
+    private static final int COPY_BATCH_SIZE = 500;
+
+    private static final List<Table> TABLES = List.of(
+            new Table("meetings", "id", "id, title, room_name, organizer_id, organizer_name, created_at"),
+            new Table("sessions", "meeting_id", "id, meeting_id, status, started_at, ended_at, reason, archived_at"),
+            new Table("transcripts", "meeting_id", "id, meeting_id, session_id, sequence_number, speaker_key,"
+                    + " content, language_code, start_offset_ms, end_offset_ms, revision, is_final, bucket_day"));
+
+    private final ShardRouter router;
+    private final ShardRoutingDataSource dataSource;
+    private final LiveSessionRegistry liveSessions;
+    private final JdbcTemplate home;
+
+    public ShardRebalancer(ShardRouter router, ShardRoutingDataSource dataSource, LiveSessionRegistry liveSessions) {
+        this.router = router;
+        this.dataSource = dataSource;
+        this.liveSessions = liveSessions;
+        this.home = new JdbcTemplate(dataSource.shard(router.home()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPlacements() {
+        home.query("SELECT meeting_id, shard FROM meeting_placements", rs -> {
+            router.place(rs.getObject("meeting_id", UUID.class), rs.getString("shard"));
+        });
+    }
+
+    /**
+     * Moves the meeting to the target shard.
+     *
+     * @return false if it is already there
+     * @throws IllegalStateException if the meeting has a LIVE session
+     */
+    public synchronized boolean move(UUID meetingId, String target) {
+        String source = router.shardOf(meetingId);
+        if (source.equals(target)) {
+            return false;
+        }
+        move(meetingId, source, target);
+        return true;
+    }
+
+    private void move(UUID meetingId, String source, String target) {
+        // with writes stopped nothing lands on the source between the copy and the delete
+        router.beginMove(meetingId);
+        try {
+            moveStopped(meetingId, source, target);
+        } finally {
+            router.endMove(meetingId);
+        }
+        log.info("Moved meeting {} from shard {} to shard {}", meetingId, source, target);
+    }
+
+    private void moveStopped(UUID meetingId, String source, String target) {
+        // checked once writes are stopped, so no session can start meanwhile
+        if (!liveSessions.activeSessions(meetingId).isEmpty()) {
+            throw new IllegalStateException("Meeting " + meetingId + " has a LIVE session and cannot be moved");
+        }
+        DataSource from = dataSource.shard(source);
+        DataSource to = dataSource.shard(target);
+
+        copy(meetingId, from, to);
+        router.place(meetingId, target);
+        savePlacement(meetingId);
+        inTransaction(from).executeWithoutResult(status -> {
+            JdbcTemplate jdbc = new JdbcTemplate(from);
+            for (int i = TABLES.size() - 1; i >= 0; i--) {
+                Table table = TABLES.get(i);
+                jdbc.update("DELETE FROM " + table.name() + " WHERE " + table.meetingColumn() + " = ?", meetingId);
+            }
+            // compacted documents are not copied: reads on the target shard fall back to the rows
+            jdbc.update(SessionCompactor.DELETE_MEETING_DOCUMENTS, meetingId);
+        });
+    }
+
+    /**
+     * Moves every meeting to its ring owner.
+     *
+     * @return the number of meetings moved and of meetings skipped because a session was LIVE
+     */
+    public synchronized Map<String, Integer> rebalance() {
+        int moved = 0;
+        int skipped = 0;
+        for (String shard : router.shards()) {
+            List<UUID> meetings = new JdbcTemplate(dataSource.shard(shard)).queryForList(
+                    "SELECT id FROM meetings UNION SELECT meeting_id FROM sessions", UUID.class);
+            for (UUID meetingId : meetings) {
+                String owner = router.ringOwner(meetingId);
+                if (owner.equals(shard)) {
+                    continue;
+                }
+                try {
+                    move(meetingId, shard, owner);
+                    moved++;
+                } catch (IllegalStateException e) {
+                    skipped++;
+                }
+            }
+        }
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("moved", moved);
+        result.put("skippedLive", skipped);
+        return result;
+    }
+
+    private void copy(UUID meetingId, DataSource from, DataSource to) {
+        JdbcTemplate source = new JdbcTemplate(from);
+        JdbcTemplate target = new JdbcTemplate(to);
+        inTransaction(to).executeWithoutResult(status -> {
+            for (Table table : TABLES) {
+                int columns = table.columns().split(",").length;
+                String merge = "MERGE INTO " + table.name() + " (" + table.columns() + ") KEY (id) VALUES ("
+                        + "?, ".repeat(columns - 1) + "?)";
+                List<Object[]> batch = new ArrayList<>(COPY_BATCH_SIZE);
+                source.query("SELECT " + table.columns() + " FROM " + table.name() + " WHERE "
+                        + table.meetingColumn() + " = ?", rs -> {
+                    Object[] row = new Object[columns];
+                    for (int c = 0; c < columns; c++) {
+                        row[c] = rs.getObject(c + 1);
+                    }
+                    batch.add(row);
+                    if (batch.size() == COPY_BATCH_SIZE) {
+                        target.batchUpdate(merge, batch);
+                        batch.clear();
+                    }
+                }, meetingId);
+                if (!batch.isEmpty()) {
+                    target.batchUpdate(merge, batch);
+                }
+            }
+        });
+    }
+
+    private void savePlacement(UUID meetingId) {
+        String placed = router.placements().get(meetingId);
+        if (placed == null) {
+            home.update("DELETE FROM meeting_placements WHERE meeting_id = ?", meetingId);
+        } else {
+            home.update("MERGE INTO meeting_placements (meeting_id, shard) KEY (meeting_id) VALUES (?, ?)",
+                    meetingId, placed);
+        }
+    }
+
+    private static TransactionTemplate inTransaction(DataSource dataSource) {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private record Table(String name, String meetingColumn, String columns) {
+    }
+}
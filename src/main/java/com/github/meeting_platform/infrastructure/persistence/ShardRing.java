@@ -0,0 +1,53 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Consistent hashing of meeting ids onto shard names. Each shard owns
+ * {@code virtualNodes} points on a 64-bit ring and a meeting belongs to the
+ * first point at or after its hash, so adding a shard to N takes over about
+ * 1/(N+1) of the meetings and leaves the rest where they are.
+ */
+public final class ShardRing {
+
+    private final List<String> shards;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ShardRing(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        for (String shard : shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(shard + "#" + i), shard);
+            }
+        }
+    }
+
+    public String shardOf(UUID meetingId) {
+        long hash = Hashing.fmix64(
+                meetingId.getMostSignificantBits() ^ Long.rotateLeft(meetingId.getLeastSignificantBits(), 32));
+        Map.Entry<Long, String> owner = ring.ceilingEntry(hash);
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    // FNV-1a over the UTF-8 bytes, then the murmur3 finalizer for avalanche
+    private static long hash(String point) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : point.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return Hashing.fmix64(hash);
+    }
+}
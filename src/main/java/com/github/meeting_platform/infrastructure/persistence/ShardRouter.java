@@ -0,0 +1,164 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owning shard of each meeting: the ring's choice unless the meeting was
+ * placed elsewhere by {@link ShardRebalancer}. The first shard is the home
+ * shard, used for work outside any meeting.
+ * <p>
+ * Writes to a meeting are admitted through {@link #admitWrite}: while the
+ * meeting is being moved new writes wait, and the move waits for the admitted
+ * ones, so no write lands on the source shard after its rows were copied.
+ */
+public class ShardRouter {
+
+    private final ShardRing ring;
+    private final Map<UUID, String> placements = new ConcurrentHashMap<>();
+    // only meetings with admitted writes or a move in progress have a gate
+    private final Map<UUID, Gate> gates = new ConcurrentHashMap<>();
+
+    public ShardRouter(ShardRing ring) {
+        this.ring = ring;
+    }
+
+    public String shardOf(UUID meetingId) {
+        String placed = placements.get(meetingId);
+        return placed != null ? placed : ring.shardOf(meetingId);
+    }
+
+    public String ringOwner(UUID meetingId) {
+        return ring.shardOf(meetingId);
+    }
+
+    public String home() {
+        return ring.shards().get(0);
+    }
+
+    public List<String> shards() {
+        return ring.shards();
+    }
+
+    public Map<UUID, String> placements() {
+        return Map.copyOf(placements);
+    }
+
+    /**
+     * Admits a write to the meeting's rows, waiting while the meeting is being
+     * moved. The write is done when the admission is closed; it must not admit
+     * another write to the same meeting meanwhile.
+     */
+    public Admission admitWrite(UUID meetingId) {
+        while (true) {
+            Gate gate = gates.computeIfAbsent(meetingId, id -> new Gate());
+            synchronized (gate) {
+                while (gate.moving) {
+                    await(gate, meetingId);
+                }
+                if (gate.retired) {
+                    continue;
+                }
+                gate.writers++;
+                return () -> leave(meetingId, gate);
+            }
+        }
+    }
+
+    /** Stops admitting writes to the meeting and waits for the admitted ones to finish. */
+    void beginMove(UUID meetingId) {
+        while (true) {
+            Gate gate = gates.computeIfAbsent(meetingId, id -> new Gate());
+            synchronized (gate) {
+                if (gate.retired) {
+                    continue;
+                }
+                gate.moving = true;
+                try {
+                    while (gate.writers > 0) {
+                        await(gate, meetingId);
+                    }
+                } catch (IllegalStateException e) {
+                    open(meetingId, gate);
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    /** Admits writes to the meeting again, routed by its placement at that time. */
+    void endMove(UUID meetingId) {
+        Gate gate = gates.get(meetingId);
+        if (gate != null) {
+            synchronized (gate) {
+                open(meetingId, gate);
+            }
+        }
+    }
+
+    /** Routes the meeting to the shard; placing it on its ring owner drops the override. */
+    void place(UUID meetingId, String shard) {
+        if (!ring.shards().contains(shard)) {
+            throw new IllegalArgumentException("Unknown shard: " + shard);
+        }
+        if (shard.equals(ring.shardOf(meetingId))) {
+            placements.remove(meetingId);
+        } else {
+            placements.put(meetingId, shard);
+        }
+    }
+
+    private void leave(UUID meetingId, Gate gate) {
+        synchronized (gate) {
+            gate.writers--;
+            if (gate.writers == 0) {
+                if (gate.moving) {
+                    gate.notifyAll();
+                } else {
+                    retire(meetingId, gate);
+                }
+            }
+        }
+    }
+
+    // callers hold the gate's monitor
+    private void open(UUID meetingId, Gate gate) {
+        gate.moving = false;
+        gate.notifyAll();
+        if (gate.writers == 0) {
+            retire(meetingId, gate);
+        }
+    }
+
+    private void retire(UUID meetingId, Gate gate) {
+        gate.retired = true;
+        gates.remove(meetingId, gate);
+    }
+
+    private static void await(Gate gate, UUID meetingId) {
+        try {
+            gate.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting on a move of meeting " + meetingId, e);
+        }
+    }
+
+    /** An admitted write; closing it lets a waiting move of the meeting go ahead. */
+    public interface Admission extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /** Writes admitted to one meeting and whether it is being moved; guarded by its own monitor. */
+    private static final class Gate {
+        int writers;
+        boolean moving;
+        // dropped from the map; a thread that looked it up before takes a fresh one
+        boolean retired;
+    }
+}
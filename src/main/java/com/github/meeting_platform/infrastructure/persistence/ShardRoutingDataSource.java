@@ -0,0 +1,87 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.github.meeting_platform.domain.repository.MeetingScope;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands out connections of the shard that owns the meeting in
+ * {@link MeetingScope}, or of the home shard outside any meeting. The shard is
+ * chosen when a connection is taken, which is when a transaction begins, so
+ * a whole transaction stays on one shard.
+ */
+@Slf4j
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    // explicit shard for work that spans shards (startup warm-up, rebalancing); wins over the meeting scope
+    private static final ThreadLocal<String> PINNED = new ThreadLocal<>();
+
+    private final ShardRouter router;
+
+    public ShardRoutingDataSource(ShardRouter router, Map<String, DataSource> shards) {
+        this.router = router;
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(router.home()));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String pinned = PINNED.get();
+        if (pinned != null) {
+            return pinned;
+        }
+        var meetingId = MeetingScope.current();
+        return meetingId == null ? router.home() : router.shardOf(meetingId);
+    }
+
+    public DataSource shard(String name) {
+        DataSource shard = getResolvedDataSources().get(name);
+        if (shard == null) {
+            throw new IllegalArgumentException("Unknown shard: " + name);
+        }
+        return shard;
+    }
+
+    public Map<String, DataSource> shards() {
+        Map<String, DataSource> shards = new HashMap<>();
+        getResolvedDataSources().forEach((name, dataSource) -> shards.put((String) name, dataSource));
+        return shards;
+    }
+
+    /** Runs {@code work} with every connection taken from the named shard. */
+    public static void runOn(String shard, Runnable work) {
+        String previous = PINNED.get();
+        PINNED.set(shard);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (DataSource shard : getResolvedDataSources().values()) {
+            if (shard instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close shard datasource: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator view and administration of the shards ({@code /actuator/shards}):
+ * meetings per shard, moving one meeting ({@code POST /actuator/shards/{meetingId}}
+ * with {@code {"shard": "..."}}) and moving every meeting to its ring owner
+ * ({@code POST /actuator/shards}).
+ */
+@Endpoint(id = "shards")
+@RequiredArgsConstructor
+public class ShardsEndpoint {
+
+    private final ShardRouter router;
+    private final ShardRoutingDataSource dataSource;
+    private final ShardRebalancer rebalancer;
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        Map<String, Object> meetings = new LinkedHashMap<>();
+        for (String shard : router.shards()) {
+            meetings.put(shard, new JdbcTemplate(dataSource.shard(shard))
+                    .queryForObject("SELECT COUNT(*) FROM meetings", Long.class));
+        }
+        return Map.of(
+                "home", router.home(),
+                "meetings", meetings,
+                "placements", router.placements().size());
+    }
+
+    @ReadOperation
+    public Map<String, Object> meeting(@Selector String meetingId) {
+        UUID id = UUID.fromString(meetingId);
+        return Map.of("shard", router.shardOf(id), "ringOwner", router.ringOwner(id));
+    }
+
+    @WriteOperation
+    public Map<String, Object> move(@Selector String meetingId, String shard) {
+        boolean moved = rebalancer.move(UUID.fromString(meetingId), shard);
+        return Map.of("moved", moved, "shard", shard);
+    }
+
+    @WriteOperation
+    public Map<String, Integer> rebalance() {
+        return rebalancer.rebalance();
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+/**
+ * The {@code speakers} table: one row per distinct (speaker id, name) pair,
+ * referenced from transcripts by {@code speaker_key}.
+ */
+@Component
+public class SpeakerDictionary extends InternedDictionary<Transcript.Speaker> {
+
+    static final String FIND =
+            "SELECT speaker_key FROM speakers WHERE speaker_id IS NOT DISTINCT FROM ? AND name IS NOT DISTINCT FROM ?";
+    static final String LOAD = "SELECT speaker_id, name FROM speakers WHERE speaker_key = ?";
+
+    private static final RowMapper<Transcript.Speaker> SPEAKER = (rs, row) ->
+            new Transcript.Speaker(rs.getObject("speaker_id", UUID.class), rs.getString("name"));
+
+    public SpeakerDictionary(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        super(jdbcTemplate, transactionManager);
+    }
+
+    @Override
+    protected Integer find(Transcript.Speaker speaker) {
+        List<Integer> keys = jdbcTemplate.queryForList(FIND, Integer.class, speaker.getId(), speaker.getName());
+        return keys.isEmpty() ? null : keys.get(0);
+    }
+
+    @Override
+    protected void insert(Transcript.Speaker speaker) {
+        jdbcTemplate.update("INSERT INTO speakers (speaker_id, name) VALUES (?, ?)", speaker.getId(),
+                speaker.getName());
+    }
+
+    @Override
+    protected Transcript.Speaker load(int key) {
+        List<Transcript.Speaker> speakers = jdbcTemplate.query(LOAD, SPEAKER, key);
+        return speakers.isEmpty() ? null : speakers.get(0);
+    }
+
+    @Override
+    protected Map<Integer, Transcript.Speaker> loadAll() {
+        Map<Integer, Transcript.Speaker> all = new HashMap<>();
+        jdbcTemplate.query("SELECT speaker_key, speaker_id, name FROM speakers",
+                rs -> { all.put(rs.getInt("speaker_key"), SPEAKER.mapRow(rs, 0)); });
+        return all;
+    }
+}
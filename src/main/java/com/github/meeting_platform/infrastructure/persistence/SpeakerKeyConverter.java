@@ -0,0 +1,28 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import org.springframework.stereotype.Component;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/** Maps {@link Transcript.Speaker} to its {@code speaker_key}; reads return the interned instance. */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class SpeakerKeyConverter implements AttributeConverter<Transcript.Speaker, Integer> {
+
+    private final SpeakerDictionary speakers;
+
+    @Override
+    public Integer convertToDatabaseColumn(Transcript.Speaker speaker) {
+        return speaker == null ? null : speakers.keyOf(speaker);
+    }
+
+    @Override
+    public Transcript.Speaker convertToEntityAttribute(Integer key) {
+        return key == null ? null : speakers.valueOf(key);
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.stereotype.Component;
+
+import com.github.meeting_platform.infrastructure.config.ContentCompressionProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Storage format of {@code transcripts.content}.
+ * <p>
+ * A stored value is either plain UTF-8, or a versioned header followed by a raw
+ * deflate stream. UTF-8 never contains the byte {@code 0xFF}, so a leading
+ * {@code 0xFF} marks the header and everything else, including every row
+ * written before compression existed, is read as plain text:
+ *
+ * <pre>
+ * 0xFF | version (1) | flags | original length (4) | [dictionary id (4)] | deflate data
+ * </pre>
+ *
+ * Content below {@code minSize} and content that does not shrink are stored
+ * plain. The optional preset dictionary is identified by its Adler-32, so a
+ * row is never inflated with the wrong dictionary.
+ */
+@Component
+@Slf4j
+public class TranscriptContentCodec {
+
+    static final byte MAGIC = (byte) 0xFF;
+    static final byte VERSION = 1;
+    static final int FLAG_DICTIONARY = 1;
+
+    private final boolean enabled;
+    private final int minSize;
+    private final byte[] dictionary;
+    private final int dictionaryId;
+    private final ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private final DistributionSummary ratio;
+    private final Timer encodeTimer;
+    private final Timer decodeTimer;
+
+    public TranscriptContentCodec(ContentCompressionProperties properties, MeterRegistry meterRegistry) {
+        this(properties.isEnabled(), properties.getMinSize(), properties.getLevel(), load(properties), meterRegistry);
+    }
+
+    TranscriptContentCodec(boolean enabled, int minSize, int level, byte[] dictionary, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.dictionary = dictionary;
+        this.dictionaryId = dictionary == null ? 0 : adler32(dictionary);
+        this.deflaters = ThreadLocal.withInitial(() -> new Deflater(level, true));
+
+        this.ratio = DistributionSummary.builder("transcript.content.compression.ratio")
+                .description("Original size divided by stored size of transcript content")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("transcript.content.encode")
+                .description("Time to encode transcript content for storage")
+                .register(meterRegistry);
+        this.decodeTimer = Timer.builder("transcript.content.decode")
+                .description("Time to decode stored transcript content")
+                .register(meterRegistry);
+        if (dictionary != null) {
+            log.info("Transcript content dictionary loaded: {} bytes, id={}", dictionary.length,
+                    Integer.toHexString(dictionaryId));
+        }
+    }
+
+    public byte[] encode(String content) {
+        long start = System.nanoTime();
+        byte[] plain = content.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = enabled && plain.length >= minSize ? compress(plain) : plain;
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        ratio.record((double) plain.length / Math.max(1, stored.length));
+        return stored;
+    }
+
+    public String decode(byte[] stored) {
+        if (stored.length == 0 || stored[0] != MAGIC) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        long start = System.nanoTime();
+        String content = new String(decompress(stored), StandardCharsets.UTF_8);
+        decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return content;
+    }
+
+    private byte[] compress(byte[] plain) {
+        int headerLength = dictionary == null ? 7 : 11;
+        // output that would not be smaller than the input is not worth a header
+        byte[] out = new byte[plain.length];
+        if (out.length <= headerLength) {
+            return plain;
+        }
+        ByteBuffer header = ByteBuffer.wrap(out, 0, headerLength)
+                .put(MAGIC)
+                .put(VERSION)
+                .put((byte) (dictionary == null ? 0 : FLAG_DICTIONARY))
+                .putInt(plain.length);
+        if (dictionary != null) {
+            header.putInt(dictionaryId);
+        }
+
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary);
+        }
+        deflater.setInput(plain);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished() && headerLength + length < out.length) {
+            length += deflater.deflate(out, headerLength + length, out.length - headerLength - length);
+        }
+        if (!deflater.finished()) {
+            return plain;
+        }
+        byte[] stored = new byte[headerLength + length];
+        System.arraycopy(out, 0, stored, 0, stored.length);
+        return stored;
+    }
+
+    private byte[] decompress(byte[] stored) {
+        ByteBuffer header = ByteBuffer.wrap(stored);
+        header.get();
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported transcript content format version " + version);
+        }
+        int flags = header.get();
+        byte[] plain = new byte[header.getInt()];
+
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        if ((flags & FLAG_DICTIONARY) != 0) {
+            int id = header.getInt();
+            if (dictionary == null || id != dictionaryId) {
+                throw new IllegalStateException("Transcript content was compressed with dictionary "
+                        + Integer.toHexString(id) + ", which is not configured");
+            }
+            inflater.setDictionary(dictionary);
+        }
+        inflater.setInput(stored, header.position(), stored.length - header.position());
+        try {
+            int length = 0;
+            while (length < plain.length) {
+                int inflated = inflater.inflate(plain, length, plain.length - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalStateException("Truncated transcript content");
+                }
+                length += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt transcript content", e);
+        }
+        return plain;
+    }
+
+    /**
+     * Builds a preset dictionary of at most {@code maxBytes} from sample
+     * content: the words that would save the most bytes, with the most
+     * valuable last because deflate reaches nearby matches more cheaply.
+     */
+    public static byte[] trainDictionary(Collection<String> samples, int maxBytes) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String sample : samples) {
+            for (String word : sample.split("\\s+")) {
+                if (word.length() > 2) {
+                    counts.merge(word + " ", 1, Integer::sum);
+                }
+            }
+        }
+        List<Map.Entry<String, Integer>> ranked = new ArrayList<>(counts.entrySet());
+        ranked.removeIf(entry -> entry.getValue() < 2);
+        ranked.sort((a, b) -> Long.compare((long) b.getValue() * b.getKey().length(),
+                (long) a.getValue() * a.getKey().length()));
+
+        List<byte[]> chosen = new ArrayList<>();
+        int size = 0;
+        for (Map.Entry<String, Integer> entry : ranked) {
+            byte[] word = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            if (size + word.length > maxBytes) {
+                continue;
+            }
+            chosen.add(word);
+            size += word.length;
+        }
+        ByteBuffer dictionary = ByteBuffer.allocate(size);
+        for (int i = chosen.size() - 1; i >= 0; i--) {
+            dictionary.put(chosen.get(i));
+        }
+        return dictionary.array();
+    }
+
+    private static byte[] load(ContentCompressionProperties properties) {
+        if (properties.getDictionary() == null) {
+            return null;
+        }
+        try (var in = properties.getDictionary().getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read transcript content dictionary " + properties.getDictionary(), e);
+        }
+    }
+
+    private static int adler32(byte[] bytes) {
+        Adler32 adler = new Adler32();
+        adler.update(bytes);
+        return (int) adler.getValue();
+    }
+}
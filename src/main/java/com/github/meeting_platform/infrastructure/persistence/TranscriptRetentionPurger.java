@@ -0,0 +1,314 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.infrastructure.config.RetentionProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes transcripts older than their organizer's retention period, one
+ * {@code bucket_day} at a time and never with one big {@code DELETE}:
+ * <ul>
+ * <li>A bucket older than every retention period is deleted whole, in chunks
+ * of {@code chunkSize} rows taken from the front of its index range.</li>
+ * <li>Other expired buckets are walked by {@code row_key} in keyset chunks,
+ * deleting the rows whose organizer's period has passed. The first day a kept
+ * row expires is remembered, so the bucket is not walked again before.</li>
+ * <li>Compacted session documents are dropped with the oldest rows they hold,
+ * which their {@code bucket_day} names.</li>
+ * <li>Archive segments past their expiry day are dropped as files.</li>
+ * </ul>
+ * Every chunk is its own short transaction, followed by a pause that holds
+ * the delete rate at {@code maxRowsPerSecond}, and a chunk waits while
+ * transcripts are queued for the next ingest batch. With sharding every shard
+ * has its own buckets and is purged in turn, its connections pinned to it.
+ */
+@Slf4j
+public class TranscriptRetentionPurger {
+
+    static final String TODAY = "SELECT DATEDIFF(DAY, DATE '1970-01-01', CURRENT_DATE)";
+
+    static final String SELECT_BUCKETS = """
+            SELECT DISTINCT bucket_day FROM transcripts WHERE bucket_day < ? ORDER BY bucket_day
+            """;
+
+    static final String SELECT_CHUNK = """
+            SELECT t.row_key, m.organizer_id FROM transcripts t LEFT JOIN meetings m ON m.id = t.meeting_id
+            WHERE t.bucket_day = ? AND t.row_key > ? ORDER BY t.row_key LIMIT ?
+            """;
+
+    static final String DELETE_ROW = "DELETE FROM transcripts WHERE row_key = ?";
+
+    static final String DELETE_BUCKET_CHUNK = "DELETE FROM transcripts WHERE bucket_day = ? FETCH FIRST ? ROWS ONLY";
+
+    static final String SELECT_DOCUMENTS = """
+            SELECT d.session_id, m.organizer_id FROM session_documents d LEFT JOIN meetings m ON m.id = d.meeting_id
+            WHERE d.bucket_day = ?
+            """;
+
+    static final String DELETE_DOCUMENT = "DELETE FROM session_documents WHERE session_id = ?";
+
+    private static final long MAX_INGEST_WAIT_MILLIS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionPolicy policy;
+    private final SegmentTranscriptArchive archive;
+    private final IntSupplier ingestBacklog;
+    // empty without sharding
+    private final List<String> shards;
+    private final long intervalMillis;
+    private final int chunkSize;
+    private final int maxRowsPerSecond;
+    private final Counter purged;
+
+    // first day on which a row kept in the bucket expires; buckets are not walked again before
+    private final Map<ShardBucket, Long> bucketsCleanUntil = new ConcurrentHashMap<>();
+
+    // written by the purging thread only
+    private volatile Instant lastPassStarted;
+    private volatile Instant lastPassFinished;
+    private volatile long passes;
+    private volatile long purgedRows;
+    private volatile long droppedSegments;
+    private volatile String currentShard;
+    private volatile Long currentBucket;
+    private volatile int bucketsPending;
+    private ScheduledExecutorService scheduler;
+
+    public TranscriptRetentionPurger(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            RetentionPolicy policy, SegmentTranscriptArchive archive, IntSupplier ingestBacklog, List<String> shards,
+            RetentionProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.policy = policy;
+        this.archive = archive;
+        this.ingestBacklog = ingestBacklog;
+        this.shards = List.copyOf(shards);
+        this.intervalMillis = properties.getInterval().toMillis();
+        this.chunkSize = properties.getChunkSize();
+        this.maxRowsPerSecond = properties.getMaxRowsPerSecond();
+        this.purged = Counter.builder("transcript.retention.purged")
+                .description("Transcripts deleted by the retention purge")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transcript-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::passSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** One pass over every expired bucket as of {@code today} (an epoch day); returns the rows deleted. */
+    long purge(long today) {
+        lastPassStarted = Instant.now();
+        long deleted = 0;
+        try {
+            if (shards.isEmpty()) {
+                deleted = purgeBuckets(null, today);
+            }
+            for (String shard : shards) {
+                currentShard = shard;
+                long[] shardDeleted = new long[1];
+                ShardRoutingDataSource.runOn(shard, () -> shardDeleted[0] = purgeBuckets(shard, today));
+                deleted += shardDeleted[0];
+            }
+            try {
+                droppedSegments += archive.dropExpired(today);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot drop expired archive segments", e);
+            }
+        } finally {
+            currentShard = null;
+            currentBucket = null;
+            passes++;
+            lastPassFinished = Instant.now();
+        }
+        if (deleted > 0) {
+            log.info("Retention purge finished: deleted={}", deleted);
+        }
+        return deleted;
+    }
+
+    Map<String, Object> progress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("policy", policy.describe());
+        progress.put("passes", passes);
+        progress.put("lastPassStarted", lastPassStarted);
+        progress.put("lastPassFinished", lastPassFinished);
+        progress.put("running", currentBucket != null);
+        progress.put("currentShard", currentShard);
+        progress.put("currentBucketDay", currentBucket);
+        progress.put("bucketsPending", bucketsPending);
+        progress.put("purgedRows", purgedRows);
+        progress.put("droppedSegments", droppedSegments);
+        return progress;
+    }
+
+    private long purgeBuckets(String shard, long today) {
+        long shortest = policy.shortestDays();
+        List<Long> buckets = shortest == RetentionPolicy.FOREVER
+                ? List.of()
+                : jdbcTemplate.queryForList(SELECT_BUCKETS, Long.class, today - shortest);
+        long longest = policy.longestDays();
+        long deleted = 0;
+        bucketsPending = buckets.size();
+        for (long bucket : buckets) {
+            currentBucket = bucket;
+            ShardBucket key = new ShardBucket(shard, bucket);
+            if (bucketsCleanUntil.getOrDefault(key, Long.MIN_VALUE) > today) {
+                bucketsPending--;
+                continue;
+            }
+            purgeDocuments(bucket, today);
+            deleted += longest != RetentionPolicy.FOREVER && bucket < today - longest
+                    ? purgeBucket(key)
+                    : purgeByOrganizer(key, today);
+            bucketsPending--;
+        }
+        return deleted;
+    }
+
+    private long purgeBucket(ShardBucket key) {
+        long bucket = key.bucket();
+        long deleted = 0;
+        int count;
+        do {
+            awaitIngest();
+            count = transactionTemplate.execute(status -> jdbcTemplate.update(DELETE_BUCKET_CHUNK, bucket, chunkSize));
+            deleted += record(count);
+        } while (count == chunkSize);
+        bucketsCleanUntil.remove(key);
+        return deleted;
+    }
+
+    private long purgeByOrganizer(ShardBucket key, long today) {
+        long bucket = key.bucket();
+        long deleted = 0;
+        long cursor = Long.MIN_VALUE;
+        long keptUntil = RetentionPolicy.FOREVER;
+        while (true) {
+            awaitIngest();
+            List<ChunkRow> chunk = jdbcTemplate.query(SELECT_CHUNK,
+                    (rs, row) -> new ChunkRow(rs.getLong("row_key"), rs.getObject("organizer_id", UUID.class)),
+                    bucket, cursor, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<Long> expired = new ArrayList<>(chunk.size());
+            for (ChunkRow row : chunk) {
+                long expiresOn = policy.expiresOn(row.organizerId(), bucket);
+                if (expiresOn <= today) {
+                    expired.add(row.rowKey());
+                } else {
+                    keptUntil = Math.min(keptUntil, expiresOn);
+                }
+            }
+            if (!expired.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(DELETE_ROW, expired,
+                        expired.size(), (ps, rowKey) -> ps.setLong(1, rowKey)));
+                deleted += record(expired.size());
+            }
+            cursor = chunk.get(chunk.size() - 1).rowKey();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        bucketsCleanUntil.put(key, keptUntil);
+        return deleted;
+    }
+
+    // one document per session, so a bucket has few enough to delete in one batch
+    private void purgeDocuments(long bucket, long today) {
+        List<UUID> expired = jdbcTemplate.query(SELECT_DOCUMENTS,
+                (rs, row) -> policy.expiresOn(rs.getObject("organizer_id", UUID.class), bucket) <= today
+                        ? rs.getObject("session_id", UUID.class)
+                        : null,
+                bucket).stream().filter(Objects::nonNull).toList();
+        if (!expired.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(DELETE_DOCUMENT, expired,
+                    expired.size(), (ps, sessionId) -> ps.setObject(1, sessionId)));
+        }
+    }
+
+    // counts the deleted rows and sleeps long enough to hold the configured rate
+    private int record(int deleted) {
+        purged.increment(deleted);
+        purgedRows += deleted;
+        if (deleted > 0 && maxRowsPerSecond > 0) {
+            sleep(deleted * 1000L / maxRowsPerSecond);
+        }
+        return deleted;
+    }
+
+    // chunks go between ingest batches: wait, up to a bound, until the write-behind queue has drained
+    private void awaitIngest() {
+        long waited = 0;
+        while (ingestBacklog.getAsInt() > 0 && waited < MAX_INGEST_WAIT_MILLIS) {
+            sleep(10);
+            waited += 10;
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Retention purge interrupted", e);
+        }
+    }
+
+    private record ChunkRow(long rowKey, UUID organizerId) {
+    }
+
+    // the shard is null without sharding
+    private record ShardBucket(String shard, long bucket) {
+    }
+
+    private void passSafely() {
+        try {
+            purge(jdbcTemplate.queryForObject(TODAY, Long.class));
+        } catch (RuntimeException e) {
+            log.warn("Retention purge failed", e);
+        }
+    }
+}
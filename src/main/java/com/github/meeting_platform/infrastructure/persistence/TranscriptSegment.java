@@ -0,0 +1,440 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+/**
+ * Immutable file of archived transcripts, sorted by (meetingId, sessionId,
+ * sequenceNumber) and read through a read-only memory mapping:
+ *
+ * <pre>
+ * "MSEG" | version (1) | entries | sparse index | bloom filter
+ *        | entry count (4) | session count (4) | index offset (8) | bloom offset (8) | "MSEG"
+ * entry: meetingId (16) | sessionId (16) | sequence number (4) | id (16) | flags (1) | [speakerId (16)]
+ *        | revision (4) | start ms (8) | end ms (8) | speaker name (2 + n) | [language (2 + n)] | content (4 + n)
+ * index: count (4) | (meetingId (16) | sessionId (16) | entry offset (8)) for every n-th entry
+ * bloom: hash count (4) | word count (4) | words (8 each), over (meetingId, sessionId)
+ * </pre>
+ *
+ * Content is kept as {@link TranscriptContentCodec} stores it in the table. A
+ * lookup asks the bloom filter, binary-searches the sparse index for the last
+ * entry before the wanted one and scans forward from there, so it touches a
+ * few pages of the mapping and never reads the file into the heap. The index
+ * is searched by the sequence number of the entry it points to as well, so a
+ * page of a long session starts near its first entry instead of the
+ * session's.
+ */
+final class TranscriptSegment {
+
+    static final int MAGIC = 0x4D534547;
+    static final byte VERSION = 1;
+    static final Comparator<Transcript> ORDER = Comparator.comparing(Transcript::getMeetingId)
+            .thenComparing(Transcript::getSessionId)
+            .thenComparingInt(Transcript::getSequenceNumber);
+
+    private static final int HEADER = 5;
+    private static final int FOOTER = 4 + 4 + 8 + 8 + 4;
+    private static final int INDEX_ENTRY = 16 + 16 + 8;
+    private static final int FLAG_FINAL = 1;
+    private static final int FLAG_SPEAKER_ID = 2;
+    private static final int FLAG_LANGUAGE = 4;
+
+    private final Path file;
+    private final ByteBuffer data;
+    private final int entryCount;
+    private final int sessionCount;
+    private final int entriesEnd;
+    private final int indexStart;
+    private final int indexCount;
+    private final int hashCount;
+    private final long[] bloom;
+
+    private TranscriptSegment(Path file, ByteBuffer data) throws IOException {
+        int footer = data.limit() - FOOTER;
+        if (footer < HEADER || data.getInt(0) != MAGIC || data.getInt(data.limit() - 4) != MAGIC) {
+            throw new IOException("Not a transcript segment: " + file);
+        }
+        if (data.get(4) != VERSION) {
+            throw new IOException("Unsupported transcript segment version " + data.get(4) + ": " + file);
+        }
+        this.file = file;
+        this.data = data;
+        this.entryCount = data.getInt(footer);
+        this.sessionCount = data.getInt(footer + 4);
+        this.entriesEnd = (int) data.getLong(footer + 8);
+        this.indexStart = entriesEnd + 4;
+        this.indexCount = data.getInt(entriesEnd);
+        int bloomOffset = (int) data.getLong(footer + 16);
+        this.hashCount = data.getInt(bloomOffset);
+        this.bloom = new long[data.getInt(bloomOffset + 4)];
+        for (int i = 0; i < bloom.length; i++) {
+            bloom[i] = data.getLong(bloomOffset + 8 + i * 8);
+        }
+    }
+
+    static TranscriptSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Transcript segment too large to map: " + file);
+            }
+            // the mapping stays valid after the channel is closed
+            return new TranscriptSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes the transcripts to {@code file} through a temporary file that is
+     * synced and then renamed, so a segment is either complete or absent.
+     */
+    static TranscriptSegment write(Path file, List<Transcript> transcripts, TranscriptContentCodec contentCodec,
+            int indexInterval, int bloomBitsPerSession) throws IOException {
+        List<Transcript> sorted = new ArrayList<>(transcripts);
+        sorted.sort(ORDER);
+        List<Transcript> firstOfSession = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i == 0 || !sameSession(sorted.get(i - 1), sorted.get(i))) {
+                firstOfSession.add(sorted.get(i));
+            }
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+
+            ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+            DataOutputStream index = new DataOutputStream(indexBytes);
+            int indexCount = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                Transcript transcript = sorted.get(i);
+                if (i % indexInterval == 0) {
+                    writeUuid(index, transcript.getMeetingId());
+                    writeUuid(index, transcript.getSessionId());
+                    index.writeLong(out.size());
+                    indexCount++;
+                }
+                writeEntry(out, transcript, contentCodec);
+            }
+
+            long indexOffset = out.size();
+            out.writeInt(indexCount);
+            indexBytes.writeTo(out);
+
+            long bloomOffset = out.size();
+            long[] bloom = new long[Math.max(1, (firstOfSession.size() * bloomBitsPerSession + 63) / 64)];
+            int hashCount = Math.max(1, Math.min(16, (int) Math.round(bloomBitsPerSession * Math.log(2))));
+            firstOfSession.forEach(t -> setBits(bloom, hashCount, hash(t.getMeetingId(), t.getSessionId())));
+            out.writeInt(hashCount);
+            out.writeInt(bloom.length);
+            for (long word : bloom) {
+                out.writeLong(word);
+            }
+
+            out.writeInt(sorted.size());
+            out.writeInt(firstOfSession.size());
+            out.writeLong(indexOffset);
+            out.writeLong(bloomOffset);
+            out.writeInt(MAGIC);
+            out.flush();
+            // size() stops counting at Integer.MAX_VALUE, beyond what a mapping can cover
+            if (out.size() == Integer.MAX_VALUE) {
+                throw new IOException("Transcript segment too large: " + file);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+        return open(file);
+    }
+
+    /** False if the session is certainly not in this segment. */
+    boolean mightContain(UUID meetingId, UUID sessionId) {
+        long hash = hash(meetingId, sessionId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long bits = bloom.length * 64L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bits;
+            if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Whether the session is in this segment; reads no more than the entries between two index points. */
+    boolean contains(UUID meetingId, UUID sessionId) {
+        if (!mightContain(meetingId, sessionId)) {
+            return false;
+        }
+        ByteBuffer in = data.duplicate();
+        in.position(scanStart(meetingId, sessionId, Long.MIN_VALUE));
+        while (in.position() < entriesEnd) {
+            int order = compare(in.getLong(), in.getLong(), in.getLong(), in.getLong(), meetingId, sessionId);
+            if (order >= 0) {
+                return order == 0;
+            }
+            skipEntry(in);
+        }
+        return false;
+    }
+
+    /** The session's transcripts in sequence order; speakers are shared within the result. */
+    List<Transcript> read(UUID meetingId, UUID sessionId, TranscriptContentCodec contentCodec) {
+        return scan(meetingId, sessionId, Long.MIN_VALUE, Integer.MAX_VALUE, contentCodec);
+    }
+
+    /** Up to {@code limit} of the session's transcripts after {@code afterSequence}, in sequence order. */
+    List<Transcript> readPage(UUID meetingId, UUID sessionId, int afterSequence, int limit,
+            TranscriptContentCodec contentCodec) {
+        return scan(meetingId, sessionId, afterSequence, limit, contentCodec);
+    }
+
+    /** The session's transcripts in sequence order, each decoded only when the stream reaches it. */
+    Stream<Transcript> stream(UUID meetingId, UUID sessionId, TranscriptContentCodec contentCodec) {
+        if (!mightContain(meetingId, sessionId)) {
+            return Stream.empty();
+        }
+        Cursor cursor = new Cursor(meetingId, sessionId, Long.MIN_VALUE, contentCodec);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    int entryCount() {
+        return entryCount;
+    }
+
+    int sessionCount() {
+        return sessionCount;
+    }
+
+    private List<Transcript> scan(UUID meetingId, UUID sessionId, long afterSequence, int limit,
+            TranscriptContentCodec contentCodec) {
+        if (limit <= 0 || !mightContain(meetingId, sessionId)) {
+            return List.of();
+        }
+        Cursor cursor = new Cursor(meetingId, sessionId, afterSequence, contentCodec);
+        List<Transcript> transcripts = new ArrayList<>();
+        while (transcripts.size() < limit && cursor.hasNext()) {
+            transcripts.add(cursor.next());
+        }
+        return transcripts;
+    }
+
+    /*
+     * Offset of the last indexed entry of an earlier session, or of this session up to afterSequence; the wanted
+     * entries cannot start before it. The sequence number is read from the entry the index points to.
+     */
+    private int scanStart(UUID meetingId, UUID sessionId, long afterSequence) {
+        int low = 0;
+        int high = indexCount - 1;
+        int start = HEADER;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int at = indexStart + mid * INDEX_ENTRY;
+            int order = compare(data.getLong(at), data.getLong(at + 8), data.getLong(at + 16), data.getLong(at + 24),
+                    meetingId, sessionId);
+            int entry = (int) data.getLong(at + 32);
+            if (order < 0 || (order == 0 && data.getInt(entry + 32) <= afterSequence)) {
+                start = entry;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return start;
+    }
+
+    private static void writeEntry(DataOutputStream out, Transcript transcript, TranscriptContentCodec contentCodec)
+            throws IOException {
+        Transcript.Speaker speaker = transcript.getSpeaker();
+        int flags = (transcript.isFinal() ? FLAG_FINAL : 0)
+                | (speaker.getId() != null ? FLAG_SPEAKER_ID : 0)
+                | (transcript.getLanguage() != null ? FLAG_LANGUAGE : 0);
+        writeUuid(out, transcript.getMeetingId());
+        writeUuid(out, transcript.getSessionId());
+        out.writeInt(transcript.getSequenceNumber());
+        writeUuid(out, transcript.getId());
+        out.writeByte(flags);
+        if (speaker.getId() != null) {
+            writeUuid(out, speaker.getId());
+        }
+        out.writeInt(transcript.getRevision());
+        out.writeLong(transcript.getStartOffset().toMillis());
+        out.writeLong(transcript.getEndOffset().toMillis());
+        writeShortString(out, speaker.getName());
+        if (transcript.getLanguage() != null) {
+            writeShortString(out, transcript.getLanguage());
+        }
+        byte[] content = contentCodec.encode(transcript.getContent());
+        out.writeInt(content.length);
+        out.write(content);
+    }
+
+    private static Transcript readEntry(ByteBuffer in, UUID meetingId, UUID sessionId,
+            TranscriptContentCodec contentCodec, Map<Transcript.Speaker, Transcript.Speaker> speakers) {
+        int sequenceNumber = in.getInt();
+        UUID id = new UUID(in.getLong(), in.getLong());
+        int flags = in.get();
+        UUID speakerId = (flags & FLAG_SPEAKER_ID) != 0 ? new UUID(in.getLong(), in.getLong()) : null;
+        int revision = in.getInt();
+        long startOffsetMillis = in.getLong();
+        long endOffsetMillis = in.getLong();
+        String speakerName = readShortString(in);
+        String language = (flags & FLAG_LANGUAGE) != 0 ? readShortString(in) : null;
+        byte[] content = new byte[in.getInt()];
+        in.get(content);
+
+        Transcript.Speaker speaker = speakers.computeIfAbsent(new Transcript.Speaker(speakerId, speakerName),
+                s -> s);
+        return new Transcript(id, meetingId, sessionId, sequenceNumber, speaker, contentCodec.decode(content),
+                language, startOffsetMillis, endOffsetMillis, revision, (flags & FLAG_FINAL) != 0);
+    }
+
+    // forward over the session's entries above afterSequence; an entry is decoded when it is asked for
+    private final class Cursor implements Iterator<Transcript> {
+
+        private final UUID meetingId;
+        private final UUID sessionId;
+        private final long afterSequence;
+        private final TranscriptContentCodec contentCodec;
+        private final Map<Transcript.Speaker, Transcript.Speaker> speakers = new HashMap<>();
+        private final ByteBuffer in = data.duplicate();
+        private Transcript next;
+        private boolean done;
+
+        Cursor(UUID meetingId, UUID sessionId, long afterSequence, TranscriptContentCodec contentCodec) {
+            this.meetingId = meetingId;
+            this.sessionId = sessionId;
+            this.afterSequence = afterSequence;
+            this.contentCodec = contentCodec;
+            in.position(scanStart(meetingId, sessionId, afterSequence));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !done && in.position() < entriesEnd) {
+                int order = compare(in.getLong(), in.getLong(), in.getLong(), in.getLong(), meetingId, sessionId);
+                if (order > 0) {
+                    done = true;
+                } else if (order < 0 || in.getInt(in.position()) <= afterSequence) {
+                    // the sequence number comes first after the session key
+                    skipEntry(in);
+                } else {
+                    next = readEntry(in, meetingId, sessionId, contentCodec, speakers);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Transcript next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Transcript transcript = next;
+            next = null;
+            return transcript;
+        }
+    }
+
+    // positioned after the session key
+    private static void skipEntry(ByteBuffer in) {
+        in.position(in.position() + 4 + 16);
+        int flags = in.get();
+        in.position(in.position() + ((flags & FLAG_SPEAKER_ID) != 0 ? 16 : 0) + 4 + 8 + 8);
+        in.position(in.position() + Short.toUnsignedInt(in.getShort()));
+        if ((flags & FLAG_LANGUAGE) != 0) {
+            in.position(in.position() + Short.toUnsignedInt(in.getShort()));
+        }
+        int contentLength = in.getInt();
+        in.position(in.position() + contentLength);
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static void writeShortString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("Value too long for a transcript segment: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readShortString(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // same order as UUID.compareTo, which sorts the entries
+    private static int compare(long meetingMost, long meetingLeast, long sessionMost, long sessionLeast,
+            UUID meetingId, UUID sessionId) {
+        int order = Long.compare(meetingMost, meetingId.getMostSignificantBits());
+        if (order == 0) {
+            order = Long.compare(meetingLeast, meetingId.getLeastSignificantBits());
+        }
+        if (order == 0) {
+            order = Long.compare(sessionMost, sessionId.getMostSignificantBits());
+        }
+        if (order == 0) {
+            order = Long.compare(sessionLeast, sessionId.getLeastSignificantBits());
+        }
+        return order;
+    }
+
+    private static boolean sameSession(Transcript a, Transcript b) {
+        return a.getMeetingId().equals(b.getMeetingId()) && a.getSessionId().equals(b.getSessionId());
+    }
+
+    private static void setBits(long[] bloom, int hashCount, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long bits = bloom.length * 64L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bits;
+            bloom[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private static long hash(UUID meetingId, UUID sessionId) {
+        long hash = Hashing.fmix64(meetingId.getMostSignificantBits());
+        hash = Hashing.fmix64(hash ^ meetingId.getLeastSignificantBits());
+        hash = Hashing.fmix64(hash ^ sessionId.getMostSignificantBits());
+        return Hashing.fmix64(hash ^ sessionId.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.github.meeting_platform.domain.service.TranscriptTailBuffer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator view of the in-memory tails of LIVE sessions
+ * ({@code /actuator/transcripttails}): memory held and hit ratio per session.
+ */
+@Endpoint(id = "transcripttails")
+@RequiredArgsConstructor
+public class TranscriptTailEndpoint {
+
+    private final TranscriptTailBuffer tailBuffer;
+
+    @ReadOperation
+    public Map<String, Object> tails() {
+        List<TranscriptTailBuffer.SessionTail> sessions = tailBuffer.snapshot();
+        long bytes = sessions.stream().mapToLong(TranscriptTailBuffer.SessionTail::bytes).sum();
+        return Map.of(
+                "enabled", tailBuffer.isEnabled(),
+                "bytes", bytes,
+                "liveSessions", sessions.size(),
+                "sessions", sessions);
+    }
+}
@@ -0,0 +1,36 @@
+-- Schema as previously generated by Hibernate from the entity mappings.
+
+CREATE TABLE meetings (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    room_name VARCHAR(255) NOT NULL,
+    organizer_id UUID,
+    organizer_name VARCHAR(255),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE sessions (
+    id UUID PRIMARY KEY,
+    meeting_id UUID NOT NULL,
+    status VARCHAR(16) NOT NULL CHECK (status IN ('LIVE', 'ENDED')),
+    started_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    ended_at TIMESTAMP(6) WITH TIME ZONE,
+    reason VARCHAR(255),
+    CONSTRAINT uk_sessions_id_meeting UNIQUE (id, meeting_id)
+);
+
+CREATE TABLE transcripts (
+    id UUID PRIMARY KEY,
+    meeting_id UUID NOT NULL,
+    session_id UUID NOT NULL,
+    sequence_number INTEGER NOT NULL,
+    speaker_id UUID,
+    speaker_name VARCHAR(255),
+    content TEXT NOT NULL,
+    language VARCHAR(255),
+    start_offset NUMERIC(21) NOT NULL,
+    end_offset NUMERIC(21) NOT NULL,
+    revision INTEGER DEFAULT 0 NOT NULL,
+    is_final BOOLEAN DEFAULT TRUE NOT NULL,
+    CONSTRAINT uk_transcripts_sequence UNIQUE (meeting_id, session_id, sequence_number)
+);
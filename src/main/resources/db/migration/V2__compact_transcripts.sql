@@ -0,0 +1,43 @@
+-- Speakers and languages move to dictionary tables referenced by small keys,
+-- offsets become whole milliseconds in BIGINT columns.
+
+CREATE TABLE speakers (
+    speaker_key INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    speaker_id UUID,
+    name VARCHAR(255),
+    CONSTRAINT uk_speakers_id_name UNIQUE (speaker_id, name)
+);
+
+CREATE TABLE languages (
+    language_code SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    tag VARCHAR(35) NOT NULL,
+    CONSTRAINT uk_languages_tag UNIQUE (tag)
+);
+
+INSERT INTO speakers (speaker_id, name)
+SELECT DISTINCT speaker_id, speaker_name FROM transcripts;
+
+INSERT INTO languages (tag)
+SELECT DISTINCT language FROM transcripts WHERE language IS NOT NULL;
+
+ALTER TABLE transcripts ADD COLUMN speaker_key INTEGER;
+ALTER TABLE transcripts ADD COLUMN language_code SMALLINT;
+ALTER TABLE transcripts ADD COLUMN start_offset_ms BIGINT;
+ALTER TABLE transcripts ADD COLUMN end_offset_ms BIGINT;
+
+UPDATE transcripts t SET
+    speaker_key = (SELECT s.speaker_key FROM speakers s
+                   WHERE s.speaker_id IS NOT DISTINCT FROM t.speaker_id AND s.name IS NOT DISTINCT FROM t.speaker_name),
+    language_code = (SELECT l.language_code FROM languages l WHERE l.tag = t.language),
+    start_offset_ms = CAST(FLOOR(t.start_offset / 1000000) AS BIGINT),
+    end_offset_ms = CAST(FLOOR(t.end_offset / 1000000) AS BIGINT);
+
+ALTER TABLE transcripts ALTER COLUMN speaker_key SET NOT NULL;
+ALTER TABLE transcripts ALTER COLUMN start_offset_ms SET NOT NULL;
+ALTER TABLE transcripts ALTER COLUMN end_offset_ms SET NOT NULL;
+
+ALTER TABLE transcripts DROP COLUMN speaker_id;
+ALTER TABLE transcripts DROP COLUMN speaker_name;
+ALTER TABLE transcripts DROP COLUMN language;
+ALTER TABLE transcripts DROP COLUMN start_offset;
+ALTER TABLE transcripts DROP COLUMN end_offset;
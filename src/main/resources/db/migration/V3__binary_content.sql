@@ -0,0 +1,10 @@
+-- Content becomes binary so it can hold compressed values. Existing rows are
+-- copied as plain UTF-8, which the content codec reads without a header.
+
+ALTER TABLE transcripts ADD COLUMN content_bytes VARBINARY;
+
+UPDATE transcripts SET content_bytes = STRINGTOUTF8(content);
+
+ALTER TABLE transcripts ALTER COLUMN content_bytes SET NOT NULL;
+ALTER TABLE transcripts DROP COLUMN content;
+ALTER TABLE transcripts ALTER COLUMN content_bytes RENAME TO content;
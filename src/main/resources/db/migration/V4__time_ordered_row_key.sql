@@ -0,0 +1,36 @@
+-- transcripts gets an insertion-ordered BIGINT primary key. H2 stores a table
+-- in the B-tree of its BIGINT primary key, so new rows are appended at the
+-- right edge instead of landing at random positions of a UUID index, and rows
+-- written around the same time share pages. transcriptId stays unique for
+-- idempotency. Existing rows are copied in (meeting, session, sequence)
+-- order, which leaves every stored session contiguous.
+
+ALTER TABLE transcripts DROP CONSTRAINT uk_transcripts_sequence;
+
+CREATE TABLE transcripts_ordered (
+    row_key BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id UUID NOT NULL,
+    meeting_id UUID NOT NULL,
+    session_id UUID NOT NULL,
+    sequence_number INTEGER NOT NULL,
+    speaker_key INTEGER NOT NULL,
+    content VARBINARY NOT NULL,
+    language_code SMALLINT,
+    start_offset_ms BIGINT NOT NULL,
+    end_offset_ms BIGINT NOT NULL,
+    revision INTEGER DEFAULT 0 NOT NULL,
+    is_final BOOLEAN DEFAULT TRUE NOT NULL,
+    CONSTRAINT uk_transcripts_id UNIQUE (id),
+    CONSTRAINT uk_transcripts_sequence UNIQUE (meeting_id, session_id, sequence_number)
+);
+
+INSERT INTO transcripts_ordered (id, meeting_id, session_id, sequence_number, speaker_key, content,
+        language_code, start_offset_ms, end_offset_ms, revision, is_final)
+SELECT id, meeting_id, session_id, sequence_number, speaker_key, content,
+        language_code, start_offset_ms, end_offset_ms, revision, is_final
+FROM transcripts
+ORDER BY meeting_id, session_id, sequence_number;
+
+DROP TABLE transcripts;
+
+ALTER TABLE transcripts_ordered RENAME TO transcripts;
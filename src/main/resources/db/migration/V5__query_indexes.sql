@@ -0,0 +1,10 @@
+-- Indexes for every repository query, checked by RepositoryQueryPlanTest.
+
+-- findActiveByMeetingId (status, meeting) and findAllByStatus (status prefix)
+CREATE INDEX idx_sessions_status_meeting ON sessions (status, meeting_id);
+
+-- id is the primary key already, so (id, meeting_id) only cost a second index write per session
+ALTER TABLE sessions DROP CONSTRAINT uk_sessions_id_meeting;
+
+-- transcripts: uk_transcripts_sequence (meeting_id, session_id, sequence_number) serves the ordered
+-- session read, the sequence number lookups and the upsert; uk_transcripts_id serves transcriptId.
@@ -0,0 +1,5 @@
+-- Meetings that live on another shard than the hash ring assigns (see ShardRebalancer); read on the home shard only.
+CREATE TABLE meeting_placements (
+    meeting_id UUID NOT NULL PRIMARY KEY,
+    shard VARCHAR(64) NOT NULL
+);
@@ -0,0 +1,5 @@
+-- Set once a session's transcripts have moved to an archive segment (see SessionArchiver).
+ALTER TABLE sessions ADD COLUMN archived_at TIMESTAMP(6) WITH TIME ZONE;
+
+-- the archiver's sweep: ENDED sessions not yet archived, oldest first
+CREATE INDEX idx_sessions_archive ON sessions (status, archived_at, ended_at);
@@ -0,0 +1,6 @@
+-- Retention bucket of every transcript: the day it was stored, in days since 1970-01-01. Rows of a
+-- bucket are contiguous in row_key order, so TranscriptRetentionPurger deletes an expired bucket as
+-- a range of the index below. Rows stored before this migration fall into the bucket of its day.
+ALTER TABLE transcripts ADD COLUMN bucket_day INTEGER DEFAULT DATEDIFF(DAY, DATE '1970-01-01', CURRENT_DATE) NOT NULL;
+
+CREATE INDEX idx_transcripts_bucket ON transcripts (bucket_day, row_key);
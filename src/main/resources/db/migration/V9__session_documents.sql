@@ -0,0 +1,18 @@
+-- One compacted document per ended session: its transcripts in sequence order, deflated into a single
+-- value, so a read of the session is one row instead of one row per transcript. The rows stay in
+-- transcripts, which remains the source of truth; a document marked stale is not served.
+-- bucket_day is the oldest retention bucket among the rows it was built from (see V8), so the
+-- retention purge drops the document no later than its first row.
+CREATE TABLE session_documents (
+    session_id UUID NOT NULL PRIMARY KEY,
+    meeting_id UUID NOT NULL,
+    transcript_count INTEGER NOT NULL,
+    document BLOB NOT NULL,
+    checksum BIGINT NOT NULL,
+    bucket_day INTEGER NOT NULL,
+    stale BOOLEAN DEFAULT FALSE NOT NULL,
+    compacted_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_session_documents_bucket ON session_documents (bucket_day);
+CREATE INDEX idx_session_documents_meeting ON session_documents (meeting_id);
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,7 +20,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.github.meeting_platform.domain.events.MeetingEndedEvent;
 import com.github.meeting_platform.domain.events.MeetingStartedEvent;
 import com.github.meeting_platform.domain.events.TranscriptAddedEvent;
+import com.github.meeting_platform.common.exceptions.SessionNotFoundException;
 import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.TranscriptWriteBehindBuffer;
 import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
 import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
 import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
@@ -30,6 +33,9 @@ class MeetingEventHandlerTest {
     @Mock
     MeetingService meetingService;
 
+    @Mock
+    TranscriptWriteBehindBuffer writeBehind;
+
     @InjectMocks
     MeetingEventHandler handler;
 
@@ -203,6 +209,51 @@ class MeetingEventHandlerTest {
 
             assertThrows(RuntimeException.class, () -> handler.handle(event));
         }
+
+        @Test
+        void shouldWaitForGroupCommitWhenWriteBehindEnabled() {
+            TranscriptAddedEvent event = new TranscriptAddedEvent(
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    1,
+                    UUID.randomUUID(),
+                    "speaker",
+                    "content",
+                    Duration.ZERO,
+                    Duration.ZERO,
+                    "en");
+            when(writeBehind.isEnabled()).thenReturn(true);
+            when(writeBehind.submit(any(AddTranscriptCommand.class)))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            handler.handle(event);
+
+            ArgumentCaptor<AddTranscriptCommand> captor = ArgumentCaptor.forClass(AddTranscriptCommand.class);
+            verify(writeBehind).submit(captor.capture());
+            assertEquals(event.getId(), captor.getValue().getTranscriptId());
+            verify(meetingService, never()).addTranscript(any());
+        }
+
+        @Test
+        void shouldRethrowCauseWhenGroupCommitRejectsTranscript() {
+            TranscriptAddedEvent event = new TranscriptAddedEvent(
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    1,
+                    UUID.randomUUID(),
+                    "speaker",
+                    "content",
+                    Duration.ZERO,
+                    Duration.ZERO,
+                    "en");
+            when(writeBehind.isEnabled()).thenReturn(true);
+            when(writeBehind.submit(any(AddTranscriptCommand.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new SessionNotFoundException("Session not found")));
+
+            assertThrows(SessionNotFoundException.class, () -> handler.handle(event));
+        }
     }
 
     // ============================================================
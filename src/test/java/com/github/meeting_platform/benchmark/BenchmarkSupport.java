@@ -0,0 +1,49 @@
+package com.github.meeting_platform.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Shared helpers for the benchmark suite. Benchmarks are JUnit tests tagged
+ * {@code benchmark}; they are excluded from {@code ./gradlew test} and run with
+ * {@code ./gradlew benchmark}. Sizes can be overridden with {@code -Dbench.<name>=<value>}.
+ */
+final class BenchmarkSupport {
+
+    // keeps benchmark results reachable so the JIT cannot drop the measured work
+    static volatile Object sink;
+
+    private BenchmarkSupport() {
+    }
+
+    static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger("bench." + name, defaultValue);
+    }
+
+    static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    /** Average bytes allocated by the current thread per invocation of {@code work}. */
+    static double bytesPerOp(int iterations, Supplier<?> work) {
+        long before = allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            sink = work.get();
+        }
+        return (double) (allocatedBytes() - before) / iterations;
+    }
+
+    /** Average wall-clock nanoseconds per invocation of {@code work}. */
+    static double nanosPerOp(int iterations, Runnable work) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            work.run();
+        }
+        return (double) (System.nanoTime() - start) / iterations;
+    }
+
+    static void report(String benchmark, String variant, String metric, double value, String unit) {
+        System.out.printf("%-32s %-28s %-22s %,16.2f %s%n", benchmark, variant, metric, value, unit);
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.meeting_platform.benchmark;
+
+import static com.github.meeting_platform.benchmark.BenchmarkSupport.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import com.github.meeting_platform.infrastructure.config.ContentCompressionProperties;
+import com.github.meeting_platform.infrastructure.persistence.TranscriptContentCodec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Stored size and encode/decode time of transcript content, with and without a
+ * dictionary trained on other chunks of the same kind of conversation.
+ */
+@Tag("benchmark")
+class ContentCompressionBenchmark {
+
+    private static final String[] UTTERANCES = {
+            "Okay, I think everyone has joined, so let's get started with the weekly sync.",
+            "Before we dive in, can everyone see my screen? I'm sharing the project dashboard now.",
+            "Yes, I can see it. The numbers for last week look a lot better than I expected.",
+            "Right, so the main update is that the migration to the new billing service is finished.",
+            "We still have a couple of edge cases around refunds that we need to look at this week.",
+            "I can take the refund issues, I already looked at two of them on Friday.",
+            "Great, thanks. Let's make sure we add tests for those before we close the tickets.",
+            "On the customer side, we had three escalations, all related to the login problems on mobile.",
+            "Do we know if that's the same root cause as the outage two weeks ago?",
+            "It looks like it, the session tokens expire too early when the app is in the background.",
+            "Okay, so action item for the mobile team: extend the token refresh and add monitoring.",
+            "Let me also remind everyone that the quarterly planning is next Tuesday afternoon.",
+            "Please have your proposals in the shared document by Monday end of day.",
+            "Sorry, I missed that, could you repeat the deadline for the proposals?",
+            "Monday end of day, and keep them to one page if you can, with a rough estimate.",
+            "Sounds good. Should we also include the infrastructure costs in the estimate?",
+            "Yes, at least a ballpark number, finance asked for it last quarter as well.",
+            "Anything else on the agenda, or should we wrap up a few minutes early today?",
+            "Just one thing from me, the design review for the new onboarding flow moved to Thursday.",
+            "Thanks everyone, that's it for today. I'll send the notes and action items after the call.",
+    };
+
+    @Test
+    void realisticTranscriptCompression() {
+        int chunks = intProperty("chunks", 20_000);
+        int maxUtterances = intProperty("maxUtterances", 3);
+        Random random = new Random(42);
+        List<String> training = chunks(random, 2_000, maxUtterances);
+        List<String> content = chunks(random, chunks, maxUtterances);
+        byte[] dictionary = TranscriptContentCodec.trainDictionary(training, 4 * 1024);
+
+        measure("plain", codec(false, null), content);
+        measure("deflate level 1", codec(true, null), content);
+        measure("deflate + trained dictionary", codec(true, dictionary), content);
+    }
+
+    private static void measure(String variant, TranscriptContentCodec codec, List<String> content) {
+        long plainBytes = 0;
+        long storedBytes = 0;
+        List<byte[]> stored = new ArrayList<>(content.size());
+        for (String chunk : content) {
+            byte[] encoded = codec.encode(chunk);
+            stored.add(encoded);
+            plainBytes += chunk.getBytes(StandardCharsets.UTF_8).length;
+            storedBytes += encoded.length;
+        }
+
+        int[] next = { 0 };
+        double encodeNanos = nanosPerOp(content.size(), () -> sink = codec.encode(content.get(next[0]++)));
+        next[0] = 0;
+        double decodeNanos = nanosPerOp(stored.size(), () -> sink = codec.decode(stored.get(next[0]++)));
+
+        report("content-compression", variant, "ratio", (double) plainBytes / storedBytes, "x");
+        report("content-compression", variant, "bytes/chunk", (double) storedBytes / content.size(), "B");
+        report("content-compression", variant, "encode", encodeNanos, "ns");
+        report("content-compression", variant, "decode", decodeNanos, "ns");
+    }
+
+    private static TranscriptContentCodec codec(boolean enabled, byte[] dictionary) {
+        ContentCompressionProperties properties = new ContentCompressionProperties();
+        properties.setEnabled(enabled);
+        if (dictionary != null) {
+            properties.setDictionary(new ByteArrayResource(dictionary));
+        }
+        return new TranscriptContentCodec(properties, new SimpleMeterRegistry());
+    }
+
+    private static List<String> chunks(Random random, int count, int maxUtterances) {
+        List<String> chunks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder chunk = new StringBuilder();
+            int utterances = 1 + random.nextInt(maxUtterances);
+            for (int u = 0; u < utterances; u++) {
+                if (u > 0) {
+                    chunk.append(' ');
+                }
+                chunk.append(UTTERANCES[random.nextInt(UTTERANCES.length)]);
+            }
+            chunks.add(chunk.toString());
+        }
+        return chunks;
+    }
+}
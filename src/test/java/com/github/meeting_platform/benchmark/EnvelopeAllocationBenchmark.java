@@ -0,0 +1,101 @@
+package com.github.meeting_platform.benchmark;
+
+import static com.github.meeting_platform.benchmark.BenchmarkSupport.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.github.meeting_platform.domain.envelope.TranscriptEnvelope;
+import com.github.meeting_platform.domain.events.TranscriptAddedEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+import com.github.meeting_platform.infrastructure.dto.MeetingTranscriptWebhookRequest;
+
+/**
+ * Bytes allocated per transcript between the decoded webhook DTO and the
+ * entity handed to JPA: field-by-field copies versus one shared envelope.
+ */
+@Tag("benchmark")
+class EnvelopeAllocationBenchmark {
+
+    // shapes of the event and command before they became views over the envelope
+    private record CopiedEvent(UUID id, UUID meetingId, UUID sessionId, int sequenceNumber, UUID speakerId,
+            String speakerName, String content, Duration startOffset, Duration endOffset, String language) {
+    }
+
+    private record CopiedCommand(UUID meetingId, UUID sessionId, UUID transcriptId, int sequenceNumber,
+            UUID speakerId, String speakerName, String content, Duration startOffset, Duration endOffset,
+            String language) {
+    }
+
+    @Test
+    void perEventAllocation() {
+        MeetingTranscriptWebhookRequest request = sampleRequest();
+        int iterations = intProperty("iterations", 2_000_000);
+
+        for (int i = 0; i < 5; i++) {
+            bytesPerOp(iterations / 10, () -> copyPipeline(request));
+            bytesPerOp(iterations / 10, () -> envelopePipeline(request));
+        }
+
+        double copied = bytesPerOp(iterations, () -> copyPipeline(request));
+        double shared = bytesPerOp(iterations, () -> envelopePipeline(request));
+
+        report("envelope-allocation", "field copies", "bytes/event", copied, "B");
+        report("envelope-allocation", "shared envelope", "bytes/event", shared, "B");
+        report("envelope-allocation", "saved", "bytes/event", copied - shared, "B");
+
+        assertTrue(shared < copied, "envelope pipeline should allocate less per event");
+    }
+
+    private static Transcript copyPipeline(MeetingTranscriptWebhookRequest request) {
+        var data = request.getData();
+        var event = new CopiedEvent(data.getTranscriptId(), request.getMeeting().getId(),
+                request.getMeeting().getSessionId(), data.getSequenceNumber(), data.getSpeaker().getId(),
+                data.getSpeaker().getName(), data.getContent(), Duration.ofSeconds(data.getStartOffset()),
+                Duration.ofSeconds(data.getEndOffset()), data.getLanguage());
+        var command = new CopiedCommand(event.meetingId(), event.sessionId(), event.id(), event.sequenceNumber(),
+                event.speakerId(), event.speakerName(), event.content(), event.startOffset(), event.endOffset(),
+                event.language());
+        return new Transcript(command.transcriptId(), command.meetingId(), command.sessionId(),
+                command.sequenceNumber(), command.speakerId(), command.speakerName(), command.content(),
+                command.language(), command.startOffset(), command.endOffset());
+    }
+
+    private static Transcript envelopePipeline(MeetingTranscriptWebhookRequest request) {
+        var data = request.getData();
+        var event = new TranscriptAddedEvent(new TranscriptEnvelope(data.getTranscriptId(),
+                request.getMeeting().getId(), request.getMeeting().getSessionId(), data.getSequenceNumber(),
+                data.getSpeaker().getId(), data.getSpeaker().getName(), data.getContent(),
+                Duration.ofSeconds(data.getStartOffset()), Duration.ofSeconds(data.getEndOffset()),
+                data.getLanguage()));
+        var command = new AddTranscriptCommand(event.getEnvelope());
+        return Transcript.from(command.getEnvelope());
+    }
+
+    private static MeetingTranscriptWebhookRequest sampleRequest() {
+        var meeting = new MeetingTranscriptWebhookRequest.Meeting();
+        meeting.setId(UUID.randomUUID());
+        meeting.setSessionId(UUID.randomUUID());
+        var speaker = new MeetingTranscriptWebhookRequest.Speaker();
+        speaker.setId(UUID.randomUUID());
+        speaker.setName("Alice");
+        var data = new MeetingTranscriptWebhookRequest.TranscriptData();
+        data.setTranscriptId(UUID.randomUUID());
+        data.setSequenceNumber(42);
+        data.setSpeaker(speaker);
+        data.setContent("Let's go over the quarterly numbers before we wrap up.");
+        data.setStartOffset(754);
+        data.setEndOffset(758);
+        data.setLanguage("en");
+        var request = new MeetingTranscriptWebhookRequest();
+        request.setEvent("meeting.transcript");
+        request.setMeeting(meeting);
+        request.setData(data);
+        return request;
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.meeting_platform.benchmark;
+
+import static com.github.meeting_platform.benchmark.BenchmarkSupport.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Ingest throughput, file size and reopen time of the file-backed H2
+ * database under the settings of the {@code persistent} profile and a few
+ * alternatives. Each variant migrates a fresh file, ingests transcripts in
+ * committed batches of the write-behind size, then reopens the file after a
+ * clean {@code SHUTDOWN} and after {@code SHUTDOWN IMMEDIATELY}, which drops
+ * whatever was not written yet, as a killed process would; the rows missing
+ * after the second reopen are what that variant loses on a crash.
+ */
+@Tag("benchmark")
+class H2StorageBenchmark {
+
+    private static final String INSERT = """
+            INSERT INTO transcripts (id, meeting_id, session_id, sequence_number, speaker_key, content,
+                    language_code, start_offset_ms, end_offset_ms, revision, is_final)
+            VALUES (?, ?, ?, ?, ?, ?, 1, ?, ?, 0, TRUE)""";
+
+    @Test
+    void storageSettings() throws IOException {
+        int rows = intProperty("rows", 200_000);
+        int batchSize = intProperty("batchSize", 64);
+
+        run("defaults", "", rows, batchSize);
+        run("persistent profile",
+                ";CACHE_SIZE=65536;WRITE_DELAY=100;AUTO_COMPACT_FILL_RATE=80;MAX_COMPACT_TIME=2000", rows, batchSize);
+        run("write-through", ";CACHE_SIZE=65536;WRITE_DELAY=0;AUTO_COMPACT_FILL_RATE=80;MAX_COMPACT_TIME=2000",
+                rows, batchSize);
+        run("small cache", ";CACHE_SIZE=4096;WRITE_DELAY=100;AUTO_COMPACT_FILL_RATE=80;MAX_COMPACT_TIME=2000",
+                rows, batchSize);
+    }
+
+    private static void run(String variant, String settings, int rows, int batchSize) throws IOException {
+        Path directory = Files.createTempDirectory("h2-storage");
+        String url = "jdbc:h2:file:" + directory.resolve("db") + settings;
+        try {
+            SingleConnectionDataSource dataSource = open(url);
+            Flyway.configure().dataSource(dataSource).load().migrate();
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            Ingest ingest = new Ingest();
+
+            double nanosPerBatch = nanosPerOp(rows / batchSize, () -> ingest.batch(jdbc, batchSize));
+            double shutdownNanos = nanosPerOp(1, () -> jdbc.execute("SHUTDOWN"));
+            dataSource.destroy();
+            long bytes = Files.size(directory.resolve("db.mv.db"));
+
+            double reopenNanos = nanosPerOp(1, () -> count(url));
+            dataSource = open(url);
+            JdbcTemplate reopened = new JdbcTemplate(dataSource);
+            // a short burst right before the crash, as under steady ingest
+            for (int i = 0; i < 10; i++) {
+                ingest.batch(reopened, batchSize);
+            }
+            reopened.execute("SHUTDOWN IMMEDIATELY");
+            dataSource.destroy();
+            long[] recovered = new long[1];
+            double recoveryNanos = nanosPerOp(1, () -> recovered[0] = count(url));
+
+            report("h2-storage", variant, "ingest", nanosPerBatch / batchSize, "ns/row");
+            report("h2-storage", variant, "stored", (double) bytes / rows, "B/row");
+            report("h2-storage", variant, "clean shutdown", shutdownNanos / 1_000_000, "ms");
+            report("h2-storage", variant, "reopen", reopenNanos / 1_000_000, "ms");
+            report("h2-storage", variant, "reopen after crash", recoveryNanos / 1_000_000, "ms");
+            report("h2-storage", variant, "rows lost in crash", ingest.written - recovered[0], "rows");
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static SingleConnectionDataSource open(String url) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, "sa", "", true);
+        dataSource.setAutoCommit(false);
+        return dataSource;
+    }
+
+    private static long count(String url) {
+        SingleConnectionDataSource dataSource = open(url);
+        try {
+            return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM transcripts", Long.class);
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    /** Transcripts of a few dozen concurrently live sessions, committed one batch per transaction. */
+    private static final class Ingest {
+
+        private final Random random = new Random(7);
+        private final byte[] content = new byte[96];
+        private final UUID[] sessions = new UUID[50];
+        private final int[] sequences = new int[sessions.length];
+        private final UUID meetingId = UUID.randomUUID();
+        private long written;
+
+        Ingest() {
+            random.nextBytes(content);
+            for (int s = 0; s < sessions.length; s++) {
+                sessions[s] = UUID.randomUUID();
+            }
+        }
+
+        void batch(JdbcTemplate jdbc, int batchSize) {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                int s = random.nextInt(sessions.length);
+                int sequence = ++sequences[s];
+                batch.add(new Object[] { UUID.randomUUID(), meetingId, sessions[s], sequence, s, content,
+                        sequence * 2_000L, sequence * 2_000L + 2_000 });
+            }
+            jdbc.batchUpdate(INSERT, batch);
+            jdbc.execute("COMMIT");
+            written += batchSize;
+        }
+    }
+}
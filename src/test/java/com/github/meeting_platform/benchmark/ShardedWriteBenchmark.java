@@ -0,0 +1,109 @@
+package com.github.meeting_platform.benchmark;
+
+import static com.github.meeting_platform.benchmark.BenchmarkSupport.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.domain.repository.MeetingScope;
+import com.github.meeting_platform.infrastructure.persistence.ShardRing;
+import com.github.meeting_platform.infrastructure.persistence.ShardRouter;
+import com.github.meeting_platform.infrastructure.persistence.ShardRoutingDataSource;
+
+/**
+ * Transcript insert throughput through {@link ShardRoutingDataSource} with 1,
+ * 2 and 4 embedded H2 shards and the same number of writer threads per run.
+ * Each writer commits batches for random meetings in the meeting's scope, as
+ * the write-behind buffer does. Scaling is bounded by the cores available:
+ * run with at least as many writers as shards times two.
+ */
+@Tag("benchmark")
+class ShardedWriteBenchmark {
+
+    private static final String INSERT = """
+            INSERT INTO transcripts (id, meeting_id, session_id, sequence_number, speaker_key, content,
+                    language_code, start_offset_ms, end_offset_ms, revision, is_final)
+            VALUES (?, ?, ?, ?, 1, ?, 1, ?, ?, 0, TRUE)""";
+
+    @Test
+    void writeScaling() throws InterruptedException {
+        int writers = intProperty("writers", 8);
+        int batchesPerWriter = intProperty("batchesPerWriter", 2_000);
+        int batchSize = intProperty("batchSize", 32);
+
+        double single = 0;
+        for (int shards : new int[] { 1, 2, 4 }) {
+            double rowsPerSecond = run(shards, writers, batchesPerWriter, batchSize);
+            if (shards == 1) {
+                single = rowsPerSecond;
+            }
+            report("sharded-write", shards + " shard(s)", "throughput", rowsPerSecond, "rows/s");
+            report("sharded-write", shards + " shard(s)", "scaling", rowsPerSecond / single, "x");
+        }
+    }
+
+    private static double run(int shardCount, int writers, int batchesPerWriter, int batchSize)
+            throws InterruptedException {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (int i = 0; i < shardCount; i++) {
+            String name = "shard-" + i;
+            DataSource shard = DataSourceBuilder.create()
+                    .url("jdbc:h2:mem:sharded-write-" + shardCount + "-" + i + ";DB_CLOSE_DELAY=-1")
+                    .username("sa")
+                    .password("")
+                    .build();
+            Flyway.configure().dataSource(shard).load().migrate();
+            shards.put(name, shard);
+        }
+        ShardRouter router = new ShardRouter(new ShardRing(new ArrayList<>(shards.keySet()), 160));
+        try (ShardRoutingDataSource dataSource = new ShardRoutingDataSource(router, shards)) {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            List<UUID> meetings = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                meetings.add(UUID.randomUUID());
+            }
+            byte[] content = new byte[96];
+
+            ExecutorService pool = Executors.newFixedThreadPool(writers);
+            long start = System.nanoTime();
+            for (int w = 0; w < writers; w++) {
+                pool.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int b = 0; b < batchesPerWriter; b++) {
+                        UUID meetingId = meetings.get(random.nextInt(meetings.size()));
+                        UUID sessionId = UUID.randomUUID();
+                        List<Object[]> batch = new ArrayList<>(batchSize);
+                        for (int s = 1; s <= batchSize; s++) {
+                            batch.add(new Object[] { UUID.randomUUID(), meetingId, sessionId, s, content,
+                                    s * 2_000L, s * 2_000L + 2_000 });
+                        }
+                        MeetingScope.run(meetingId,
+                                () -> tx.executeWithoutResult(status -> jdbc.batchUpdate(INSERT, batch)));
+                    }
+                });
+            }
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.HOURS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return (double) writers * batchesPerWriter * batchSize / seconds;
+        }
+    }
+}
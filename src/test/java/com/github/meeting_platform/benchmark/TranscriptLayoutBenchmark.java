@@ -0,0 +1,133 @@
+package com.github.meeting_platform.benchmark;
+
+import static com.github.meeting_platform.benchmark.BenchmarkSupport.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Insert cost, stored size and session read latency of the transcripts table
+ * keyed by the provider's random UUID versus keyed by an insertion-ordered
+ * BIGINT with the UUID as a unique secondary key (the layout of V4).
+ * <p>
+ * H2 does not report page splits; bytes per row is the proxy, since leaves
+ * split at random positions stay about half full. Rows arrive round-robin
+ * across concurrently live sessions, as they do in production. The default
+ * size runs in a minute; use {@code -Dbench.rows=20000000} for the
+ * tens-of-millions case.
+ */
+@Tag("benchmark")
+class TranscriptLayoutBenchmark {
+
+    private static final String UUID_KEYED = """
+            CREATE TABLE transcripts_uuid (
+                id UUID PRIMARY KEY,
+                meeting_id UUID NOT NULL,
+                session_id UUID NOT NULL,
+                sequence_number INTEGER NOT NULL,
+                speaker_key INTEGER NOT NULL,
+                content VARBINARY NOT NULL,
+                start_offset_ms BIGINT NOT NULL,
+                end_offset_ms BIGINT NOT NULL,
+                UNIQUE (meeting_id, session_id, sequence_number)
+            )""";
+
+    private static final String ROW_KEYED = """
+            CREATE TABLE transcripts_ordered (
+                row_key BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                id UUID NOT NULL UNIQUE,
+                meeting_id UUID NOT NULL,
+                session_id UUID NOT NULL,
+                sequence_number INTEGER NOT NULL,
+                speaker_key INTEGER NOT NULL,
+                content VARBINARY NOT NULL,
+                start_offset_ms BIGINT NOT NULL,
+                end_offset_ms BIGINT NOT NULL,
+                UNIQUE (meeting_id, session_id, sequence_number)
+            )""";
+
+    @Test
+    void uuidKeyVersusOrderedRowKey() throws IOException {
+        int rows = intProperty("rows", 1_000_000);
+        int liveSessions = intProperty("liveSessions", 200);
+        int sessionReads = intProperty("sessionReads", 200);
+        Path directory = Files.createTempDirectory("transcript-layout");
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:file:" + directory.resolve("layout") + ";CACHE_SIZE=65536", "sa", "", true);
+        try {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute(UUID_KEYED);
+            jdbc.execute(ROW_KEYED);
+
+            run(jdbc, "transcripts_uuid", "uuid primary key", rows, liveSessions, sessionReads);
+            run(jdbc, "transcripts_ordered", "ordered row key", rows, liveSessions, sessionReads);
+        } finally {
+            dataSource.destroy();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void run(JdbcTemplate jdbc, String table, String variant, int rows, int liveSessions,
+            int sessionReads) {
+        String insert = "INSERT INTO " + table + " (id, meeting_id, session_id, sequence_number, speaker_key, "
+                + "content, start_offset_ms, end_offset_ms) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        Random random = new Random(7);
+        byte[] content = new byte[96];
+        random.nextBytes(content);
+        UUID[] meetings = new UUID[liveSessions];
+        UUID[] sessions = new UUID[liveSessions];
+        int[] sequences = new int[liveSessions];
+        List<UUID[]> finished = new ArrayList<>();
+        for (int s = 0; s < liveSessions; s++) {
+            meetings[s] = UUID.randomUUID();
+            sessions[s] = UUID.randomUUID();
+        }
+
+        int batchSize = 1_000;
+        double nanosPerBatch = nanosPerOp(rows / batchSize, () -> {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                int s = random.nextInt(liveSessions);
+                int sequence = ++sequences[s];
+                batch.add(new Object[] { UUID.randomUUID(), meetings[s], sessions[s], sequence, s, content,
+                        sequence * 2_000L, sequence * 2_000L + 2_000 });
+                // sessions end after a few thousand chunks and a new one takes the slot
+                if (sequence == 5_000) {
+                    finished.add(new UUID[] { meetings[s], sessions[s] });
+                    meetings[s] = UUID.randomUUID();
+                    sessions[s] = UUID.randomUUID();
+                    sequences[s] = 0;
+                }
+            }
+            jdbc.batchUpdate(insert, batch);
+        });
+        jdbc.execute("CHECKPOINT");
+        Long bytes = jdbc.queryForObject("CALL DISK_SPACE_USED('" + table.toUpperCase() + "')", Long.class);
+
+        List<UUID[]> reads = finished.isEmpty() ? List.of(new UUID[] { meetings[0], sessions[0] }) : finished;
+        String select = "SELECT id, sequence_number, speaker_key, content, start_offset_ms, end_offset_ms FROM "
+                + table + " WHERE meeting_id = ? AND session_id = ? ORDER BY sequence_number";
+        int[] next = { 0 };
+        double nanosPerRead = nanosPerOp(sessionReads, () -> {
+            UUID[] session = reads.get(next[0]++ % reads.size());
+            sink = jdbc.queryForList(select, session[0], session[1]);
+        });
+
+        report("transcript-layout", variant, "insert", nanosPerBatch / batchSize, "ns/row");
+        report("transcript-layout", variant, "stored", (double) bytes / rows, "B/row");
+        report("transcript-layout", variant, "session read", nanosPerRead / 1_000_000, "ms");
+    }
+}
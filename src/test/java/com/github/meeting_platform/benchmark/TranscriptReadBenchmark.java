@@ -0,0 +1,91 @@
+package com.github.meeting_platform.benchmark;
+
+import static com.github.meeting_platform.benchmark.BenchmarkSupport.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+
+/**
+ * Read cost and storage size of one long session in the compact transcript
+ * layout (speaker and language keys, millisecond offsets).
+ */
+@Tag("benchmark")
+@SpringBootTest
+class TranscriptReadBenchmark {
+
+    private static final String[] SPEAKERS = { "Alice", "Bob", "Carol", "Dave", "Erin" };
+
+    @Autowired
+    TranscriptRepository transcriptRepository;
+
+    @Autowired
+    TranscriptStore transcriptStore;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void longSessionReadCost() {
+        int chunks = intProperty("chunks", 10_000);
+        int reads = intProperty("reads", 20);
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        write(meetingId, sessionId, chunks);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        Runnable read = () -> sink = tx.execute(status -> StreamSupport.stream(
+                transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId)
+                        .spliterator(), false).toList());
+
+        nanosPerOp(Math.max(1, reads / 4), read);
+        double nanos = nanosPerOp(reads, read);
+        double bytes = bytesPerOp(reads, () -> {
+            read.run();
+            return sink;
+        });
+        // the table may also hold rows of other benchmarks sharing the context
+        Long tableBytes = jdbcTemplate.queryForObject("CALL DISK_SPACE_USED('TRANSCRIPTS')", Long.class);
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transcripts", Long.class);
+
+        report("transcript-read", chunks + " chunks", "ms/session read", nanos / 1_000_000, "ms");
+        report("transcript-read", chunks + " chunks", "bytes allocated/row", bytes / chunks, "B");
+        report("transcript-read", chunks + " chunks", "bytes stored/row", (double) tableBytes / rows, "B");
+    }
+
+    private void write(UUID meetingId, UUID sessionId, int chunks) {
+        UUID[] speakerIds = new UUID[SPEAKERS.length];
+        for (int i = 0; i < speakerIds.length; i++) {
+            speakerIds[i] = UUID.randomUUID();
+        }
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < chunks; from += 500) {
+            List<Transcript> batch = new ArrayList<>(500);
+            for (int sequence = from; sequence < Math.min(chunks, from + 500); sequence++) {
+                int speaker = sequence % SPEAKERS.length;
+                batch.add(new Transcript(UUID.randomUUID(), meetingId, sessionId, sequence, speakerIds[speaker],
+                        SPEAKERS[speaker], "Let's go over the quarterly numbers before we wrap up.", "en",
+                        Duration.ofSeconds(sequence * 2L), Duration.ofSeconds(sequence * 2L + 2)));
+            }
+            tx.executeWithoutResult(status -> transcriptStore.write(batch));
+        }
+    }
+}
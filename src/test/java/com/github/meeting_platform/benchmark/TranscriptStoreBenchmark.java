@@ -0,0 +1,109 @@
+package com.github.meeting_platform.benchmark;
+
+import static com.github.meeting_platform.benchmark.BenchmarkSupport.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.InMemoryTranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.JdbcTranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.JpaTranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.LanguageDictionary;
+import com.github.meeting_platform.infrastructure.persistence.SpeakerDictionary;
+import com.github.meeting_platform.infrastructure.persistence.TranscriptContentCodec;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Append and session-read cost of the three {@link TranscriptStore} engines,
+ * each run through the same transaction template: the database engines against
+ * the embedded database, the in-memory one on its own.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class TranscriptStoreBenchmark {
+
+    private static final UUID MEETING_ID = UUID.randomUUID();
+
+    @Autowired
+    TranscriptRepository transcriptRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    SpeakerDictionary speakers;
+
+    @Autowired
+    LanguageDictionary languages;
+
+    @Autowired
+    TranscriptContentCodec contentCodec;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void appendAndReadCostPerEngine() {
+        int batches = intProperty("batches", 200);
+        int batchSize = intProperty("batchSize", 32);
+        int reads = intProperty("reads", 200);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        List<TranscriptStore> stores = List.of(
+                new JpaTranscriptStore(transcriptRepository, speakers, languages, entityManager),
+                new JdbcTranscriptStore(jdbcTemplate, speakers, languages, contentCodec),
+                new InMemoryTranscriptStore());
+        List<String> names = List.of("jpa", "jdbc", "memory");
+
+        for (int i = 0; i < stores.size(); i++) {
+            TranscriptStore store = stores.get(i);
+            // warm-up on a separate session
+            append(tx, store, UUID.randomUUID(), batches / 5, batchSize);
+
+            UUID sessionId = UUID.randomUUID();
+            double appendNanos = append(tx, store, sessionId, batches, batchSize);
+            double readNanos = nanosPerOp(reads,
+                    () -> sink = tx.execute(status -> store.readSession(MEETING_ID, sessionId)));
+
+            report("transcript-store", names.get(i) + " append", "ns/transcript", appendNanos, "ns");
+            report("transcript-store", names.get(i) + " read session of " + batches * batchSize, "ms/read",
+                    readNanos / 1_000_000, "ms");
+        }
+    }
+
+    private static double append(TransactionTemplate tx, TranscriptStore store, UUID sessionId, int batches,
+            int batchSize) {
+        int[] sequence = { 0 };
+        double nanosPerBatch = nanosPerOp(batches, () -> {
+            List<Transcript> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(transcript(sessionId, ++sequence[0]));
+            }
+            sink = tx.execute(status -> store.write(batch));
+        });
+        return nanosPerBatch / batchSize;
+    }
+
+    private static Transcript transcript(UUID sessionId, int sequenceNumber) {
+        return new Transcript(UUID.randomUUID(), MEETING_ID, sessionId, sequenceNumber, UUID.randomUUID(), "Alice",
+                "Let's go over the quarterly numbers before we wrap up.", "en",
+                Duration.ofSeconds(sequenceNumber), Duration.ofSeconds(sequenceNumber + 2L));
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.meeting_platform.benchmark;
+
+import static com.github.meeting_platform.benchmark.BenchmarkSupport.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.JdbcTranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.JpaTranscriptStore;
+import com.github.meeting_platform.infrastructure.persistence.LanguageDictionary;
+import com.github.meeting_platform.infrastructure.persistence.SpeakerDictionary;
+import com.github.meeting_platform.infrastructure.persistence.TranscriptContentCodec;
+
+/**
+ * Time per transcript for the JPA (check, save, flush) and JDBC (batched MERGE)
+ * write paths against the embedded database, with a share of redelivered
+ * transcripts mixed into every batch.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class TranscriptWriterBenchmark {
+
+    @Autowired
+    TranscriptRepository transcriptRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    SpeakerDictionary speakers;
+
+    @Autowired
+    LanguageDictionary languages;
+
+    @Autowired
+    TranscriptContentCodec contentCodec;
+
+    @Test
+    void perTranscriptWriteCost() {
+        int batches = intProperty("batches", 500);
+        int batchSize = intProperty("batchSize", 32);
+        int duplicatePercent = intProperty("duplicatePercent", 20);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        TranscriptStore jpa = new JpaTranscriptStore(transcriptRepository, speakers, languages);
+        TranscriptStore jdbc = new JdbcTranscriptStore(jdbcTemplate, speakers, languages, contentCodec);
+
+        // warm-up on separate sessions so the measured runs start from comparable tables
+        run(tx, jpa, batches / 5, batchSize, duplicatePercent);
+        run(tx, jdbc, batches / 5, batchSize, duplicatePercent);
+
+        double jpaNanos = run(tx, jpa, batches, batchSize, duplicatePercent);
+        double jdbcNanos = run(tx, jdbc, batches, batchSize, duplicatePercent);
+
+        report("transcript-writer", "jpa check+save", "ns/transcript", jpaNanos, "ns");
+        report("transcript-writer", "jdbc batched merge", "ns/transcript", jdbcNanos, "ns");
+        report("transcript-writer", "speed-up", "x", jpaNanos / jdbcNanos, "");
+    }
+
+    private static double run(TransactionTemplate tx, TranscriptStore writer, int batches, int batchSize,
+            int duplicatePercent) {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        List<Transcript> written = new ArrayList<>();
+        int[] sequence = { 0 };
+
+        double nanosPerBatch = nanosPerOp(batches, () -> {
+            List<Transcript> batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                boolean redeliver = !written.isEmpty() && (i * 100 / batchSize) < duplicatePercent;
+                batch.add(redeliver
+                        ? written.get(written.size() - 1 - i)
+                        : transcript(meetingId, sessionId, ++sequence[0]));
+            }
+            sink = tx.execute(status -> writer.write(batch));
+            written.addAll(batch);
+        });
+        return nanosPerBatch / batchSize;
+    }
+
+    private static Transcript transcript(UUID meetingId, UUID sessionId, int sequenceNumber) {
+        return new Transcript(UUID.randomUUID(), meetingId, sessionId, sequenceNumber, UUID.randomUUID(), "Alice",
+                "Let's go over the quarterly numbers before we wrap up.", "en",
+                Duration.ofSeconds(sequenceNumber), Duration.ofSeconds(sequenceNumber + 2L));
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.meeting_platform.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.TranscriptStoredEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InterimTranscriptBufferTest {
+
+    SimpleMeterRegistry meterRegistry;
+    UUID meetingId;
+    UUID sessionId;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        meetingId = UUID.randomUUID();
+        sessionId = UUID.randomUUID();
+    }
+
+    private Transcript interim(int sequenceNumber, int revision, String content) {
+        return new Transcript(UUID.randomUUID(), meetingId, sessionId, sequenceNumber, UUID.randomUUID(), "Alice",
+                content, "en", Duration.ZERO, Duration.ZERO, revision, false);
+    }
+
+    @Test
+    void shouldKeepOnlyNewestRevisionPerSequenceNumber() {
+        InterimTranscriptBuffer buffer = new InterimTranscriptBuffer(true, 1_024, meterRegistry);
+        Transcript second = interim(1, 2, "hello world");
+
+        assertTrue(buffer.offer(interim(1, 1, "hello")));
+        assertTrue(buffer.offer(second));
+        assertTrue(buffer.offer(interim(1, 0, "hel")));
+
+        assertEquals(List.of(second), buffer.pending(meetingId, sessionId));
+        assertEquals(1.0, meterRegistry.get("transcript.interim.superseded").counter().count());
+    }
+
+    @Test
+    void shouldReturnPendingRevisionsInSequenceOrder() {
+        InterimTranscriptBuffer buffer = new InterimTranscriptBuffer(true, 1_024, meterRegistry);
+        Transcript third = interim(3, 0, "c");
+        Transcript first = interim(1, 0, "a");
+
+        buffer.offer(third);
+        buffer.offer(first);
+
+        assertEquals(List.of(first, third), buffer.pending(meetingId, sessionId));
+        assertEquals(List.of(), buffer.pending(UUID.randomUUID(), sessionId));
+    }
+
+    @Test
+    void shouldDropRevisionOnceFinalChunkIsStored() {
+        InterimTranscriptBuffer buffer = new InterimTranscriptBuffer(true, 1_024, meterRegistry);
+        buffer.offer(interim(1, 0, "a"));
+        buffer.offer(interim(2, 0, "b"));
+
+        buffer.on(new TranscriptStoredEvent(meetingId, sessionId, 1));
+
+        assertEquals(List.of(2), buffer.pending(meetingId, sessionId).stream()
+                .map(Transcript::getSequenceNumber).toList());
+        assertEquals(1.0, meterRegistry.get("transcript.interim.held").gauge().value());
+    }
+
+    @Test
+    void shouldDropSessionWhenItCloses() {
+        InterimTranscriptBuffer buffer = new InterimTranscriptBuffer(true, 1_024, meterRegistry);
+        buffer.offer(interim(1, 0, "a"));
+
+        buffer.on(new SessionClosedEvent(meetingId, sessionId));
+
+        assertTrue(buffer.pending(meetingId, sessionId).isEmpty());
+    }
+
+    @Test
+    void shouldRefuseNewSequenceNumbersOfSessionAtCapacity() {
+        InterimTranscriptBuffer buffer = new InterimTranscriptBuffer(true, 1, meterRegistry);
+
+        assertTrue(buffer.offer(interim(1, 0, "a")));
+        assertFalse(buffer.offer(interim(2, 0, "b")));
+        assertTrue(buffer.offer(interim(1, 1, "ab")));
+    }
+}
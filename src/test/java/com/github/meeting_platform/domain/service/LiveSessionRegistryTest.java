@@ -0,0 +1,75 @@
+package com.github.meeting_platform.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.SessionOpenedEvent;
+import com.github.meeting_platform.domain.model.Session;
+import com.github.meeting_platform.domain.repository.SessionRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LiveSessionRegistryTest {
+
+    @Mock
+    SessionRepository sessionRepository;
+
+    LiveSessionRegistry registry;
+    UUID meetingId;
+    UUID sessionId;
+
+    @BeforeEach
+    void setup() {
+        registry = new LiveSessionRegistry(sessionRepository, new SimpleMeterRegistry());
+        meetingId = UUID.randomUUID();
+        sessionId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldTrackOpenedSessionUntilClosed() {
+        registry.on(new SessionOpenedEvent(meetingId, sessionId, true));
+
+        assertTrue(registry.isLive(meetingId, sessionId));
+        assertEquals(Set.of(sessionId), registry.activeSessions(meetingId));
+
+        registry.on(new SessionClosedEvent(meetingId, sessionId));
+
+        assertFalse(registry.isLive(meetingId, sessionId));
+        assertTrue(registry.activeSessions(meetingId).isEmpty());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void shouldNotReportSessionLiveForAnotherMeeting() {
+        registry.on(new SessionOpenedEvent(meetingId, sessionId, true));
+
+        assertFalse(registry.isLive(UUID.randomUUID(), sessionId));
+    }
+
+    @Test
+    void shouldWarmFromLiveSessionsInDatabase() {
+        UUID otherSession = UUID.randomUUID();
+        when(sessionRepository.findAllByStatus(Session.SessionStatus.LIVE)).thenReturn(List.of(
+                new Session(sessionId, meetingId, Instant.now()),
+                new Session(otherSession, meetingId, Instant.now())));
+
+        registry.warmUp();
+
+        assertTrue(registry.isLive(meetingId, sessionId));
+        assertTrue(registry.isLive(meetingId, otherSession));
+        assertEquals(Set.of(sessionId, otherSession), registry.activeSessions(meetingId));
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.meeting_platform.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.meeting_platform.domain.repository.MeetingRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingMetadataCoalescerTest {
+
+    @Mock
+    MeetingRepository meetingRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    MeetingMetadataCoalescer coalescer;
+    UUID meetingId;
+    UUID organizerId;
+    Instant createdAt;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new MeetingMetadataCoalescer(meetingRepository, transactionManager, Duration.ofMillis(500),
+                10_000, meterRegistry);
+        meetingId = UUID.randomUUID();
+        organizerId = UUID.randomUUID();
+        createdAt = Instant.parse("2024-12-13T06:57:09.736Z");
+    }
+
+    private MeetingMetadataCoalescer.Metadata metadata(String title) {
+        return new MeetingMetadataCoalescer.Metadata(meetingId, title, "room", organizerId, "Org", createdAt);
+    }
+
+    @Test
+    void shouldWriteUnknownMeetingImmediately() {
+        coalescer.submit(metadata("Standup"));
+
+        verify(meetingRepository).upsert(meetingId, "Standup", "room", organizerId, "Org", createdAt);
+        assertEquals(0, coalescer.pendingCount());
+    }
+
+    @Test
+    void shouldSkipIdenticalPayload() {
+        coalescer.submit(metadata("Standup"));
+        coalescer.submit(metadata("Standup"));
+        coalescer.flush();
+
+        verify(meetingRepository, times(1)).upsert(any(), any(), any(), any(), any(), any());
+        assertEquals(0.5, meterRegistry.get("meeting.metadata.suppressed.ratio").gauge().value());
+    }
+
+    @Test
+    void shouldCoalesceBurstIntoOneWriteWithLatestValues() {
+        coalescer.submit(metadata("Standup"));
+        coalescer.submit(metadata("Standup v2"));
+        coalescer.submit(metadata("Standup v3"));
+        assertEquals(1, coalescer.pendingCount());
+
+        coalescer.flush();
+
+        verify(meetingRepository).upsert(meetingId, "Standup v3", "room", organizerId, "Org", createdAt);
+        verify(meetingRepository, never()).upsert(eq(meetingId), eq("Standup v2"), any(), any(), any(), any());
+        assertEquals(0, coalescer.pendingCount());
+        // v2 was replaced while parked; the first payload and v3 were written
+        assertEquals(1.0 / 3, meterRegistry.get("meeting.metadata.suppressed.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void shouldCountParkedUpdateOnceWhenFlushed() {
+        coalescer.submit(metadata("Standup"));
+        coalescer.submit(metadata("Renamed"));
+        coalescer.flush();
+
+        assertEquals(2.0, meterRegistry.get("meeting.metadata.writes").tag("outcome", "written").counter().count());
+        assertEquals(0.0, meterRegistry.get("meeting.metadata.suppressed.ratio").gauge().value());
+    }
+
+    @Test
+    void shouldDropParkedUpdateWhenValuesRevert() {
+        coalescer.submit(metadata("Standup"));
+        coalescer.submit(metadata("Renamed"));
+        coalescer.submit(metadata("Standup"));
+
+        coalescer.flush();
+
+        verify(meetingRepository, times(1)).upsert(any(), any(), any(), any(), any(), any());
+        assertEquals(2.0, meterRegistry.get("meeting.metadata.writes").tag("outcome", "suppressed").counter().count());
+    }
+}
@@ -2,13 +2,19 @@ package com.github.meeting_platform.domain.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -18,16 +24,28 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.github.meeting_platform.common.exceptions.MeetingNotFoundException;
 import com.github.meeting_platform.common.exceptions.SessionEndedException;
 import com.github.meeting_platform.common.exceptions.SessionNotFoundException;
+import com.github.meeting_platform.domain.envelope.TranscriptEnvelope;
+import com.github.meeting_platform.domain.events.LateTranscriptEvent;
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.SessionOpenedEvent;
+import com.github.meeting_platform.domain.events.TranscriptCommittedEvent;
+import com.github.meeting_platform.domain.events.TranscriptStoredEvent;
 import com.github.meeting_platform.domain.model.Meeting;
 import com.github.meeting_platform.domain.model.Session;
 import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.model.TranscriptPage;
+import com.github.meeting_platform.domain.repository.CompactedSessions;
 import com.github.meeting_platform.domain.repository.MeetingRepository;
 import com.github.meeting_platform.domain.repository.SessionRepository;
-import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptArchive;
+import com.github.meeting_platform.domain.repository.TranscriptWriteResult;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
 import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
 import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
 import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
@@ -42,7 +60,31 @@ class MeetingServiceImplTest {
     SessionRepository sessionRepository;
 
     @Mock
-    TranscriptRepository transcriptRepository;
+    TranscriptStore transcriptStore;
+
+    @Mock
+    TranscriptArchive transcriptArchive;
+
+    @Mock
+    CompactedSessions compactedSessions;
+
+    @Mock
+    LiveSessionRegistry liveSessionRegistry;
+
+    @Mock
+    SessionSequenceIndex sequenceIndex;
+
+    @Mock
+    MeetingMetadataCoalescer meetingMetadata;
+
+    @Mock
+    InterimTranscriptBuffer interimTranscripts;
+
+    @Mock
+    TranscriptTailBuffer tailBuffer;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     MeetingServiceImpl meetingService;
@@ -76,6 +118,15 @@ class MeetingServiceImplTest {
                 Duration.ZERO, Duration.ZERO);
     }
 
+    private AddTranscriptCommand interimCommand(UUID transcriptId, int sequenceNumber, int revision) {
+        return new AddTranscriptCommand(new TranscriptEnvelope(transcriptId, meetingId, sessionId, sequenceNumber,
+                UUID.randomUUID(), "speaker", "hypothesis", Duration.ZERO, Duration.ZERO, "en", revision, false));
+    }
+
+    private static TranscriptWriteResult inserted(UUID... ids) {
+        return new TranscriptWriteResult(List.of(ids), Set.of());
+    }
+
     private static StartMeetingCommand startCommand(UUID meetingId, UUID sessionId) {
         return new StartMeetingCommand(
                 meetingId,
@@ -96,51 +147,64 @@ class MeetingServiceImplTest {
     class StartMeetingTests {
 
         @Test
-        void shouldCreateMeetingWhenMissing() {
-            when(sessionRepository.findById(sessionId)).thenReturn(Optional.empty());
-            when(meetingRepository.findById(meetingId)).thenReturn(Optional.empty());
+        void shouldInsertSessionAndUpsertMeeting() {
+            StartMeetingCommand cmd = startCommand(meetingId, sessionId);
+            when(sessionRepository.insertLiveIfAbsent(sessionId, meetingId, cmd.getStartedAt())).thenReturn(1);
 
-            meetingService.startMeeting(startCommand(meetingId, sessionId));
+            meetingService.startMeeting(cmd);
 
-            verify(meetingRepository).save(any(Meeting.class));
-            verify(sessionRepository).save(any(Session.class));
+            verify(meetingMetadata).submit(new MeetingMetadataCoalescer.Metadata(meetingId, "Title", "Room",
+                    cmd.getOrganizedById(), "Org", cmd.getCreatedAt()));
+            verify(sessionRepository, never()).findById(any());
+            verify(meetingRepository, never()).findById(any());
         }
 
         @Test
-        void shouldUpdateMeetingWhenExists() {
-            Meeting existing = new Meeting(meetingId, "old", "oldRoom", null, Instant.now());
-            when(sessionRepository.findById(sessionId)).thenReturn(Optional.empty());
-            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(existing));
+        void shouldUpsertMeetingWhenSessionAlreadyLive() {
+            when(sessionRepository.insertLiveIfAbsent(eq(sessionId), eq(meetingId), any())).thenReturn(0);
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(createSession(sessionId, meetingId)));
 
             meetingService.startMeeting(new StartMeetingCommand(
                     meetingId, sessionId, "newTitle", "newRoom",
                     UUID.randomUUID(), "org", Instant.now(), Instant.now()));
 
-            ArgumentCaptor<Meeting> cap = ArgumentCaptor.forClass(Meeting.class);
-            verify(meetingRepository).save(cap.capture());
-
-            assertEquals("newTitle", cap.getValue().getTitle());
-            assertEquals("newRoom", cap.getValue().getRoomName());
+            ArgumentCaptor<MeetingMetadataCoalescer.Metadata> captor =
+                    ArgumentCaptor.forClass(MeetingMetadataCoalescer.Metadata.class);
+            verify(meetingMetadata).submit(captor.capture());
+            assertEquals("newTitle", captor.getValue().title());
+            assertEquals("newRoom", captor.getValue().roomName());
+            verify(eventPublisher).publishEvent(new SessionOpenedEvent(meetingId, sessionId, false));
         }
 
         @Test
-        void shouldPropagateWhenSessionSaveFails() {
-            when(sessionRepository.findById(sessionId)).thenReturn(Optional.empty());
-            when(meetingRepository.findById(meetingId)).thenReturn(Optional.empty());
-            when(sessionRepository.save(any())).thenThrow(new RuntimeException("DB error"));
+        void shouldPropagateWhenSessionInsertFails() {
+            when(sessionRepository.insertLiveIfAbsent(eq(sessionId), eq(meetingId), any()))
+                    .thenThrow(new RuntimeException("DB error"));
 
             assertThrows(RuntimeException.class, () ->
                     meetingService.startMeeting(startCommand(meetingId, sessionId)));
+            verifyNoInteractions(meetingMetadata, eventPublisher);
+        }
+
+        @Test
+        void shouldPublishSessionOpenedEvent() {
+            when(sessionRepository.insertLiveIfAbsent(eq(sessionId), eq(meetingId), any())).thenReturn(1);
+
+            meetingService.startMeeting(startCommand(meetingId, sessionId));
+
+            verify(eventPublisher).publishEvent(new SessionOpenedEvent(meetingId, sessionId, true));
         }
 
         @Test
         void shouldThrowSessionEndedWhenSessionAlreadyEnded() {
             Session endedSession = createSession(sessionId, meetingId);
             endedSession.end(Instant.now(), "test");
+            when(sessionRepository.insertLiveIfAbsent(eq(sessionId), eq(meetingId), any())).thenReturn(0);
             when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(endedSession));
 
             assertThrows(SessionEndedException.class, () ->
                     meetingService.startMeeting(startCommand(meetingId, sessionId)));
+            verifyNoInteractions(meetingRepository, meetingMetadata);
         }
     }
 
@@ -173,23 +237,123 @@ class MeetingServiceImplTest {
         }
 
         @Test
-        void shouldNotSaveDuplicateTranscriptIdempotent() {
+        void shouldNotFailOnDuplicateTranscriptIdempotent() {
             UUID transcriptId = UUID.randomUUID();
             Session session = createSession(sessionId, meetingId);
 
             when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
             when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
-            when(transcriptRepository.findById(transcriptId)).thenReturn(Optional.of(createTranscript(transcriptId)));
+            when(transcriptStore.write(anyList()))
+                    .thenReturn(new TranscriptWriteResult(List.of(), Set.of(transcriptId)));
+
+            assertDoesNotThrow(() -> meetingService.addTranscript(new AddTranscriptCommand(
+                    meetingId, sessionId, transcriptId, 1,
+                    UUID.randomUUID(), "speaker", "content",
+                    Duration.ZERO, Duration.ZERO, "en")));
+
+            verifyNoInteractions(eventPublisher);
+            verify(transcriptStore, never()).exists(any());
+            verify(transcriptStore, times(1)).write(anyList());
+        }
+
+        @Test
+        void shouldPublishLateEventForTranscriptOfEndedSession() {
+            UUID transcriptId = UUID.randomUUID();
+            Session session = createSession(sessionId, meetingId);
+            session.end(Instant.now(), "done");
+
+            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+            when(transcriptStore.write(anyList())).thenReturn(inserted(transcriptId));
+
+            meetingService.addTranscript(interimCommand(transcriptId, 7, 0));
+
+            verify(eventPublisher).publishEvent(new LateTranscriptEvent(meetingId, sessionId, 7));
+        }
+
+        @Test
+        void shouldSkipMeetingAndSessionLookupsForLiveSession() {
+            UUID transcriptId = UUID.randomUUID();
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(transcriptStore.write(anyList())).thenReturn(inserted(transcriptId));
 
             meetingService.addTranscript(new AddTranscriptCommand(
                     meetingId, sessionId, transcriptId, 1,
                     UUID.randomUUID(), "speaker", "content",
                     Duration.ZERO, Duration.ZERO, "en"));
 
-            verify(transcriptRepository, never()).save(any());
+            verifyNoInteractions(meetingRepository, sessionRepository);
+            verify(transcriptStore).write(anyList());
+        }
+
+        @Test
+        void shouldDropKnownSequenceOfLiveSessionWithoutDatabaseAccess() {
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(sequenceIndex.contains(meetingId, sessionId, 3)).thenReturn(true);
+
+            meetingService.addTranscript(new AddTranscriptCommand(
+                    meetingId, sessionId, UUID.randomUUID(), 3,
+                    UUID.randomUUID(), "speaker", "content",
+                    Duration.ZERO, Duration.ZERO, "en"));
+
+            verifyNoInteractions(meetingRepository, sessionRepository, transcriptStore);
+        }
+
+        @Test
+        void shouldPublishStoredEventOnlyForInsertedTranscript() {
+            UUID transcriptId = UUID.randomUUID();
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(transcriptStore.write(anyList())).thenReturn(inserted(transcriptId));
+
+            meetingService.addTranscript(new AddTranscriptCommand(
+                    meetingId, sessionId, transcriptId, 4,
+                    UUID.randomUUID(), "speaker", "content",
+                    Duration.ZERO, Duration.ZERO, "en"));
+
+            verify(eventPublisher).publishEvent(new TranscriptStoredEvent(meetingId, sessionId, 4));
+        }
+
+        @Test
+        void shouldHoldInterimRevisionOfLiveSessionInMemory() {
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(interimTranscripts.isEnabled()).thenReturn(true);
+            when(interimTranscripts.offer(any())).thenReturn(true);
+
+            meetingService.addTranscript(interimCommand(UUID.randomUUID(), 6, 1));
+
+            verifyNoInteractions(transcriptStore, eventPublisher);
+        }
+
+        @Test
+        void shouldStoreInterimRevisionWithoutStoredEventWhenNotBuffered() {
+            UUID transcriptId = UUID.randomUUID();
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(interimTranscripts.isEnabled()).thenReturn(false);
+            when(transcriptStore.write(anyList())).thenReturn(inserted(transcriptId));
+
+            meetingService.addTranscript(interimCommand(transcriptId, 6, 1));
+
+            verify(transcriptStore).write(anyList());
+            verify(eventPublisher).publishEvent(any(TranscriptCommittedEvent.class));
+            verify(eventPublisher, never()).publishEvent(any(TranscriptStoredEvent.class));
         }
 
         @Test
+        void shouldPublishCommittedEventCarryingWrittenTranscript() {
+            UUID transcriptId = UUID.randomUUID();
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(transcriptStore.write(anyList())).thenReturn(inserted(transcriptId));
+
+            meetingService.addTranscript(interimCommand(transcriptId, 5, 0));
+
+            ArgumentCaptor<TranscriptCommittedEvent> event = ArgumentCaptor.forClass(TranscriptCommittedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertEquals(transcriptId, event.getValue().getTranscript().getId());
+            assertEquals(5, event.getValue().getTranscript().getSequenceNumber());
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
         void shouldPersistTranscriptWhenValid() {
             UUID transcriptId = UUID.randomUUID();
             UUID speakerId = UUID.randomUUID();
@@ -197,7 +361,7 @@ class MeetingServiceImplTest {
 
             when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
             when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
-            when(transcriptRepository.findById(transcriptId)).thenReturn(Optional.empty());
+            when(transcriptStore.write(anyList())).thenReturn(inserted(transcriptId));
 
             meetingService.addTranscript(new AddTranscriptCommand(
                     meetingId,
@@ -211,14 +375,38 @@ class MeetingServiceImplTest {
                     Duration.ofSeconds(3),
                     "en"));
 
-            ArgumentCaptor<Transcript> captor = ArgumentCaptor.forClass(Transcript.class);
-            verify(transcriptRepository).save(captor.capture());
+            ArgumentCaptor<List<Transcript>> captor = ArgumentCaptor.forClass(List.class);
+            verify(transcriptStore).write(captor.capture());
 
-            Transcript saved = captor.getValue();
+            Transcript saved = captor.getValue().get(0);
             assertEquals(5, saved.getSequenceNumber());
             assertEquals("Hello world", saved.getContent());
             assertEquals("Alice", saved.getSpeaker().getName());
         }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldWriteValidTranscriptsOfBatchAndReportRejectedOnes() {
+            UUID otherSessionId = UUID.randomUUID();
+            AddTranscriptCommand valid = new AddTranscriptCommand(meetingId, sessionId, UUID.randomUUID(), 1,
+                    UUID.randomUUID(), "speaker", "content", Duration.ZERO, Duration.ZERO, "en");
+            AddTranscriptCommand orphan = new AddTranscriptCommand(meetingId, otherSessionId, UUID.randomUUID(), 1,
+                    UUID.randomUUID(), "speaker", "content", Duration.ZERO, Duration.ZERO, "en");
+
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(liveSessionRegistry.isLive(meetingId, otherSessionId)).thenReturn(false);
+            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
+            when(sessionRepository.findById(otherSessionId)).thenReturn(Optional.empty());
+            when(transcriptStore.write(anyList())).thenReturn(inserted(valid.getTranscriptId()));
+
+            Map<UUID, RuntimeException> failures = meetingService.addTranscripts(List.of(valid, orphan));
+
+            assertEquals(1, failures.size());
+            assertInstanceOf(SessionNotFoundException.class, failures.get(orphan.getTranscriptId()));
+            ArgumentCaptor<List<Transcript>> captor = ArgumentCaptor.forClass(List.class);
+            verify(transcriptStore).write(captor.capture());
+            assertEquals(List.of(valid.getTranscriptId()), captor.getValue().stream().map(Transcript::getId).toList());
+        }
     }
 
     // ============================================================
@@ -264,23 +452,33 @@ class MeetingServiceImplTest {
 
             assertThrows(SessionEndedException.class, () ->
                     meetingService.endMeeting(new EndMeetingCommand(meetingId, sessionId, Instant.now(), "reason")));
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
-        void shouldUpdateSessionStatusAndEndTime() {
-            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
-            Session session = createSession(sessionId, meetingId);
-            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
-
+        void shouldEndSessionWithSingleConditionalUpdate() {
             Instant endTime = Instant.now();
+            when(sessionRepository.endIfLive(sessionId, meetingId, endTime, "done")).thenReturn(1);
 
             meetingService.endMeeting(new EndMeetingCommand(meetingId, sessionId, endTime, "done"));
 
-            ArgumentCaptor<Session> captor = ArgumentCaptor.forClass(Session.class);
-            verify(sessionRepository).save(captor.capture());
+            verify(sessionRepository, never()).findById(any());
+            verify(sessionRepository, never()).save(any());
+            verifyNoInteractions(meetingRepository);
+            verify(eventPublisher).publishEvent(new SessionClosedEvent(meetingId, sessionId));
+        }
+
+        @Test
+        void shouldStoreHeldInterimRevisionsWhenSessionEnds() {
+            Instant endTime = Instant.now();
+            Transcript interim = Transcript.from(interimCommand(UUID.randomUUID(), 2, 3).getEnvelope());
+            when(sessionRepository.endIfLive(sessionId, meetingId, endTime, "done")).thenReturn(1);
+            when(interimTranscripts.pending(meetingId, sessionId)).thenReturn(List.of(interim));
+
+            meetingService.endMeeting(new EndMeetingCommand(meetingId, sessionId, endTime, "done"));
 
-            assertEquals(Session.SessionStatus.ENDED, captor.getValue().getStatus());
-            assertEquals(endTime, captor.getValue().getEndedAt());
+            verify(transcriptStore).write(List.of(interim));
+            verify(eventPublisher).publishEvent(new TranscriptCommittedEvent(interim));
         }
     }
 
@@ -312,7 +510,7 @@ class MeetingServiceImplTest {
         void shouldReturnEmptyListWhenNoneFound() {
             when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
             when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(createSession(sessionId, meetingId)));
-            when(transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId))
+            when(transcriptStore.readSession(meetingId, sessionId))
                     .thenReturn(List.of());
 
             List<Transcript> result = meetingService.getSessionTranscripts(meetingId, sessionId);
@@ -327,13 +525,238 @@ class MeetingServiceImplTest {
 
             when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
             when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(createSession(sessionId, meetingId)));
-            when(transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId))
+            when(transcriptStore.readSession(meetingId, sessionId))
                     .thenReturn(List.of(t));
 
             List<Transcript> result = meetingService.getSessionTranscripts(meetingId, sessionId);
 
             assertEquals(1, result.size());
             assertEquals(t.getId(), result.get(0).getId());
+            verifyNoInteractions(transcriptArchive);
+        }
+
+        @Test
+        void shouldReadArchivedSessionFromArchiveAndMergeLateRows() {
+            Session session = createSession(sessionId, meetingId);
+            ReflectionTestUtils.setField(session, "archivedAt", Instant.now());
+            Transcript archived = new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, UUID.randomUUID(),
+                    "speaker", "archived", "en", Duration.ZERO, Duration.ZERO);
+            Transcript redelivered = new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, UUID.randomUUID(),
+                    "speaker", "again", "en", Duration.ZERO, Duration.ZERO);
+            Transcript late = new Transcript(UUID.randomUUID(), meetingId, sessionId, 2, UUID.randomUUID(),
+                    "speaker", "late", "en", Duration.ZERO, Duration.ZERO);
+
+            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+            when(transcriptStore.readSession(meetingId, sessionId)).thenReturn(List.of(redelivered, late));
+            when(transcriptArchive.readSession(meetingId, sessionId)).thenReturn(List.of(archived));
+
+            List<Transcript> result = meetingService.getSessionTranscripts(meetingId, sessionId);
+
+            assertEquals(List.of(archived, late), result);
+        }
+
+        @Test
+        void shouldServeEndedSessionFromCompactedDocument() {
+            Session session = createSession(sessionId, meetingId);
+            session.end(Instant.now(), "done");
+            Transcript compacted = new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, UUID.randomUUID(),
+                    "speaker", "compacted", "en", Duration.ZERO, Duration.ZERO);
+
+            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+            when(compactedSessions.readSession(meetingId, sessionId)).thenReturn(Optional.of(List.of(compacted)));
+
+            List<Transcript> result = meetingService.getSessionTranscripts(meetingId, sessionId);
+
+            assertEquals(List.of(compacted), result);
+            verifyNoInteractions(transcriptStore, transcriptArchive);
+        }
+
+        @Test
+        void shouldFillUnstoredSequencesWithHeldInterimRevisions() {
+            Transcript stored = new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, UUID.randomUUID(),
+                    "speaker", "final", "en", Duration.ZERO, Duration.ZERO);
+            Transcript staleInterim = Transcript.from(interimCommand(UUID.randomUUID(), 1, 2).getEnvelope());
+            Transcript interim = Transcript.from(interimCommand(UUID.randomUUID(), 2, 0).getEnvelope());
+
+            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(createSession(sessionId, meetingId)));
+            when(transcriptStore.readSession(meetingId, sessionId))
+                    .thenReturn(List.of(stored));
+            when(interimTranscripts.pending(meetingId, sessionId)).thenReturn(List.of(staleInterim, interim));
+
+            List<Transcript> result = meetingService.getSessionTranscripts(meetingId, sessionId);
+
+            assertEquals(List.of(stored, interim), result);
+        }
+    }
+
+    // ============================================================
+    // TRANSCRIPT PAGE TESTS
+    // ============================================================
+
+    @Nested
+    class GetSessionTranscriptPageTests {
+
+        private Transcript stored(int sequenceNumber) {
+            return new Transcript(UUID.randomUUID(), meetingId, sessionId, sequenceNumber, UUID.randomUUID(),
+                    "speaker", "final " + sequenceNumber, "en", Duration.ZERO, Duration.ZERO);
+        }
+
+        @BeforeEach
+        void liveSession() {
+            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(createSession(sessionId, meetingId)));
+        }
+
+        @Test
+        void shouldReadOneRowBeyondTheLimitToDetectAnotherPage() {
+            when(transcriptStore.readPage(meetingId, sessionId, 4, 3)).thenReturn(List.of(stored(5), stored(6),
+                    stored(8)));
+
+            TranscriptPage page = meetingService.getSessionTranscriptPage(meetingId, sessionId, 4, 2);
+
+            assertEquals(List.of(5, 6), page.transcripts().stream().map(Transcript::getSequenceNumber).toList());
+            assertEquals(6, page.nextAfterSequence());
+            assertTrue(page.hasMore());
+            verify(transcriptStore, never()).readSession(any(), any());
+        }
+
+        @Test
+        void shouldKeepTheCursorOnAnEmptyPage() {
+            when(transcriptStore.readPage(meetingId, sessionId, 9, 11)).thenReturn(List.of());
+
+            TranscriptPage page = meetingService.getSessionTranscriptPage(meetingId, sessionId, 9, 10);
+
+            assertTrue(page.transcripts().isEmpty());
+            assertEquals(9, page.nextAfterSequence());
+            assertFalse(page.hasMore());
+        }
+
+        @Test
+        void shouldReadArchivedPageFromBothSourcesAfterTheCursor() {
+            Session session = createSession(sessionId, meetingId);
+            ReflectionTestUtils.setField(session, "archivedAt", Instant.now());
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+            when(transcriptArchive.readPage(meetingId, sessionId, 4, 3)).thenReturn(List.of(stored(5), stored(7),
+                    stored(8)));
+            when(transcriptStore.readPage(meetingId, sessionId, 4, 3)).thenReturn(List.of(stored(6), stored(7)));
+
+            TranscriptPage page = meetingService.getSessionTranscriptPage(meetingId, sessionId, 4, 2);
+
+            assertEquals(List.of(5, 6), page.transcripts().stream().map(Transcript::getSequenceNumber).toList());
+            assertTrue(page.hasMore());
+            verify(transcriptArchive, never()).readSession(any(), any());
+            verify(transcriptStore, never()).readSession(any(), any());
+        }
+
+        @Test
+        void shouldStreamRowsAndFillGapsWithHeldInterimRevisions() {
+            Transcript before = Transcript.from(interimCommand(UUID.randomUUID(), 1, 0).getEnvelope());
+            Transcript replaced = Transcript.from(interimCommand(UUID.randomUUID(), 2, 1).getEnvelope());
+            Transcript gap = Transcript.from(interimCommand(UUID.randomUUID(), 4, 0).getEnvelope());
+            Transcript after = Transcript.from(interimCommand(UUID.randomUUID(), 9, 0).getEnvelope());
+            when(transcriptStore.streamSession(meetingId, sessionId)).thenReturn(Stream.of(stored(2), stored(5)));
+            when(interimTranscripts.pending(meetingId, sessionId)).thenReturn(List.of(before, replaced, gap, after));
+            List<Transcript> streamed = new ArrayList<>();
+
+            meetingService.streamSessionTranscripts(meetingId, sessionId, streamed::add);
+
+            assertEquals(List.of(1, 2, 4, 5, 9), streamed.stream().map(Transcript::getSequenceNumber).toList());
+            assertTrue(streamed.get(1).isFinal());
+            verify(transcriptStore, never()).readSession(any(), any());
+        }
+
+        @Test
+        void shouldStreamArchivedSessionMergedWithLateRows() {
+            Session session = createSession(sessionId, meetingId);
+            ReflectionTestUtils.setField(session, "archivedAt", Instant.now());
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+            Transcript archivedFirst = stored(1);
+            Transcript interim = new Transcript(UUID.randomUUID(), meetingId, sessionId, 3, UUID.randomUUID(),
+                    "speaker", "interim", "en", Duration.ZERO, Duration.ZERO, 0, false);
+            Transcript revised = new Transcript(UUID.randomUUID(), meetingId, sessionId, 3, UUID.randomUUID(),
+                    "speaker", "revised", "en", Duration.ZERO, Duration.ZERO, 1, true);
+            List<String> closed = new ArrayList<>();
+            when(transcriptArchive.streamSession(meetingId, sessionId))
+                    .thenReturn(Stream.of(archivedFirst, interim, stored(5)).onClose(() -> closed.add("archive")));
+            when(transcriptStore.streamSession(meetingId, sessionId))
+                    .thenReturn(Stream.of(stored(1), stored(2), revised, stored(7)).onClose(() -> closed.add("rows")));
+            List<Transcript> streamed = new ArrayList<>();
+
+            meetingService.streamSessionTranscripts(meetingId, sessionId, streamed::add);
+
+            assertEquals(List.of(1, 2, 3, 5, 7), streamed.stream().map(Transcript::getSequenceNumber).toList());
+            assertSame(archivedFirst, streamed.get(0));
+            assertSame(revised, streamed.get(2));
+            assertEquals(Set.of("archive", "rows"), Set.copyOf(closed));
+            verify(transcriptArchive, never()).readSession(any(), any());
+        }
+
+        @Test
+        void shouldFillGapsOfThePageWithHeldInterimRevisions() {
+            Transcript gap = Transcript.from(interimCommand(UUID.randomUUID(), 2, 0).getEnvelope());
+            Transcript beyond = Transcript.from(interimCommand(UUID.randomUUID(), 9, 0).getEnvelope());
+            when(transcriptStore.readPage(meetingId, sessionId, null, 3)).thenReturn(List.of(stored(1), stored(3),
+                    stored(4)));
+            when(interimTranscripts.pending(meetingId, sessionId)).thenReturn(List.of(gap, beyond));
+
+            TranscriptPage page = meetingService.getSessionTranscriptPage(meetingId, sessionId, null, 2);
+
+            assertEquals(List.of(1, 2), page.transcripts().stream().map(Transcript::getSequenceNumber).toList());
+            assertTrue(page.hasMore());
+        }
+    }
+
+    // ============================================================
+    // TRANSCRIPT TAIL TESTS
+    // ============================================================
+
+    @Nested
+    class GetSessionTranscriptTailTests {
+
+        private Transcript stored(int sequenceNumber) {
+            return new Transcript(UUID.randomUUID(), meetingId, sessionId, sequenceNumber, UUID.randomUUID(),
+                    "speaker", "final " + sequenceNumber, "en", Duration.ZERO, Duration.ZERO);
+        }
+
+        @Test
+        void shouldAnswerLiveSessionFromMemoryWithoutDatabaseAccess() {
+            Transcript gap = Transcript.from(interimCommand(UUID.randomUUID(), 7, 0).getEnvelope());
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(tailBuffer.tail(meetingId, sessionId, 2)).thenReturn(Optional.of(List.of(stored(6), stored(8))));
+            when(interimTranscripts.pending(meetingId, sessionId)).thenReturn(List.of(gap));
+
+            List<Transcript> tail = meetingService.getSessionTranscriptTail(meetingId, sessionId, 2);
+
+            assertEquals(List.of(7, 8), tail.stream().map(Transcript::getSequenceNumber).toList());
+            verifyNoInteractions(meetingRepository, sessionRepository, transcriptStore);
+        }
+
+        @Test
+        void shouldReadStoredTailWhenMemoryCannotAnswer() {
+            when(liveSessionRegistry.isLive(meetingId, sessionId)).thenReturn(true);
+            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(createSession(sessionId, meetingId)));
+            when(transcriptStore.readTail(meetingId, sessionId, 2)).thenReturn(List.of(stored(4), stored(5)));
+
+            List<Transcript> tail = meetingService.getSessionTranscriptTail(meetingId, sessionId, 2);
+
+            assertEquals(List.of(4, 5), tail.stream().map(Transcript::getSequenceNumber).toList());
+            verify(transcriptStore, never()).readSession(any(), any());
+        }
+
+        @Test
+        void shouldNotAskMemoryForSessionThatIsNotLive() {
+            Session session = createSession(sessionId, meetingId);
+            session.end(Instant.now(), "done");
+            when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(createMeeting(meetingId)));
+            when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+            when(transcriptStore.readTail(meetingId, sessionId, 3)).thenReturn(List.of(stored(9)));
+
+            assertEquals(1, meetingService.getSessionTranscriptTail(meetingId, sessionId, 3).size());
+            verifyNoInteractions(tailBuffer);
         }
     }
 }
@@ -0,0 +1,77 @@
+package com.github.meeting_platform.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class SequenceBitmapTest {
+
+    @Test
+    void shouldCollapseInOrderSequenceIntoSingleRun() {
+        SequenceBitmap bitmap = new SequenceBitmap();
+
+        for (int i = 1; i <= 10_000; i++) {
+            assertTrue(bitmap.add(i));
+        }
+
+        assertEquals(1, bitmap.runCount());
+        assertEquals(10_000, bitmap.cardinality());
+        assertTrue(bitmap.contains(1));
+        assertTrue(bitmap.contains(10_000));
+        assertFalse(bitmap.contains(0));
+        assertFalse(bitmap.contains(10_001));
+    }
+
+    @Test
+    void shouldMergeRunsWhenGapIsFilled() {
+        SequenceBitmap bitmap = new SequenceBitmap();
+        bitmap.add(1);
+        bitmap.add(2);
+        bitmap.add(4);
+        bitmap.add(5);
+        assertEquals(2, bitmap.runCount());
+        assertFalse(bitmap.contains(3));
+
+        bitmap.add(3);
+
+        assertEquals(1, bitmap.runCount());
+        assertTrue(bitmap.contains(3));
+    }
+
+    @Test
+    void shouldKeepOutOfOrderValuesSorted() {
+        SequenceBitmap bitmap = new SequenceBitmap();
+        int[] values = { 50, 10, 30, 20, 40, 11, 49, -5 };
+        for (int value : values) {
+            bitmap.add(value);
+        }
+
+        for (int value : values) {
+            assertTrue(bitmap.contains(value), "missing " + value);
+        }
+        assertFalse(bitmap.contains(12));
+        assertFalse(bitmap.contains(48));
+        assertEquals(6, bitmap.runCount());
+        assertEquals(values.length, bitmap.cardinality());
+    }
+
+    @Test
+    void shouldReportDuplicateAdds() {
+        SequenceBitmap bitmap = new SequenceBitmap();
+
+        assertTrue(bitmap.add(7));
+        assertFalse(bitmap.add(7));
+        assertEquals(1, bitmap.cardinality());
+    }
+
+    @Test
+    void shouldNotWrapAroundAtMaxValue() {
+        SequenceBitmap bitmap = new SequenceBitmap();
+        bitmap.add(Integer.MAX_VALUE);
+
+        bitmap.add(Integer.MIN_VALUE);
+
+        assertEquals(2, bitmap.runCount());
+        assertFalse(bitmap.contains(0));
+    }
+}
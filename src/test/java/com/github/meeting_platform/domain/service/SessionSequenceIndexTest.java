@@ -0,0 +1,104 @@
+package com.github.meeting_platform.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.TranscriptStoredEvent;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SessionSequenceIndexTest {
+
+    @Mock
+    TranscriptStore transcriptStore;
+
+    @Mock
+    LiveSessionRegistry liveSessions;
+
+    SimpleMeterRegistry meterRegistry;
+    SessionSequenceIndex index;
+    UUID meetingId;
+    UUID sessionId;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new SessionSequenceIndex(transcriptStore, liveSessions, meterRegistry);
+        meetingId = UUID.randomUUID();
+        sessionId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldSeedLiveSessionOnceFromDatabase() {
+        when(liveSessions.isLive(meetingId, sessionId)).thenReturn(true);
+        when(transcriptStore.finalSequenceNumbers(meetingId, sessionId)).thenReturn(List.of(1, 2, 3));
+
+        assertTrue(index.contains(meetingId, sessionId, 2));
+        assertFalse(index.contains(meetingId, sessionId, 4));
+
+        verify(transcriptStore, times(1)).finalSequenceNumbers(meetingId, sessionId);
+        assertEquals(1.0, meterRegistry.get("transcript.sequence.index.lookups").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("transcript.sequence.index.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void shouldAddCommittedSequenceNumbers() {
+        when(liveSessions.isLive(meetingId, sessionId)).thenReturn(true);
+        when(transcriptStore.finalSequenceNumbers(meetingId, sessionId)).thenReturn(List.of());
+        assertFalse(index.contains(meetingId, sessionId, 1));
+
+        index.on(new TranscriptStoredEvent(meetingId, sessionId, 1));
+
+        assertTrue(index.contains(meetingId, sessionId, 1));
+    }
+
+    @Test
+    void shouldNotCacheSessionsThatAreNotLive() {
+        when(liveSessions.isLive(meetingId, sessionId)).thenReturn(false);
+
+        assertFalse(index.contains(meetingId, sessionId, 1));
+        index.on(new TranscriptStoredEvent(meetingId, sessionId, 1));
+
+        verify(transcriptStore, never()).finalSequenceNumbers(any(), any());
+        assertEquals(0.0, meterRegistry.get("transcript.sequence.index.sessions").gauge().value());
+    }
+
+    @Test
+    void shouldEvictBitmapWhenSessionCloses() {
+        when(liveSessions.isLive(meetingId, sessionId)).thenReturn(true);
+        when(transcriptStore.finalSequenceNumbers(meetingId, sessionId)).thenReturn(List.of(1));
+        index.contains(meetingId, sessionId, 1);
+        assertTrue(meterRegistry.get("transcript.sequence.index.bytes").gauge().value() > 0);
+
+        index.on(new SessionClosedEvent(meetingId, sessionId));
+
+        assertEquals(0.0, meterRegistry.get("transcript.sequence.index.sessions").gauge().value());
+        assertEquals(0.0, meterRegistry.get("transcript.sequence.index.bytes").gauge().value());
+    }
+
+    @Test
+    void shouldDropBitmapOfSessionThatClosedWhileSeeding() {
+        when(liveSessions.isLive(meetingId, sessionId)).thenReturn(true, false);
+        when(transcriptStore.finalSequenceNumbers(meetingId, sessionId)).thenAnswer(invocation -> {
+            index.on(new SessionClosedEvent(meetingId, sessionId));
+            return List.of(1);
+        });
+
+        assertTrue(index.contains(meetingId, sessionId, 1));
+
+        assertEquals(0.0, meterRegistry.get("transcript.sequence.index.sessions").gauge().value());
+    }
+}
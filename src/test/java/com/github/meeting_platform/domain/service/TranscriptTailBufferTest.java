@@ -0,0 +1,171 @@
+package com.github.meeting_platform.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.SessionOpenedEvent;
+import com.github.meeting_platform.domain.events.TranscriptCommittedEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TranscriptTailBufferTest {
+
+    SimpleMeterRegistry meterRegistry;
+    UUID meetingId;
+    UUID sessionId;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        meetingId = UUID.randomUUID();
+        sessionId = UUID.randomUUID();
+    }
+
+    private TranscriptTailBuffer buffer(boolean offHeap) {
+        return new TranscriptTailBuffer(true, 4, 128, offHeap, meterRegistry);
+    }
+
+    private TranscriptTailBuffer openedBuffer(boolean offHeap) {
+        TranscriptTailBuffer buffer = buffer(offHeap);
+        buffer.on(new SessionOpenedEvent(meetingId, sessionId, true));
+        return buffer;
+    }
+
+    private Transcript transcript(int sequenceNumber, String content, int revision, boolean isFinal) {
+        return new Transcript(UUID.randomUUID(), meetingId, sessionId, sequenceNumber, UUID.randomUUID(), "Alice",
+                content, "en", Duration.ofMillis(sequenceNumber * 1000L), Duration.ofMillis(sequenceNumber * 1000L + 500),
+                revision, isFinal);
+    }
+
+    private static void commit(TranscriptTailBuffer buffer, Transcript transcript) {
+        buffer.on(new TranscriptCommittedEvent(transcript));
+    }
+
+    private static List<Integer> sequenceNumbers(List<Transcript> transcripts) {
+        return transcripts.stream().map(Transcript::getSequenceNumber).toList();
+    }
+
+    @Test
+    void shouldAnswerTailInSequenceOrderWithDecodedTranscripts() {
+        TranscriptTailBuffer buffer = openedBuffer(false);
+        Transcript third = transcript(3, "three", 0, true);
+        commit(buffer, transcript(1, "one", 0, true));
+        commit(buffer, third);
+        commit(buffer, transcript(2, "two", 0, true));
+
+        List<Transcript> tail = buffer.tail(meetingId, sessionId, 2).orElseThrow();
+
+        assertEquals(List.of(2, 3), sequenceNumbers(tail));
+        Transcript decoded = tail.get(1);
+        assertEquals(third.getId(), decoded.getId());
+        assertEquals(sessionId, decoded.getSessionId());
+        assertEquals("three", decoded.getContent());
+        assertEquals(third.getSpeaker(), decoded.getSpeaker());
+        assertEquals("en", decoded.getLanguage());
+        assertEquals(third.getEndOffset(), decoded.getEndOffset());
+        assertTrue(decoded.isFinal());
+        // nothing has left the ring yet, so it holds the whole session
+        assertEquals(List.of(1, 2, 3), sequenceNumbers(buffer.tail(meetingId, sessionId, 10).orElseThrow()));
+    }
+
+    @Test
+    void shouldKeepStoredIdWhenRevisionReplacesSequenceNumber() {
+        TranscriptTailBuffer buffer = openedBuffer(false);
+        Transcript interim = transcript(1, "hel", 0, false);
+        commit(buffer, interim);
+        commit(buffer, transcript(1, "hello", 1, true));
+
+        Transcript held = buffer.tail(meetingId, sessionId, 1).orElseThrow().get(0);
+
+        assertEquals(interim.getId(), held.getId());
+        assertEquals("hello", held.getContent());
+        assertTrue(held.isFinal());
+    }
+
+    @Test
+    void shouldMissOnlyTailsReachingPastDroppedSequenceNumbers() {
+        TranscriptTailBuffer buffer = openedBuffer(false);
+        for (int sequence = 1; sequence <= 6; sequence++) {
+            commit(buffer, transcript(sequence, "chunk " + sequence, 0, true));
+        }
+
+        assertEquals(List.of(3, 4, 5, 6), sequenceNumbers(buffer.tail(meetingId, sessionId, 4).orElseThrow()));
+        assertTrue(buffer.tail(meetingId, sessionId, 5).isEmpty());
+        // too old for the window, so it is only in the database
+        commit(buffer, transcript(2, "late", 0, true));
+        assertEquals(List.of(5, 6), sequenceNumbers(buffer.tail(meetingId, sessionId, 2).orElseThrow()));
+        assertEquals(2.0, meterRegistry.get("transcript.tail.hits").counter().count());
+        assertEquals(1.0, meterRegistry.get("transcript.tail.misses").counter().count());
+    }
+
+    @Test
+    void shouldDropWholeWindowOnLargeJump() {
+        TranscriptTailBuffer buffer = openedBuffer(false);
+        commit(buffer, transcript(1, "one", 0, true));
+        commit(buffer, transcript(100, "hundred", 0, true));
+
+        assertEquals(List.of(100), sequenceNumbers(buffer.tail(meetingId, sessionId, 1).orElseThrow()));
+        assertTrue(buffer.tail(meetingId, sessionId, 2).isEmpty());
+        assertEquals(1, buffer.snapshot().get(0).held());
+    }
+
+    @Test
+    void shouldKeepTranscriptLargerThanSlotBesideTheRing() {
+        TranscriptTailBuffer buffer = openedBuffer(false);
+        String longContent = "x".repeat(500);
+        commit(buffer, transcript(1, longContent, 0, true));
+        commit(buffer, transcript(2, "short", 0, true));
+
+        List<Transcript> tail = buffer.tail(meetingId, sessionId, 2).orElseThrow();
+
+        assertEquals(longContent, tail.get(0).getContent());
+        TranscriptTailBuffer.SessionTail session = buffer.snapshot().get(0);
+        assertTrue(session.bytes() > 4 * 128);
+        assertEquals(1.0, session.hitRatio());
+    }
+
+    @Test
+    void shouldHoldNothingForRedeliveredStartOrAfterSessionEnds() {
+        TranscriptTailBuffer buffer = buffer(false);
+        buffer.on(new SessionOpenedEvent(meetingId, sessionId, false));
+        commit(buffer, transcript(1, "one", 0, true));
+        assertTrue(buffer.tail(meetingId, sessionId, 1).isEmpty());
+
+        buffer.on(new SessionOpenedEvent(meetingId, sessionId, true));
+        commit(buffer, transcript(2, "two", 0, true));
+        assertTrue(buffer.tail(UUID.randomUUID(), sessionId, 1).isEmpty());
+        assertEquals(4.0 * 128, meterRegistry.get("transcript.tail.bytes").gauge().value());
+
+        buffer.on(new SessionClosedEvent(meetingId, sessionId));
+        assertTrue(buffer.tail(meetingId, sessionId, 1).isEmpty());
+        assertTrue(buffer.snapshot().isEmpty());
+        assertEquals(0.0, meterRegistry.get("transcript.tail.bytes").gauge().value());
+    }
+
+    @Test
+    void shouldDiscardRingWhenSessionInsertRollsBack() {
+        TranscriptTailBuffer buffer = openedBuffer(false);
+
+        buffer.discard(new SessionOpenedEvent(meetingId, sessionId, false));
+        assertEquals(1, buffer.snapshot().size());
+
+        buffer.discard(new SessionOpenedEvent(meetingId, sessionId, true));
+        assertTrue(buffer.snapshot().isEmpty());
+    }
+
+    @Test
+    void shouldStoreRingsOffHeapWhenConfigured() {
+        TranscriptTailBuffer buffer = openedBuffer(true);
+        commit(buffer, transcript(1, "one", 0, true));
+
+        assertEquals("one", buffer.tail(meetingId, sessionId, 1).orElseThrow().get(0).getContent());
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.meeting_platform.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.github.meeting_platform.common.exceptions.SessionNotFoundException;
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+import com.github.meeting_platform.infrastructure.config.WriteBehindProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TranscriptWriteBehindBufferTest {
+
+    MeetingService meetingService;
+    SimpleMeterRegistry meterRegistry;
+    WriteBehindProperties properties;
+    int submitters;
+    TranscriptWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setup() {
+        meetingService = mock(MeetingService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new WriteBehindProperties();
+        properties.setMaxDelay(Duration.ofMillis(200));
+        properties.setTargetFlushLatency(Duration.ofSeconds(1));
+        submitters = 8;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.shutdown();
+        }
+    }
+
+    private TranscriptWriteBehindBuffer startBuffer() {
+        buffer = new TranscriptWriteBehindBuffer(meetingService, properties.toSettings(submitters), meterRegistry);
+        buffer.start();
+        return buffer;
+    }
+
+    private static AddTranscriptCommand command(int sequenceNumber) {
+        return new AddTranscriptCommand(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), sequenceNumber,
+                UUID.randomUUID(), "speaker", "content", Duration.ZERO, Duration.ZERO, "en");
+    }
+
+    private static void await(List<CompletableFuture<Void>> futures) throws Exception {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldCommitConcurrentSubmissionsTogether() throws Exception {
+        List<List<AddTranscriptCommand>> batches = new CopyOnWriteArrayList<>();
+        when(meetingService.addTranscripts(anyList())).thenAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.getArgument(0)));
+            return Map.of();
+        });
+        startBuffer();
+
+        List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+        List<Thread> submitters = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int sequence = i;
+            Thread submitter = new Thread(() -> futures.add(buffer.submit(command(sequence))));
+            submitters.add(submitter);
+            submitter.start();
+        }
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+        await(futures);
+
+        futures.forEach(future -> assertTrue(future.isDone() && !future.isCompletedExceptionally()));
+        assertEquals(4, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.size() < 4, "submissions within the window should share a flush");
+        verify(meetingService, never()).addTranscript(any());
+        assertEquals(batches.size(), meterRegistry.get("transcript.writebehind.batch.size").summary().count());
+        assertEquals(batches.size(), meterRegistry.get("transcript.writebehind.flush.latency").timer().count());
+    }
+
+    @Test
+    void shouldCloseBatchOnceEverySubmitterHasJoined() throws Exception {
+        // far beyond the test's wait, so only a full batch can release the submitters
+        properties.setMaxDelay(Duration.ofMinutes(1));
+        submitters = 4;
+        List<List<AddTranscriptCommand>> batches = new CopyOnWriteArrayList<>();
+        when(meetingService.addTranscripts(anyList())).thenAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.getArgument(0)));
+            return Map.of();
+        });
+        startBuffer();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < submitters; i++) {
+            futures.add(buffer.submit(command(i)));
+        }
+        await(futures);
+
+        futures.forEach(future -> assertTrue(future.isDone() && !future.isCompletedExceptionally()));
+        assertEquals(List.of(4), batches.stream().map(List::size).toList());
+        assertEquals(4, buffer.batchLimit());
+    }
+
+    @Test
+    void shouldLimitBatchesToSubmitters() {
+        properties.setMinBatchSize(8);
+        submitters = 2;
+        buffer = new TranscriptWriteBehindBuffer(meetingService, properties.toSettings(submitters), meterRegistry);
+
+        assertEquals(2, buffer.batchLimit());
+    }
+
+    @Test
+    void shouldFailOnlyTheRejectedTranscript() throws Exception {
+        AddTranscriptCommand accepted = command(1);
+        AddTranscriptCommand rejected = command(2);
+        when(meetingService.addTranscripts(anyList()))
+                .thenReturn(Map.of(rejected.getTranscriptId(), new SessionNotFoundException("Session not found")));
+        startBuffer();
+
+        CompletableFuture<Void> acceptedFuture = buffer.submit(accepted);
+        CompletableFuture<Void> rejectedFuture = buffer.submit(rejected);
+        await(List.of(acceptedFuture, rejectedFuture));
+
+        assertNull(acceptedFuture.join());
+        CompletionException e = assertThrows(CompletionException.class, rejectedFuture::join);
+        assertInstanceOf(SessionNotFoundException.class, e.getCause());
+    }
+
+    @Test
+    void shouldRetryIndividuallyWhenBatchRollsBack() throws Exception {
+        AddTranscriptCommand first = command(1);
+        AddTranscriptCommand second = command(2);
+        when(meetingService.addTranscripts(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        doThrow(new DataIntegrityViolationException("still broken")).when(meetingService).addTranscript(second);
+        startBuffer();
+
+        CompletableFuture<Void> firstFuture = buffer.submit(first);
+        CompletableFuture<Void> secondFuture = buffer.submit(second);
+        await(List.of(firstFuture, secondFuture));
+
+        assertNull(firstFuture.join());
+        assertThrows(CompletionException.class, secondFuture::join);
+        verify(meetingService).addTranscript(first);
+        verify(meetingService).addTranscript(second);
+    }
+
+    @Test
+    void shouldShrinkBatchLimitWhenFlushIsSlow() throws Exception {
+        properties.setMaxDelay(Duration.ofMillis(1));
+        properties.setTargetFlushLatency(Duration.ofMillis(1));
+        properties.setMinBatchSize(4);
+        when(meetingService.addTranscripts(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            return Map.of();
+        });
+        startBuffer();
+        int initialLimit = buffer.batchLimit();
+
+        await(List.of(buffer.submit(command(1))));
+
+        assertEquals(initialLimit / 2, buffer.batchLimit());
+    }
+
+    @Test
+    void shouldWriteOnCallerThreadWhenNotStarted() {
+        AddTranscriptCommand cmd = command(1);
+        buffer = new TranscriptWriteBehindBuffer(meetingService, properties.toSettings(submitters), meterRegistry);
+
+        CompletableFuture<Void> future = buffer.submit(cmd);
+
+        assertTrue(future.isDone());
+        verify(meetingService).addTranscript(cmd);
+        verify(meetingService, never()).addTranscripts(anyList());
+    }
+}
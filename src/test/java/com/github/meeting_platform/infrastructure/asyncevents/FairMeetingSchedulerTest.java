@@ -0,0 +1,127 @@
+package com.github.meeting_platform.infrastructure.asyncevents;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.meeting_platform.infrastructure.config.FairSchedulerProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FairMeetingSchedulerTest {
+
+    SimpleMeterRegistry meterRegistry;
+    FairSchedulerProperties properties;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new FairSchedulerProperties();
+    }
+
+    // workers are never started, tasks are drained through poll() in service order
+    private static List<String> drain(FairMeetingScheduler scheduler, int count) {
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            FairMeetingScheduler.Task task = scheduler.poll();
+            assertNotNull(task);
+            task.runnable.run();
+            order.add(task.meetingId.toString());
+        }
+        return order;
+    }
+
+    @Test
+    void shouldServeSmallMeetingWithoutWaitingForBurstOfLargeMeeting() {
+        FairMeetingScheduler scheduler = new FairMeetingScheduler(properties, meterRegistry);
+        UUID allHands = UUID.randomUUID();
+        UUID oneOnOne = UUID.randomUUID();
+
+        for (int i = 0; i < 100; i++) {
+            scheduler.submit(allHands, "meeting.transcript", () -> { });
+        }
+        scheduler.submit(oneOnOne, "meeting.transcript", () -> { });
+
+        List<String> order = drain(scheduler, 2);
+
+        assertEquals(List.of(allHands.toString(), oneOnOne.toString()), order);
+        assertEquals(99, scheduler.queuedCount());
+        assertEquals(1, scheduler.activeMeetingCount());
+    }
+
+    @Test
+    void shouldGiveWeightedOrganizerProportionallyMoreTurns() {
+        UUID organizer = UUID.randomUUID();
+        properties.setOrganizerWeights(Map.of(organizer, 3.0));
+        FairMeetingScheduler scheduler = new FairMeetingScheduler(properties, meterRegistry);
+        UUID weighted = UUID.randomUUID();
+        UUID regular = UUID.randomUUID();
+        scheduler.assignOrganizer(weighted, organizer);
+
+        for (int i = 0; i < 9; i++) {
+            scheduler.submit(weighted, "meeting.transcript", () -> { });
+            scheduler.submit(regular, "meeting.transcript", () -> { });
+        }
+
+        List<String> order = drain(scheduler, 8);
+
+        assertEquals(6, order.stream().filter(weighted.toString()::equals).count());
+        assertEquals(2, order.stream().filter(regular.toString()::equals).count());
+    }
+
+    @Test
+    void shouldKeepFifoOrderWithinMeeting() {
+        FairMeetingScheduler scheduler = new FairMeetingScheduler(properties, meterRegistry);
+        UUID meetingId = UUID.randomUUID();
+        List<Integer> executed = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            int sequence = i;
+            scheduler.submit(meetingId, "meeting.transcript", () -> executed.add(sequence));
+        }
+        drain(scheduler, 5);
+
+        assertEquals(List.of(0, 1, 2, 3, 4), executed);
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    void shouldRunOnCallerThreadWhenCapacityExhausted() {
+        properties.setCapacity(2);
+        FairMeetingScheduler scheduler = new FairMeetingScheduler(properties, meterRegistry);
+        UUID meetingId = UUID.randomUUID();
+        List<String> threads = new ArrayList<>();
+
+        scheduler.submit(meetingId, "meeting.transcript", () -> { });
+        scheduler.submit(meetingId, "meeting.transcript", () -> { });
+        scheduler.submit(meetingId, "meeting.transcript", () -> threads.add(Thread.currentThread().getName()));
+
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+        assertEquals(2, scheduler.queuedCount());
+        assertEquals(1.0, meterRegistry.get("meeting.scheduler.caller.runs").counter().count());
+    }
+
+    @Test
+    void shouldRecordQueueWaitPerEventType() {
+        FairMeetingScheduler scheduler = new FairMeetingScheduler(properties, meterRegistry);
+
+        scheduler.submit(UUID.randomUUID(), "meeting.started", () -> { });
+        drain(scheduler, 1);
+
+        assertEquals(1, meterRegistry.get("meeting.scheduler.queue.wait")
+                .tag("event", "meeting.started").timer().count());
+    }
+
+    @Test
+    void shouldRejectNonPositiveWeights() {
+        properties.setOrganizerWeights(Map.of(UUID.randomUUID(), 0.0));
+
+        assertThrows(IllegalArgumentException.class, () -> new FairMeetingScheduler(properties, meterRegistry));
+    }
+}
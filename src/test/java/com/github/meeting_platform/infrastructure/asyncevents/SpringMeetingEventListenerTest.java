@@ -1,10 +1,12 @@
 package com.github.meeting_platform.infrastructure.asyncevents;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
 import java.util.UUID;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -25,9 +27,20 @@ class MeetingEventListenerTest {
     @Mock
     private MeetingEventHandler eventHandler;
 
+    @Mock
+    private FairMeetingScheduler scheduler;
+
     @InjectMocks
     private MeetingEventListener listener;
 
+    @BeforeEach
+    void runScheduledTasksInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).when(scheduler).submit(any(), any(), any());
+    }
+
     @Test
     void on_MeetingStartedWebhookRequest_createsAndHandlesEvent() {
         // Arrange
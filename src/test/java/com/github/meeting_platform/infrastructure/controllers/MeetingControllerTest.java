@@ -6,17 +6,28 @@ import static org.mockito.Mockito.*;
 import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.model.TranscriptPage;
+import com.github.meeting_platform.domain.repository.PrimaryReads;
 import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.infrastructure.config.TranscriptPageProperties;
+import com.github.meeting_platform.infrastructure.live.LiveTranscriptBroadcaster;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
 class MeetingControllerTest {
@@ -24,6 +35,12 @@ class MeetingControllerTest {
     @Mock
     private MeetingService meetingService;
 
+    @Mock
+    private LiveTranscriptBroadcaster liveTranscripts;
+
+    @Spy
+    private TranscriptPageProperties pageProperties = new TranscriptPageProperties();
+
     @InjectMocks
     private MeetingController controller;
 
@@ -42,7 +59,7 @@ class MeetingControllerTest {
                 .thenReturn(List.of());
 
         ResponseEntity<List<Transcript>> response = controller.getSessionTranscript(meetingId.toString(),
-                sessionId.toString());
+                sessionId.toString(), false);
 
         assertEquals(200, response.getStatusCode().value());
         assertNotNull(response.getBody());
@@ -62,7 +79,7 @@ class MeetingControllerTest {
                 .thenReturn(List.of(transcript));
 
         ResponseEntity<List<Transcript>> response = controller.getSessionTranscript(meetingId.toString(),
-                sessionId.toString());
+                sessionId.toString(), false);
 
         assertEquals(200, response.getStatusCode().value());
         assertNotNull(response.getBody());
@@ -85,7 +102,7 @@ class MeetingControllerTest {
                 .thenReturn(List.of(t1, t2));
 
         ResponseEntity<List<Transcript>> response = controller.getSessionTranscript(meetingId.toString(),
-                sessionId.toString());
+                sessionId.toString(), false);
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(2, response.getBody().size());
@@ -97,7 +114,7 @@ class MeetingControllerTest {
     @Test
     void getSessionTranscript_invalidMeetingUuid_throwsException() {
         assertThrows(IllegalArgumentException.class,
-                () -> controller.getSessionTranscript("invalid-uuid", sessionId.toString()));
+                () -> controller.getSessionTranscript("invalid-uuid", sessionId.toString(), false));
 
         verifyNoInteractions(meetingService);
     }
@@ -105,7 +122,7 @@ class MeetingControllerTest {
     @Test
     void getSessionTranscript_invalidSessionUuid_throwsException() {
         assertThrows(IllegalArgumentException.class,
-                () -> controller.getSessionTranscript(meetingId.toString(), "invalid-uuid"));
+                () -> controller.getSessionTranscript(meetingId.toString(), "invalid-uuid", false));
 
         verifyNoInteractions(meetingService);
     }
@@ -113,7 +130,7 @@ class MeetingControllerTest {
     @Test
     void getSessionTranscript_nullMeetingId_throwsException() {
         assertThrows(NullPointerException.class,
-                () -> controller.getSessionTranscript(null, sessionId.toString()));
+                () -> controller.getSessionTranscript(null, sessionId.toString(), false));
 
         verifyNoInteractions(meetingService);
     }
@@ -121,7 +138,7 @@ class MeetingControllerTest {
     @Test
     void getSessionTranscript_nullSessionId_throwsException() {
         assertThrows(NullPointerException.class,
-                () -> controller.getSessionTranscript(meetingId.toString(), null));
+                () -> controller.getSessionTranscript(meetingId.toString(), null, false));
 
         verifyNoInteractions(meetingService);
     }
@@ -132,8 +149,96 @@ class MeetingControllerTest {
                 .thenThrow(new RuntimeException("DB failure"));
 
         assertThrows(RuntimeException.class,
-                () -> controller.getSessionTranscript(meetingId.toString(), sessionId.toString()));
+                () -> controller.getSessionTranscript(meetingId.toString(), sessionId.toString(), false));
 
         verify(meetingService).getSessionTranscripts(meetingId, sessionId);
     }
+
+    @Test
+    void getSessionTranscript_fresh_readsFromPrimary() throws Exception {
+        when(meetingService.getSessionTranscripts(meetingId, sessionId)).thenAnswer(invocation -> {
+            assertTrue(PrimaryReads.isRequested());
+            return List.of();
+        });
+
+        controller.getSessionTranscript(meetingId.toString(), sessionId.toString(), true);
+
+        verify(meetingService).getSessionTranscripts(meetingId, sessionId);
+        assertFalse(PrimaryReads.isRequested());
+    }
+
+    @Test
+    void getSessionTranscriptPage_passesCursorAndLimit() {
+        TranscriptPage page = new TranscriptPage(List.of(), 7, false);
+        when(meetingService.getSessionTranscriptPage(meetingId, sessionId, 7, 50)).thenReturn(page);
+
+        ResponseEntity<TranscriptPage> response = controller.getSessionTranscriptPage(meetingId.toString(),
+                sessionId.toString(), 7, 50, false);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void getSessionTranscriptPage_capsLimitAtMaximumPageSize() {
+        pageProperties.setMaxSize(100);
+        when(meetingService.getSessionTranscriptPage(meetingId, sessionId, null, 100))
+                .thenReturn(new TranscriptPage(List.of(), null, false));
+
+        controller.getSessionTranscriptPage(meetingId.toString(), sessionId.toString(), null, 5_000, false);
+
+        verify(meetingService).getSessionTranscriptPage(meetingId, sessionId, null, 100);
+    }
+
+    @Test
+    void getSessionTranscriptTail_capsCountAtMaximumPageSize() {
+        pageProperties.setMaxSize(100);
+        when(meetingService.getSessionTranscriptTail(meetingId, sessionId, 100)).thenReturn(List.of());
+
+        ResponseEntity<List<Transcript>> response = controller.getSessionTranscriptTail(meetingId.toString(),
+                sessionId.toString(), 5_000);
+
+        assertEquals(200, response.getStatusCode().value());
+        verify(meetingService).getSessionTranscriptTail(meetingId, sessionId, 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamSessionTranscript_writesOneJsonLinePerTranscript() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        MeetingController streaming = new MeetingController(meetingService, pageProperties, objectMapper,
+                liveTranscripts);
+        Transcript t1 = new Transcript(UUID.randomUUID(), meetingId, sessionId, 1,
+                UUID.randomUUID(), "Speaker1", "Content1", "en",
+                Duration.ZERO, Duration.ofSeconds(5));
+        Transcript t2 = new Transcript(UUID.randomUUID(), meetingId, sessionId, 2,
+                UUID.randomUUID(), "Speaker2", "Content2", "en",
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+        doAnswer(invocation -> {
+            Consumer<Transcript> sink = invocation.getArgument(2);
+            sink.accept(t1);
+            sink.accept(t2);
+            return null;
+        }).when(meetingService).streamSessionTranscripts(eq(meetingId), eq(sessionId), any(Consumer.class));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        streaming.streamSessionTranscript(meetingId.toString(), sessionId.toString(), false, response);
+
+        assertEquals("application/x-ndjson", response.getContentType());
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Content1", first.get("content").asString());
+        assertEquals(2, objectMapper.readTree(lines[1]).get("sequenceNumber").asInt());
+    }
+
+    @Test
+    void liveSessionTranscript_subscribesWithLastEventId() {
+        SseEmitter emitter = new SseEmitter();
+        when(liveTranscripts.subscribe(meetingId, sessionId, 41)).thenReturn(emitter);
+
+        SseEmitter response = controller.liveSessionTranscript(meetingId.toString(), sessionId.toString(), 41);
+
+        assertSame(emitter, response);
+    }
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
@@ -21,6 +22,9 @@ import com.github.meeting_platform.infrastructure.asyncevents.MeetingEventPublis
 import com.github.meeting_platform.infrastructure.dto.MeetingEndedWebhookRequest;
 import com.github.meeting_platform.infrastructure.dto.MeetingStartedWebhookRequest;
 import com.github.meeting_platform.infrastructure.dto.MeetingTranscriptWebhookRequest;
+import com.github.meeting_platform.infrastructure.idempotency.DeliveryKey;
+import com.github.meeting_platform.infrastructure.idempotency.TimeBucketedDeliveryIdStore;
+import com.github.meeting_platform.infrastructure.validator.WebhookPayloadValidator;
 
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
@@ -31,9 +35,15 @@ class WebhookControllerTest {
     @Mock
     MeetingEventPublisher eventPublisher;
 
+    @Mock
+    WebhookPayloadValidator validator;
+
     @Mock
     ObjectMapper objectMapper;
 
+    @Mock
+    TimeBucketedDeliveryIdStore deliveryIds;
+
     @InjectMocks
     WebhookController controller;
 
@@ -54,16 +64,16 @@ class WebhookControllerTest {
             when(eventNode.asString()).thenReturn("meeting.started");
 
             MeetingStartedWebhookRequest dto = createValidStartedRequest();
-            when(objectMapper.convertValue(payload, MeetingStartedWebhookRequest.class))
+            when(validator.convertAndValidate(payload, MeetingStartedWebhookRequest.class))
                     .thenReturn(dto);
 
-            ResponseEntity<Map<String, String>> response = controller.handleWebhook(payload);
+            ResponseEntity<Map<String, String>> response = controller.dispatch(payload);
 
             assertEquals(202, response.getStatusCode().value());
             assertEquals("accepted", response.getBody().get("status"));
 
-            verify(objectMapper)
-                    .convertValue(payload, MeetingStartedWebhookRequest.class);
+            verify(validator)
+                    .convertAndValidate(payload, MeetingStartedWebhookRequest.class);
 
             verify(eventPublisher).publish(dto);
         }
@@ -79,11 +89,10 @@ class WebhookControllerTest {
 
             MeetingTranscriptWebhookRequest dto = createValidTranscriptRequest();
 
-            when(objectMapper.convertValue(payload,
-                    MeetingTranscriptWebhookRequest.class))
+            when(validator.convertAndValidate(payload, MeetingTranscriptWebhookRequest.class))
                     .thenReturn(dto);
 
-            ResponseEntity<Map<String, String>> response = controller.handleWebhook(payload);
+            ResponseEntity<Map<String, String>> response = controller.dispatch(payload);
 
             assertEquals(202, response.getStatusCode().value());
             verify(eventPublisher).publish(dto);
@@ -100,11 +109,10 @@ class WebhookControllerTest {
 
             MeetingEndedWebhookRequest dto = createValidEndedRequest();
 
-            when(objectMapper.convertValue(payload,
-                    MeetingEndedWebhookRequest.class))
+            when(validator.convertAndValidate(payload, MeetingEndedWebhookRequest.class))
                     .thenReturn(dto);
 
-            ResponseEntity<Map<String, String>> response = controller.handleWebhook(payload);
+            ResponseEntity<Map<String, String>> response = controller.dispatch(payload);
 
             assertEquals(202, response.getStatusCode().value());
             verify(eventPublisher).publish(dto);
@@ -120,10 +128,10 @@ class WebhookControllerTest {
             when(eventNode.asString()).thenReturn("unknown.event");
 
             assertThrows(InvalidEventException.class,
-                    () -> controller.handleWebhook(payload));
+                    () -> controller.dispatch(payload));
 
             verifyNoInteractions(eventPublisher);
-            verifyNoInteractions(objectMapper);
+            verifyNoInteractions(validator);
         }
 
         @Test
@@ -132,7 +140,7 @@ class WebhookControllerTest {
             when(payload.has("event")).thenReturn(false);
 
             assertThrows(InvalidEventException.class,
-                    () -> controller.handleWebhook(payload));
+                    () -> controller.dispatch(payload));
 
             verifyNoInteractions(eventPublisher);
         }
@@ -146,11 +154,11 @@ class WebhookControllerTest {
             when(payload.get("event")).thenReturn(eventNode);
             when(eventNode.asString()).thenReturn("meeting.started");
 
-            when(objectMapper.convertValue(payload, MeetingStartedWebhookRequest.class))
+            when(validator.convertAndValidate(payload, MeetingStartedWebhookRequest.class))
                     .thenThrow(new RuntimeException("Mapping failed"));
 
             assertThrows(RuntimeException.class,
-                    () -> controller.handleWebhook(payload));
+                    () -> controller.dispatch(payload));
 
             verify(eventPublisher, never()).publish(any());
         }
@@ -166,15 +174,14 @@ class WebhookControllerTest {
 
             MeetingStartedWebhookRequest dto = createValidStartedRequest();
 
-            when(objectMapper.convertValue(payload,
-                    MeetingStartedWebhookRequest.class))
+            when(validator.convertAndValidate(payload, MeetingStartedWebhookRequest.class))
                     .thenReturn(dto);
 
             doThrow(new RuntimeException("Publish failed"))
                     .when(eventPublisher).publish(dto);
 
             assertThrows(RuntimeException.class,
-                    () -> controller.handleWebhook(payload));
+                    () -> controller.dispatch(payload));
         }
 
         @Test
@@ -186,10 +193,10 @@ class WebhookControllerTest {
             when(payload.get("event")).thenReturn(eventNode);
             when(eventNode.asString()).thenReturn("meeting.started");
 
-            when(objectMapper.convertValue(payload, MeetingStartedWebhookRequest.class))
+            when(validator.convertAndValidate(payload, MeetingStartedWebhookRequest.class))
                     .thenReturn(createValidStartedRequest());
 
-            ResponseEntity<Map<String, String>> response = controller.handleWebhook(payload);
+            ResponseEntity<Map<String, String>> response = controller.dispatch(payload);
 
             assertEquals(202, response.getStatusCode().value());
             assertNotNull(response.getBody());
@@ -197,6 +204,68 @@ class WebhookControllerTest {
         }
     }
 
+    // ============================================================
+    // DELIVERY IDEMPOTENCY TESTS
+    // ============================================================
+
+    @Nested
+    class DeliveryIdempotencyTests {
+
+        final byte[] body = "{\"event\":\"meeting.started\"}".getBytes(StandardCharsets.UTF_8);
+
+        @Test
+        void shouldAnswerReplayWithoutParsingOrPublishing() {
+            when(deliveryIds.markIfAbsent(DeliveryKey.of("delivery-1", body))).thenReturn(false);
+
+            ResponseEntity<Map<String, String>> response = controller.handleWebhook("delivery-1", body);
+
+            assertEquals(202, response.getStatusCode().value());
+            assertEquals("duplicate", response.getBody().get("status"));
+            verifyNoInteractions(objectMapper, validator, eventPublisher);
+        }
+
+        @Test
+        void shouldParseAndPublishFirstDelivery() {
+            JsonNode payload = mock(JsonNode.class);
+            JsonNode eventNode = mock(JsonNode.class);
+            when(payload.has("event")).thenReturn(true);
+            when(payload.get("event")).thenReturn(eventNode);
+            when(eventNode.asString()).thenReturn("meeting.started");
+            MeetingStartedWebhookRequest dto = createValidStartedRequest();
+            when(deliveryIds.markIfAbsent(any())).thenReturn(true);
+            when(objectMapper.readTree(body)).thenReturn(payload);
+            when(validator.convertAndValidate(payload, MeetingStartedWebhookRequest.class)).thenReturn(dto);
+
+            ResponseEntity<Map<String, String>> response = controller.handleWebhook(null, body);
+
+            assertEquals("accepted", response.getBody().get("status"));
+            verify(eventPublisher).publish(dto);
+            verify(deliveryIds).markIfAbsent(DeliveryKey.of(null, body));
+        }
+
+        @Test
+        void shouldForgetDeliveryWhenProcessingFails() {
+            DeliveryKey key = DeliveryKey.of("delivery-2", body);
+            JsonNode payload = mock(JsonNode.class);
+            when(payload.has("event")).thenReturn(false);
+            when(deliveryIds.markIfAbsent(key)).thenReturn(true);
+            when(objectMapper.readTree(body)).thenReturn(payload);
+
+            assertThrows(InvalidEventException.class, () -> controller.handleWebhook("delivery-2", body));
+
+            verify(deliveryIds).forget(key);
+        }
+
+        @Test
+        void shouldKeyOnHeaderRatherThanBodyWhenPresent() {
+            byte[] otherBody = "{\"event\":\"meeting.ended\"}".getBytes(StandardCharsets.UTF_8);
+
+            assertEquals(DeliveryKey.of("delivery-3", body), DeliveryKey.of("delivery-3", otherBody));
+            assertNotEquals(DeliveryKey.of(null, body), DeliveryKey.of(null, otherBody));
+            assertNotEquals(DeliveryKey.of("delivery-3", body), DeliveryKey.of(null, body));
+        }
+    }
+
     // ============================================================
     // HEALTH ENDPOINT TESTS
     // ============================================================
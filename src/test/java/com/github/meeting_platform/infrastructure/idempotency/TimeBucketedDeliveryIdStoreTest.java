@@ -0,0 +1,121 @@
+package com.github.meeting_platform.infrastructure.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.meeting_platform.infrastructure.config.IdempotencyProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TimeBucketedDeliveryIdStoreTest {
+
+    AtomicLong clock;
+    SimpleMeterRegistry meterRegistry;
+    IdempotencyProperties properties;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new IdempotencyProperties();
+        properties.setTtl(Duration.ofSeconds(10));
+        properties.setBuckets(5);
+        properties.setCapacityPerBucket(4);
+    }
+
+    private TimeBucketedDeliveryIdStore store() {
+        return new TimeBucketedDeliveryIdStore(properties, meterRegistry, clock::get);
+    }
+
+    private static DeliveryKey key(String id) {
+        return DeliveryKey.of(id, new byte[0]);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void shouldRecogniseReplayWithinTtl() {
+        TimeBucketedDeliveryIdStore store = store();
+
+        assertTrue(store.markIfAbsent(key("a")));
+        advance(Duration.ofSeconds(7));
+
+        assertFalse(store.markIfAbsent(key("a")));
+        assertTrue(store.markIfAbsent(key("b")));
+        assertEquals(1.0, meterRegistry.get("webhook.deliveries.duplicate").counter().count());
+    }
+
+    @Test
+    void shouldExpireDeliveriesAfterTtl() {
+        TimeBucketedDeliveryIdStore store = store();
+        store.markIfAbsent(key("a"));
+
+        advance(Duration.ofSeconds(11));
+
+        assertTrue(store.markIfAbsent(key("a")));
+    }
+
+    @Test
+    void shouldReuseExpiredBucketAndReleaseItsEntries() {
+        TimeBucketedDeliveryIdStore store = store();
+        store.markIfAbsent(key("a"));
+        store.markIfAbsent(key("b"));
+        assertEquals(2, store.size());
+
+        advance(Duration.ofSeconds(10));
+        store.markIfAbsent(key("c"));
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void shouldStopTrackingWhenBucketIsFull() {
+        TimeBucketedDeliveryIdStore store = store();
+        for (int i = 0; i < 4; i++) {
+            assertTrue(store.markIfAbsent(key("k" + i)));
+        }
+
+        assertTrue(store.markIfAbsent(key("overflow")));
+        assertTrue(store.markIfAbsent(key("overflow")));
+
+        assertEquals(4, store.size());
+        assertEquals(2.0, meterRegistry.get("webhook.deliveries.untracked").counter().count());
+    }
+
+    @Test
+    void shouldAcceptRetryAfterForget() {
+        TimeBucketedDeliveryIdStore store = store();
+        store.markIfAbsent(key("a"));
+        store.markIfAbsent(key("b"));
+
+        store.forget(key("a"));
+
+        assertTrue(store.markIfAbsent(key("a")));
+        assertFalse(store.markIfAbsent(key("b")));
+    }
+
+    @Test
+    void shouldWorkOffHeap() {
+        properties.setOffHeap(true);
+        TimeBucketedDeliveryIdStore store = store();
+
+        assertTrue(store.markIfAbsent(key("a")));
+        assertFalse(store.markIfAbsent(key("a")));
+    }
+
+    @Test
+    void shouldAcceptEverythingWhenDisabled() {
+        properties.setEnabled(false);
+        TimeBucketedDeliveryIdStore store = store();
+
+        assertTrue(store.markIfAbsent(key("a")));
+        assertTrue(store.markIfAbsent(key("a")));
+    }
+}
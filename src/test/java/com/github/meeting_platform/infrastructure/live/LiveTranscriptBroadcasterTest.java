@@ -0,0 +1,226 @@
+package com.github.meeting_platform.infrastructure.live;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.github.meeting_platform.common.exceptions.SessionNotFoundException;
+import com.github.meeting_platform.domain.events.SessionClosedEvent;
+import com.github.meeting_platform.domain.events.TranscriptCommittedEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.model.TranscriptPage;
+import com.github.meeting_platform.domain.service.LiveSessionRegistry;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.infrastructure.config.LiveTranscriptProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LiveTranscriptBroadcasterTest {
+
+    MeetingService meetingService;
+    LiveSessionRegistry liveSessions;
+    LiveTranscriptProperties properties;
+    SimpleMeterRegistry meterRegistry;
+    LiveTranscriptBroadcaster broadcaster;
+    UUID meetingId;
+    UUID sessionId;
+
+    @BeforeEach
+    void setup() {
+        meetingService = mock(MeetingService.class);
+        liveSessions = mock(LiveSessionRegistry.class);
+        properties = new LiveTranscriptProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        meetingId = UUID.randomUUID();
+        sessionId = UUID.randomUUID();
+        when(liveSessions.isLive(eq(meetingId), any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+    }
+
+    private LiveTranscriptBroadcaster broadcaster() {
+        broadcaster = new LiveTranscriptBroadcaster(meetingService, liveSessions, properties, meterRegistry) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+        broadcaster.start();
+        return broadcaster;
+    }
+
+    private Transcript transcript(UUID session, int sequenceNumber) {
+        return new Transcript(UUID.randomUUID(), meetingId, session, sequenceNumber, UUID.randomUUID(), "Alice",
+                "chunk " + sequenceNumber, "en", Duration.ofSeconds(sequenceNumber), Duration.ofSeconds(sequenceNumber + 1),
+                0, true);
+    }
+
+    private void commit(Transcript transcript) {
+        broadcaster.on(new TranscriptCommittedEvent(transcript));
+    }
+
+    @Test
+    void shouldPushCommittedTranscriptsToSubscribersOfTheirSession() {
+        LiveTranscriptBroadcaster broadcaster = broadcaster();
+        RecordingEmitter first = (RecordingEmitter) broadcaster.subscribe(meetingId, sessionId, null);
+        RecordingEmitter second = (RecordingEmitter) broadcaster.subscribe(meetingId, sessionId, null);
+
+        commit(transcript(sessionId, 1));
+        commit(transcript(UUID.randomUUID(), 1));
+        commit(transcript(sessionId, 2));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertEquals(List.of("1", "2"), first.events);
+            assertEquals(List.of("1", "2"), second.events);
+        });
+        verifyNoInteractions(meetingService);
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void shouldReplayTranscriptsAfterLastEventIdBeforeLiveOnes() {
+        Transcript fourth = transcript(sessionId, 4);
+        Transcript fifth = transcript(sessionId, 5);
+        when(meetingService.getSessionTranscriptPage(meetingId, sessionId, 3, properties.getReplayPageSize()))
+                .thenReturn(new TranscriptPage(List.of(fourth, fifth), 5, false));
+        LiveTranscriptBroadcaster broadcaster = broadcaster();
+
+        RecordingEmitter emitter = (RecordingEmitter) broadcaster.subscribe(meetingId, sessionId, 3);
+        // already replayed, e.g. committed while the replay was read
+        commit(fifth);
+        commit(transcript(sessionId, 6));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(List.of("4", "5", "6"), emitter.events));
+        assertEquals(2.0, meterRegistry.get("live.transcripts.replayed").counter().count());
+    }
+
+    @Test
+    void shouldReadReplayPagesUntilCaughtUp() {
+        properties.setReplayPageSize(2);
+        when(meetingService.getSessionTranscriptPage(meetingId, sessionId, 3, 2))
+                .thenReturn(new TranscriptPage(List.of(transcript(sessionId, 4), transcript(sessionId, 5)), 5, true));
+        when(meetingService.getSessionTranscriptPage(meetingId, sessionId, 5, 2))
+                .thenReturn(new TranscriptPage(List.of(transcript(sessionId, 6)), 6, false));
+        LiveTranscriptBroadcaster broadcaster = broadcaster();
+
+        RecordingEmitter emitter = (RecordingEmitter) broadcaster.subscribe(meetingId, sessionId, 3);
+        commit(transcript(sessionId, 7));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(List.of("4", "5", "6", "7"), emitter.events));
+        assertEquals(3.0, meterRegistry.get("live.transcripts.replayed").counter().count());
+    }
+
+    @Test
+    void shouldResetSubscriberFurtherBehindThanTheReplayLimit() {
+        properties.setReplayLimit(3);
+        properties.setReplayPageSize(2);
+        when(meetingService.getSessionTranscriptPage(meetingId, sessionId, 3, 2))
+                .thenReturn(new TranscriptPage(List.of(transcript(sessionId, 4), transcript(sessionId, 5)), 5, true));
+        when(meetingService.getSessionTranscriptPage(meetingId, sessionId, 5, 1))
+                .thenReturn(new TranscriptPage(List.of(transcript(sessionId, 6)), 6, true));
+        LiveTranscriptBroadcaster broadcaster = broadcaster();
+
+        RecordingEmitter emitter = (RecordingEmitter) broadcaster.subscribe(meetingId, sessionId, 3);
+        commit(transcript(sessionId, 9));
+
+        assertTrue(emitter.completed);
+        assertEquals(List.of("4", "5", "6", "reset"), emitter.events);
+        assertEquals(0, broadcaster.subscriberCount());
+        verify(meetingService, times(2)).getSessionTranscriptPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldEvictSubscriberWhoseQueueIsFull() {
+        properties.setSubscriberBuffer(2);
+        LiveTranscriptBroadcaster broadcaster = broadcaster();
+        RecordingEmitter slow = (RecordingEmitter) broadcaster.subscribe(meetingId, sessionId, null);
+        slow.gate = new CountDownLatch(1);
+        try {
+            for (int sequence = 1; sequence <= 5; sequence++) {
+                commit(transcript(sessionId, sequence));
+            }
+
+            assertTrue(slow.completed);
+            assertEquals(0, broadcaster.subscriberCount());
+            assertEquals(1.0, meterRegistry.get("live.subscribers.evicted").counter().count());
+        } finally {
+            slow.gate.countDown();
+        }
+    }
+
+    @Test
+    void shouldEndStreamsAfterQueuedTranscriptsWhenSessionCloses() {
+        LiveTranscriptBroadcaster broadcaster = broadcaster();
+        RecordingEmitter emitter = (RecordingEmitter) broadcaster.subscribe(meetingId, sessionId, null);
+
+        commit(transcript(sessionId, 1));
+        broadcaster.on(new SessionClosedEvent(meetingId, sessionId));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.completed);
+        assertEquals(List.of("1", "end"), emitter.events);
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void shouldRejectSessionThatIsNotLive() {
+        LiveTranscriptBroadcaster broadcaster = broadcaster();
+        UUID ended = UUID.randomUUID();
+        when(liveSessions.isLive(meetingId, ended)).thenReturn(false);
+
+        assertThrows(SessionNotFoundException.class, () -> broadcaster.subscribe(meetingId, ended, null));
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    // records event ids (or "end" and "reset") instead of writing to a response
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch gate;
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof Transcript transcript) {
+                    events.add(Integer.toString(transcript.getSequenceNumber()));
+                } else if (data.getData().toString().contains("event:end")) {
+                    events.add("end");
+                } else if (data.getData().toString().contains("event:reset")) {
+                    events.add("reset");
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class HashingTest {
+
+    // segment bloom filters are persisted, so the finalizer must stay the reference murmur3 one
+    @Test
+    void shouldMatchTheReferenceMurmur3Finalizer() {
+        assertEquals(0L, Hashing.fmix64(0L));
+        assertEquals(0xb456bcfc34c2cb2cL, Hashing.fmix64(1L));
+        assertEquals(0x87cbfbfe89022ceaL, Hashing.fmix64(0x0123456789abcdefL));
+    }
+}
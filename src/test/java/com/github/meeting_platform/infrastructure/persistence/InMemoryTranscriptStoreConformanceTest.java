@@ -0,0 +1,13 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+
+class InMemoryTranscriptStoreConformanceTest extends TranscriptStoreConformanceTest {
+
+    private final InMemoryTranscriptStore store = new InMemoryTranscriptStore();
+
+    @Override
+    TranscriptStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+
+@SpringBootTest(properties = "meeting.transcripts.store=jdbc")
+@Transactional
+class JdbcTranscriptStoreConformanceTest extends TranscriptStoreConformanceTest {
+
+    @Autowired
+    TranscriptStore store;
+
+    @Override
+    TranscriptStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptWriteResult;
+
+@SpringBootTest(properties = "meeting.transcripts.store=jdbc")
+@Transactional
+class JdbcTranscriptStoreTest {
+
+    @Autowired
+    JdbcTranscriptStore store;
+
+    @Autowired
+    TranscriptRepository transcriptRepository;
+
+    private static Transcript transcript(UUID id, UUID meetingId, UUID sessionId, int sequenceNumber) {
+        return new Transcript(id, meetingId, sessionId, sequenceNumber, UUID.randomUUID(), "Alice",
+                "Hello world", "en", Duration.ofMillis(1500), Duration.ofSeconds(3));
+    }
+
+    @Test
+    void shouldInsertNewRowsAndReportDuplicatesWithoutFailing() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        Transcript first = transcript(UUID.randomUUID(), meetingId, sessionId, 1);
+        Transcript second = transcript(UUID.randomUUID(), meetingId, sessionId, 2);
+        store.write(List.of(first));
+
+        Transcript sameId = transcript(first.getId(), meetingId, sessionId, 1);
+        Transcript sameSequence = transcript(UUID.randomUUID(), meetingId, sessionId, 2);
+        TranscriptWriteResult result = store.write(List.of(sameId, second, sameSequence));
+
+        assertEquals(List.of(second.getId()), result.written());
+        assertEquals(Set.of(first.getId(), sameSequence.getId()), result.duplicates());
+        assertEquals(2, StreamSupport.stream(
+                transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId)
+                        .spliterator(), false).count());
+    }
+
+    @Test
+    void shouldStoreRowsReadableThroughJpa() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        Transcript transcript = transcript(UUID.randomUUID(), meetingId, sessionId, 7);
+
+        store.write(List.of(transcript));
+
+        Transcript stored = transcriptRepository.findById(transcript.getId()).orElseThrow();
+        assertEquals(7, stored.getSequenceNumber());
+        assertEquals("Alice", stored.getSpeaker().getName());
+        assertEquals(Duration.ofMillis(1500), stored.getStartOffset());
+        assertEquals(Duration.ofSeconds(3), stored.getEndOffset());
+    }
+
+    @Test
+    void shouldShareOneSpeakerInstanceAcrossRowsRead() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        UUID speakerId = UUID.randomUUID();
+        store.write(List.of(
+                new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, speakerId, "Alice", "one", "en",
+                        Duration.ZERO, Duration.ofSeconds(1)),
+                new Transcript(UUID.randomUUID(), meetingId, sessionId, 2, speakerId, "Alice", "two", "en",
+                        Duration.ofSeconds(1), Duration.ofSeconds(2))));
+
+        List<Transcript> stored = StreamSupport.stream(
+                transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId)
+                        .spliterator(), false).toList();
+
+        assertEquals(2, stored.size());
+        assertSame(stored.get(0).getSpeaker(), stored.get(1).getSpeaker());
+        assertEquals(speakerId, stored.get(1).getSpeaker().getId());
+        assertEquals("en", stored.get(1).getLanguage());
+        assertEquals(Duration.ofSeconds(2), stored.get(1).getEndOffset());
+    }
+
+    @Test
+    void shouldReplaceInterimRevisionInPlaceAndKeepFinalOne() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        Transcript interim = revision(UUID.randomUUID(), meetingId, sessionId, 1, "hel", false);
+        Transcript newer = revision(UUID.randomUUID(), meetingId, sessionId, 2, "hello", false);
+        Transcript stale = revision(UUID.randomUUID(), meetingId, sessionId, 1, "he", false);
+        Transcript fin = revision(UUID.randomUUID(), meetingId, sessionId, 0, "hello world", true);
+        Transcript late = revision(UUID.randomUUID(), meetingId, sessionId, 3, "hello there", false);
+
+        TranscriptWriteResult result = store.write(List.of(interim, newer, stale, fin, late));
+
+        assertEquals(List.of(interim.getId(), newer.getId(), fin.getId()), result.written());
+        assertEquals(Set.of(stale.getId(), late.getId()), result.duplicates());
+        Transcript stored = transcriptRepository.findByMeetingIdAndSessionIdAndSequenceNumber(meetingId, sessionId, 1)
+                .orElseThrow();
+        assertEquals(interim.getId(), stored.getId());
+        assertEquals("hello world", stored.getContent());
+        assertTrue(stored.isFinal());
+    }
+
+    private static Transcript revision(UUID id, UUID meetingId, UUID sessionId, int revision, String content,
+            boolean isFinal) {
+        return new Transcript(id, meetingId, sessionId, 1, UUID.randomUUID(), "Alice", content, "en",
+                Duration.ZERO, Duration.ofSeconds(1), revision, isFinal);
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+
+@SpringBootTest(properties = "meeting.transcripts.store=jpa")
+@Transactional
+class JpaTranscriptStoreConformanceTest extends TranscriptStoreConformanceTest {
+
+    @Autowired
+    TranscriptStore store;
+
+    @Override
+    TranscriptStore store() {
+        return store;
+    }
+
+    // a failed flush leaves the transaction rollback-only; the write-behind buffer's one-by-one retry recovers
+    @Override
+    boolean survivesConcurrentRedelivery() {
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptRepository;
+import com.github.meeting_platform.domain.repository.TranscriptWriteResult;
+
+@ExtendWith(MockitoExtension.class)
+class JpaTranscriptStoreTest {
+
+    @Mock
+    TranscriptRepository transcriptRepository;
+
+    @Mock
+    SpeakerDictionary speakers;
+
+    @Mock
+    LanguageDictionary languages;
+
+    @InjectMocks
+    JpaTranscriptStore store;
+
+    private static Transcript transcript(UUID id, int sequenceNumber) {
+        return new Transcript(id, UUID.randomUUID(), UUID.randomUUID(), sequenceNumber,
+                UUID.randomUUID(), "speaker", "content", "en", Duration.ZERO, Duration.ZERO);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSaveNewTranscriptsAndReportStoredOnesAsDuplicates() {
+        Transcript fresh = transcript(UUID.randomUUID(), 1);
+        Transcript stored = transcript(UUID.randomUUID(), 2);
+        Transcript repeated = transcript(fresh.getId(), 1);
+        when(transcriptRepository.findById(fresh.getId())).thenReturn(Optional.empty());
+        when(transcriptRepository.findById(stored.getId())).thenReturn(Optional.of(stored));
+
+        TranscriptWriteResult result = store.write(List.of(fresh, stored, repeated));
+
+        assertEquals(List.of(fresh.getId()), result.written());
+        assertEquals(Set.of(stored.getId(), fresh.getId()), result.duplicates());
+        ArgumentCaptor<List<Transcript>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transcriptRepository).saveAll(captor.capture());
+        assertEquals(List.of(fresh), captor.getValue());
+        verify(transcriptRepository).flush();
+    }
+
+    @Test
+    void shouldReviseStoredInterimRowWithFinalChunk() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        Transcript stored = new Transcript(UUID.randomUUID(), meetingId, sessionId, 3, UUID.randomUUID(), "speaker",
+                "hypothesis", "en", Duration.ZERO, Duration.ZERO, 2, false);
+        Transcript fin = new Transcript(UUID.randomUUID(), meetingId, sessionId, 3, UUID.randomUUID(), "speaker",
+                "final text", "en", Duration.ZERO, Duration.ZERO, 0, true);
+        when(transcriptRepository.findByMeetingIdAndSessionIdAndSequenceNumber(meetingId, sessionId, 3))
+                .thenReturn(Optional.of(stored));
+
+        TranscriptWriteResult result = store.write(List.of(fin));
+
+        assertEquals(List.of(fin.getId()), result.written());
+        assertEquals("final text", stored.getContent());
+        assertTrue(stored.isFinal());
+        verify(transcriptRepository).saveAll(List.of());
+        verify(transcriptRepository, never()).findById(any());
+    }
+}
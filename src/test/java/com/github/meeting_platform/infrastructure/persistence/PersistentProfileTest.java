@@ -0,0 +1,51 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.meeting_platform.MeetingPlatformApplication;
+import com.github.meeting_platform.domain.repository.MeetingRepository;
+
+/**
+ * Starts the application twice on the same file database of the
+ * {@code persistent} profile and checks that stored rows survive the restart.
+ */
+class PersistentProfileTest {
+
+    @TempDir
+    Path directory;
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(MeetingPlatformApplication.class)
+                .profiles("persistent")
+                .properties("meeting.h2.path=" + directory.resolve("meeting-platform"), "server.port=0")
+                .run();
+    }
+
+    @Test
+    void shouldKeepDataAcrossRestarts() {
+        UUID meetingId = UUID.randomUUID();
+        try (ConfigurableApplicationContext context = start()) {
+            MeetingRepository meetings = context.getBean(MeetingRepository.class);
+            new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(
+                    status -> meetings.upsert(meetingId, "Weekly sync", "Room A", null, null,
+                            Instant.parse("2026-01-05T10:00:00Z")));
+            assertNotNull(context.getBean(H2Checkpointer.class));
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            var meeting = context.getBean(MeetingRepository.class).findById(meetingId).orElseThrow();
+            assertEquals("Weekly sync", meeting.getTitle());
+        }
+    }
+}
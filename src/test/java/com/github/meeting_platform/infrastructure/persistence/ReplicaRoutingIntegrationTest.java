@@ -0,0 +1,93 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.github.meeting_platform.common.exceptions.MeetingNotFoundException;
+import com.github.meeting_platform.domain.repository.PrimaryReads;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
+
+/**
+ * Two embedded databases as primary and replica. Nothing replicates between
+ * them, which makes visible where each call went.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-test-primary;DB_CLOSE_DELAY=-1",
+        "meeting.datasource.replica.enabled=true",
+        "meeting.datasource.replica.url=jdbc:h2:mem:replica-test-replica;DB_CLOSE_DELAY=-1",
+        "meeting.datasource.replica.migrate=true",
+        "meeting.transcripts.write-behind.enabled=false",
+        "meeting.transcripts.compression.enabled=false"
+})
+class ReplicaRoutingIntegrationTest {
+
+    private static final String COPY_COLUMNS = "id, meeting_id, session_id, sequence_number, speaker_key, content,"
+            + " language_code, start_offset_ms, end_offset_ms, revision, is_final";
+
+    @Autowired
+    MeetingService meetingService;
+
+    JdbcTemplate primary = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:replica-test-primary;DB_CLOSE_DELAY=-1", "sa", ""));
+    JdbcTemplate replica = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:replica-test-replica;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    private UUID[] startWithTranscript() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        meetingService.startMeeting(new StartMeetingCommand(meetingId, sessionId, "Weekly sync", "Room A",
+                UUID.randomUUID(), "Alice", Instant.now(), Instant.now()));
+        meetingService.addTranscript(new AddTranscriptCommand(meetingId, sessionId, UUID.randomUUID(), 1,
+                UUID.randomUUID(), "Alice", "primary text", Duration.ZERO, Duration.ofSeconds(1), "en"));
+        return new UUID[] { meetingId, sessionId };
+    }
+
+    // what replication would do, with the content changed so the source of a read shows
+    private void replicate(UUID meetingId) {
+        replica.update("INSERT INTO meetings (id, title, room_name, created_at) VALUES (?, 'Weekly sync', 'Room A', ?)",
+                meetingId, primary.queryForObject("SELECT created_at FROM meetings WHERE id = ?", Object.class, meetingId));
+        primary.query("SELECT id, meeting_id, status, started_at FROM sessions WHERE meeting_id = ?", rs -> {
+            replica.update("INSERT INTO sessions (id, meeting_id, status, started_at) VALUES (?, ?, ?, ?)",
+                    rs.getObject(1), rs.getObject(2), rs.getObject(3), rs.getObject(4));
+        }, meetingId);
+        primary.query("SELECT " + COPY_COLUMNS + " FROM transcripts WHERE meeting_id = ?", rs -> {
+            replica.update("INSERT INTO transcripts (" + COPY_COLUMNS + ") VALUES (?, ?, ?, ?, ?, STRINGTOUTF8('replica text'),"
+                    + " ?, ?, ?, ?, ?)", rs.getObject(1), rs.getObject(2), rs.getObject(3), rs.getObject(4),
+                    rs.getObject(5), rs.getObject(7), rs.getObject(8), rs.getObject(9), rs.getObject(10),
+                    rs.getObject(11));
+        }, meetingId);
+    }
+
+    @Test
+    void shouldWriteToThePrimaryAndReadFromTheReplica() {
+        UUID[] ids = startWithTranscript();
+
+        assertEquals(1, primary.queryForObject("SELECT COUNT(*) FROM transcripts WHERE meeting_id = ?", Integer.class,
+                ids[0]));
+        // not replicated yet: the replica does not know the meeting
+        assertThrows(MeetingNotFoundException.class, () -> meetingService.getSessionTranscripts(ids[0], ids[1]));
+
+        replicate(ids[0]);
+        assertEquals("replica text", meetingService.getSessionTranscripts(ids[0], ids[1]).get(0).getContent());
+    }
+
+    @Test
+    void shouldReadFromThePrimaryWhenFreshReadsAreRequested() {
+        UUID[] ids = startWithTranscript();
+
+        var transcripts = PrimaryReads.call(() -> meetingService.getSessionTranscripts(ids[0], ids[1]));
+
+        assertEquals("primary text", transcripts.get(0).getContent());
+    }
+}
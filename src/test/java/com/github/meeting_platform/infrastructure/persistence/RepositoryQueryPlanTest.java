@@ -0,0 +1,133 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.meeting_platform.domain.model.Session;
+import com.github.meeting_platform.domain.repository.MeetingRepository;
+import com.github.meeting_platform.domain.repository.SessionRepository;
+import com.github.meeting_platform.domain.repository.TranscriptRepository;
+
+/**
+ * Runs EXPLAIN on every query the repositories, the JDBC writer and the
+ * dictionaries send, against the schema built by the migrations, and fails
+ * when a plan falls back to a table scan. Hibernate's SQL is captured while
+ * calling each repository method, so derived queries are checked as generated.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.github.meeting_platform.infrastructure.persistence.RecordingStatementInspector")
+@Transactional
+class RepositoryQueryPlanTest {
+
+    // H2 names the access path in a comment: "/* PUBLIC.SESSIONS.tableScan */" or "/* PUBLIC.<INDEX>: ... */"
+    private static final Pattern TABLE_SCAN = Pattern.compile("\\.tableScan\\b");
+
+    @Autowired
+    MeetingRepository meetingRepository;
+
+    @Autowired
+    SessionRepository sessionRepository;
+
+    @Autowired
+    TranscriptRepository transcriptRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final UUID meetingId = UUID.randomUUID();
+    private final UUID sessionId = UUID.randomUUID();
+
+    @BeforeEach
+    void clearRecordedStatements() {
+        RecordingStatementInspector.drain();
+    }
+
+    @Test
+    void meetingQueriesUseAnIndex() {
+        meetingRepository.findById(meetingId);
+        meetingRepository.upsert(meetingId, "Weekly sync", "Room A", null, null, Instant.now());
+
+        assertIndexed(RecordingStatementInspector.drain());
+    }
+
+    @Test
+    void sessionQueriesUseAnIndex() {
+        sessionRepository.insertLiveIfAbsent(sessionId, meetingId, Instant.now());
+        sessionRepository.findById(sessionId);
+        sessionRepository.findActiveByMeetingId(meetingId);
+        sessionRepository.findAllByStatus(Session.SessionStatus.LIVE);
+        sessionRepository.endIfLive(sessionId, meetingId, Instant.now(), "done");
+
+        assertIndexed(RecordingStatementInspector.drain());
+    }
+
+    @Test
+    void transcriptQueriesUseAnIndex() {
+        transcriptRepository.findById(UUID.randomUUID());
+        transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberAsc(meetingId, sessionId);
+        transcriptRepository.findByMeetingIdAndSessionIdAndSequenceNumber(meetingId, sessionId, 1);
+        transcriptRepository.findByMeetingIdAndSessionIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(meetingId,
+                sessionId, 1, Limit.of(10));
+        transcriptRepository.findByMeetingIdAndSessionIdOrderBySequenceNumberDesc(meetingId, sessionId, Limit.of(10));
+        transcriptRepository.findSequenceNumbers(meetingId, sessionId);
+
+        assertIndexed(RecordingStatementInspector.drain());
+    }
+
+    @Test
+    void writerAndDictionaryStatementsUseAnIndex() {
+        assertIndexed(List.of(JdbcTranscriptStore.UPSERT_REVISION, JdbcTranscriptStore.SELECT_SESSION, JdbcTranscriptStore.SELECT_PAGE,
+                JdbcTranscriptStore.SELECT_TAIL, JdbcTranscriptStore.SELECT_FINAL_SEQUENCE_NUMBERS, JdbcTranscriptStore.EXISTS,
+                JdbcTranscriptStore.DELETE_UNCHANGED, SessionArchiver.SELECT_DUE,
+                SessionArchiver.MARK_ARCHIVED, TranscriptRetentionPurger.SELECT_BUCKETS,
+                TranscriptRetentionPurger.SELECT_CHUNK, TranscriptRetentionPurger.DELETE_ROW,
+                TranscriptRetentionPurger.DELETE_BUCKET_CHUNK, TranscriptRetentionPurger.SELECT_DOCUMENTS,
+                TranscriptRetentionPurger.DELETE_DOCUMENT, SessionArchiver.DELETE_DOCUMENT, SessionCompactor.SELECT_DOCUMENT,
+                SessionCompactor.SELECT_ANY_DOCUMENT, SessionCompactor.MARK_STALE, SessionCompactor.DELETE_MEETING_DOCUMENTS,
+                SessionCompactor.SELECT_COMPACTABLE, SessionCompactor.SELECT_OLDEST_BUCKET, SpeakerDictionary.FIND, SpeakerDictionary.LOAD,
+                LanguageDictionary.FIND, LanguageDictionary.LOAD));
+    }
+
+    @Test
+    void shouldDetectATableScan() {
+        assertTrue(TABLE_SCAN.matcher(plan("SELECT id FROM sessions WHERE reason = ?")).find());
+    }
+
+    private void assertIndexed(List<String> statements) {
+        assertFalse(statements.isEmpty(), "no statements recorded");
+        for (String sql : statements) {
+            String plan = plan(sql);
+            assertFalse(TABLE_SCAN.matcher(plan).find(), () -> "table scan in the plan of\n" + sql + "\n" + plan);
+        }
+    }
+
+    // the plan is fixed when the statement is prepared, so the parameter values do not matter
+    private String plan(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                    ps.setObject(i, null);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+    }
+}
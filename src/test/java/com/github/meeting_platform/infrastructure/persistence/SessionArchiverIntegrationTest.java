@@ -0,0 +1,190 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.meeting_platform.domain.envelope.TranscriptEnvelope;
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
+import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
+import com.github.meeting_platform.infrastructure.config.ArchiveProperties;
+import com.github.meeting_platform.infrastructure.config.RetentionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(properties = {
+        "meeting.archive.enabled=true",
+        "meeting.archive.directory=build/test-archive",
+        "meeting.archive.sweep-interval=1h",
+        "meeting.archive.index-interval=2",
+        "meeting.transcripts.write-behind.enabled=false"
+})
+class SessionArchiverIntegrationTest {
+
+    @Autowired
+    MeetingService meetingService;
+
+    @Autowired
+    SessionArchiver archiver;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    TranscriptStore transcriptStore;
+
+    @Autowired
+    SegmentTranscriptArchive transcriptArchive;
+
+    @Autowired
+    RetentionPolicy retentionPolicy;
+
+    @Autowired
+    ArchiveProperties archiveProperties;
+
+    private UUID[] endedSessionWithTranscripts(int count) {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        meetingService.startMeeting(new StartMeetingCommand(meetingId, sessionId, "Weekly sync", "Room A",
+                UUID.randomUUID(), "Alice", Instant.now(), Instant.now()));
+        for (int sequence = 1; sequence <= count; sequence++) {
+            addTranscript(meetingId, sessionId, sequence);
+        }
+        meetingService.endMeeting(new EndMeetingCommand(meetingId, sessionId, Instant.now(), "done"));
+        return new UUID[] { meetingId, sessionId };
+    }
+
+    private void addTranscript(UUID meetingId, UUID sessionId, int sequence) {
+        meetingService.addTranscript(new AddTranscriptCommand(meetingId, sessionId, UUID.randomUUID(), sequence,
+                UUID.randomUUID(), "Alice", "chunk " + sequence, Duration.ZERO, Duration.ofSeconds(1), "en"));
+    }
+
+    private void addRevision(UUID meetingId, UUID sessionId, String content, int revision, boolean isFinal) {
+        meetingService.addTranscript(new AddTranscriptCommand(new TranscriptEnvelope(UUID.randomUUID(), meetingId,
+                sessionId, 1, UUID.randomUUID(), "Alice", content, Duration.ZERO, Duration.ofSeconds(1), "en",
+                revision, isFinal)));
+    }
+
+    private int rows(UUID sessionId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transcripts WHERE session_id = ?", Integer.class,
+                sessionId);
+    }
+
+    @Test
+    void shouldMoveEndedSessionsToTheArchiveAndKeepThemReadable() {
+        UUID[] first = endedSessionWithTranscripts(3);
+        UUID[] second = endedSessionWithTranscripts(2);
+
+        assertEquals(0, archiver.archiveDue(Instant.now()), "not due before the delay has passed");
+        assertTrue(archiver.archiveDue(Instant.now().plus(Duration.ofHours(2))) >= 2);
+
+        assertEquals(0, rows(first[1]));
+        assertEquals(0, rows(second[1]));
+        assertNotNull(jdbcTemplate.queryForObject("SELECT archived_at FROM sessions WHERE id = ?", Object.class,
+                first[1]));
+        List<Transcript> read = meetingService.getSessionTranscripts(first[0], first[1]);
+        assertEquals(List.of("chunk 1", "chunk 2", "chunk 3"), read.stream().map(Transcript::getContent).toList());
+        assertEquals(2, meetingService.getSessionTranscripts(second[0], second[1]).size());
+    }
+
+    @Test
+    void shouldMergeLateDeliveriesIntoArchivedSessions() {
+        UUID[] ids = endedSessionWithTranscripts(2);
+        archiver.archiveDue(Instant.now().plus(Duration.ofHours(2)));
+
+        addTranscript(ids[0], ids[1], 3);
+
+        assertEquals(1, rows(ids[1]));
+        assertEquals(List.of(1, 2, 3), meetingService.getSessionTranscripts(ids[0], ids[1]).stream()
+                .map(Transcript::getSequenceNumber).toList());
+    }
+
+    @Test
+    void shouldLeaveLiveSessionsInTheTable() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        meetingService.startMeeting(new StartMeetingCommand(meetingId, sessionId, "Weekly sync", "Room A",
+                UUID.randomUUID(), "Alice", Instant.now(), Instant.now()));
+        addTranscript(meetingId, sessionId, 1);
+
+        archiver.archiveDue(Instant.now().plus(Duration.ofHours(2)));
+
+        assertEquals(1, rows(sessionId));
+    }
+
+    @Test
+    void shouldKeepRowRevisedWhileItsSessionIsArchived() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        meetingService.startMeeting(new StartMeetingCommand(meetingId, sessionId, "Weekly sync", "Room A",
+                UUID.randomUUID(), "Alice", Instant.now(), Instant.now()));
+        addRevision(meetingId, sessionId, "hel", 0, false);
+        // the held interim revision is written as the session ends
+        meetingService.endMeeting(new EndMeetingCommand(meetingId, sessionId, Instant.now(), "done"));
+        // the final chunk revises the row in place after the archiver has read it
+        TranscriptStore revisingStore = mock(TranscriptStore.class);
+        when(revisingStore.readSession(any(), any())).thenAnswer(invocation -> {
+            List<Transcript> read = transcriptStore.readSession(invocation.getArgument(0), invocation.getArgument(1));
+            if (invocation.getArgument(1).equals(sessionId)) {
+                addRevision(meetingId, sessionId, "hello", 1, true);
+            }
+            return read;
+        });
+        doAnswer(invocation -> {
+            transcriptStore.deleteUnchanged(invocation.getArgument(0));
+            return null;
+        }).when(revisingStore).deleteUnchanged(any());
+        SessionArchiver racing = new SessionArchiver(jdbcTemplate, transactionManager, revisingStore,
+                transcriptArchive, retentionPolicy, archiveProperties, new SimpleMeterRegistry());
+
+        racing.archiveDue(Instant.now().plus(Duration.ofHours(2)));
+
+        assertEquals(1, rows(sessionId));
+        List<Transcript> read = meetingService.getSessionTranscripts(meetingId, sessionId);
+        assertEquals(List.of("hello"), read.stream().map(Transcript::getContent).toList());
+        assertTrue(read.get(0).isFinal());
+    }
+
+    @Test
+    void shouldExpireSegmentWithTheOldestRowOfItsSessions() throws Exception {
+        UUID[] ids = endedSessionWithTranscripts(2);
+        long stored = LocalDate.now(ZoneOffset.UTC).toEpochDay() - 10;
+        jdbcTemplate.update("UPDATE transcripts SET bucket_day = ? WHERE session_id = ?", stored, ids[1]);
+        RetentionProperties retention = new RetentionProperties();
+        retention.setEnabled(true);
+        retention.setPeriod(Duration.ofDays(30));
+        SegmentTranscriptArchive segments = mock(SegmentTranscriptArchive.class);
+        SessionArchiver archiving = new SessionArchiver(jdbcTemplate, transactionManager, transcriptStore, segments,
+                new RetentionPolicy(retention), archiveProperties, new SimpleMeterRegistry());
+
+        Instant later = Instant.now().plus(Duration.ofHours(2));
+        while (archiving.archiveDue(later) == archiveProperties.getMaxSessionsPerSegment()) {
+            // sessions left by other tests may fill whole segments
+        }
+
+        verify(segments).write(argThat(segment -> segment.stream()
+                .anyMatch(transcript -> transcript.getSessionId().equals(ids[1]))), eq(stored + 30 + 1));
+    }
+}
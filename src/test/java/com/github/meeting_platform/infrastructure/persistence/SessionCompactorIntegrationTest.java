@@ -0,0 +1,156 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.meeting_platform.domain.events.LateTranscriptEvent;
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
+import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
+import com.github.meeting_platform.infrastructure.config.CompactionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(properties = {
+        "meeting.compaction.enabled=true",
+        "meeting.archive.directory=build/test-archive-compaction",
+        "meeting.transcripts.write-behind.enabled=false"
+})
+class SessionCompactorIntegrationTest {
+
+    @Autowired
+    MeetingService meetingService;
+
+    @Autowired
+    SessionCompactor compactor;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TranscriptStore transcriptStore;
+
+    private UUID[] endedSessionWithTranscripts(int count) {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        meetingService.startMeeting(new StartMeetingCommand(meetingId, sessionId, "Weekly sync", "Room A",
+                UUID.randomUUID(), "Alice", Instant.now(), Instant.now()));
+        // out of order on purpose: the document must come out sorted
+        for (int sequence = count; sequence >= 1; sequence--) {
+            addTranscript(meetingId, sessionId, sequence, "chunk " + sequence);
+        }
+        meetingService.endMeeting(new EndMeetingCommand(meetingId, sessionId, Instant.now(), "done"));
+        return new UUID[] { meetingId, sessionId };
+    }
+
+    private void addTranscript(UUID meetingId, UUID sessionId, int sequence, String content) {
+        meetingService.addTranscript(new AddTranscriptCommand(meetingId, sessionId, UUID.randomUUID(), sequence,
+                UUID.randomUUID(), "Alice", content, Duration.ZERO, Duration.ofSeconds(1), "en"));
+    }
+
+    private int documents(UUID sessionId, boolean stale) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM session_documents WHERE session_id = ? AND stale = ?",
+                Integer.class, sessionId, stale);
+    }
+
+    private static List<String> contents(List<Transcript> transcripts) {
+        return transcripts.stream().map(Transcript::getContent).toList();
+    }
+
+    @Test
+    void shouldCompactEndedSessionAndServeReadsFromTheDocument() {
+        UUID[] ids = endedSessionWithTranscripts(3);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> documents(ids[1], false) == 1);
+
+        List<Transcript> compacted = compactor.readSession(ids[0], ids[1]).orElseThrow();
+        assertEquals(List.of("chunk 1", "chunk 2", "chunk 3"), contents(compacted));
+        assertEquals(ids[1], compacted.get(0).getSessionId());
+        assertEquals("Alice", compacted.get(0).getSpeaker().getName());
+        assertEquals(contents(compacted), contents(meetingService.getSessionTranscripts(ids[0], ids[1])));
+    }
+
+    @Test
+    void shouldRecompactIncrementallyAfterLateDelivery() {
+        UUID[] ids = endedSessionWithTranscripts(2);
+        await().atMost(Duration.ofSeconds(5)).until(() -> documents(ids[1], false) == 1);
+
+        addTranscript(ids[0], ids[1], 4, "late");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> documents(ids[1], false) == 1
+                && compactor.readSession(ids[0], ids[1]).map(List::size).orElse(0) == 3);
+        assertEquals(List.of("chunk 1", "chunk 2", "late"), contents(meetingService.getSessionTranscripts(ids[0],
+                ids[1])));
+    }
+
+    @Test
+    void shouldNotServeStaleDocument() {
+        UUID[] ids = endedSessionWithTranscripts(2);
+        await().atMost(Duration.ofSeconds(5)).until(() -> documents(ids[1], false) == 1);
+
+        jdbcTemplate.update(SessionCompactor.MARK_STALE, ids[1]);
+
+        assertTrue(compactor.readSession(ids[0], ids[1]).isEmpty());
+        assertEquals(List.of("chunk 1", "chunk 2"), contents(meetingService.getSessionTranscripts(ids[0], ids[1])));
+    }
+
+    @Test
+    void shouldKeepDocumentStaleWhenMarkedWhileCompacting() {
+        UUID[] ids = endedSessionWithTranscripts(2);
+        await().atMost(Duration.ofSeconds(5)).until(() -> documents(ids[1], false) == 1);
+        // a late delivery marks the session after the compaction has read its rows
+        TranscriptStore racingStore = mock(TranscriptStore.class);
+        SessionCompactor[] racing = new SessionCompactor[1];
+        when(racingStore.readSession(any(), any())).thenAnswer(invocation -> {
+            List<Transcript> read = transcriptStore.readSession(ids[0], ids[1]);
+            racing[0].on(new LateTranscriptEvent(ids[0], ids[1], 3));
+            return read;
+        });
+        racing[0] = new SessionCompactor(jdbcTemplate, racingStore, new CompactionProperties(),
+                new SimpleMeterRegistry());
+
+        racing[0].compact(ids[0], ids[1], null);
+
+        assertEquals(1, documents(ids[1], true));
+        assertTrue(compactor.readSession(ids[0], ids[1]).isEmpty());
+    }
+
+    @Test
+    void shouldRejectDocumentFailingItsChecksumAndRebuildIt() {
+        UUID[] ids = endedSessionWithTranscripts(2);
+        await().atMost(Duration.ofSeconds(5)).until(() -> documents(ids[1], false) == 1);
+
+        jdbcTemplate.update("UPDATE session_documents SET checksum = checksum + 1 WHERE session_id = ?", ids[1]);
+
+        assertTrue(compactor.readSession(ids[0], ids[1]).isEmpty());
+        await().atMost(Duration.ofSeconds(5)).until(() -> compactor.readSession(ids[0], ids[1]).isPresent());
+    }
+
+    @Test
+    void shouldNotCompactLiveSessions() {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        meetingService.startMeeting(new StartMeetingCommand(meetingId, sessionId, "Weekly sync", "Room A",
+                UUID.randomUUID(), "Alice", Instant.now(), Instant.now()));
+        addTranscript(meetingId, sessionId, 1, "live");
+
+        compactor.compact(meetingId, sessionId, null);
+
+        assertEquals(0, documents(sessionId, false));
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+class ShardRingTest {
+
+    private static List<UUID> meetings(int count) {
+        Random random = new Random(42);
+        List<UUID> meetings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            meetings.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return meetings;
+    }
+
+    @Test
+    void shouldSpreadMeetingsEvenly() {
+        ShardRing ring = new ShardRing(List.of("a", "b", "c", "d"), 160);
+        Map<String, Integer> counts = new HashMap<>();
+        meetings(40_000).forEach(meeting -> counts.merge(ring.shardOf(meeting), 1, Integer::sum));
+
+        assertEquals(4, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 8_000 && count < 12_000, "uneven: " + counts));
+    }
+
+    @Test
+    void shouldMoveOnlyTheNewShardsShareWhenAShardIsAdded() {
+        ShardRing three = new ShardRing(List.of("a", "b", "c"), 160);
+        ShardRing four = new ShardRing(List.of("a", "b", "c", "d"), 160);
+        List<UUID> meetings = meetings(40_000);
+
+        long moved = meetings.stream().filter(meeting -> !three.shardOf(meeting).equals(four.shardOf(meeting))).count();
+
+        assertTrue(moved > 8_000 && moved < 12_000, "moved " + moved);
+        meetings.stream()
+                .filter(meeting -> !three.shardOf(meeting).equals(four.shardOf(meeting)))
+                .forEach(meeting -> assertEquals("d", four.shardOf(meeting)));
+    }
+
+    @Test
+    void shouldRouteTheSameMeetingToTheSameShard() {
+        UUID meeting = UUID.randomUUID();
+        assertEquals(new ShardRing(List.of("a", "b"), 160).shardOf(meeting),
+                new ShardRing(List.of("a", "b"), 160).shardOf(meeting));
+    }
+
+    @Test
+    void shouldPreferAnExplicitPlacement() {
+        ShardRouter router = new ShardRouter(new ShardRing(List.of("a", "b"), 160));
+        UUID meeting = UUID.randomUUID();
+        String other = router.ringOwner(meeting).equals("a") ? "b" : "a";
+
+        router.place(meeting, other);
+        assertEquals(other, router.shardOf(meeting));
+
+        router.place(meeting, router.ringOwner(meeting));
+        assertTrue(router.placements().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> router.place(meeting, "z"));
+    }
+
+    @Test
+    void shouldHoldWritesWhileTheMeetingIsMoved() throws Exception {
+        ShardRouter router = new ShardRouter(new ShardRing(List.of("a", "b"), 160));
+        UUID meeting = UUID.randomUUID();
+
+        ShardRouter.Admission inFlight = router.admitWrite(meeting);
+        CompletableFuture<Void> move = CompletableFuture.runAsync(() -> router.beginMove(meeting));
+        assertThrows(TimeoutException.class, () -> move.get(100, TimeUnit.MILLISECONDS));
+        inFlight.close();
+        move.get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<ShardRouter.Admission> write = CompletableFuture.supplyAsync(() -> router.admitWrite(meeting));
+        assertThrows(TimeoutException.class, () -> write.get(100, TimeUnit.MILLISECONDS));
+        router.endMove(meeting);
+        write.get(5, TimeUnit.SECONDS).close();
+        // other meetings are never held
+        router.admitWrite(UUID.randomUUID()).close();
+    }
+}
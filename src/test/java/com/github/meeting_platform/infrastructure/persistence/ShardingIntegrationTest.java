@@ -0,0 +1,136 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+import com.github.meeting_platform.domain.service.command.EndMeetingCommand;
+import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
+import com.github.meeting_platform.infrastructure.config.RetentionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(properties = {
+        "meeting.shards.enabled=true",
+        "meeting.shards.datasources[0].name=shard-a",
+        "meeting.shards.datasources[0].url=jdbc:h2:mem:sharding-test-a;DB_CLOSE_DELAY=-1",
+        "meeting.shards.datasources[1].name=shard-b",
+        "meeting.shards.datasources[1].url=jdbc:h2:mem:sharding-test-b;DB_CLOSE_DELAY=-1",
+        "meeting.shards.datasources[2].name=shard-c",
+        "meeting.shards.datasources[2].url=jdbc:h2:mem:sharding-test-c;DB_CLOSE_DELAY=-1",
+        "meeting.transcripts.write-behind.enabled=false"
+})
+class ShardingIntegrationTest {
+
+    @Autowired
+    MeetingService meetingService;
+
+    @Autowired
+    ShardRouter router;
+
+    @Autowired
+    ShardRoutingDataSource dataSource;
+
+    @Autowired
+    ShardRebalancer rebalancer;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private UUID[] startWithTranscripts(int transcripts) {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        meetingService.startMeeting(new StartMeetingCommand(meetingId, sessionId, "Weekly sync", "Room A",
+                UUID.randomUUID(), "Alice", Instant.now(), Instant.now()));
+        for (int i = 1; i <= transcripts; i++) {
+            meetingService.addTranscript(new AddTranscriptCommand(meetingId, sessionId, UUID.randomUUID(), i,
+                    UUID.randomUUID(), "Alice", "chunk " + i, Duration.ofSeconds(i), Duration.ofSeconds(i + 1), "en"));
+        }
+        return new UUID[] { meetingId, sessionId };
+    }
+
+    private Map<String, Long> transcriptsPerShard(UUID meetingId) {
+        return Map.of(
+                "shard-a", count("shard-a", meetingId),
+                "shard-b", count("shard-b", meetingId),
+                "shard-c", count("shard-c", meetingId));
+    }
+
+    private long count(String shard, UUID meetingId) {
+        return new JdbcTemplate(dataSource.shard(shard))
+                .queryForObject("SELECT COUNT(*) FROM transcripts WHERE meeting_id = ?", Long.class, meetingId);
+    }
+
+    @Test
+    void shouldWriteEveryMeetingToItsOwningShardOnly() {
+        for (int m = 0; m < 12; m++) {
+            UUID[] ids = startWithTranscripts(3);
+            String owner = router.shardOf(ids[0]);
+
+            transcriptsPerShard(ids[0]).forEach((shard, count) -> assertEquals(shard.equals(owner) ? 3L : 0L, count,
+                    () -> "meeting " + ids[0] + " on " + shard + ", owner " + owner));
+            assertEquals(3, meetingService.getSessionTranscripts(ids[0], ids[1]).size());
+        }
+    }
+
+    @Test
+    void shouldMoveAnEndedMeetingAndKeepServingIt() {
+        UUID[] ids = startWithTranscripts(4);
+        String source = router.shardOf(ids[0]);
+        String target = source.equals("shard-a") ? "shard-b" : "shard-a";
+
+        assertThrows(IllegalStateException.class, () -> rebalancer.move(ids[0], target));
+        meetingService.endMeeting(new EndMeetingCommand(ids[0], ids[1], Instant.now(), "done"));
+        assertTrue(rebalancer.move(ids[0], target));
+
+        assertEquals(target, router.shardOf(ids[0]));
+        assertEquals(0, count(source, ids[0]));
+        assertEquals(4, count(target, ids[0]));
+        assertEquals(List.of(1, 2, 3, 4), meetingService.getSessionTranscripts(ids[0], ids[1]).stream()
+                .map(transcript -> transcript.getSequenceNumber()).toList());
+
+        // rebalancing puts it back on its ring owner
+        rebalancer.rebalance();
+        assertEquals(source, router.shardOf(ids[0]));
+        assertEquals(4, count(source, ids[0]));
+    }
+
+    @Test
+    void shouldPurgeExpiredTranscriptsOnEveryShard() {
+        Map<String, UUID> meetingByShard = new HashMap<>();
+        while (meetingByShard.size() < router.shards().size()) {
+            UUID meetingId = startWithTranscripts(2)[0];
+            meetingByShard.putIfAbsent(router.shardOf(meetingId), meetingId);
+        }
+        meetingByShard.forEach((shard, meetingId) -> new JdbcTemplate(dataSource.shard(shard))
+                .update("UPDATE transcripts SET bucket_day = bucket_day - 40 WHERE meeting_id = ?", meetingId));
+        RetentionProperties properties = new RetentionProperties();
+        properties.setEnabled(true);
+        properties.setPeriod(Duration.ofDays(30));
+        properties.setMaxRowsPerSecond(0);
+        TranscriptRetentionPurger purger = new TranscriptRetentionPurger(jdbcTemplate, transactionManager,
+                new RetentionPolicy(properties), mock(SegmentTranscriptArchive.class), () -> 0, router.shards(),
+                properties, new SimpleMeterRegistry());
+
+        purger.purge(jdbcTemplate.queryForObject(TranscriptRetentionPurger.TODAY, Long.class));
+
+        meetingByShard.forEach((shard, meetingId) -> assertEquals(0, count(shard, meetingId), shard));
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TranscriptContentCodecTest {
+
+    private static final String LONG_TEXT = "So the plan for the next sprint is to finish the migration, "
+            + "then we look at the dashboards again, and after that we review the migration plan with the team. "
+            + "Does anyone have concerns about the plan for the next sprint or the migration itself?";
+
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private TranscriptContentCodec codec(byte[] dictionary) {
+        return new TranscriptContentCodec(true, 64, 1, dictionary, meterRegistry);
+    }
+
+    @Test
+    void shouldStoreShortContentAsPlainUtf8() {
+        byte[] stored = codec(null).encode("Hi all");
+
+        assertArrayEquals("Hi all".getBytes(StandardCharsets.UTF_8), stored);
+        assertEquals("Hi all", codec(null).decode(stored));
+    }
+
+    @Test
+    void shouldCompressLongContentBehindVersionedHeader() {
+        TranscriptContentCodec codec = codec(null);
+
+        byte[] stored = codec.encode(LONG_TEXT);
+
+        assertEquals(TranscriptContentCodec.MAGIC, stored[0]);
+        assertEquals(TranscriptContentCodec.VERSION, stored[1]);
+        assertTrue(stored.length < LONG_TEXT.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(LONG_TEXT, codec.decode(stored));
+        assertEquals(1, meterRegistry.get("transcript.content.encode").timer().count());
+        assertEquals(1, meterRegistry.get("transcript.content.decode").timer().count());
+        assertTrue(meterRegistry.get("transcript.content.compression.ratio").summary().max() > 1.0);
+    }
+
+    @Test
+    void shouldReadRowsWrittenBeforeCompression() {
+        String legacy = "Gr\u00fc\u00dfe aus dem Meeting \u2014 " + LONG_TEXT;
+
+        assertEquals(legacy, codec(null).decode(legacy.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldStoreContentPlainWhenCompressionDoesNotPayOff() {
+        TranscriptContentCodec codec = new TranscriptContentCodec(true, 8, 1, null, meterRegistry);
+
+        byte[] stored = codec.encode("abcdefgh");
+
+        assertArrayEquals("abcdefgh".getBytes(StandardCharsets.UTF_8), stored);
+    }
+
+    @Test
+    void shouldRoundTripWithTrainedDictionaryAndRejectMissingOne() {
+        byte[] dictionary = TranscriptContentCodec.trainDictionary(List.of(LONG_TEXT, LONG_TEXT), 512);
+        TranscriptContentCodec withDictionary = codec(dictionary);
+
+        byte[] stored = withDictionary.encode(LONG_TEXT);
+
+        assertTrue(stored.length < codec(null).encode(LONG_TEXT).length);
+        assertEquals(LONG_TEXT, withDictionary.decode(stored));
+        assertThrows(IllegalStateException.class, () -> codec(null).decode(stored));
+    }
+
+    @Test
+    void shouldNotCompressWhenDisabled() {
+        TranscriptContentCodec disabled = new TranscriptContentCodec(false, 64, 1, null, meterRegistry);
+
+        assertArrayEquals(LONG_TEXT.getBytes(StandardCharsets.UTF_8), disabled.encode(LONG_TEXT));
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the migrations against a database holding rows in the original layout
+ * and checks that each later layout carries the same data.
+ */
+class TranscriptMigrationsTest {
+
+    DriverManagerDataSource dataSource;
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure().dataSource(dataSource).target(target).load();
+    }
+
+    private void insertLegacy(UUID sessionId, int sequenceNumber, UUID speakerId, String speakerName,
+            String language, long startNanos) {
+        jdbcTemplate.update("""
+                INSERT INTO transcripts (id, meeting_id, session_id, sequence_number, speaker_id, speaker_name,
+                        content, language, start_offset, end_offset)
+                VALUES (?, ?, ?, ?, ?, ?, 'hello', ?, ?, ?)
+                """, UUID.randomUUID(), UUID.randomUUID(), sessionId, sequenceNumber, speakerId, speakerName,
+                language, startNanos, startNanos + 2_000_000_000L);
+    }
+
+    @Test
+    void shouldMoveSpeakersLanguagesAndOffsetsIntoCompactLayout() {
+        flyway("1").migrate();
+        UUID sessionId = UUID.randomUUID();
+        UUID alice = UUID.randomUUID();
+        insertLegacy(sessionId, 1, alice, "Alice", "en", 1_500_000_000L);
+        insertLegacy(sessionId, 2, alice, "Alice", "en", 3_000_000_000L);
+        insertLegacy(sessionId, 3, UUID.randomUUID(), "Bob", "de", 4_250_999_999L);
+
+        flyway("latest").migrate();
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM speakers", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM languages", Integer.class));
+        Map<String, Object> third = jdbcTemplate.queryForMap("""
+                SELECT s.name, l.tag, t.start_offset_ms, t.end_offset_ms
+                FROM transcripts t
+                JOIN speakers s ON s.speaker_key = t.speaker_key
+                JOIN languages l ON l.language_code = t.language_code
+                WHERE t.sequence_number = 3
+                """);
+        assertEquals("Bob", third.get("NAME"));
+        assertEquals("de", third.get("TAG"));
+        assertEquals(4_250L, ((Number) third.get("START_OFFSET_MS")).longValue());
+        assertEquals(6_250L, ((Number) third.get("END_OFFSET_MS")).longValue());
+    }
+
+    @Test
+    void shouldKeepExistingContentReadableAfterSwitchToBinary() {
+        flyway("1").migrate();
+        insertLegacy(UUID.randomUUID(), 1, UUID.randomUUID(), "Alice", "en", 0);
+
+        flyway("latest").migrate();
+
+        byte[] stored = jdbcTemplate.queryForObject("SELECT content FROM transcripts", byte[].class);
+        TranscriptContentCodec codec = new TranscriptContentCodec(true, 64, 1, null, new SimpleMeterRegistry());
+        assertEquals("hello", codec.decode(stored));
+    }
+
+    @Test
+    void shouldNumberExistingRowsInSessionOrder() {
+        flyway("1").migrate();
+        UUID sessionId = UUID.randomUUID();
+        UUID speakerId = UUID.randomUUID();
+        insertLegacy(sessionId, 3, speakerId, "Alice", "en", 0);
+        insertLegacy(sessionId, 1, speakerId, "Alice", "en", 0);
+        insertLegacy(sessionId, 2, speakerId, "Alice", "en", 0);
+
+        flyway("latest").migrate();
+
+        assertEquals(List.of(1, 2, 3), jdbcTemplate.queryForList(
+                "SELECT sequence_number FROM transcripts ORDER BY row_key", Integer.class));
+    }
+}
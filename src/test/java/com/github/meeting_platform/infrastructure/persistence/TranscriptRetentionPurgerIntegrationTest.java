@@ -0,0 +1,141 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.service.MeetingService;
+import com.github.meeting_platform.domain.service.command.AddTranscriptCommand;
+import com.github.meeting_platform.domain.service.command.StartMeetingCommand;
+import com.github.meeting_platform.infrastructure.config.RetentionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest(properties = {
+        "meeting.retention.enabled=true",
+        "meeting.retention.period=30d",
+        "meeting.retention.organizers[" + TranscriptRetentionPurgerIntegrationTest.WEEKLY + "]=7d",
+        "meeting.retention.organizers[" + TranscriptRetentionPurgerIntegrationTest.KEEPER + "]=0",
+        "meeting.retention.interval=1h",
+        "meeting.retention.chunk-size=2",
+        "meeting.retention.max-rows-per-second=0",
+        "meeting.archive.directory=build/test-archive-retention",
+        "meeting.transcripts.write-behind.enabled=false"
+})
+class TranscriptRetentionPurgerIntegrationTest {
+
+    static final String WEEKLY = "00000000-0000-0000-0000-000000000007";
+    static final String KEEPER = "00000000-0000-0000-0000-0000000000ff";
+
+    @Autowired
+    MeetingService meetingService;
+
+    @Autowired
+    TranscriptRetentionPurger purger;
+
+    @Autowired
+    RetentionEndpoint endpoint;
+
+    @Autowired
+    SegmentTranscriptArchive archive;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private long today() {
+        return jdbcTemplate.queryForObject(TranscriptRetentionPurger.TODAY, Long.class);
+    }
+
+    // a session of the organizer whose transcripts were stored on the given day
+    private UUID sessionStoredOn(UUID organizerId, long day) {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        meetingService.startMeeting(new StartMeetingCommand(meetingId, sessionId, "Weekly sync", "Room A",
+                organizerId, "Alice", Instant.now(), Instant.now()));
+        for (int sequence = 1; sequence <= 3; sequence++) {
+            meetingService.addTranscript(new AddTranscriptCommand(meetingId, sessionId, UUID.randomUUID(), sequence,
+                    UUID.randomUUID(), "Alice", "chunk " + sequence, Duration.ZERO, Duration.ofSeconds(1), "en"));
+        }
+        jdbcTemplate.update("UPDATE transcripts SET bucket_day = ? WHERE session_id = ?", day, sessionId);
+        return sessionId;
+    }
+
+    private int rows(UUID sessionId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transcripts WHERE session_id = ?", Integer.class,
+                sessionId);
+    }
+
+    @Test
+    void shouldDeleteOnlyTranscriptsOlderThanTheirOrganizersPeriod() {
+        long today = today();
+        UUID weekly = sessionStoredOn(UUID.fromString(WEEKLY), today - 10);
+        UUID standard = sessionStoredOn(UUID.randomUUID(), today - 10);
+        UUID kept = sessionStoredOn(UUID.fromString(KEEPER), today - 10);
+        UUID recentWeekly = sessionStoredOn(UUID.fromString(WEEKLY), today - 7);
+
+        assertTrue(purger.purge(today) >= 3);
+
+        assertEquals(0, rows(weekly));
+        assertEquals(3, rows(standard));
+        assertEquals(3, rows(kept));
+        assertEquals(3, rows(recentWeekly), "expires the day after its period has passed");
+        assertEquals(0, purger.purge(today), "the bucket is not walked again before its next expiry");
+
+        purger.purge(today + 1);
+        assertEquals(0, rows(recentWeekly));
+    }
+
+    @Test
+    void shouldDeleteBucketsOlderThanEveryPeriodWhole() {
+        long today = today();
+        UUID weekly = sessionStoredOn(UUID.fromString(WEEKLY), today - 40);
+        UUID standard = sessionStoredOn(UUID.randomUUID(), today - 40);
+        UUID recent = sessionStoredOn(UUID.randomUUID(), today - 20);
+        RetentionProperties properties = new RetentionProperties();
+        properties.setEnabled(true);
+        properties.setPeriod(Duration.ofDays(30));
+        properties.setOrganizers(Map.of(UUID.fromString(WEEKLY), Duration.ofDays(7)));
+        properties.setChunkSize(2);
+        properties.setMaxRowsPerSecond(0);
+        TranscriptRetentionPurger finite = new TranscriptRetentionPurger(jdbcTemplate, transactionManager,
+                new RetentionPolicy(properties), archive, () -> 0, List.of(), properties, new SimpleMeterRegistry());
+
+        finite.purge(today);
+
+        assertEquals(0, rows(weekly));
+        assertEquals(0, rows(standard));
+        assertEquals(3, rows(recent));
+    }
+
+    @Test
+    void shouldDropExpiredArchiveSegmentsAndReportProgress() throws Exception {
+        long today = today();
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        archive.write(List.of(new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, UUID.randomUUID(), "Alice",
+                "archived", "en", Duration.ZERO, Duration.ZERO)), today);
+        assertEquals(1, archive.readSession(meetingId, sessionId).size());
+
+        purger.purge(today);
+
+        assertTrue(archive.readSession(meetingId, sessionId).isEmpty());
+        Map<String, Object> progress = endpoint.retention();
+        assertTrue((Long) progress.get("passes") >= 1);
+        assertTrue((Long) progress.get("droppedSegments") >= 1);
+        assertEquals(false, progress.get("running"));
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.meeting_platform.domain.model.Transcript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TranscriptSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    private final TranscriptContentCodec codec = new TranscriptContentCodec(true, 64, 1, null,
+            new SimpleMeterRegistry());
+
+    private static Transcript transcript(UUID meetingId, UUID sessionId, int sequenceNumber, String content) {
+        return new Transcript(UUID.randomUUID(), meetingId, sessionId, sequenceNumber, UUID.randomUUID(), "Alice",
+                content, "en", Duration.ofMillis(sequenceNumber * 1000L), Duration.ofMillis(sequenceNumber * 1000L + 500),
+                0, true);
+    }
+
+    @Test
+    void shouldReadEverySessionBackInSequenceOrder() throws IOException {
+        UUID meetingId = UUID.randomUUID();
+        List<UUID> sessions = new ArrayList<>();
+        List<Transcript> transcripts = new ArrayList<>();
+        for (int s = 0; s < 20; s++) {
+            UUID sessionId = UUID.randomUUID();
+            sessions.add(sessionId);
+            for (int sequence = 5; sequence >= 1; sequence--) {
+                transcripts.add(transcript(meetingId, sessionId, sequence, "chunk " + sequence + " ".repeat(s * 10)));
+            }
+        }
+
+        // an index entry every third transcript, so sessions start between index entries
+        TranscriptSegment segment = TranscriptSegment.write(directory.resolve("1.seg"), transcripts, codec, 3, 10);
+
+        assertEquals(100, segment.entryCount());
+        assertEquals(20, segment.sessionCount());
+        for (UUID sessionId : sessions) {
+            List<Transcript> read = segment.read(meetingId, sessionId, codec);
+            assertEquals(List.of(1, 2, 3, 4, 5), read.stream().map(Transcript::getSequenceNumber).toList());
+            Transcript expected = transcripts.stream()
+                    .filter(t -> t.getSessionId().equals(sessionId) && t.getSequenceNumber() == 3)
+                    .findFirst().orElseThrow();
+            Transcript actual = read.get(2);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getContent(), actual.getContent());
+            assertEquals(expected.getSpeaker(), actual.getSpeaker());
+            assertEquals("en", actual.getLanguage());
+            assertEquals(Duration.ofMillis(3500), actual.getEndOffset());
+            assertTrue(actual.isFinal());
+        }
+    }
+
+    @Test
+    void shouldReadPagesOfALongSessionFromTheIndex() throws IOException {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        UUID otherSessionId = UUID.randomUUID();
+        List<Transcript> transcripts = new ArrayList<>();
+        for (int sequence = 1; sequence <= 30; sequence++) {
+            transcripts.add(transcript(meetingId, sessionId, sequence, "chunk " + sequence));
+            transcripts.add(transcript(meetingId, otherSessionId, sequence, "other " + sequence));
+        }
+
+        TranscriptSegment segment = TranscriptSegment.write(directory.resolve("1.seg"), transcripts, codec, 4, 10);
+
+        assertEquals(List.of(1, 2, 3), segment.readPage(meetingId, sessionId, Integer.MIN_VALUE, 3, codec).stream()
+                .map(Transcript::getSequenceNumber).toList());
+        for (int after = 0; after <= 30; after++) {
+            List<Transcript> page = segment.readPage(meetingId, sessionId, after, 5, codec);
+            List<Integer> expected = new ArrayList<>();
+            for (int sequence = after + 1; sequence <= Math.min(after + 5, 30); sequence++) {
+                expected.add(sequence);
+            }
+            assertEquals(expected, page.stream().map(Transcript::getSequenceNumber).toList());
+            assertTrue(page.stream().allMatch(t -> t.getSessionId().equals(sessionId)));
+        }
+        assertTrue(segment.contains(meetingId, otherSessionId));
+        assertFalse(segment.contains(meetingId, UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldStreamASessionInSequenceOrder() throws IOException {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        List<Transcript> transcripts = new ArrayList<>();
+        for (int sequence = 12; sequence >= 1; sequence--) {
+            transcripts.add(transcript(meetingId, sessionId, sequence, "chunk " + sequence));
+            transcripts.add(transcript(meetingId, UUID.randomUUID(), sequence, "other " + sequence));
+        }
+
+        TranscriptSegment segment = TranscriptSegment.write(directory.resolve("1.seg"), transcripts, codec, 5, 10);
+
+        try (var stream = segment.stream(meetingId, sessionId, codec)) {
+            assertEquals(segment.read(meetingId, sessionId, codec).stream().map(Transcript::getId).toList(),
+                    stream.map(Transcript::getId).toList());
+        }
+        try (var stream = segment.stream(meetingId, UUID.randomUUID(), codec)) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    void shouldKeepMissingSpeakerIdLanguageAndInterimFlag() throws IOException {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        Transcript interim = new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, null, "Unknown", "hel",
+                null, Duration.ZERO, Duration.ofSeconds(1), 2, false);
+
+        TranscriptSegment segment = TranscriptSegment.write(directory.resolve("1.seg"), List.of(interim), codec, 64,
+                10);
+
+        Transcript read = segment.read(meetingId, sessionId, codec).get(0);
+        assertNull(read.getSpeaker().getId());
+        assertNull(read.getLanguage());
+        assertEquals(2, read.getRevision());
+        assertFalse(read.isFinal());
+    }
+
+    @Test
+    void shouldFindNothingForUnknownSessionsAndAfterReopening() throws IOException {
+        UUID meetingId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        Path file = directory.resolve("1.seg");
+        TranscriptSegment.write(file, List.of(transcript(meetingId, sessionId, 1, "one")), codec, 64, 10);
+
+        TranscriptSegment reopened = TranscriptSegment.open(file);
+
+        assertEquals(1, reopened.read(meetingId, sessionId, codec).size());
+        assertTrue(reopened.read(meetingId, UUID.randomUUID(), codec).isEmpty());
+        assertFalse(Files.exists(directory.resolve("1.seg.tmp")));
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotSegments() throws IOException {
+        Path file = Files.write(directory.resolve("broken.seg"), new byte[64]);
+
+        assertThrows(IOException.class, () -> TranscriptSegment.open(file));
+    }
+}
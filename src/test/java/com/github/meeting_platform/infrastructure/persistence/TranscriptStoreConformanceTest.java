@@ -0,0 +1,247 @@
+package com.github.meeting_platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.meeting_platform.domain.model.Transcript;
+import com.github.meeting_platform.domain.repository.TranscriptStore;
+import com.github.meeting_platform.domain.repository.TranscriptWriteResult;
+
+/**
+ * Behaviour every {@link TranscriptStore} engine must share; one subclass per
+ * engine supplies the store under test.
+ */
+abstract class TranscriptStoreConformanceTest {
+
+    private final UUID meetingId = UUID.randomUUID();
+    private final UUID sessionId = UUID.randomUUID();
+
+    abstract TranscriptStore store();
+
+    /** Whether a write that loses a unique key race to a concurrent one still reports it as a duplicate. */
+    boolean survivesConcurrentRedelivery() {
+        return true;
+    }
+
+    @Test
+    void shouldReadBackASessionInSequenceOrder() {
+        UUID speakerId = UUID.randomUUID();
+        Transcript third = transcript(3, "third");
+        Transcript first = new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, speakerId, "Alice", "first",
+                "en", Duration.ofMillis(1500), Duration.ofSeconds(3));
+        Transcript second = transcript(2, "second");
+
+        TranscriptWriteResult result = store().write(List.of(third, first));
+        store().append(second);
+
+        assertEquals(List.of(third.getId(), first.getId()), result.written());
+        List<Transcript> stored = store().readSession(meetingId, sessionId);
+        assertEquals(List.of(first.getId(), second.getId(), third.getId()), ids(stored));
+        Transcript read = stored.get(0);
+        assertEquals(speakerId, read.getSpeaker().getId());
+        assertEquals("Alice", read.getSpeaker().getName());
+        assertEquals("first", read.getContent());
+        assertEquals("en", read.getLanguage());
+        assertEquals(Duration.ofMillis(1500), read.getStartOffset());
+        assertEquals(Duration.ofSeconds(3), read.getEndOffset());
+        assertTrue(read.isFinal());
+    }
+
+    @Test
+    void shouldReportDuplicatesByIdAndBySequenceNumber() {
+        Transcript first = transcript(1, "one");
+        store().write(List.of(first));
+
+        Transcript sameId = new Transcript(first.getId(), meetingId, sessionId, 5, UUID.randomUUID(), "Bob", "other",
+                "en", Duration.ZERO, Duration.ZERO);
+        Transcript sameSequence = transcript(1, "again");
+        Transcript fresh = transcript(2, "two");
+        Transcript freshRepeated = transcript(2, "two again");
+        TranscriptWriteResult result = store().write(List.of(sameId, sameSequence, fresh, freshRepeated));
+
+        assertEquals(List.of(fresh.getId()), result.written());
+        assertEquals(Set.of(first.getId(), sameSequence.getId(), freshRepeated.getId()), result.duplicates());
+        assertEquals(List.of(first.getId(), fresh.getId()), ids(store().readSession(meetingId, sessionId)));
+    }
+
+    @Test
+    void shouldWriteConcurrentDeliveriesOfTheSameTranscriptsOnce() throws Exception {
+        assumeTrue(survivesConcurrentRedelivery(), "engine does not recover from a lost unique key race");
+        List<Transcript> delivery = IntStream.rangeClosed(1, 20).mapToObj(sequence -> transcript(sequence, "chunk"))
+                .toList();
+        int writers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        int written = 0;
+        try {
+            List<Future<TranscriptWriteResult>> results = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                // half the writers redeliver under new ids, which race on the sequence number instead of the id
+                List<Transcript> batch = writer % 2 == 0 ? delivery : delivery.stream().map(this::withNewId).toList();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return store().write(batch);
+                }));
+            }
+            start.countDown();
+            for (Future<TranscriptWriteResult> result : results) {
+                written += result.get(30, TimeUnit.SECONDS).written().size();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(delivery.size(), written);
+        assertEquals(sequenceNumbers(delivery), sequenceNumbers(store().readSession(meetingId, sessionId)));
+    }
+
+    @Test
+    void shouldReplaceInterimRevisionInPlaceAndKeepFinalOne() {
+        Transcript interim = revision(1, "hel", false);
+        Transcript newer = revision(2, "hello", false);
+        Transcript stale = revision(1, "he", false);
+        Transcript fin = revision(0, "hello world", true);
+        Transcript late = revision(3, "hello there", false);
+
+        TranscriptWriteResult result = store().write(List.of(interim, newer, stale, fin, late));
+
+        assertEquals(List.of(interim.getId(), newer.getId(), fin.getId()), result.written());
+        assertEquals(Set.of(stale.getId(), late.getId()), result.duplicates());
+        List<Transcript> stored = store().readSession(meetingId, sessionId);
+        assertEquals(1, stored.size());
+        assertEquals(interim.getId(), stored.get(0).getId());
+        assertEquals("hello world", stored.get(0).getContent());
+        assertTrue(stored.get(0).isFinal());
+    }
+
+    @Test
+    void shouldListOnlyFinalSequenceNumbersInOrder() {
+        store().write(List.of(transcript(4, "four"), revision(0, "interim", false), transcript(2, "two")));
+
+        assertEquals(List.of(2, 4), store().finalSequenceNumbers(meetingId, sessionId));
+    }
+
+    @Test
+    void shouldStreamASessionInSequenceOrder() {
+        store().write(List.of(transcript(2, "two"), transcript(1, "one"), transcript(3, "three")));
+
+        try (Stream<Transcript> stream = store().streamSession(meetingId, sessionId)) {
+            assertEquals(List.of("one", "two", "three"), stream.map(Transcript::getContent).toList());
+        }
+        try (Stream<Transcript> stream = store().streamSession(UUID.randomUUID(), sessionId)) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    void shouldReadPagesAfterASequenceNumber() {
+        store().write(List.of(transcript(5, "five"), transcript(1, "one"), transcript(3, "three"),
+                transcript(4, "four")));
+
+        assertEquals(List.of(1, 3), sequenceNumbers(store().readPage(meetingId, sessionId, null, 2)));
+        assertEquals(List.of(4, 5), sequenceNumbers(store().readPage(meetingId, sessionId, 3, 2)));
+        assertEquals(List.of(3, 4, 5), sequenceNumbers(store().readPage(meetingId, sessionId, 2, 10)));
+        assertTrue(store().readPage(meetingId, sessionId, 5, 10).isEmpty());
+        assertTrue(store().readPage(UUID.randomUUID(), sessionId, null, 10).isEmpty());
+    }
+
+    @Test
+    void shouldReadTheLastTranscriptsInSequenceOrder() {
+        store().write(List.of(transcript(5, "five"), transcript(1, "one"), transcript(3, "three"),
+                transcript(4, "four")));
+
+        assertEquals(List.of(4, 5), sequenceNumbers(store().readTail(meetingId, sessionId, 2)));
+        assertEquals(List.of(1, 3, 4, 5), sequenceNumbers(store().readTail(meetingId, sessionId, 10)));
+        assertTrue(store().readTail(UUID.randomUUID(), sessionId, 10).isEmpty());
+    }
+
+    @Test
+    void shouldReadOneSequenceNumber() {
+        store().write(List.of(revision(0, "interim", false), transcript(3, "three")));
+        store().append(revision(1, "interim again", false));
+
+        assertEquals("three", store().read(meetingId, sessionId, 3).orElseThrow().getContent());
+        assertEquals("interim again", store().read(meetingId, sessionId, 1).orElseThrow().getContent());
+        assertTrue(store().read(meetingId, sessionId, 2).isEmpty());
+        assertTrue(store().read(UUID.randomUUID(), sessionId, 3).isEmpty());
+    }
+
+    @Test
+    void shouldAnswerExistsById() {
+        Transcript transcript = transcript(1, "one");
+        store().append(transcript);
+
+        assertTrue(store().exists(transcript.getId()));
+        assertFalse(store().exists(UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldDeleteOnlyTranscriptsThatAreUnchanged() {
+        Transcript interim = revision(0, "interim", false);
+        Transcript kept = transcript(2, "two");
+        Transcript deleted = transcript(3, "three");
+        store().write(List.of(interim, kept, deleted));
+        // as read before the interim row was revised in place
+        Transcript readInterim = new Transcript(interim.getId(), meetingId, sessionId, 1, UUID.randomUUID(), "Alice",
+                "interim", "en", Duration.ZERO, Duration.ofSeconds(1), 0, false);
+        store().append(revision(1, "interim again", false));
+
+        store().deleteUnchanged(List.of(readInterim, deleted));
+
+        assertEquals(List.of(1, 2), sequenceNumbers(store().readSession(meetingId, sessionId)));
+        assertEquals("interim again", store().read(meetingId, sessionId, 1).orElseThrow().getContent());
+        assertFalse(store().exists(deleted.getId()));
+        assertTrue(store().exists(kept.getId()));
+    }
+
+    @Test
+    void shouldKeepSessionsApart() {
+        UUID otherSession = UUID.randomUUID();
+        store().append(transcript(1, "here"));
+        Transcript elsewhere = new Transcript(UUID.randomUUID(), meetingId, otherSession, 1, UUID.randomUUID(),
+                "Alice", "there", "en", Duration.ZERO, Duration.ZERO);
+
+        assertEquals(List.of(elsewhere.getId()), store().append(elsewhere).written());
+        assertEquals(List.of(elsewhere.getId()), ids(store().readSession(meetingId, otherSession)));
+        assertTrue(store().readSession(UUID.randomUUID(), sessionId).isEmpty());
+    }
+
+    private Transcript transcript(int sequenceNumber, String content) {
+        return new Transcript(UUID.randomUUID(), meetingId, sessionId, sequenceNumber, UUID.randomUUID(), "Alice",
+                content, "en", Duration.ofSeconds(sequenceNumber), Duration.ofSeconds(sequenceNumber + 1L));
+    }
+
+    private Transcript withNewId(Transcript transcript) {
+        return new Transcript(UUID.randomUUID(), meetingId, sessionId, transcript.getSequenceNumber(),
+                transcript.getSpeaker().getId(), transcript.getSpeaker().getName(), transcript.getContent(),
+                transcript.getLanguage(), transcript.getStartOffset(), transcript.getEndOffset());
+    }
+
+    private Transcript revision(int revision, String content, boolean isFinal) {
+        return new Transcript(UUID.randomUUID(), meetingId, sessionId, 1, UUID.randomUUID(), "Alice", content, "en",
+                Duration.ZERO, Duration.ofSeconds(1), revision, isFinal);
+    }
+
+    private static List<UUID> ids(List<Transcript> transcripts) {
+        return transcripts.stream().map(Transcript::getId).toList();
+    }
+
+    private static List<Integer> sequenceNumbers(List<Transcript> transcripts) {
+        return transcripts.stream().map(Transcript::getSequenceNumber).toList();
+    }
+}